@@ -0,0 +1,92 @@
+package com.example.projecttrackingserver.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.Authentication;
+
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.audit.AuditLog;
+import com.example.projecttrackingserver.auth.ApiKeyAuthCache;
+import com.example.projecttrackingserver.auth.ApiKeyAuthExtractor;
+import com.example.projecttrackingserver.auth.ApiKeyGenerator;
+import com.example.projecttrackingserver.auth.RateLimitProperties;
+import com.example.projecttrackingserver.auth.RateLimiter;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.mappers.UserMapper;
+import com.example.projecttrackingserver.repositories.UserRepository;
+import com.example.projecttrackingserver.services.CompanyService;
+import com.example.projecttrackingserver.services.RoleService;
+import com.example.projecttrackingserver.services.ScopeResolver;
+import com.example.projecttrackingserver.services.UserServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Benchmarks generating API keys and authenticating requests by API key.
+ * The user repository is stubbed, so only the authentication path itself is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApiKeyBenchmark {
+
+	private ApiKeyAuthExtractor cachedExtractor;
+	private ApiKeyAuthExtractor uncachedExtractor;
+	private MockHttpServletRequest request;
+	@Setup
+	public void setUp() {
+		UserEntity userEntity = TestDataUtil.createUser1(TestDataUtil.createAdminRole(), TestDataUtil.createCompany1());
+		UserRepository userRepository = mock(UserRepository.class);
+		when(userRepository.findByApiKey(userEntity.getApiKey()))
+						   .thenReturn(Optional.of(userEntity));
+		
+		ApiKeyAuthCache cache = new ApiKeyAuthCache(10000, Duration.ofMinutes(1), new SimpleMeterRegistry());
+		ApiKeyAuthCache disabledCache = new ApiKeyAuthCache(10000, Duration.ZERO, new SimpleMeterRegistry());
+		RateLimitProperties rateLimitProperties = new RateLimitProperties();
+		rateLimitProperties.setEnabled(false);
+		RateLimiter rateLimiter = new RateLimiter(rateLimitProperties, new SimpleMeterRegistry());
+		cachedExtractor = new ApiKeyAuthExtractor(createUserService(userRepository, cache), cache, rateLimiter);
+		uncachedExtractor = new ApiKeyAuthExtractor(createUserService(userRepository, disabledCache), disabledCache, rateLimiter);
+		
+		request = new MockHttpServletRequest();
+		request.addHeader("ApiKey", userEntity.getApiKey());
+	}
+	
+	@Benchmark
+	public String generateApiKey() {
+		return ApiKeyGenerator.generateApiKey();
+	}
+	
+	@Benchmark
+	public Optional<Authentication> extractCached() {
+		return cachedExtractor.extract(request);
+	}
+	
+	@Benchmark
+	public Optional<Authentication> extractUncached() {
+		return uncachedExtractor.extract(request);
+	}
+	
+	private static UserServiceImpl createUserService(UserRepository userRepository, ApiKeyAuthCache cache) {
+		return new UserServiceImpl(userRepository, mock(UserMapper.class), mock(RoleService.class), mock(CompanyService.class), mock(ScopeResolver.class), cache, mock(AuditLog.class));
+	}
+}
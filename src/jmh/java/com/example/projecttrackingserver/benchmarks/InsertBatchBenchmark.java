@@ -0,0 +1,132 @@
+package com.example.projecttrackingserver.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.projecttrackingserver.ProjectTrackingServerApplication;
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.entities.ProjectEntity;
+import com.example.projecttrackingserver.entities.RoleEntity;
+import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.entities.TicketPriorityEntity;
+import com.example.projecttrackingserver.entities.TicketStatusEntity;
+import com.example.projecttrackingserver.entities.TicketTypeEntity;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.repositories.CompanyRepository;
+import com.example.projecttrackingserver.repositories.ProjectRepository;
+import com.example.projecttrackingserver.repositories.RoleRepository;
+import com.example.projecttrackingserver.repositories.TicketPriorityRepository;
+import com.example.projecttrackingserver.repositories.TicketRepository;
+import com.example.projecttrackingserver.repositories.TicketStatusRepository;
+import com.example.projecttrackingserver.repositories.TicketTypeRepository;
+import com.example.projecttrackingserver.repositories.UserRepository;
+
+/**
+ * Benchmarks inserting tickets and users in batches of batchSize entities per transaction against an in-memory H2 database.
+ * The idOptimizer parameter selects how IDs are taken from the sequences: none fetches every ID with its own nextval,
+ * as with an allocation size of 1, pooled reserves a block of IDs with one nextval.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsertBatchBenchmark {
+
+	@Param({"none", "pooled"})
+	private String idOptimizer;
+
+	@Param({"100"})
+	private int batchSize;
+
+	private ConfigurableApplicationContext context;
+	private TransactionTemplate transactionTemplate;
+	private TicketRepository ticketRepository;
+	private UserRepository userRepository;
+	private CompanyEntity companyEntity;
+	private RoleEntity roleEntity;
+	private ProjectEntity projectEntity;
+	private UserEntity userEntity;
+	private TicketTypeEntity ticketTypeEntity;
+	private TicketPriorityEntity ticketPriorityEntity;
+	private TicketStatusEntity ticketStatusEntity;
+	private long insertNumber;
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(ProjectTrackingServerApplication.class)
+				.run(
+						"--server.port=0",
+						"--spring.datasource.url=jdbc:h2:mem:insert;DB_CLOSE_DELAY=-1",
+						"--spring.datasource.driver-class-name=org.h2.Driver",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.liquibase.enabled=false",
+						"--spring.jpa.hibernate.ddl-auto=create-drop",
+						"--spring.jpa.properties.hibernate.id.optimizer.pooled.preferred=" + idOptimizer,
+						"--logging.level.root=WARN");
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+		ticketRepository = context.getBean(TicketRepository.class);
+		userRepository = context.getBean(UserRepository.class);
+
+		companyEntity = context.getBean(CompanyRepository.class).save(TestDataUtil.createCompany1());
+		roleEntity = context.getBean(RoleRepository.class).save(TestDataUtil.createDeveloperRole());
+		userEntity = userRepository.save(TestDataUtil.createUser1(roleEntity, companyEntity));
+		projectEntity = context.getBean(ProjectRepository.class).save(TestDataUtil.createProject1(companyEntity, userEntity));
+		ticketTypeEntity = context.getBean(TicketTypeRepository.class).save(TestDataUtil.createTestTicketType(TicketType.Bug));
+		ticketPriorityEntity = context.getBean(TicketPriorityRepository.class).save(TestDataUtil.createTestTicketPriority(TicketPriority.High));
+		ticketStatusEntity = context.getBean(TicketStatusRepository.class).save(TestDataUtil.createTestTicketStatus(TicketStatus.New));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Iterable<TicketEntity> insertTickets() {
+		List<TicketEntity> ticketEntities = new ArrayList<>(batchSize);
+		for(int i = 0; i < batchSize; i++) {
+			TicketEntity ticketEntity = TestDataUtil.createTicket1(projectEntity, userEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+			ticketEntity.setId(0);
+			ticketEntity.setName("InsertedTicket" + insertNumber++);
+			ticketEntities.add(ticketEntity);
+		}
+		return transactionTemplate.execute(status -> ticketRepository.saveAll(ticketEntities));
+	}
+
+	@Benchmark
+	public Iterable<UserEntity> insertUsers() {
+		List<UserEntity> userEntities = new ArrayList<>(batchSize);
+		for(int i = 0; i < batchSize; i++) {
+			UserEntity insertedUserEntity = TestDataUtil.createUser1(roleEntity, companyEntity);
+			insertedUserEntity.setId(0);
+			insertedUserEntity.setUsername("InsertedUser" + insertNumber);
+			insertedUserEntity.setApiKey(String.format("%064d", insertNumber++));
+			userEntities.add(insertedUserEntity);
+		}
+		return transactionTemplate.execute(status -> userRepository.saveAll(userEntities));
+	}
+}
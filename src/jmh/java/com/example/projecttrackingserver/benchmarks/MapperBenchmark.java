@@ -0,0 +1,83 @@
+package com.example.projecttrackingserver.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.dto.ProjectResponseDto;
+import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.dto.UserResponseDto;
+import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.entities.ProjectEntity;
+import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.mappers.ProjectMapper;
+import com.example.projecttrackingserver.mappers.ProjectMapperImpl;
+import com.example.projecttrackingserver.mappers.TicketMapper;
+import com.example.projecttrackingserver.mappers.TicketMapperImpl;
+import com.example.projecttrackingserver.mappers.UserMapper;
+import com.example.projecttrackingserver.mappers.UserMapperImpl;
+
+/**
+ * Benchmarks mapping entities to response DTOs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+	private TicketMapper ticketMapper;
+	private UserMapper userMapper;
+	private ProjectMapper projectMapper;
+	
+	private TicketEntity ticketEntity;
+	private UserEntity userEntity;
+	private ProjectEntity projectEntity;
+	@Setup
+	public void setUp() {
+		ticketMapper = new TicketMapperImpl();
+		userMapper = new UserMapperImpl();
+		projectMapper = new ProjectMapperImpl();
+		
+		CompanyEntity companyEntity = TestDataUtil.createCompany1();
+		userEntity = TestDataUtil.createUser1(TestDataUtil.createAdminRole(), companyEntity);
+		projectEntity = TestDataUtil.createProject1(companyEntity, userEntity);
+		ticketEntity = TestDataUtil.createTicket1(
+				projectEntity,
+				userEntity,
+				TestDataUtil.createTestTicketType(TicketType.Bug),
+				TestDataUtil.createTestTicketPriority(TicketPriority.High),
+				TestDataUtil.createTestTicketStatus(TicketStatus.New));
+	}
+	
+	@Benchmark
+	public TicketResponseDto ticketToDto() {
+		return ticketMapper.toDto(ticketEntity);
+	}
+	
+	@Benchmark
+	public UserResponseDto userToDto() {
+		return userMapper.toDto(userEntity);
+	}
+	
+	@Benchmark
+	public ProjectResponseDto projectToDto() {
+		return projectMapper.toDto(projectEntity);
+	}
+}
@@ -0,0 +1,129 @@
+package com.example.projecttrackingserver.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.StreamSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.projecttrackingserver.ProjectTrackingServerApplication;
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.entities.ProjectEntity;
+import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.entities.TicketPriorityEntity;
+import com.example.projecttrackingserver.entities.TicketStatusEntity;
+import com.example.projecttrackingserver.entities.TicketTypeEntity;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.mappers.TicketMapper;
+import com.example.projecttrackingserver.repositories.CompanyRepository;
+import com.example.projecttrackingserver.repositories.ProjectRepository;
+import com.example.projecttrackingserver.repositories.RoleRepository;
+import com.example.projecttrackingserver.repositories.TicketPriorityRepository;
+import com.example.projecttrackingserver.repositories.TicketRepository;
+import com.example.projecttrackingserver.repositories.TicketStatusRepository;
+import com.example.projecttrackingserver.repositories.TicketTypeRepository;
+import com.example.projecttrackingserver.repositories.UserRepository;
+
+/**
+ * Benchmarks reading all tickets of a large project in a read-write and in a read-only transaction.
+ * loadTicketEntities loads the tickets as entities and maps them, as the ticket list did before it used a projection,
+ * getTicketDtos reads them with the projection used by GET /tickets.
+ * Run with -prof gc, the allocation per operation is reported as gc.alloc.rate.norm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadModeBenchmark {
+
+	@Param({"readWrite", "readOnly"})
+	private String transactionMode;
+
+	@Param({"5000"})
+	private int ticketCount;
+
+	private ConfigurableApplicationContext context;
+	private TransactionTemplate transactionTemplate;
+	private TicketRepository ticketRepository;
+	private TicketMapper ticketMapper;
+	private long companyId;
+	private long projectId;
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(ProjectTrackingServerApplication.class)
+				.run(
+						"--server.port=0",
+						"--spring.datasource.url=jdbc:h2:mem:readmode;DB_CLOSE_DELAY=-1",
+						"--spring.datasource.driver-class-name=org.h2.Driver",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.liquibase.enabled=false",
+						"--spring.jpa.hibernate.ddl-auto=create-drop",
+						"--logging.level.root=WARN");
+		transactionTemplate = new TransactionTemplate(context.getBean(TransactionTemplate.class).getTransactionManager());
+		transactionTemplate.setReadOnly("readOnly".equals(transactionMode));
+		ticketRepository = context.getBean(TicketRepository.class);
+		ticketMapper = context.getBean(TicketMapper.class);
+
+		CompanyEntity companyEntity = context.getBean(CompanyRepository.class).save(TestDataUtil.createCompany1());
+		UserEntity userEntity = context.getBean(UserRepository.class).save(TestDataUtil.createUser1(
+				context.getBean(RoleRepository.class).save(TestDataUtil.createAdminRole()),
+				companyEntity));
+		ProjectEntity projectEntity = context.getBean(ProjectRepository.class).save(TestDataUtil.createProject1(companyEntity, userEntity));
+		TicketTypeEntity ticketTypeEntity = context.getBean(TicketTypeRepository.class).save(TestDataUtil.createTestTicketType(TicketType.Bug));
+		TicketPriorityEntity ticketPriorityEntity = context.getBean(TicketPriorityRepository.class).save(TestDataUtil.createTestTicketPriority(TicketPriority.High));
+		TicketStatusEntity ticketStatusEntity = context.getBean(TicketStatusRepository.class).save(TestDataUtil.createTestTicketStatus(TicketStatus.New));
+
+		List<TicketEntity> ticketEntities = new ArrayList<>();
+		for(int i = 0; i < ticketCount; i++) {
+			TicketEntity ticketEntity = TestDataUtil.createTicket1(projectEntity, userEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+			ticketEntity.setId(0);
+			ticketEntity.setName("BenchmarkTicket" + i);
+			ticketEntities.add(ticketEntity);
+		}
+		ticketRepository.saveAll(ticketEntities);
+
+		companyId = companyEntity.getId();
+		projectId = projectEntity.getId();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<TicketResponseDto> loadTicketEntities() {
+		return transactionTemplate.execute(status -> StreamSupport.stream(ticketRepository.findAll().spliterator(), false)
+																  .map(ticketMapper::toDto)
+																  .toList());
+	}
+
+	@Benchmark
+	public List<TicketResponseDto> getTicketDtos() {
+		return transactionTemplate.execute(status -> ticketRepository.findAllDtosByProjectIdAndCompanyId(projectId, companyId));
+	}
+}
@@ -0,0 +1,153 @@
+package com.example.projecttrackingserver.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.projecttrackingserver.ProjectTrackingServerApplication;
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.entities.ProjectEntity;
+import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.entities.TicketPriorityEntity;
+import com.example.projecttrackingserver.entities.TicketStatusEntity;
+import com.example.projecttrackingserver.entities.TicketTypeEntity;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.repositories.CompanyRepository;
+import com.example.projecttrackingserver.repositories.ProjectRepository;
+import com.example.projecttrackingserver.repositories.RoleRepository;
+import com.example.projecttrackingserver.repositories.TicketPriorityRepository;
+import com.example.projecttrackingserver.repositories.TicketRepository;
+import com.example.projecttrackingserver.repositories.TicketStatusRepository;
+import com.example.projecttrackingserver.repositories.TicketTypeRepository;
+import com.example.projecttrackingserver.repositories.UserRepository;
+
+/**
+ * Load test of the ticket list and ticket create endpoints with many concurrent clients.
+ * The server runs once on platform threads and once on virtual threads (the virtual profile), set by the executionMode parameter.
+ * The number of concurrent clients is set with -t, e.g. -t 200.
+ * The rate limiter is turned off, as all clients share one user and would otherwise mostly measure 429 responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(64)
+@Fork(1)
+public class RequestLoadBenchmark {
+
+	@Param({"platform", "virtual"})
+	private String executionMode;
+
+	private ConfigurableApplicationContext context;
+	private HttpClient httpClient;
+	private URI ticketsUri;
+	private String apiKey;
+	private final AtomicLong ticketNumber = new AtomicLong();
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(ProjectTrackingServerApplication.class)
+				.run(
+						"--spring.profiles.active=" + ("virtual".equals(executionMode) ? "virtual" : "default"),
+						"--server.port=0",
+						"--spring.datasource.url=jdbc:h2:mem:load;DB_CLOSE_DELAY=-1",
+						"--spring.datasource.driver-class-name=org.h2.Driver",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.liquibase.enabled=false",
+						"--spring.jpa.hibernate.ddl-auto=create-drop",
+						"--rate-limit.enabled=false",
+						"--logging.level.root=WARN");
+
+		CompanyEntity companyEntity = context.getBean(CompanyRepository.class).save(TestDataUtil.createCompany1());
+		UserEntity userEntity = context.getBean(UserRepository.class).save(TestDataUtil.createUser1(
+				context.getBean(RoleRepository.class).save(TestDataUtil.createAdminRole()),
+				companyEntity));
+		ProjectEntity projectEntity = TestDataUtil.createProject1(companyEntity, userEntity);
+		projectEntity.setMembers(new ArrayList<>(List.of(userEntity)));
+		projectEntity = context.getBean(ProjectRepository.class).save(projectEntity);
+		TicketTypeEntity ticketTypeEntity = context.getBean(TicketTypeRepository.class).save(TestDataUtil.createTestTicketType(TicketType.Bug));
+		TicketPriorityEntity ticketPriorityEntity = context.getBean(TicketPriorityRepository.class).save(TestDataUtil.createTestTicketPriority(TicketPriority.High));
+		TicketStatusEntity ticketStatusEntity = context.getBean(TicketStatusRepository.class).save(TestDataUtil.createTestTicketStatus(TicketStatus.New));
+
+		List<TicketEntity> ticketEntities = new ArrayList<>();
+		for(int i = 0; i < 100; i++) {
+			TicketEntity ticketEntity = TestDataUtil.createTicket1(projectEntity, userEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+			ticketEntity.setId(0);
+			ticketEntity.setName("LoadTicket" + i);
+			ticketEntities.add(ticketEntity);
+		}
+		context.getBean(TicketRepository.class).saveAll(ticketEntities);
+
+		int port = ((ServletWebServerApplicationContext)context).getWebServer().getPort();
+		ticketsUri = URI.create("http://localhost:" + port + "/api/v1/companies/" + companyEntity.getId() + "/projects/" + projectEntity.getId() + "/tickets");
+		apiKey = userEntity.getApiKey();
+		httpClient = HttpClient.newBuilder()
+							   .version(HttpClient.Version.HTTP_1_1)
+							   .build();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		httpClient.close();
+		context.close();
+	}
+
+	@Benchmark
+	public int listTickets() throws IOException, InterruptedException {
+		HttpRequest request = HttpRequest.newBuilder(ticketsUri)
+										 .header("ApiKey", apiKey)
+										 .GET()
+										 .build();
+		return send(request);
+	}
+
+	@Benchmark
+	public int createTicket() throws IOException, InterruptedException {
+		String body = """
+				{"name": "CreatedTicket%d", "description": "load test", "ticketType": "Bug", "ticketPriority": "High", "ticketStatus": "New"}
+				""".formatted(ticketNumber.incrementAndGet());
+		HttpRequest request = HttpRequest.newBuilder(ticketsUri)
+										 .header("ApiKey", apiKey)
+										 .header("Content-Type", "application/json")
+										 .POST(HttpRequest.BodyPublishers.ofString(body))
+										 .build();
+		return send(request);
+	}
+
+	private int send(HttpRequest request) throws IOException, InterruptedException {
+		HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+		if(response.statusCode() >= 300) {
+			throw new IllegalStateException("Unexpected status " + response.statusCode() + " for " + request.method() + " " + request.uri());
+		}
+		return response.statusCode();
+	}
+}
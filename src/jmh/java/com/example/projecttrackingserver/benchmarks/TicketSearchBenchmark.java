@@ -0,0 +1,99 @@
+package com.example.projecttrackingserver.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.projecttrackingserver.repositories.TicketRepository;
+import com.example.projecttrackingserver.search.InMemoryTicketSearchIndex;
+import com.example.projecttrackingserver.search.TicketSearchDocument;
+import com.example.projecttrackingserver.search.TicketSearchHit;
+
+/**
+ * Benchmarks searching tickets in the in-process search index, the first page of 100 hits and a following page.
+ * The tickets are spread over 10 companies with 100 projects each, their words are drawn from a vocabulary
+ * of 5000 words in which the first words are the most frequent, like in natural text.
+ * The number of tickets is set by the ticketCount parameter, e.g. -p ticketCount=1000000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TicketSearchBenchmark {
+
+	private static final int COMPANY_COUNT = 10;
+	private static final int PROJECTS_PER_COMPANY = 100;
+	private static final int VOCABULARY_SIZE = 5000;
+	private static final int LIMIT = 100;
+
+	@Param({"100000", "1000000"})
+	private int ticketCount;
+
+	private InMemoryTicketSearchIndex searchIndex;
+	private TicketSearchHit secondPage;
+	@Setup
+	public void setUp() {
+		searchIndex = new InMemoryTicketSearchIndex(mock(TicketRepository.class), mock(PlatformTransactionManager.class));
+		Random random = new Random(42);
+		for(long ticketId = 1; ticketId <= ticketCount; ticketId++) {
+			long projectId = ticketId % (COMPANY_COUNT * PROJECTS_PER_COMPANY) + 1;
+			long companyId = (projectId - 1) / PROJECTS_PER_COMPANY + 1;
+			searchIndex.index(new TicketSearchDocument(ticketId, projectId, companyId, text(random, 4), text(random, 12)));
+		}
+
+		List<TicketSearchHit> firstPage = searchIndex.search(1, null, "w1", TicketSearchHit.FIRST, LIMIT);
+		secondPage = firstPage.get(firstPage.size() - 1);
+	}
+
+	@Benchmark
+	public List<TicketSearchHit> searchCompanyFrequentWord() {
+		return searchIndex.search(1, null, "w1", TicketSearchHit.FIRST, LIMIT);
+	}
+
+	@Benchmark
+	public List<TicketSearchHit> searchCompanyFrequentWordNextPage() {
+		return searchIndex.search(1, null, "w1", secondPage, LIMIT);
+	}
+
+	@Benchmark
+	public List<TicketSearchHit> searchCompanyTwoWords() {
+		return searchIndex.search(1, null, "w1 w20", TicketSearchHit.FIRST, LIMIT);
+	}
+
+	@Benchmark
+	public List<TicketSearchHit> searchCompanyRareWord() {
+		return searchIndex.search(1, null, "w2000", TicketSearchHit.FIRST, LIMIT);
+	}
+
+	@Benchmark
+	public List<TicketSearchHit> searchProjectFrequentWord() {
+		return searchIndex.search(1, 1L, "w1", TicketSearchHit.FIRST, LIMIT);
+	}
+
+	private static String text(Random random, int wordCount) {
+		StringBuilder text = new StringBuilder();
+		for(int i = 0; i < wordCount; i++) {
+			// squared uniform value -> low word numbers are drawn most often
+			double value = random.nextDouble();
+			text.append(" w").append((int) (value * value * VOCABULARY_SIZE) + 1);
+		}
+		return text.toString();
+	}
+}
@@ -0,0 +1,121 @@
+package com.example.projecttrackingserver.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.example.projecttrackingserver.ProjectTrackingServerApplication;
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.dto.ProjectStatsDto;
+import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.entities.ProjectEntity;
+import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.entities.TicketPriorityEntity;
+import com.example.projecttrackingserver.entities.TicketStatusEntity;
+import com.example.projecttrackingserver.entities.TicketTypeEntity;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.repositories.CompanyRepository;
+import com.example.projecttrackingserver.repositories.ProjectRepository;
+import com.example.projecttrackingserver.repositories.RoleRepository;
+import com.example.projecttrackingserver.repositories.TicketPriorityRepository;
+import com.example.projecttrackingserver.repositories.TicketRepository;
+import com.example.projecttrackingserver.repositories.TicketStatusRepository;
+import com.example.projecttrackingserver.repositories.TicketTypeRepository;
+import com.example.projecttrackingserver.repositories.UserRepository;
+import com.example.projecttrackingserver.services.ProjectStatsService;
+import com.example.projecttrackingserver.services.TicketService;
+
+/**
+ * Benchmarks listing all tickets of a project and reading its ticket statistics against an in-memory H2 database.
+ * The number of tickets in the project is set by the ticketCount parameter, e.g. -p ticketCount=5000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketServiceBenchmark {
+
+	@Param({"100", "1000"})
+	private int ticketCount;
+	
+	private ConfigurableApplicationContext context;
+	private TicketService ticketService;
+	private ProjectStatsService projectStatsService;
+	private long companyId;
+	private long projectId;
+	@Setup(Level.Trial)
+	public void setUp() {
+		context = new SpringApplicationBuilder(ProjectTrackingServerApplication.class)
+				.run(
+						"--server.port=0",
+						"--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+						"--spring.datasource.driver-class-name=org.h2.Driver",
+						"--spring.datasource.username=sa",
+						"--spring.datasource.password=",
+						"--spring.liquibase.enabled=false",
+						"--spring.jpa.hibernate.ddl-auto=create-drop",
+						"--logging.level.root=WARN");
+		ticketService = context.getBean(TicketService.class);
+		projectStatsService = context.getBean(ProjectStatsService.class);
+		
+		CompanyEntity companyEntity = context.getBean(CompanyRepository.class).save(TestDataUtil.createCompany1());
+		UserEntity userEntity = context.getBean(UserRepository.class).save(TestDataUtil.createUser1(
+				context.getBean(RoleRepository.class).save(TestDataUtil.createAdminRole()),
+				companyEntity));
+		ProjectEntity projectEntity = context.getBean(ProjectRepository.class).save(TestDataUtil.createProject1(companyEntity, userEntity));
+		TicketTypeEntity ticketTypeEntity = context.getBean(TicketTypeRepository.class).save(TestDataUtil.createTestTicketType(TicketType.Bug));
+		TicketPriorityEntity ticketPriorityEntity = context.getBean(TicketPriorityRepository.class).save(TestDataUtil.createTestTicketPriority(TicketPriority.High));
+		TicketStatusEntity ticketStatusEntity = context.getBean(TicketStatusRepository.class).save(TestDataUtil.createTestTicketStatus(TicketStatus.New));
+		
+		List<TicketEntity> ticketEntities = new ArrayList<>();
+		for(int i = 0; i < ticketCount; i++) {
+			TicketEntity ticketEntity = TestDataUtil.createTicket1(projectEntity, userEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+			ticketEntity.setId(0);
+			ticketEntity.setName("BenchmarkTicket" + i);
+			ticketEntities.add(ticketEntity);
+		}
+		context.getBean(TicketRepository.class).saveAll(ticketEntities);
+		
+		companyId = companyEntity.getId();
+		projectId = projectEntity.getId();
+		// tickets saved by the repository are not counted -> count them once
+		projectStatsService.rebuildTicketCounters(projectId);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+	
+	@Benchmark
+	public List<TicketResponseDto> getAllTicketDtosInProject() {
+		return ticketService.getAllTicketDtosInProject(companyId, projectId);
+	}
+	
+	@Benchmark
+	public ProjectStatsDto getProjectStats() {
+		return projectStatsService.getProjectStats(companyId, projectId);
+	}
+}
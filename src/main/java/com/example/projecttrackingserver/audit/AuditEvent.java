@@ -0,0 +1,43 @@
+package com.example.projecttrackingserver.audit;
+
+import java.time.LocalDateTime;
+
+import com.example.projecttrackingserver.entities.AuditEventEntity;
+import com.example.projecttrackingserver.enums.AuditAction;
+
+/**
+ * A change to be recorded in the audit log.
+ *
+ * @param action the kind of change
+ * @param companyId the ID of the company the change was made in
+ * @param projectId the ID of the project the change was made in, null for changes outside of a project
+ * @param entityId the ID of the changed ticket, project or user, the added or removed user for membership changes
+ * @param actorId the ID of the user who made the change, null if it was not made by a request
+ * @param detail additional information, e.g. the assigned role
+ * @param occurredAt the time the change was made
+ */
+public record AuditEvent(
+		AuditAction action,
+		long companyId,
+		Long projectId,
+		long entityId,
+		Long actorId,
+		String detail,
+		LocalDateTime occurredAt
+) {
+
+    /**
+     * @return a new AuditEventEntity with the values of the event
+     */
+	public AuditEventEntity toEntity() {
+		return AuditEventEntity.builder()
+							   .action(action)
+							   .companyId(companyId)
+							   .projectId(projectId)
+							   .entityId(entityId)
+							   .actorId(actorId)
+							   .detail(detail)
+							   .occurredAt(occurredAt)
+							   .build();
+	}
+}
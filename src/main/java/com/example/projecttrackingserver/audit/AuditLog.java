@@ -0,0 +1,275 @@
+package com.example.projecttrackingserver.audit;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.projecttrackingserver.auth.AuthenticatedUser;
+import com.example.projecttrackingserver.enums.AuditAction;
+import com.example.projecttrackingserver.repositories.AuditEventRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records the changes made by the services in the audit_events table.
+ * In the Async mode (default) the events of committed transactions are put into a bounded buffer and written in batches
+ * by a background thread, so recording a change adds no statement to the request. If the buffer is full, the request waits
+ * up to the offer timeout for the writer and the event is dropped afterwards. Events still buffered when the application
+ * is killed are lost.
+ * In the Outbox mode the events are written in the transaction of the change instead, so they are committed or rolled back
+ * together with it, at the cost of one insert per change, which is sent in the JDBC batch of the transaction.
+ * Published, written and dropped events are counted in audit.events.published, audit.events.written and audit.events.dropped,
+ * the time from the change until it was written is recorded in audit.events.latency.
+ */
+@Slf4j
+@Component
+public class AuditLog implements SmartLifecycle {
+
+    /**
+     * The ways events are written.
+     */
+	public enum Mode {
+		Async,
+		Outbox
+	}
+
+	private static final long POLL_MILLIS = 100;
+	private static final Duration STOP_TIMEOUT = Duration.ofSeconds(10);
+
+	private final AuditEventRepository auditEventRepository;
+	private final Mode mode;
+	private final BlockingQueue<AuditEvent> buffer;
+	private final int batchSize;
+	private final long offerTimeoutNanos;
+	private final Counter publishedCounter;
+	private final Counter writtenCounter;
+	private final Counter bufferFullCounter;
+	private final Counter writeFailedCounter;
+	private final Timer latencyTimer;
+	private volatile boolean running;
+	private Thread writer;
+
+    /**
+     * Constructs a new AuditLog.
+     *
+     * @param auditEventRepository the repository the events are written with
+     * @param meterRegistry the registry the metrics are published in
+     * @param mode the way events are written
+     * @param bufferSize the maximum number of events waiting to be written
+     * @param batchSize the maximum number of events written in one transaction
+     * @param offerTimeout the time a request waits for space in a full buffer before the event is dropped
+     */
+	public AuditLog(
+			AuditEventRepository auditEventRepository,
+			MeterRegistry meterRegistry,
+			@Value("${audit.mode:Async}") Mode mode,
+			@Value("${audit.buffer-size:10000}") int bufferSize,
+			@Value("${audit.batch-size:50}") int batchSize,
+			@Value("${audit.offer-timeout:PT0.01S}") Duration offerTimeout
+	) {
+		this.auditEventRepository = auditEventRepository;
+		this.mode = mode;
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+		this.batchSize = batchSize;
+		this.offerTimeoutNanos = offerTimeout.toNanos();
+		this.publishedCounter = Counter.builder("audit.events.published")
+									   .description("Changes recorded by the services")
+									   .register(meterRegistry);
+		this.writtenCounter = Counter.builder("audit.events.written")
+									 .description("Events written by the background writer")
+									 .register(meterRegistry);
+		this.bufferFullCounter = Counter.builder("audit.events.dropped")
+										.description("Events which were not written")
+										.tag("reason", "buffer-full")
+										.register(meterRegistry);
+		this.writeFailedCounter = Counter.builder("audit.events.dropped")
+										 .description("Events which were not written")
+										 .tag("reason", "write-failed")
+										 .register(meterRegistry);
+		this.latencyTimer = Timer.builder("audit.events.latency")
+								 .description("Time from a change until its event was written")
+								 .register(meterRegistry);
+		Gauge.builder("audit.buffer.size", buffer, BlockingQueue::size)
+			 .description("Events waiting to be written")
+			 .register(meterRegistry);
+	}
+
+    /**
+     * Records a change made by the requesting user.
+     * Inside a transaction the event is only passed on once the transaction committed.
+     *
+     * @param action the kind of change
+     * @param companyId the ID of the company the change was made in
+     * @param projectId the ID of the project the change was made in, null for changes outside of a project
+     * @param entityId the ID of the changed entity, the added or removed user for membership changes
+     * @param detail additional information, may be null
+     */
+	public void record(AuditAction action, long companyId, Long projectId, long entityId, String detail) {
+		AuditEvent event = new AuditEvent(action, companyId, projectId, entityId, requestingUserId(), detail, LocalDateTime.now());
+		publishedCounter.increment();
+
+		// outbox -> written with the change
+		if(mode == Mode.Outbox) {
+			auditEventRepository.save(event.toEntity());
+			return;
+		}
+
+		// transaction active -> enqueue after commit, rolled back changes are not recorded
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					enqueue(event);
+				}
+			});
+			return;
+		}
+
+		enqueue(event);
+	}
+
+    /**
+     * @return the number of events waiting to be written
+     */
+	public int getBufferSize() {
+		return buffer.size();
+	}
+
+    /**
+     * @return the number of events written by the background writer
+     */
+	public long getWrittenCount() {
+		return (long)writtenCounter.count();
+	}
+
+    /**
+     * @return the number of events dropped because the buffer was full or they could not be written
+     */
+	public long getDroppedCount() {
+		return (long)(bufferFullCounter.count() + writeFailedCounter.count());
+	}
+
+    /**
+     * Starts the background writer in the Async mode.
+     */
+	@Override
+	public void start() {
+		if(mode != Mode.Async || writer != null) {
+			return;
+		}
+
+		running = true;
+		writer = new Thread(this::drain, "audit-writer");
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+    /**
+     * Stops the background writer after it wrote the buffered events.
+     */
+	@Override
+	public void stop() {
+		if(writer == null) {
+			return;
+		}
+
+		running = false;
+		try {
+			writer.join(STOP_TIMEOUT.toMillis());
+		} catch(InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		if(!buffer.isEmpty()) {
+			log.warn("{} audit events were not written before shutdown", buffer.size());
+		}
+		writer = null;
+	}
+
+    /**
+     * @return true if the background writer is running, otherwise false
+     */
+	@Override
+	public boolean isRunning() {
+		return writer != null;
+	}
+
+    /**
+     * Starts before and stops after the web server, so the events of all handled requests are written.
+     */
+	@Override
+	public int getPhase() {
+		return SmartLifecycle.DEFAULT_PHASE - 4096;
+	}
+
+	private void enqueue(AuditEvent event) {
+		// buffer is full -> wait for the writer, then drop
+		try {
+			if(buffer.offer(event, offerTimeoutNanos, TimeUnit.NANOSECONDS)) {
+				return;
+			}
+		} catch(InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		bufferFullCounter.increment();
+	}
+
+	private void drain() {
+		List<AuditEvent> batch = new ArrayList<>(batchSize);
+		while(running || !buffer.isEmpty()) {
+			try {
+				AuditEvent event = buffer.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+				if(event == null) {
+					continue;
+				}
+				batch.add(event);
+			} catch(InterruptedException ex) {
+				return;
+			}
+
+			buffer.drainTo(batch, batchSize - 1);
+			write(batch);
+			batch.clear();
+		}
+	}
+
+	private void write(List<AuditEvent> batch) {
+		// saved in one transaction, so the inserts are sent in JDBC batches
+		try {
+			auditEventRepository.saveAll(batch.stream().map(AuditEvent::toEntity).toList());
+		} catch(RuntimeException ex) {
+			// database not reachable -> drop batch, the requests are not blocked by the audit log
+			writeFailedCounter.increment(batch.size());
+			log.warn("{} audit events could not be written", batch.size(), ex);
+			return;
+		}
+
+		writtenCounter.increment(batch.size());
+		LocalDateTime writtenAt = LocalDateTime.now();
+		batch.forEach(event -> latencyTimer.record(Duration.between(event.occurredAt(), writtenAt)));
+	}
+
+	private static Long requestingUserId() {
+		// no authenticated user, e.g. changes made at startup -> no actor
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if(authentication == null || !(authentication.getPrincipal() instanceof AuthenticatedUser requestingUser)) {
+			return null;
+		}
+		return requestingUser.id();
+	}
+}
@@ -0,0 +1,167 @@
+package com.example.projecttrackingserver.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded, time based cache for authenticated users.
+ * Entries are keyed by the SHA-256 hash of the API key, so the plain keys are never kept in memory.
+ * Every invalidation increments a generation, so a user loaded while an invalidation happened is returned but not cached,
+ * otherwise the state from before the change could be kept for the full time to live.
+ */
+@Component
+public class ApiKeyAuthCache {
+
+	public static final String CACHE_NAME = "auth.api-key";
+
+	private final Cache<String, AuthenticatedUser> entries;
+	private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructs a new ApiKeyAuthCache.
+     * Its hits, misses, evictions and size are published as the cache metrics of Micrometer, tagged with cache="auth.api-key".
+     *
+     * @param maxSize the maximum number of cached users
+     * @param ttl the time an entry stays valid after it was loaded
+     * @param meterRegistry the registry the cache metrics are registered in
+     */
+	@Autowired
+	public ApiKeyAuthCache(
+			@Value("${auth.cache.max-size:10000}") int maxSize,
+			@Value("${auth.cache.ttl:PT1M}") Duration ttl,
+			MeterRegistry meterRegistry
+	) {
+		this(maxSize, ttl, Ticker.systemTicker(), meterRegistry);
+	}
+
+	ApiKeyAuthCache(int maxSize, Duration ttl, Ticker ticker, MeterRegistry meterRegistry) {
+		this.entries = Caffeine.newBuilder()
+							   .maximumSize(maxSize)
+							   .expireAfterWrite(ttl)
+							   .executor(Runnable::run)
+							   .ticker(ticker)
+							   .recordStats()
+							   .build();
+		CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+	}
+
+    /**
+     * Retrieves the authenticated user for an API key, using the loader on a cache miss.
+     * Unknown API keys are not cached.
+     *
+     * @param apiKey the API key provided by the request
+     * @param loader the function loading the user if it is not cached
+     * @return an Optional containing the AuthenticatedUser if the API key is valid, otherwise empty
+     */
+	public Optional<AuthenticatedUser> get(String apiKey, Function<String, Optional<AuthenticatedUser>> loader) {
+		String keyHash = hash(apiKey);
+
+		// valid entry -> hit
+		AuthenticatedUser user = entries.getIfPresent(keyHash);
+		if(user != null) {
+			return Optional.of(user);
+		}
+
+		long loadedGeneration = generation.get();
+		Optional<AuthenticatedUser> userOptional = loader.apply(apiKey);
+
+		// invalidated while loading -> loaded user may already be outdated
+		if(userOptional.isPresent() && generation.get() == loadedGeneration) {
+			entries.put(keyHash, userOptional.get());
+		}
+
+		return userOptional;
+	}
+
+    /**
+     * Removes the cached entry of a user, e.g. after the user was changed or deleted.
+     * Inside a transaction the entry is removed again once the transaction completed,
+     * so the user loaded by another request before the change was committed is not kept.
+     *
+     * @param userId the ID of the user to remove
+     */
+	public void invalidate(long userId) {
+		remove(userId);
+
+		// transaction active -> remove again after commit or rollback
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					remove(userId);
+				}
+			});
+		}
+	}
+
+    /**
+     * Removes all cached entries.
+     */
+	public void invalidateAll() {
+		generation.incrementAndGet();
+		entries.invalidateAll();
+	}
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+	public long getHitCount() {
+		return entries.stats().hitCount();
+	}
+
+    /**
+     * @return the number of lookups which had to be loaded
+     */
+	public long getMissCount() {
+		return entries.stats().missCount();
+	}
+
+    /**
+     * @return the number of entries removed because they expired or the cache was full
+     */
+	public long getEvictionCount() {
+		entries.cleanUp();
+		return entries.stats().evictionCount();
+	}
+
+    /**
+     * @return the number of currently cached entries
+     */
+	public long size() {
+		entries.cleanUp();
+		return entries.estimatedSize();
+	}
+
+	private void remove(long userId) {
+		generation.incrementAndGet();
+		entries.asMap().values().removeIf(user -> user.id() == userId);
+	}
+
+	private static String hash(String apiKey) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(apiKey.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch(NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("SHA-256 is not available", ex);
+		}
+	}
+}
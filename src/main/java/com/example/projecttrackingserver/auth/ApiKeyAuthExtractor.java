@@ -6,7 +6,6 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.stereotype.Component;
 
-import com.example.projecttrackingserver.entities.UserEntity;
 import com.example.projecttrackingserver.services.UserServiceImpl;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -14,12 +13,16 @@ import lombok.RequiredArgsConstructor;
 
 /**
  * Class responsible for extracting and validating API key authentication from HTTP requests.
+ * API keys which are not cached are only looked up while the address of the client has anonymous budget left.
+ * A refused lookup is stored in the request for the RateLimitFilter, which rejects the request with 429 Too Many Requests.
  */
 @Component
 @RequiredArgsConstructor
 public class ApiKeyAuthExtractor {
 
 	private final UserServiceImpl userService;
+	private final ApiKeyAuthCache authCache;
+	private final RateLimiter rateLimiter;
 
     /**
      * Extracts authentication information from the provided request.
@@ -29,8 +32,20 @@ public class ApiKeyAuthExtractor {
      */
     public Optional<Authentication> extract(HttpServletRequest request) {
     	String providedKey = request.getHeader("ApiKey");
-    	Optional<UserEntity> userOptional = userService.getEntityByAPIKey(providedKey);
-        if (providedKey == null || userOptional.isEmpty()) {
+    	if (providedKey == null) {
+    		return Optional.empty();
+    	}
+
+    	Optional<AuthenticatedUser> userOptional = authCache.get(providedKey, key -> {
+    		// key not cached and address used up its anonymous budget -> no lookup, the request is rejected
+    		long waitNanos = rateLimiter.tryAcquireLookup(request.getRemoteAddr());
+    		if(waitNanos > 0) {
+    			request.setAttribute(RateLimitFilter.LOOKUP_WAIT_NANOS_ATTRIBUTE, waitNanos);
+    			return Optional.empty();
+    		}
+    		return userService.getEntityByAPIKey(key).map(AuthenticatedUser::of);
+    	});
+        if (userOptional.isEmpty()) {
         	return Optional.empty();
         }
 
@@ -0,0 +1,27 @@
+package com.example.projecttrackingserver.auth;
+
+import java.io.Serializable;
+
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.Role;
+
+/**
+ * Lightweight snapshot of an authenticated user.
+ * This is used as principal instead of the UserEntity, so it can be cached independently of any persistence context.
+ */
+public record AuthenticatedUser(
+		long id,
+		long companyId,
+		Role role
+) implements Serializable {
+
+    /**
+     * Creates a snapshot of the given user entity.
+     *
+     * @param userEntity the user entity to take the snapshot from
+     * @return the AuthenticatedUser holding id, company ID and role of the user
+     */
+	public static AuthenticatedUser of(UserEntity userEntity) {
+		return new AuthenticatedUser(userEntity.getId(), userEntity.getCompany().getId(), userEntity.getRole().getRole());
+	}
+}
@@ -0,0 +1,83 @@
+package com.example.projecttrackingserver.auth;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Filter rejecting requests of clients which used up their budget with 429 Too Many Requests.
+ * It runs after the ApiKeyAuthFilter, so authenticated requests are counted per user and only anonymous ones per address.
+ * API keys which are not cached are already charged to the address by the ApiKeyAuthExtractor before they are looked up.
+ * A request whose key was not looked up is rejected as well, instead of being handled as anonymous request.
+ * Requests to the actuator are not limited, so health checks and scrapes are never rejected.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute holding the nanoseconds until the client may retry, set if the lookup of its API key was refused.
+     */
+	public static final String LOOKUP_WAIT_NANOS_ATTRIBUTE = RateLimitFilter.class.getName() + ".LOOKUP_WAIT_NANOS";
+
+	private final RateLimiter rateLimiter;
+
+    /**
+     * {@inheritDoc}
+     */
+	@Override
+	protected boolean shouldNotFilter(HttpServletRequest request) {
+		return !rateLimiter.isEnabled() || request.getServletPath().startsWith("/actuator/");
+	}
+
+    /**
+     * {@inheritDoc}
+     */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+		// lookup of the API key refused -> deny, the rejection was already counted
+		if(request.getAttribute(LOOKUP_WAIT_NANOS_ATTRIBUTE) instanceof Long lookupWaitNanos) {
+			reject(response, lookupWaitNanos);
+			return;
+		}
+
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		AuthenticatedUser user = authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser authenticatedUser ? authenticatedUser : null;
+
+		// budget used up -> deny
+		long waitNanos = rateLimiter.tryAcquire(user, request.getRemoteAddr(), isWrite(request));
+		if(waitNanos > 0) {
+			reject(response, waitNanos);
+			return;
+		}
+
+		filterChain.doFilter(request, response);
+	}
+
+	private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+		long retryAfter = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+		response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+		response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+		response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+		response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+		response.getWriter().write(String.format("too many requests, retry after %d seconds", retryAfter));
+	}
+
+	private static boolean isWrite(HttpServletRequest request) {
+		String method = request.getMethod();
+		return !(HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method));
+	}
+}
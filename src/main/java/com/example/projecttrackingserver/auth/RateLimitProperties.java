@@ -0,0 +1,59 @@
+package com.example.projecttrackingserver.auth;
+
+import com.example.projecttrackingserver.enums.Role;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Configuration of the request rate limits, bound from the rate-limit properties.
+ * Every client has a budget for reads (GET, HEAD and OPTIONS) and one for all other requests.
+ * Authenticated clients get the budget of their role, anonymous clients the lower one of anonymous.
+ */
+@Data
+public class RateLimitProperties {
+
+	private boolean enabled = true;
+	private int maxBuckets = 100000;
+	private Budget anonymous = new Budget(new Limit(20, 5), new Limit(5, 1));
+	private Budget developer = new Budget(new Limit(100, 20), new Limit(30, 5));
+	private Budget projectManager = new Budget(new Limit(200, 40), new Limit(60, 10));
+	private Budget admin = new Budget(new Limit(400, 80), new Limit(120, 20));
+
+    /**
+     * Retrieves the budget of an authenticated client.
+     *
+     * @param role the role of the client
+     * @return the Budget of the role
+     */
+	public Budget budget(Role role) {
+		return switch(role) {
+			case Admin -> admin;
+			case ProjectManager -> projectManager;
+			case Developer -> developer;
+		};
+	}
+
+    /**
+     * The limits of a client for reading and writing requests.
+     */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Budget {
+		private Limit read;
+		private Limit write;
+	}
+
+    /**
+     * A token bucket holding up to capacity requests, which is refilled by refillPerSecond requests every second.
+     */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Limit {
+		private int capacity;
+		private double refillPerSecond;
+	}
+}
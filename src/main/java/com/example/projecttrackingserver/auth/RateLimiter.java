@@ -0,0 +1,151 @@
+package com.example.projecttrackingserver.auth;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.projecttrackingserver.enums.Role;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Limits the rate of requests per client with token buckets.
+ * Authenticated clients are identified by their user, anonymous clients by their address.
+ * The buckets are kept in a bounded cache. A client which sent no request for as long as the slowest bucket takes to refill
+ * is dropped, as its buckets are full again and do not limit it anymore. Beyond the maximum number of clients the cache drops
+ * the clients least likely to return.
+ * Rejected requests are counted in rate.limit.rejected, dropped buckets in rate.limit.evicted and the current buckets
+ * are published as rate.limit.buckets.
+ */
+@Component
+public class RateLimiter {
+
+	private static final String ANONYMOUS = "Anonymous";
+	private static final String READ = "read";
+	private static final String WRITE = "write";
+	private static final String LOOKUP = "lookup";
+
+	private final RateLimitProperties properties;
+	private final Ticker ticker;
+	private final Map<String, Counter> rejectedCounters = new HashMap<>();
+	private final Counter evictedCounter;
+	private final Cache<String, ClientBuckets> entries;
+
+    /**
+     * Constructs a new RateLimiter.
+     *
+     * @param properties the limits per client
+     * @param meterRegistry the registry the metrics are published in
+     */
+	@Autowired
+	public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+		this(properties, meterRegistry, Ticker.systemTicker());
+	}
+
+	RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry, Ticker ticker) {
+		this.properties = properties;
+		this.ticker = ticker;
+		// counters registered once per client and budget, so a rejection only increments
+		for(String client : Stream.concat(Stream.of(Role.values()).map(Role::name), Stream.of(ANONYMOUS)).toList()) {
+			for(String budgetName : List.of(READ, WRITE, LOOKUP)) {
+				Counter rejectedCounter = Counter.builder("rate.limit.rejected")
+												 .description("Requests rejected because the client used up its budget")
+												 .tag("client", client)
+												 .tag("budget", budgetName)
+												 .register(meterRegistry);
+				rejectedCounters.put(counterKey(client, budgetName), rejectedCounter);
+			}
+		}
+		this.evictedCounter = Counter.builder("rate.limit.evicted")
+									 .description("Buckets dropped because they were full again or the maximum number of clients was reached")
+									 .register(meterRegistry);
+		this.entries = Caffeine.newBuilder()
+							   .maximumSize(properties.getMaxBuckets())
+							   .expireAfterAccess(fillTime(properties))
+							   .executor(Runnable::run)
+							   .ticker(ticker)
+							   .<String, ClientBuckets>evictionListener((key, buckets, cause) -> evictedCounter.increment())
+							   .build();
+		Gauge.builder("rate.limit.buckets", entries, Cache::estimatedSize)
+			 .description("Clients currently holding a bucket")
+			 .register(meterRegistry);
+	}
+
+    /**
+     * @return true if requests are limited, otherwise false
+     */
+	public boolean isEnabled() {
+		return properties.isEnabled();
+	}
+
+    /**
+     * Takes one request from the budget of a client.
+     *
+     * @param user the authenticated user, null for anonymous requests
+     * @param clientAddress the address of the client, used for anonymous requests
+     * @param write true for requests changing data, false for reads
+     * @return 0 if the request is allowed, otherwise the nanoseconds until the client may send it again
+     */
+	public long tryAcquire(AuthenticatedUser user, String clientAddress, boolean write) {
+		String client = user != null ? user.role().name() : ANONYMOUS;
+		String key = user != null ? client + ":" + user.id() : client + ":" + clientAddress;
+		RateLimitProperties.Budget budget = user != null ? properties.budget(user.role()) : properties.getAnonymous();
+		return consume(client, key, budget, write, write ? WRITE : READ);
+	}
+
+    /**
+     * Takes one request from the read budget of the address of a client before its API key is looked up in the database.
+     * Only keys which are not cached are looked up, so a client sending random keys is limited like an anonymous client
+     * instead of causing a query with every request.
+     *
+     * @param clientAddress the address of the client
+     * @return 0 if the API key may be looked up, otherwise the nanoseconds until the client may send it again
+     */
+	public long tryAcquireLookup(String clientAddress) {
+		return isEnabled() ? consume(ANONYMOUS, ANONYMOUS + ":" + clientAddress, properties.getAnonymous(), false, LOOKUP) : 0;
+	}
+
+    /**
+     * @return the number of clients currently holding a bucket
+     */
+	public long size() {
+		entries.cleanUp();
+		return entries.estimatedSize();
+	}
+
+	private long consume(String client, String key, RateLimitProperties.Budget budget, boolean write, String budgetName) {
+		long now = ticker.read();
+		ClientBuckets buckets = entries.get(key, ignored -> new ClientBuckets(new TokenBucket(budget.getRead(), now), new TokenBucket(budget.getWrite(), now)));
+		long waitNanos = (write ? buckets.write() : buckets.read()).tryConsume(now);
+		if(waitNanos > 0) {
+			rejectedCounters.get(counterKey(client, budgetName)).increment();
+		}
+		return waitNanos;
+	}
+
+	private static String counterKey(String client, String budgetName) {
+		return client + ":" + budgetName;
+	}
+
+	private static Duration fillTime(RateLimitProperties properties) {
+		long fillNanos = Stream.of(properties.getAnonymous(), properties.getDeveloper(), properties.getProjectManager(), properties.getAdmin())
+							   .flatMap(budget -> Stream.of(budget.getRead(), budget.getWrite()))
+							   .mapToLong(TokenBucket::fillNanos)
+							   .max()
+							   .orElse(0);
+		return Duration.ofNanos(fillNanos);
+	}
+
+	private record ClientBuckets(TokenBucket read, TokenBucket write) {
+	}
+}
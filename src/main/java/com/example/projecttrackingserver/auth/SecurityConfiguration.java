@@ -1,5 +1,6 @@
 package com.example.projecttrackingserver.auth;
 
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -23,16 +24,29 @@ public class SecurityConfiguration {
 
 	private final ApiKeyAuthFilter authFilter;
 	private final UnauthorizedHandler unauthorizedHandler;
+
+    /**
+     * Static, so the RateLimiter used by the ApiKeyAuthExtractor does not depend on this configuration and its filters.
+     *
+     * @return the limits of the request rates, configured by rate-limit
+     */
+	@Bean
+	@ConfigurationProperties("rate-limit")
+	public static RateLimitProperties rateLimitProperties() {
+		return new RateLimitProperties();
+	}
 	
     /**
      * Configures the security filter chain.
+     * Requests are rate limited after the authentication, so clients with a valid API key are limited by their role.
      *
      * @param http the HttpSecurity object to configure
+     * @param rateLimiter the limiter holding the budgets of the clients
      * @return the configured SecurityFilterChain
      * @throws Exception if an error occurs during configuration
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, RateLimiter rateLimiter) throws Exception {
         return http
                 .cors(AbstractHttpConfigurer::disable)
                 .csrf(AbstractHttpConfigurer::disable)
@@ -55,8 +69,11 @@ public class SecurityConfiguration {
                     		AntPathRequestMatcher.antMatcher(HttpMethod.DELETE, "/api/v1/companies/{companyId}/projects/{projectId}/remove-user/{userId}"),
                     		// Ticket
                     		AntPathRequestMatcher.antMatcher(HttpMethod.POST, "/api/v1/companies/{companyId}/projects/{projectId}/tickets"),
+                    		AntPathRequestMatcher.antMatcher(HttpMethod.POST, "/api/v1/companies/{companyId}/projects/{projectId}/tickets/bulk"),
                     		AntPathRequestMatcher.antMatcher(HttpMethod.PATCH, "/api/v1/companies/{companyId}/projects/{projectId}/tickets/{ticketId}"),
-                    		AntPathRequestMatcher.antMatcher(HttpMethod.DELETE, "/api/v1/companies/{companyId}/projects/{projectId}/tickets/{ticketId}")
+                    		AntPathRequestMatcher.antMatcher(HttpMethod.DELETE, "/api/v1/companies/{companyId}/projects/{projectId}/tickets/{ticketId}"),
+                    		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/tickets/export"),
+                    		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/tickets/search")
                 		).authenticated()
                         .requestMatchers( 
                         	// Company
@@ -69,12 +86,19 @@ public class SecurityConfiguration {
                     		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/projects"),
                     		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/projects/{projectId}"),
                     		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/projects/{projectId}/users"),
+                    		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/projects/{projectId}/stats"),
                         	// Ticket
                     		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/projects/{projectId}/tickets"),
-                    		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/projects/{projectId}/tickets/{ticketId}")
+                    		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/projects/{projectId}/tickets/changes"),
+                    		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/projects/{projectId}/tickets/search"),
+                    		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/api/v1/companies/{companyId}/projects/{projectId}/tickets/{ticketId}"),
+                    		// Actuator
+                    		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/actuator/health"),
+                    		AntPathRequestMatcher.antMatcher(HttpMethod.GET, "/actuator/prometheus")
                 		).permitAll()
                 )
                 .addFilterBefore(authFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(new RateLimitFilter(rateLimiter), ApiKeyAuthFilter.class)
                 .build();
     }
 }
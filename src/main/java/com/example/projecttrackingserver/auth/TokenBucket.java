@@ -0,0 +1,63 @@
+package com.example.projecttrackingserver.auth;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Token bucket which can be used by concurrent requests without locking.
+ * Instead of the number of tokens only the time at which the bucket is full again is stored, so taking a token
+ * is a single compare-and-set which moves this time forward by the refill interval of one token.
+ */
+final class TokenBucket {
+
+	private final long nanosPerToken;
+	private final long capacityNanos;
+	private final AtomicLong fullAt;
+
+    /**
+     * Constructs a new full TokenBucket.
+     *
+     * @param limit the capacity and refill rate of the bucket
+     * @param now the current time in nanoseconds
+     */
+	TokenBucket(RateLimitProperties.Limit limit, long now) {
+		this.nanosPerToken = nanosPerToken(limit);
+		this.capacityNanos = fillNanos(limit);
+		this.fullAt = new AtomicLong(now);
+	}
+
+    /**
+     * Calculates the time an empty bucket takes to be full again.
+     *
+     * @param limit the capacity and refill rate of the bucket
+     * @return the nanoseconds until an empty bucket is full
+     */
+	static long fillNanos(RateLimitProperties.Limit limit) {
+		return nanosPerToken(limit) * Math.max(1, limit.getCapacity());
+	}
+
+    /**
+     * Takes one token from the bucket if one is available.
+     *
+     * @param now the current time in nanoseconds
+     * @return 0 if a token was taken, otherwise the nanoseconds until the next token is available
+     */
+	long tryConsume(long now) {
+		while(true) {
+			long current = fullAt.get();
+			long next = Math.max(current, now) + nanosPerToken;
+
+			// no token left -> deny
+			long overdraft = next - now - capacityNanos;
+			if(overdraft > 0) {
+				return overdraft;
+			}
+			if(fullAt.compareAndSet(current, next)) {
+				return 0;
+			}
+		}
+	}
+
+	private static long nanosPerToken(RateLimitProperties.Limit limit) {
+		return Math.max(1, Math.round(1_000_000_000 / limit.getRefillPerSecond()));
+	}
+}
@@ -0,0 +1,153 @@
+package com.example.projecttrackingserver.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded, time based cache for the members of projects.
+ * The IDs of the members of a project are kept as a sorted array, so a membership check is a binary search over primitive IDs
+ * instead of loading the members as entities, even for projects with thousands of members.
+ * Like the API key cache, members loaded while an invalidation happened are returned but not cached.
+ */
+@Component
+public class ProjectMembershipCache {
+
+	public static final String CACHE_NAME = "project.membership";
+
+	private final Cache<Long, long[]> entries;
+	private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Constructs a new ProjectMembershipCache.
+     * Its hits, misses, evictions and size are published as the cache metrics of Micrometer, tagged with cache="project.membership".
+     *
+     * @param maxSize the maximum number of cached projects
+     * @param ttl the time an entry stays valid after it was loaded
+     * @param meterRegistry the registry the cache metrics are registered in
+     */
+	@Autowired
+	public ProjectMembershipCache(
+			@Value("${membership.cache.max-size:10000}") int maxSize,
+			@Value("${membership.cache.ttl:PT1M}") Duration ttl,
+			MeterRegistry meterRegistry
+	) {
+		this(maxSize, ttl, Ticker.systemTicker(), meterRegistry);
+	}
+
+	ProjectMembershipCache(int maxSize, Duration ttl, Ticker ticker, MeterRegistry meterRegistry) {
+		this.entries = Caffeine.newBuilder()
+							   .maximumSize(maxSize)
+							   .expireAfterWrite(ttl)
+							   .executor(Runnable::run)
+							   .ticker(ticker)
+							   .recordStats()
+							   .build();
+		CaffeineCacheMetrics.monitor(meterRegistry, entries, CACHE_NAME);
+	}
+
+    /**
+     * Checks if a user is a member of a project, using the loader on a cache miss.
+     *
+     * @param projectId the ID of the project
+     * @param userId the ID of the user
+     * @param loader the function loading the IDs of the members of the project if they are not cached
+     * @return true if the user is a member of the project, otherwise false
+     */
+	public boolean isMember(long projectId, long userId, LongFunction<long[]> loader) {
+		// valid entry -> hit
+		long[] memberIds = entries.getIfPresent(projectId);
+		if(memberIds != null) {
+			return Arrays.binarySearch(memberIds, userId) >= 0;
+		}
+
+		long loadedGeneration = generation.get();
+		memberIds = loader.apply(projectId);
+		Arrays.sort(memberIds);
+
+		// invalidated while loading -> loaded members may already be outdated
+		if(generation.get() == loadedGeneration) {
+			entries.put(projectId, memberIds);
+		}
+
+		return Arrays.binarySearch(memberIds, userId) >= 0;
+	}
+
+    /**
+     * Removes the cached members of a project, e.g. after a member was added or removed.
+     * Inside a transaction the entry is removed again once the transaction completed,
+     * so members loaded by another request before the change was committed are not kept.
+     *
+     * @param projectId the ID of the project to remove
+     */
+	public void invalidate(long projectId) {
+		remove(projectId);
+
+		// transaction active -> remove again after commit or rollback
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					remove(projectId);
+				}
+			});
+		}
+	}
+
+    /**
+     * Removes all cached entries.
+     */
+	public void invalidateAll() {
+		generation.incrementAndGet();
+		entries.invalidateAll();
+	}
+
+    /**
+     * @return the number of checks answered from the cache
+     */
+	public long getHitCount() {
+		return entries.stats().hitCount();
+	}
+
+    /**
+     * @return the number of checks which had to load the members
+     */
+	public long getMissCount() {
+		return entries.stats().missCount();
+	}
+
+    /**
+     * @return the number of entries removed because they expired or the cache was full
+     */
+	public long getEvictionCount() {
+		entries.cleanUp();
+		return entries.stats().evictionCount();
+	}
+
+    /**
+     * @return the number of currently cached projects
+     */
+	public long size() {
+		entries.cleanUp();
+		return entries.estimatedSize();
+	}
+
+	private void remove(long projectId) {
+		generation.incrementAndGet();
+		entries.invalidate(projectId);
+	}
+}
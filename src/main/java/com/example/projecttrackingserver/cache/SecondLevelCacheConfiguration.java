@@ -0,0 +1,75 @@
+package com.example.projecttrackingserver.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+/**
+ * Configuration class for Hibernate's second-level cache, kept in-process by Caffeine through JCache.
+ * Only active if jpa.cache.enabled is true, e.g. by the cache profile. Every region is bounded by jpa.cache.max-size
+ * and jpa.cache.ttl, regions which are not created here are not created implicitly.
+ * Hibernate's statistics are enabled with the cache, so the hits, misses and puts per region are published by the actuator
+ * as hibernate.second.level.cache.requests and hibernate.second.level.cache.puts.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jpa.cache.enabled", havingValue = "true")
+public class SecondLevelCacheConfiguration {
+
+    /**
+     * The regions of the cached entities and collections, as named in their {@link org.hibernate.annotations.Cache} annotations.
+     */
+	public static final List<String> REGIONS = List.of("companies", "projects", "projects.members", "users", "roles");
+
+    /**
+     * Creates the cache manager holding one Caffeine cache per region.
+     *
+     * @param maxSize the maximum number of entries per region
+     * @param ttl the time an entry stays cached after it was written
+     * @return the CacheManager
+     */
+	@Bean
+	public CacheManager secondLevelCacheManager(
+			@Value("${jpa.cache.max-size:10000}") long maxSize,
+			@Value("${jpa.cache.ttl:PT10M}") Duration ttl
+	) {
+		CacheManager cacheManager = new CaffeineCachingProvider().getCacheManager();
+		for(String region : REGIONS) {
+			CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+			configuration.setMaximumSize(OptionalLong.of(maxSize));
+			configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+			cacheManager.createCache(region, configuration);
+		}
+		return cacheManager;
+	}
+
+    /**
+     * Enables the second-level cache and the statistics in Hibernate.
+     *
+     * @param secondLevelCacheManager the cache manager holding the regions
+     * @return the HibernatePropertiesCustomizer
+     */
+	@Bean
+	public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+		return hibernateProperties -> {
+			hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+			hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+			hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+			hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, true);
+			hibernateProperties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+		};
+	}
+}
@@ -7,9 +7,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.projecttrackingserver.dto.CompanyResponseDto;
+import com.example.projecttrackingserver.dto.PageResponseDto;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.services.CompanyService;
 
 import lombok.RequiredArgsConstructor;
@@ -25,27 +29,41 @@ public class CompanyController {
 	private final CompanyService companyService;
 	
     /**
-     * Endpoint to retrieve all companies.
+     * Endpoint to retrieve one page of companies.
+     * If there are more companies, the cursor to continue with is returned in the X-Next-Cursor header and the next page in the Link header.
      *
+     * @param sort order of the companies, by ID or by name
+     * @param cursor cursor returned with the previous page, omitted for the first page
+     * @param limit maximum number of companies to retrieve
      * @return ResponseEntity containing a list of CompanyResponseDto and HTTP status code OK (200)
      */
 	@GetMapping
-	public ResponseEntity<List<CompanyResponseDto>> getAllCompanies() {
-		return new ResponseEntity<List<CompanyResponseDto>>(
-				companyService.getAllCompanyDtos(),
-				HttpStatus.OK);
+	public ResponseEntity<List<CompanyResponseDto>> getAllCompanies(
+			@RequestParam(defaultValue = "Id") ListSort sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "100") int limit
+	) {
+		PageResponseDto<CompanyResponseDto> page = companyService.getCompanyDtos(sort, cursor, limit);
+		return Pages.ok(page, "cursor");
 	}
 	
     /**
      * Endpoint to retrieve a specific company by its ID.
      *
      * @param companyId ID of the company to retrieve
+     * @param webRequest the current request, used to answer If-None-Match with 304 Not Modified
      * @return ResponseEntity containing the CompanyResponseDto and HTTP status code OK (200)
      */
 	@GetMapping("/{companyId}")
 	public ResponseEntity<CompanyResponseDto> getOneCompany(
-			@PathVariable long companyId
+			@PathVariable long companyId,
+			WebRequest webRequest
 	) {
+		// company unchanged since the client's copy -> not modified
+		if(ETags.notModified(webRequest, companyService.getVersion(companyId))) {
+			return null;
+		}
+		
 		return new ResponseEntity<CompanyResponseDto>(
 				companyService.getCompanyDtoById(companyId),
 				HttpStatus.OK);
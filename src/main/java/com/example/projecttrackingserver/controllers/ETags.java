@@ -0,0 +1,78 @@
+package com.example.projecttrackingserver.controllers;
+
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.projecttrackingserver.dto.VersionedResponseDto;
+import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+
+/**
+ * Helper for conditional requests based on entity versions.
+ * The version is read without loading the entity, so unchanged resources are answered
+ * with 304 Not Modified before anything is mapped or serialized.
+ * Updates compare the version from If-Match with the loaded entity and return the new version as ETag.
+ */
+final class ETags {
+
+	private ETags() {
+	}
+
+    /**
+     * Sets the strong ETag derived from the version and checks it against the If-None-Match header of the request.
+     * If the resource was not modified, the response status is set to 304 and the handler has to return null.
+     *
+     * @param webRequest the current request
+     * @param version the version of the requested resource, empty if it does not exist
+     * @return true if the client's copy is up to date, otherwise false
+     */
+	static boolean notModified(WebRequest webRequest, Optional<Long> version) {
+		// resource does not exist -> handled by the regular lookup
+		if(version.isEmpty()) {
+			return false;
+		}
+		return webRequest.checkNotModified(Long.toString(version.get()));
+	}
+
+    /**
+     * Reads the version a conditional update expects from the If-Match header.
+     * Only a single strong ETag as returned by this API, e.g. "3", or * is accepted.
+     *
+     * @param ifMatch the value of the If-Match header, null if it is missing
+     * @return the expected version, null if the update is unconditional
+     * @throws ValueNotAllowedException if the header is not a single strong ETag
+     */
+	static Long expectedVersion(String ifMatch) {
+		// no header or any version -> unconditional
+		if(ifMatch == null || ifMatch.trim().equals("*")) {
+			return null;
+		}
+
+		// not a quoted version -> deny
+		String eTag = ifMatch.trim();
+		if(eTag.length() < 3 || eTag.charAt(0) != '"' || eTag.charAt(eTag.length() - 1) != '"') {
+			throw new ValueNotAllowedException("If-Match", ifMatch);
+		}
+		try {
+			return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+		} catch(NumberFormatException ex) {
+			throw new ValueNotAllowedException("If-Match", ifMatch);
+		}
+	}
+
+    /**
+     * Creates the response for an updated resource with HTTP status code OK (200) and its new version as ETag,
+     * so the client can send the next update with If-Match without retrieving the resource again.
+     *
+     * @param <T> the type of the response
+     * @param versioned the response and the version of the updated resource
+     * @return ResponseEntity containing the response
+     */
+	static <T> ResponseEntity<T> ok(VersionedResponseDto<T> versioned) {
+		return ResponseEntity.status(HttpStatus.OK)
+							 .eTag(Long.toString(versioned.version()))
+							 .body(versioned.content());
+	}
+}
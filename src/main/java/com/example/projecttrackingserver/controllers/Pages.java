@@ -0,0 +1,49 @@
+package com.example.projecttrackingserver.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.example.projecttrackingserver.dto.PageResponseDto;
+
+/**
+ * Helper for responses of keyset paginated listings.
+ * The body only contains the listed entries, the position of the next page is returned in headers.
+ */
+final class Pages {
+
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+	private Pages() {
+	}
+
+    /**
+     * Creates the response for a page with HTTP status code OK (200).
+     * If there is a next page, its cursor is returned in the X-Next-Cursor header and a Link header with rel="next"
+     * points to the current request with the cursor parameter replaced, so sort, limit and filters are kept.
+     *
+     * @param <T> the type of the listed responses
+     * @param page the page to return
+     * @param cursorParameter the name of the request parameter taking the cursor
+     * @return ResponseEntity containing the entries of the page
+     */
+	static <T> ResponseEntity<List<T>> ok(PageResponseDto<T> page, String cursorParameter) {
+		ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK);
+
+		// last page -> no next cursor and link
+		if(page.nextCursor() == null) {
+			return response.body(page.content());
+		}
+
+		String nextPage = ServletUriComponentsBuilder.fromCurrentRequest()
+													 .replaceQueryParam(cursorParameter, page.nextCursor())
+													 .build(true)
+													 .toUriString();
+		return response.header(NEXT_CURSOR_HEADER, page.nextCursor())
+					   .header(HttpHeaders.LINK, "<" + nextPage + ">; rel=\"next\"")
+					   .body(page.content());
+	}
+}
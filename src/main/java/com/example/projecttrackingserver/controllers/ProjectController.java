@@ -2,6 +2,7 @@ package com.example.projecttrackingserver.controllers;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,13 +11,20 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.dto.ProjectRequestDto;
 import com.example.projecttrackingserver.dto.ProjectResponseDto;
+import com.example.projecttrackingserver.dto.ProjectStatsDto;
 import com.example.projecttrackingserver.dto.UserResponseDto;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.services.ProjectService;
+import com.example.projecttrackingserver.services.ProjectStatsService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,20 +38,27 @@ import lombok.RequiredArgsConstructor;
 public class ProjectController {
 
 	private final ProjectService projectService;
+	private final ProjectStatsService projectStatsService;
 	
     /**
-     * Endpoint to retrieve all projects in a company.
+     * Endpoint to retrieve one page of projects in a company.
+     * If there are more projects, the cursor to continue with is returned in the X-Next-Cursor header and the next page in the Link header.
      *
      * @param companyId ID of the company to retrieve projects for
+     * @param sort order of the projects, by ID or by name
+     * @param cursor cursor returned with the previous page, omitted for the first page
+     * @param limit maximum number of projects to retrieve
      * @return ResponseEntity containing a list of ProjectResponseDto and HTTP status code OK (200)
      */
 	@GetMapping
 	public ResponseEntity<List<ProjectResponseDto>> getAllProjectsInCompany(
-			@PathVariable long companyId
+			@PathVariable long companyId,
+			@RequestParam(defaultValue = "Id") ListSort sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "100") int limit
 	) {
-		return new ResponseEntity<List<ProjectResponseDto>>(
-				projectService.getAllProjectDtosInCompany(companyId),
-				HttpStatus.OK);
+		PageResponseDto<ProjectResponseDto> page = projectService.getProjectDtosInCompany(companyId, sort, cursor, limit);
+		return Pages.ok(page, "cursor");
 	}
 	
     /**
@@ -51,13 +66,20 @@ public class ProjectController {
      *
      * @param companyId ID of the company that owns the project
      * @param projectId ID of the project to retrieve
+     * @param webRequest the current request, used to answer If-None-Match with 304 Not Modified
      * @return ResponseEntity containing the ProjectResponseDto and HTTP status code OK (200)
      */
 	@GetMapping(path = "/{projectId}")
 	public ResponseEntity<ProjectResponseDto> getOneProjectInCompany(
 			@PathVariable long companyId,
-			@PathVariable long projectId
+			@PathVariable long projectId,
+			WebRequest webRequest
 	) {
+		// project unchanged since the client's copy -> not modified
+		if(ETags.notModified(webRequest, projectService.getVersion(companyId, projectId))) {
+			return null;
+		}
+		
 		return new ResponseEntity<ProjectResponseDto>(
 				projectService.getProjectDtoInCompany(companyId, projectId),
 				HttpStatus.OK);
@@ -80,6 +102,24 @@ public class ProjectController {
 				HttpStatus.OK);
 	}
 	
+    /**
+     * Endpoint to retrieve the number of tickets in a specific project, in total and by status, priority and type.
+     * The numbers are read from counters maintained with the tickets, so the tickets themselves are not read.
+     *
+     * @param companyId ID of the company that owns the project
+     * @param projectId ID of the project to retrieve the statistics for
+     * @return ResponseEntity containing the ProjectStatsDto and HTTP status code OK (200)
+     */
+	@GetMapping(path = "/{projectId}/stats")
+	public ResponseEntity<ProjectStatsDto> getProjectStats(
+			@PathVariable long companyId,
+			@PathVariable long projectId
+	) {
+		return new ResponseEntity<ProjectStatsDto>(
+				projectStatsService.getProjectStats(companyId, projectId),
+				HttpStatus.OK);
+	}
+	
     /**
      * Endpoint to create a new project in a company.
      *
@@ -99,21 +139,23 @@ public class ProjectController {
 	
     /**
      * Endpoint to update an existing project in a company by its ID.
+     * With If-Match the project is only updated if its ETag still matches, otherwise 412 Precondition Failed is returned.
+     * The ETag of the updated project is returned, so it can be updated again without retrieving it first.
      *
      * @param projectRequestDto The updated details of the project
      * @param companyId ID of the company that owns the project
      * @param projectId ID of the project to be updated
+     * @param ifMatch optional ETag the project must have
      * @return ResponseEntity containing the ProjectResponseDto of the updated project and HTTP status code OK (200)
      */
 	@PatchMapping(path = "/{projectId}")
 	public ResponseEntity<ProjectResponseDto> updateOneProject(
 			@RequestBody ProjectRequestDto projectRequestDto,
 			@PathVariable long companyId,
-			@PathVariable long projectId
+			@PathVariable long projectId,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
 	) {
-		return new ResponseEntity<ProjectResponseDto>(
-				projectService.updateProject(projectRequestDto, companyId, projectId),
-				HttpStatus.OK);
+		return ETags.ok(projectService.updateProject(projectRequestDto, companyId, projectId, ETags.expectedVersion(ifMatch)));
 	}
 	
     /**
@@ -1,8 +1,17 @@
 package com.example.projecttrackingserver.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,12 +19,27 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.projecttrackingserver.dto.PageResponseDto;
+import com.example.projecttrackingserver.dto.TicketBulkResultDto;
+import com.example.projecttrackingserver.dto.TicketChangesDto;
+import com.example.projecttrackingserver.dto.TicketFilterDto;
 import com.example.projecttrackingserver.dto.TicketRequestDto;
 import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
 import com.example.projecttrackingserver.services.TicketService;
+import com.example.projecttrackingserver.services.TicketServiceImpl;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -29,21 +53,94 @@ import lombok.RequiredArgsConstructor;
 public class TicketController {
 
 	private final TicketService ticketService;
+	private final ObjectMapper objectMapper;
 	
     /**
-     * Endpoint to retrieve all tickets in a specific project.
+     * Endpoint to retrieve one page of tickets in a specific project.
+     * If there are more tickets, the ID to continue with is returned in the X-Next-Cursor header and the next page in the Link header.
+     * The ETag of the list changes whenever a ticket of the project is created, updated or deleted.
      *
      * @param companyId ID of the company that owns the project
      * @param projectId ID of the project to retrieve tickets for
+     * @param afterId ID after which tickets are retrieved
+     * @param limit maximum number of tickets to retrieve
+     * @param ticketStatus optional status the tickets must have
+     * @param ticketPriority optional priority the tickets must have
+     * @param ticketType optional type the tickets must have
+     * @param creatorId optional ID of the user who created the tickets
+     * @param createdFrom optional earliest creation date of the tickets
+     * @param createdTo optional latest creation date of the tickets
+     * @param webRequest the current request, used to answer If-None-Match with 304 Not Modified
      * @return ResponseEntity containing a list of TicketResponseDto and HTTP status code OK (200)
      */
 	@GetMapping
 	public ResponseEntity<List<TicketResponseDto>> getAllTicketsInProject(
 			@PathVariable long companyId,
-			@PathVariable long projectId
+			@PathVariable long projectId,
+			@RequestParam(defaultValue = "0") long afterId,
+			@RequestParam(defaultValue = "100") int limit,
+			@RequestParam(required = false) TicketStatus ticketStatus,
+			@RequestParam(required = false) TicketPriority ticketPriority,
+			@RequestParam(required = false) TicketType ticketType,
+			@RequestParam(required = false) Long creatorId,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate createdFrom,
+			@RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE) LocalDate createdTo,
+			WebRequest webRequest
+	) {
+		// no ticket in project changed since the client's copy -> not modified
+		if(ETags.notModified(webRequest, ticketService.getChangeCountInProject(companyId, projectId))) {
+			return null;
+		}
+		
+		TicketFilterDto filter = new TicketFilterDto(ticketStatus, ticketPriority, ticketType, creatorId, createdFrom, createdTo);
+		PageResponseDto<TicketResponseDto> page = ticketService.getTicketDtosInProject(companyId, projectId, filter, afterId, limit);
+		return Pages.ok(page, "afterId");
+	}
+	
+    /**
+     * Endpoint to search the names and descriptions of the tickets in a specific project.
+     * Tickets containing all words of the query are returned, the best matches first.
+     * If there are more tickets, the cursor to continue with is returned in the X-Next-Cursor header and the next page in the Link header.
+     *
+     * @param companyId ID of the company that owns the project
+     * @param projectId ID of the project to search tickets in
+     * @param q the words to search for
+     * @param cursor optional cursor returned with the previous page
+     * @param limit maximum number of tickets to retrieve
+     * @return ResponseEntity containing a list of TicketResponseDto and HTTP status code OK (200)
+     */
+	@GetMapping(path = "/search")
+	public ResponseEntity<List<TicketResponseDto>> searchTicketsInProject(
+			@PathVariable long companyId,
+			@PathVariable long projectId,
+			@RequestParam String q,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "100") int limit
 	) {
-		return new ResponseEntity<List<TicketResponseDto>>(
-				ticketService.getAllTicketDtosInProject(companyId, projectId),
+		PageResponseDto<TicketResponseDto> page = ticketService.searchTicketDtosInProject(companyId, projectId, q, cursor, limit);
+		return Pages.ok(page, "cursor");
+	}
+	
+    /**
+     * Endpoint to retrieve the tickets in a project which changed since the last sync.
+     * Without since all tickets are returned. The returned token is passed as since by the next sync,
+     * if more is true right away to retrieve the rest of the changes.
+     *
+     * @param companyId ID of the company that owns the project
+     * @param projectId ID of the project to retrieve changed tickets for
+     * @param since optional token returned by the previous sync
+     * @param limit maximum number of changed and deleted tickets to retrieve
+     * @return ResponseEntity containing the TicketChangesDto and HTTP status code OK (200)
+     */
+	@GetMapping(path = "/changes")
+	public ResponseEntity<TicketChangesDto> getTicketChangesInProject(
+			@PathVariable long companyId,
+			@PathVariable long projectId,
+			@RequestParam(required = false) String since,
+			@RequestParam(defaultValue = "100") int limit
+	) {
+		return new ResponseEntity<TicketChangesDto>(
+				ticketService.getTicketChangesInProject(companyId, projectId, since, limit),
 				HttpStatus.OK);
 	}
 	
@@ -53,14 +150,21 @@ public class TicketController {
      * @param companyId ID of the company that owns the project
      * @param projectId ID of the project that contains the ticket
      * @param ticketId ID of the ticket to retrieve
+     * @param webRequest the current request, used to answer If-None-Match with 304 Not Modified
      * @return ResponseEntity containing the TicketResponseDto and HTTP status code OK (200)
      */
 	@GetMapping(path = "/{ticketId}")
 	public ResponseEntity<TicketResponseDto> getOneTicketInProject(
 			@PathVariable long companyId,
 			@PathVariable long projectId,
-			@PathVariable long ticketId
+			@PathVariable long ticketId,
+			WebRequest webRequest
 	) {
+		// ticket unchanged since the client's copy -> not modified
+		if(ETags.notModified(webRequest, ticketService.getVersion(companyId, projectId, ticketId))) {
+			return null;
+		}
+		
 		return new ResponseEntity<TicketResponseDto>(
 				ticketService.getTicketDtoById(companyId, projectId, ticketId),
 				HttpStatus.OK);
@@ -85,6 +189,59 @@ public class TicketController {
 				HttpStatus.CREATED);
 	}
 	
+    /**
+     * Endpoint to create multiple tickets in a project from a JSON array.
+     *
+     * @param ticketRequestDtos The details of the tickets to be created
+     * @param companyId ID of the company that owns the project
+     * @param projectId ID of the project where the tickets will be created
+     * @return ResponseEntity containing a TicketBulkResultDto per requested ticket and HTTP status code OK (200)
+     */
+	@PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+	public ResponseEntity<List<TicketBulkResultDto>> createManyTickets(
+			@RequestBody List<TicketRequestDto> ticketRequestDtos,
+			@PathVariable long companyId,
+			@PathVariable long projectId
+	) {
+		return new ResponseEntity<List<TicketBulkResultDto>>(
+				ticketService.createTickets(ticketRequestDtos, companyId, projectId),
+				HttpStatus.OK);
+	}
+	
+    /**
+     * Endpoint to create multiple tickets in a project from newline delimited JSON.
+     *
+     * @param ticketStream The details of the tickets to be created, one JSON object per line
+     * @param companyId ID of the company that owns the project
+     * @param projectId ID of the project where the tickets will be created
+     * @return ResponseEntity containing a TicketBulkResultDto per requested ticket and HTTP status code OK (200)
+     * @throws ValueNotAllowedException if a line is not a valid ticket
+     */
+	@PostMapping(path = "/bulk", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<List<TicketBulkResultDto>> createManyTicketsFromNdjson(
+			InputStream ticketStream,
+			@PathVariable long companyId,
+			@PathVariable long projectId
+	) {
+		List<TicketRequestDto> ticketRequestDtos = new ArrayList<>();
+		try(MappingIterator<TicketRequestDto> ticketIterator = objectMapper.readerFor(TicketRequestDto.class).readValues(ticketStream)) {
+			// more tickets than allowed -> stop reading, the request is denied by the service
+			while(ticketRequestDtos.size() <= TicketServiceImpl.MAX_BULK_SIZE && ticketIterator.hasNextValue()) {
+				ticketRequestDtos.add(ticketIterator.nextValue());
+			}
+		} catch(JsonProcessingException ex) {
+			// line is not a valid ticket -> deny
+			String line = ex.getLocation() != null ? Integer.toString(ex.getLocation().getLineNr()) : "unknown";
+			throw new ValueNotAllowedException("tickets", "in line " + line);
+		} catch(IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		
+		return new ResponseEntity<List<TicketBulkResultDto>>(
+				ticketService.createTickets(ticketRequestDtos, companyId, projectId),
+				HttpStatus.OK);
+	}
+	
     /**
      * Endpoint to delete a ticket from a project.
      *
@@ -105,11 +262,14 @@ public class TicketController {
 	
     /**
      * Endpoint to update a ticket in a project.
+     * With If-Match the ticket is only updated if its ETag still matches, otherwise 412 Precondition Failed is returned.
+     * The ETag of the updated ticket is returned, so it can be updated again without retrieving it first.
      *
      * @param ticketRequestDto The updated details of the ticket
      * @param companyId ID of the company that owns the project
      * @param projectId ID of the project that contains the ticket
      * @param ticketId ID of the ticket to be updated
+     * @param ifMatch optional ETag the ticket must have
      * @return ResponseEntity containing the TicketResponseDto of the updated ticket and HTTP status code OK (200)
      */
 	@PatchMapping(path = "/{ticketId}")
@@ -117,10 +277,9 @@ public class TicketController {
 			@RequestBody TicketRequestDto ticketRequestDto,
 			@PathVariable long companyId,
 			@PathVariable long projectId,
-			@PathVariable long ticketId
+			@PathVariable long ticketId,
+			@RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch
 	) {
-		return new ResponseEntity<TicketResponseDto>(
-				ticketService.updateTicket(ticketRequestDto, companyId, projectId, ticketId),
-				HttpStatus.OK);
+		return ETags.ok(ticketService.updateTicket(ticketRequestDto, companyId, projectId, ticketId, ETags.expectedVersion(ifMatch)));
 	}
 }
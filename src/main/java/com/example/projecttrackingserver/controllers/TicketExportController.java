@@ -0,0 +1,81 @@
+package com.example.projecttrackingserver.controllers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.projecttrackingserver.dto.PageResponseDto;
+import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.services.TicketService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Controller class for handling HTTP requests on the tickets of a whole company, exporting and searching them.
+ */
+@RestController
+@RequestMapping(path = "/api/v1/companies/{companyId}/tickets")
+@RequiredArgsConstructor
+public class TicketExportController {
+
+	private final TicketService ticketService;
+	private final ObjectMapper objectMapper;
+	
+    /**
+     * Endpoint to export all tickets of all projects in a company as newline delimited JSON.
+     * The tickets are written while they are read from the database.
+     *
+     * @param companyId ID of the company to export the tickets for
+     * @return ResponseEntity containing the streamed tickets and HTTP status code OK (200)
+     */
+	@GetMapping(path = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportTicketsInCompany(
+			@PathVariable long companyId
+	) {
+		ObjectWriter ticketWriter = objectMapper.writerFor(TicketResponseDto.class);
+		StreamingResponseBody body = outputStream -> ticketService.exportTicketDtosInCompany(companyId, ticket -> {
+			try {
+				outputStream.write(ticketWriter.writeValueAsBytes(ticket));
+				outputStream.write('\n');
+			} catch(IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
+		
+		return new ResponseEntity<StreamingResponseBody>(body, HttpStatus.OK);
+	}
+	
+    /**
+     * Endpoint to search the names and descriptions of the tickets in all projects of a company.
+     * Tickets containing all words of the query are returned, the best matches first.
+     * If there are more tickets, the cursor to continue with is returned in the X-Next-Cursor header and the next page in the Link header.
+     *
+     * @param companyId ID of the company to search tickets in
+     * @param q the words to search for
+     * @param cursor optional cursor returned with the previous page
+     * @param limit maximum number of tickets to retrieve
+     * @return ResponseEntity containing a list of TicketResponseDto and HTTP status code OK (200)
+     */
+	@GetMapping(path = "/search")
+	public ResponseEntity<List<TicketResponseDto>> searchTicketsInCompany(
+			@PathVariable long companyId,
+			@RequestParam String q,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "100") int limit
+	) {
+		PageResponseDto<TicketResponseDto> page = ticketService.searchTicketDtosInCompany(companyId, q, cursor, limit);
+		return Pages.ok(page, "cursor");
+	}
+}
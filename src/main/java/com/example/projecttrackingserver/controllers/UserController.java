@@ -11,10 +11,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.dto.UserRequestDto;
 import com.example.projecttrackingserver.dto.UserResponseDto;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.services.UserService;
 
 import jakarta.validation.Valid;
@@ -31,18 +35,24 @@ public class UserController {
 	private final UserService userService;
 	
     /**
-     * Endpoint to retrieve all users in a company.
+     * Endpoint to retrieve one page of users in a company.
+     * If there are more users, the cursor to continue with is returned in the X-Next-Cursor header and the next page in the Link header.
      *
      * @param companyId ID of the company to retrieve users for
+     * @param sort order of the users, by ID or by username
+     * @param cursor cursor returned with the previous page, omitted for the first page
+     * @param limit maximum number of users to retrieve
      * @return ResponseEntity containing a list of UserResponseDto and HTTP status code OK (200)
      */
 	@GetMapping
 	public ResponseEntity<List<UserResponseDto>> getAllUsersInCompany(
-			@PathVariable long companyId
+			@PathVariable long companyId,
+			@RequestParam(defaultValue = "Id") ListSort sort,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "100") int limit
 	) {
-		return new ResponseEntity<List<UserResponseDto>>(
-				userService.getAllUserDtosByCompanyId(companyId),
-				HttpStatus.OK);
+		PageResponseDto<UserResponseDto> page = userService.getUserDtosInCompany(companyId, sort, cursor, limit);
+		return Pages.ok(page, "cursor");
 	}
 
     /**
@@ -50,13 +60,20 @@ public class UserController {
      *
      * @param companyId ID of the company that owns the user
      * @param userId ID of the user to retrieve
+     * @param webRequest the current request, used to answer If-None-Match with 304 Not Modified
      * @return ResponseEntity containing the UserResponseDto and HTTP status code OK (200)
      */
 	@GetMapping(path = "/{userId}")
 	public ResponseEntity<UserResponseDto> getOneUserInCompany(
 			@PathVariable long companyId,
-			@PathVariable long userId
+			@PathVariable long userId,
+			WebRequest webRequest
 	) {
+		// user unchanged since the client's copy -> not modified
+		if(ETags.notModified(webRequest, userService.getVersion(companyId, userId))) {
+			return null;
+		}
+		
 		return new ResponseEntity<UserResponseDto>(
 				userService.getUserDtoById(companyId, userId),
 				HttpStatus.OK);
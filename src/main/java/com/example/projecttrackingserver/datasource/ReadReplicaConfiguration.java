@@ -0,0 +1,125 @@
+package com.example.projecttrackingserver.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.example.projecttrackingserver.datasource.ReadReplicaRoutingDataSource.Target;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration class for reading from a replica of the database.
+ * Only active if datasource.replica.url is set, e.g. by the replica profile. The primary is configured by spring.datasource
+ * as without a replica, the replica by datasource.replica with the same keys.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replica.url")
+public class ReadReplicaConfiguration {
+
+	private static final String POSTGRES_LAG_QUERY = """
+			SELECT CASE
+				WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+				ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+			END""";
+
+    /**
+     * @return the connection properties of the primary
+     */
+	@Bean
+	@Primary
+	@ConfigurationProperties("spring.datasource")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+    /**
+     * @return the connection properties of the replica
+     */
+	@Bean
+	@ConfigurationProperties("datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+    /**
+     * Creates the connection pool of the primary, configured by spring.datasource.hikari.
+     *
+     * @param primaryDataSourceProperties the connection properties of the primary
+     * @return the HikariDataSource of the primary
+     */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties primaryDataSourceProperties) {
+		HikariDataSource dataSource = primaryDataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+    /**
+     * Creates the connection pool of the replica, configured by datasource.replica.hikari.
+     * Connections of the replica are read-only.
+     *
+     * @param replicaDataSourceProperties the connection properties of the replica
+     * @return the HikariDataSource of the replica
+     */
+	@Bean
+	@ConfigurationProperties("datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(DataSourceProperties replicaDataSourceProperties) {
+		HikariDataSource dataSource = replicaDataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+    /**
+     * Creates the monitor measuring the lag of the replica.
+     *
+     * @param replicaDataSource the connection pool of the replica
+     * @param lagQuery the query returning the lag of the replica in seconds, PostgreSQL's replay lag by default
+     * @param maxLag the maximum lag the replica is read from with
+     * @param checkInterval the time between two lag measurements
+     * @param meterRegistry the registry the lag is published in
+     * @return the ReplicaLagMonitor
+     */
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(
+			HikariDataSource replicaDataSource,
+			@Value("${datasource.replica.lag-query:}") String lagQuery,
+			@Value("${datasource.replica.max-lag:PT5S}") Duration maxLag,
+			@Value("${datasource.replica.lag-check-interval:PT1S}") Duration checkInterval,
+			MeterRegistry meterRegistry
+	) {
+		return new ReplicaLagMonitor(replicaDataSource, lagQuery.isBlank() ? POSTGRES_LAG_QUERY : lagQuery, maxLag, checkInterval, meterRegistry);
+	}
+
+    /**
+     * Creates the DataSource used by JPA, Liquibase and the health checks.
+     * Connections are fetched lazily, so the routing sees whether the transaction is read-only.
+     *
+     * @param primaryDataSource the connection pool of the primary
+     * @param replicaDataSource the connection pool of the replica
+     * @param replicaLagMonitor the monitor deciding if the replica is read from
+     * @return the routing DataSource
+     */
+	@Bean
+	@Primary
+	public DataSource dataSource(HikariDataSource primaryDataSource, HikariDataSource replicaDataSource, ReplicaLagMonitor replicaLagMonitor) {
+		ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(replicaLagMonitor);
+		routingDataSource.setTargetDataSources(Map.of(Target.PRIMARY, primaryDataSource, Target.REPLICA, replicaDataSource));
+		routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+		routingDataSource.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
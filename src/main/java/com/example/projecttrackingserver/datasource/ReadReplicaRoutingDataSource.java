@@ -0,0 +1,44 @@
+package com.example.projecttrackingserver.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * DataSource which sends the connections of read-only transactions to the replica and all others to the primary.
+ * The routing is decided when a connection is fetched, so it has to be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which fetches the connection
+ * after the transaction is started and marked as read-only.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    /**
+     * The targets a connection can be routed to.
+     */
+	public enum Target {
+		PRIMARY,
+		REPLICA
+	}
+
+	private final ReplicaLagMonitor replicaLagMonitor;
+
+    /**
+     * Constructs a new ReadReplicaRoutingDataSource.
+     *
+     * @param replicaLagMonitor the monitor deciding if the replica is caught up enough to be read from
+     */
+	public ReadReplicaRoutingDataSource(ReplicaLagMonitor replicaLagMonitor) {
+		this.replicaLagMonitor = replicaLagMonitor;
+	}
+
+    /**
+     * {@inheritDoc}
+     */
+	@Override
+	protected Object determineCurrentLookupKey() {
+		// read-only transaction and replica caught up -> replica
+		if(TransactionSynchronizationManager.isCurrentTransactionReadOnly() && replicaLagMonitor.isReplicaUsable()) {
+			return Target.REPLICA;
+		}
+		return Target.PRIMARY;
+	}
+}
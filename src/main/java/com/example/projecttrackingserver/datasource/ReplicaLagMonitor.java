@@ -0,0 +1,123 @@
+package com.example.projecttrackingserver.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically measures how far the replica is behind the primary.
+ * The replica is only read from while its lag is at most the maximum lag, otherwise, or if the lag can not be measured,
+ * reads fall back to the primary until the replica caught up.
+ * The lag is published as the gauge db.replica.lag and the routing decision as db.replica.usable.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements SmartLifecycle {
+
+	private final JdbcTemplate replicaJdbcTemplate;
+	private final String lagQuery;
+	private final Duration maxLag;
+	private final Duration checkInterval;
+	private volatile double lagSeconds = Double.NaN;
+	private volatile boolean replicaUsable;
+	private ScheduledExecutorService executor;
+
+    /**
+     * Constructs a new ReplicaLagMonitor.
+     *
+     * @param replicaDataSource the DataSource of the replica
+     * @param lagQuery the query returning the lag of the replica in seconds
+     * @param maxLag the maximum lag the replica is read from with
+     * @param checkInterval the time between two lag measurements
+     * @param meterRegistry the registry the lag is published in
+     */
+	public ReplicaLagMonitor(DataSource replicaDataSource, String lagQuery, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+		this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+		this.lagQuery = lagQuery;
+		this.maxLag = maxLag;
+		this.checkInterval = checkInterval;
+		Gauge.builder("db.replica.lag", this, monitor -> monitor.lagSeconds)
+			 .description("Seconds the read replica is behind the primary")
+			 .baseUnit("seconds")
+			 .register(meterRegistry);
+		Gauge.builder("db.replica.usable", this, monitor -> monitor.replicaUsable ? 1 : 0)
+			 .description("1 if read-only transactions are routed to the replica, otherwise 0")
+			 .register(meterRegistry);
+	}
+
+    /**
+     * @return true if the replica was reachable and caught up at the last check, otherwise false
+     */
+	public boolean isReplicaUsable() {
+		return replicaUsable;
+	}
+
+    /**
+     * Measures the lag of the replica and updates the routing decision.
+     */
+	public void check() {
+		boolean wasUsable = replicaUsable;
+		try {
+			Double lag = replicaJdbcTemplate.queryForObject(lagQuery, Double.class);
+			lagSeconds = lag != null ? lag : 0;
+			replicaUsable = lagSeconds * 1000 <= maxLag.toMillis();
+		} catch(RuntimeException ex) {
+			// replica not reachable -> read from primary
+			lagSeconds = Double.NaN;
+			replicaUsable = false;
+			if(wasUsable) {
+				log.warn("Replica lag could not be measured, reading from primary", ex);
+			}
+		}
+
+		if(wasUsable != replicaUsable) {
+			log.info("Replica lag {}s, reading from {}", lagSeconds, replicaUsable ? "replica" : "primary");
+		}
+	}
+
+    /**
+     * Measures the lag once and starts the periodic measurements.
+     */
+	@Override
+	public void start() {
+		if(executor != null) {
+			return;
+		}
+
+		check();
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "replica-lag-monitor");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(this::check, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+    /**
+     * Stops the periodic measurements.
+     */
+	@Override
+	public void stop() {
+		if(executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+    /**
+     * @return true if the lag is measured periodically, otherwise false
+     */
+	@Override
+	public boolean isRunning() {
+		return executor != null;
+	}
+}
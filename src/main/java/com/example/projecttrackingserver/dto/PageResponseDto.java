@@ -0,0 +1,14 @@
+package com.example.projecttrackingserver.dto;
+
+import java.util.List;
+
+/**
+ * Class representing one page of a keyset paginated listing.
+ *
+ * @param <T> the type of the listed responses
+ */
+public record PageResponseDto<T>(
+		List<T> content,
+		String nextCursor
+) {
+}
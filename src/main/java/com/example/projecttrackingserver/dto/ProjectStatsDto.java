@@ -0,0 +1,20 @@
+package com.example.projecttrackingserver.dto;
+
+import java.util.Map;
+
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+
+/**
+ * Class representing the number of tickets in a project, in total and by status, priority and type.
+ * Every status, priority and type is contained, with 0 if no ticket has it.
+ */
+public record ProjectStatsDto(
+		long projectId,
+		long ticketCount,
+		Map<TicketStatus, Long> ticketStatuses,
+		Map<TicketPriority, Long> ticketPriorities,
+		Map<TicketType, Long> ticketTypes
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.projecttrackingserver.dto;
+
+/**
+ * Class representing which entities of the company, project and ticket hierarchy exist.
+ * The ID of an entity is null if it does not exist in its parent.
+ */
+public record ScopeDto(
+		Long companyId,
+		Long projectId,
+		Long ticketId
+) {
+}
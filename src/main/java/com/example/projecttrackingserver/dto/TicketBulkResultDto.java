@@ -0,0 +1,36 @@
+package com.example.projecttrackingserver.dto;
+
+/**
+ * Class representing the result of one ticket in a bulk creation.
+ * Either ticket is set if the ticket was created, or error if it was rejected.
+ */
+public record TicketBulkResultDto(
+		int index,
+		int status,
+		TicketResponseDto ticket,
+		String error
+) {
+	
+    /**
+     * Creates the result of a created ticket.
+     *
+     * @param index the position of the ticket in the request
+     * @param ticket the created ticket
+     * @return the TicketBulkResultDto with status CREATED (201)
+     */
+	public static TicketBulkResultDto created(int index, TicketResponseDto ticket) {
+		return new TicketBulkResultDto(index, 201, ticket, null);
+	}
+	
+    /**
+     * Creates the result of a rejected ticket.
+     *
+     * @param index the position of the ticket in the request
+     * @param status the HTTP status code the ticket would have been rejected with on its own
+     * @param error the reason why the ticket was rejected
+     * @return the TicketBulkResultDto without ticket
+     */
+	public static TicketBulkResultDto rejected(int index, int status, String error) {
+		return new TicketBulkResultDto(index, status, null, error);
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.projecttrackingserver.dto;
+
+import java.util.List;
+
+/**
+ * Class representing the changes to the tickets of a project since a sync token.
+ * Created and updated tickets are both listed in changed, since a mirroring client inserts or replaces them alike.
+ * If more is true, the changes were cut at the limit and the token continues the same sync.
+ */
+public record TicketChangesDto(
+		List<TicketResponseDto> changed,
+		List<Long> deleted,
+		String token,
+		boolean more
+) {
+}
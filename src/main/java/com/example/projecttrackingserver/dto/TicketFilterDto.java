@@ -0,0 +1,21 @@
+package com.example.projecttrackingserver.dto;
+
+import java.time.LocalDate;
+
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+
+/**
+ * Class representing the optional filters of a ticket listing.
+ * Filters which are null are not applied.
+ */
+public record TicketFilterDto(
+		TicketStatus ticketStatus,
+		TicketPriority ticketPriority,
+		TicketType ticketType,
+		Long creatorId,
+		LocalDate createdFrom,
+		LocalDate createdTo
+) {
+}
@@ -0,0 +1,12 @@
+package com.example.projecttrackingserver.dto;
+
+/**
+ * Class representing a response together with the version of the entity it was created from.
+ *
+ * @param <T> the type of the response
+ */
+public record VersionedResponseDto<T>(
+		T content,
+		long version
+) {
+}
@@ -0,0 +1,59 @@
+package com.example.projecttrackingserver.entities;
+
+import java.time.LocalDateTime;
+
+import com.example.projecttrackingserver.enums.AuditAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing a recorded change in the database.
+ * The IDs are not foreign keys, so the changes of deleted tickets, projects and users are kept.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name="audit_events", indexes = @Index(name = "audit_events_company_id_occurred_at_idx", columnList = "company_id, occurred_at"))
+public class AuditEventEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_events_id_seq")
+	@SequenceGenerator(name = "audit_events_id_seq", sequenceName = "audit_events_id_seq", allocationSize = 50)
+	private long id;
+	
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private AuditAction action;
+	
+	@Column(name = "company_id", nullable = false)
+	private long companyId;
+	
+	@Column(name = "project_id")
+	private Long projectId;
+	
+	@Column(name = "entity_id", nullable = false)
+	private long entityId;
+	
+	@Column(name = "actor_id")
+	private Long actorId;
+	
+	private String detail;
+	
+	@Column(name = "occurred_at", nullable = false)
+	private LocalDateTime occurredAt;
+}
@@ -2,6 +2,9 @@ package com.example.projecttrackingserver.entities;
 
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -10,6 +13,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,15 +29,23 @@ import lombok.ToString;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name="companies")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "companies")
+@Table(name="companies", uniqueConstraints = {
+		@UniqueConstraint(name = CompanyEntity.NAME_UNIQUE_CONSTRAINT, columnNames = "name")
+})
 public class CompanyEntity {
 
+	public static final String NAME_UNIQUE_CONSTRAINT = "companies_name_key";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_id_seq")
-	@SequenceGenerator(name = "companies_id_seq", sequenceName = "companies_id_seq", allocationSize = 1)
+	@SequenceGenerator(name = "companies_id_seq", sequenceName = "companies_id_seq", allocationSize = 50)
 	private long id;
 	
-	@Column(unique = true, nullable = false)
+	@Version
+	private long version;
+	
+	@Column(nullable = false)
 	private String name;
 	
 	private String description;
@@ -3,11 +3,15 @@ package com.example.projecttrackingserver.entities;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -16,6 +20,8 @@ import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,15 +36,30 @@ import lombok.ToString;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name="projects")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
+@Table(name="projects", uniqueConstraints = {
+		@UniqueConstraint(name = ProjectEntity.NAME_UNIQUE_CONSTRAINT, columnNames = "name")
+}, indexes = {
+		@Index(name = "projects_company_id_idx", columnList = "company_id"),
+		@Index(name = "projects_company_id_name_idx", columnList = "company_id, name")
+})
 public class ProjectEntity {
+
+	public static final String NAME_UNIQUE_CONSTRAINT = "projects_name_key";
+	public static final String MEMBER_UNIQUE_CONSTRAINT = "projects_users_project_id_user_id_key";
 	
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_id_seq")
-	@SequenceGenerator(name = "projects_id_seq", sequenceName = "projects_id_seq", allocationSize = 1)
+	@SequenceGenerator(name = "projects_id_seq", sequenceName = "projects_id_seq", allocationSize = 50)
 	private long id;
 	
-	@Column(unique = true, nullable = false)
+	@Version
+	private long version;
+	
+	@Column(name = "ticket_change_count", nullable = false, updatable = false)
+	private long ticketChangeCount;
+	
+	@Column(nullable = false)
 	private String name;
 	
 	private String description;
@@ -56,10 +77,13 @@ public class ProjectEntity {
 	
 	@ToString.Exclude
 	@ManyToMany
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects.members")
 	@JoinTable(
 			name = "projects_users",
 			joinColumns = @JoinColumn(name = "project_id"),
-			inverseJoinColumns = @JoinColumn(name = "user_id")
+			inverseJoinColumns = @JoinColumn(name = "user_id"),
+			uniqueConstraints = @UniqueConstraint(name = ProjectEntity.MEMBER_UNIQUE_CONSTRAINT, columnNames = {"project_id", "user_id"}),
+			indexes = @Index(name = "projects_users_user_id_idx", columnList = "user_id")
 	)
 	private List<UserEntity> members;
 	
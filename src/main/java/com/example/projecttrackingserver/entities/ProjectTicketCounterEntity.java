@@ -0,0 +1,62 @@
+package com.example.projecttrackingserver.entities;
+
+import java.io.Serializable;
+
+import com.example.projecttrackingserver.enums.TicketCounterDimension;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing the number of tickets in a project with one status, priority or type.
+ * The counters are changed together with the tickets, so the statistics of a project are read without reading its tickets.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@IdClass(ProjectTicketCounterEntity.Key.class)
+@Table(name="project_ticket_counters")
+public class ProjectTicketCounterEntity {
+
+	@Id
+	@Column(name = "project_id")
+	private long projectId;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(name = "dimension")
+	private TicketCounterDimension dimension;
+
+	@Id
+	@Column(name = "dimension_value")
+	private String dimensionValue;
+
+	@Column(name = "ticket_count", nullable = false)
+	private long ticketCount;
+
+    /**
+     * The primary key of a counter.
+     */
+	@Data
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Key implements Serializable {
+
+		private static final long serialVersionUID = 1L;
+
+		private long projectId;
+		private TicketCounterDimension dimension;
+		private String dimensionValue;
+	}
+}
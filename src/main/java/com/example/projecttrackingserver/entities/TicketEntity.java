@@ -7,12 +7,13 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -27,15 +28,27 @@ import lombok.NoArgsConstructor;
 @Builder
 @Entity
 @Table(name="tickets", uniqueConstraints = {
-		@UniqueConstraint(columnNames = {"name", "project_id"})
+		@UniqueConstraint(name = TicketEntity.NAME_UNIQUE_CONSTRAINT, columnNames = {"name", "project_id"})
+}, indexes = {
+		@Index(name = "tickets_project_id_id_idx", columnList = "project_id, id"),
+		@Index(name = "tickets_project_id_ticket_status_id_idx", columnList = "project_id, ticket_status_id, id"),
+		@Index(name = "tickets_project_id_ticket_priority_id_idx", columnList = "project_id, ticket_priority_id, id"),
+		@Index(name = "tickets_project_id_ticket_type_id_idx", columnList = "project_id, ticket_type_id, id"),
+		@Index(name = "tickets_project_id_change_number_idx", columnList = "project_id, change_number"),
+		@Index(name = "tickets_creator_id_idx", columnList = "creator_id")
 })
 public class TicketEntity {
 
+	public static final String NAME_UNIQUE_CONSTRAINT = "tickets_name_project_id_key";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tickets_id_seq")
-	@SequenceGenerator(name = "tickets_id_seq", sequenceName = "tickets_id_seq", allocationSize = 1)
+	@SequenceGenerator(name = "tickets_id_seq", sequenceName = "tickets_id_seq", allocationSize = 50)
 	private long id;
 	
+	@Version
+	private long version;
+	
 	@Column(nullable = false)
 	private String name;
 	
@@ -47,23 +60,26 @@ public class TicketEntity {
 	@Column(name = "updated_at")
 	private LocalDate updatedAt;
 	
+	@Column(name = "change_number", nullable = false)
+	private long changeNumber;
+	
 	@ManyToOne
 	@JoinColumn(name = "project_id", nullable = false)
 	private ProjectEntity project;
 	
-	@OneToOne
+	@ManyToOne
 	@JoinColumn(name = "creator_id", nullable = false, updatable = false)
 	private UserEntity creator;
 	
-	@OneToOne
+	@ManyToOne
 	@JoinColumn(name = "ticket_type_id", nullable = false)
 	private TicketTypeEntity ticketType;
 	
-	@OneToOne
+	@ManyToOne
 	@JoinColumn(name = "ticket_priority_id", nullable = false)
 	private TicketPriorityEntity ticketPriority;
 	
-	@OneToOne
+	@ManyToOne
 	@JoinColumn(name = "ticket_status_id", nullable = false)
 	private TicketStatusEntity ticketStatus;
 }
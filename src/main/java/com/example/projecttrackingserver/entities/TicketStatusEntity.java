@@ -29,7 +29,7 @@ public class TicketStatusEntity {
 
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_statuses_id_seq")
-	@SequenceGenerator(name = "ticket_statuses_id_seq", sequenceName = "ticket_statuses_id_seq", allocationSize = 1)
+	@SequenceGenerator(name = "ticket_statuses_id_seq", sequenceName = "ticket_statuses_id_seq", allocationSize = 50)
 	private long id;
 	
 	@Enumerated(EnumType.STRING)
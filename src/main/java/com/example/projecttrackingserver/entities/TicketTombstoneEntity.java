@@ -0,0 +1,46 @@
+package com.example.projecttrackingserver.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing a deleted ticket in the database.
+ * Tombstones let clients which mirror the tickets of a project find out which tickets were deleted since their last sync.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name="ticket_tombstones", indexes = @Index(name = "ticket_tombstones_project_id_change_number_idx", columnList = "project_id, change_number"))
+public class TicketTombstoneEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ticket_tombstones_id_seq")
+	@SequenceGenerator(name = "ticket_tombstones_id_seq", sequenceName = "ticket_tombstones_id_seq", allocationSize = 50)
+	private long id;
+	
+	@Column(name = "ticket_id", nullable = false)
+	private long ticketId;
+	
+	@Column(name = "project_id", nullable = false)
+	private long projectId;
+	
+	@Column(name = "change_number", nullable = false)
+	private long changeNumber;
+	
+	@Column(name = "deleted_at", nullable = false)
+	private LocalDateTime deletedAt;
+}
@@ -3,17 +3,22 @@ package com.example.projecttrackingserver.entities;
 import java.time.LocalDate;
 import java.util.List;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToOne;
 import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -28,18 +33,31 @@ import lombok.ToString;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name="users")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@Table(name="users", uniqueConstraints = {
+		@UniqueConstraint(name = UserEntity.USERNAME_UNIQUE_CONSTRAINT, columnNames = "username"),
+		@UniqueConstraint(name = UserEntity.API_KEY_UNIQUE_CONSTRAINT, columnNames = "api_key")
+}, indexes = {
+		@Index(name = "users_company_id_idx", columnList = "company_id"),
+		@Index(name = "users_company_id_username_idx", columnList = "company_id, username")
+})
 public class UserEntity {
 
+	public static final String USERNAME_UNIQUE_CONSTRAINT = "users_username_key";
+	public static final String API_KEY_UNIQUE_CONSTRAINT = "users_api_key_key";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
-	@SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 1)
+	@SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
 	private long id;
 	
-	@Column(unique = true, nullable = false)
+	@Version
+	private long version;
+	
+	@Column(nullable = false)
 	private String username;
 	
-	@Column(name = "api_key", nullable = false, unique = true)
+	@Column(name = "api_key", nullable = false)
 	private String apiKey;
 	
 	@Column(name = "created_at", updatable = false, nullable = false)
@@ -51,7 +69,7 @@ public class UserEntity {
 	private CompanyEntity company;
 	
 	@ToString.Exclude
-	@OneToOne
+	@ManyToOne
 	@JoinColumn(name = "role_id", nullable = false)
 	private RoleEntity role;
 	
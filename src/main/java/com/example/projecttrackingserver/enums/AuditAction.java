@@ -0,0 +1,19 @@
+package com.example.projecttrackingserver.enums;
+
+/**
+ * Enum representing the changes recorded in the audit log.
+ */
+public enum AuditAction {
+	TicketCreated,
+	TicketUpdated,
+	TicketDeleted,
+	ProjectCreated,
+	ProjectUpdated,
+	ProjectDeleted,
+	MemberAdded,
+	MemberRemoved,
+	UserCreated,
+	UserUpdated,
+	UserDeleted,
+	RoleAssigned
+}
@@ -0,0 +1,9 @@
+package com.example.projecttrackingserver.enums;
+
+/**
+ * Enum representing the orders in which users, projects and companies can be listed.
+ */
+public enum ListSort {
+	Id,
+	Name,
+}
@@ -0,0 +1,10 @@
+package com.example.projecttrackingserver.enums;
+
+/**
+ * Enum representing the properties the tickets of a project are counted by.
+ */
+public enum TicketCounterDimension {
+	TicketStatus,
+	TicketPriority,
+	TicketType
+}
@@ -3,6 +3,8 @@ package com.example.projecttrackingserver.exceptions;
 import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -14,9 +16,14 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
+import com.example.projecttrackingserver.services.UniqueConstraints;
+
+import lombok.extern.slf4j.Slf4j;
+
 /**
  * Global exception handler for REST controllers.
  */
+@Slf4j
 @ControllerAdvice
 public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 
@@ -53,6 +60,48 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
 		   return new ResponseEntity<>(ex.getMessage(), HttpStatus.CONFLICT);
 	   }
 	   
+	   /**
+	    * Handles VersionMismatchException and returns a 412 Precondition Failed response.
+	    *
+	    * @param ex the VersionMismatchException to handle
+	    * @return ResponseEntity with the exception message and HTTP status 412 Precondition Failed
+	    */
+	   @ExceptionHandler(value = VersionMismatchException.class)
+	   protected ResponseEntity<Object> handleVersionMismatch(VersionMismatchException ex) {
+		   return new ResponseEntity<>(ex.getMessage(), HttpStatus.PRECONDITION_FAILED);
+	   }
+	   
+	   /**
+	    * Handles OptimisticLockingFailureException, thrown when an entity was changed concurrently, and returns a 409 Conflict response.
+	    *
+	    * @param ex the OptimisticLockingFailureException to handle
+	    * @return ResponseEntity with the exception message and HTTP status 409 Conflict
+	    */
+	   @ExceptionHandler(value = OptimisticLockingFailureException.class)
+	   protected ResponseEntity<Object> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+		   return new ResponseEntity<>("entity was changed concurrently, retry the request", HttpStatus.CONFLICT);
+	   }
+	   
+	   /**
+	    * Handles DataIntegrityViolationException, thrown when a write conflicts with a constraint of the database
+	    * and was not translated by the service, e.g. tickets of a bulk request taken by a concurrent request.
+	    * Only violations of unique constraints are answered with a 409 Conflict response,
+	    * other violations like missing references, null values or too long values are errors of the server and answered with a 500 Internal Server Error response.
+	    *
+	    * @param ex the DataIntegrityViolationException to handle
+	    * @return ResponseEntity with the exception message and HTTP status 409 Conflict or 500 Internal Server Error
+	    */
+	   @ExceptionHandler(value = DataIntegrityViolationException.class)
+	   protected ResponseEntity<Object> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+		   // unique constraint violated by a concurrent request -> conflict
+		   if(UniqueConstraints.isAnyViolated(ex)) {
+			   log.info("Write conflicted with a unique constraint: {}", ex.getMostSpecificCause().getMessage());
+			   return new ResponseEntity<>("request conflicts with the stored data", HttpStatus.CONFLICT);
+		   }
+		   log.error("Write violated a constraint of the database", ex);
+		   return new ResponseEntity<>("request could not be stored", HttpStatus.INTERNAL_SERVER_ERROR);
+	   }
+	   
 	   /**
 	    * Handles DateTimeParseException and returns a 409 Conflict response.
 	    *
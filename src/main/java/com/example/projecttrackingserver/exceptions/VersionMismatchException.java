@@ -0,0 +1,20 @@
+package com.example.projecttrackingserver.exceptions;
+
+/**
+ * Exception thrown when an entity does not have the version a conditional request expects.
+ */
+public class VersionMismatchException extends RuntimeException {
+
+	private static final long serialVersionUID = 6052418337905462219L;
+
+    /**
+     * Constructs a VersionMismatchException with a formatted error message indicating which entity changed.
+     *
+     * @param property the ID property of the entity
+     * @param value the ID of the entity
+     * @param expectedVersion the version expected by the request
+     */
+	public VersionMismatchException(String property, long value, long expectedVersion) {
+    	super(String.format("%s with value %d is not at version %d", property, value, expectedVersion));
+    }
+}
@@ -20,6 +20,7 @@ public interface CompanyMapper {
      * @return the corresponding CompanyEntity
      */
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
 	@Mapping(target = "projects", ignore = true)
 	CompanyEntity toEntity(CompanyRequestDto dto);
 	
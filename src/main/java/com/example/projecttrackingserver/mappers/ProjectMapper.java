@@ -25,6 +25,8 @@ public interface ProjectMapper {
      * @return the corresponding ProjectEntity
      */
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	@Mapping(target = "ticketChangeCount", ignore = true)
 	@Mapping(target = "members", ignore = true)
 	@Mapping(target = "tickets", ignore = true)
 	@Mapping(source = "dto.projectName", target = "name")
@@ -55,6 +57,8 @@ public interface ProjectMapper {
      * @return the updated ProjectEntity
      */
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	@Mapping(target = "ticketChangeCount", ignore = true)
 	@Mapping(target = "company", ignore = true)
 	@Mapping(target = "members", ignore = true)
 	@Mapping(target = "tickets", ignore = true)
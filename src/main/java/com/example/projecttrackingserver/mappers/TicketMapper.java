@@ -48,6 +48,8 @@ public abstract class TicketMapper {
 	 * @return the mapped TicketEntity
 	 */
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	@Mapping(target = "changeNumber", ignore = true)
 	@Mapping(source = "dto.name", target = "name")
 	@Mapping(source = "dto.description", target = "description")
 	@Mapping(target = "createdAt", expression = "java(LocalDate.now())")
@@ -77,6 +79,8 @@ public abstract class TicketMapper {
 	 * @return the updated TicketEntity
 	 */
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
+	@Mapping(target = "changeNumber", ignore = true)
 	@Mapping(target = "createdAt", ignore = true)
 	@Mapping(target = "project", ignore = true)
 	@Mapping(target = "creator", ignore = true)
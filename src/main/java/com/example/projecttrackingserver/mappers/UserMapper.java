@@ -28,6 +28,7 @@ public interface UserMapper {
 	 * @return the mapped UserEntity
 	 */
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
 	@Mapping(target = "projects", ignore = true)
 	@Mapping(target = "apiKey", expression = "java(ApiKeyGenerator.generateApiKey())")
 	@Mapping(target = "createdAt", expression = "java(LocalDate.now())")
@@ -53,6 +54,7 @@ public interface UserMapper {
 	 * @return the updated UserEntity
 	 */
 	@Mapping(target = "id", ignore = true)
+	@Mapping(target = "version", ignore = true)
 	@Mapping(target = "createdAt", ignore = true)
 	@Mapping(target = "apiKey", ignore = true)
 	@Mapping(target = "company", ignore = true)
@@ -0,0 +1,66 @@
+package com.example.projecttrackingserver.metrics;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Configuration class for the metrics which are not recorded by Spring Boot itself.
+ * Endpoints, repositories and the connection pool are measured by the actuator auto configuration.
+ */
+@Configuration
+public class MetricsConfiguration {
+
+    /**
+     * Creates the aspect timing all methods of classes annotated with {@link io.micrometer.core.annotation.Timed}.
+     *
+     * @param meterRegistry the registry the timers are registered in
+     * @return the TimedAspect
+     */
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+		return new TimedAspect(meterRegistry);
+	}
+	
+    /**
+     * Creates the inspector counting the statements executed by Hibernate.
+     *
+     * @return the StatementCountInspector
+     */
+	@Bean
+	public StatementCountInspector statementCountInspector() {
+		return new StatementCountInspector();
+	}
+	
+    /**
+     * Registers the statement count inspector in Hibernate.
+     *
+     * @param statementCountInspector the inspector to register
+     * @return the HibernatePropertiesCustomizer
+     */
+	@Bean
+	public HibernatePropertiesCustomizer statementCountCustomizer(StatementCountInspector statementCountInspector) {
+		return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, statementCountInspector);
+	}
+	
+    /**
+     * Registers the filter recording the statements per request.
+     * It is ordered before the security filter chain, so the statements of the API key lookup are counted as well.
+     *
+     * @param statementCountInspector the inspector counting the statements
+     * @param meterRegistry the registry the statement counts are recorded in
+     * @return the FilterRegistrationBean of the StatementCountFilter
+     */
+	@Bean
+	public FilterRegistrationBean<StatementCountFilter> statementCountFilter(StatementCountInspector statementCountInspector, MeterRegistry meterRegistry) {
+		FilterRegistrationBean<StatementCountFilter> registration = new FilterRegistrationBean<StatementCountFilter>(new StatementCountFilter(statementCountInspector, meterRegistry));
+		registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER - 1);
+		return registration;
+	}
+}
@@ -0,0 +1,49 @@
+package com.example.projecttrackingserver.metrics;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Filter recording the number of Hibernate statements executed per request.
+ * The requests are tagged by their route template, so requests to the same endpoint are summarized together.
+ */
+@RequiredArgsConstructor
+public class StatementCountFilter extends OncePerRequestFilter {
+
+	public static final String METRIC_NAME = "hibernate.statements.per.request";
+	
+	private final StatementCountInspector statementCountInspector;
+	private final MeterRegistry meterRegistry;
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+		statementCountInspector.reset();
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			// no matching handler -> route template is unknown
+			Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			DistributionSummary.builder(METRIC_NAME)
+							   .description("Number of Hibernate statements executed per request")
+							   .tag("method", request.getMethod())
+							   .tag("uri", uri != null ? uri.toString() : "UNKNOWN")
+							   .publishPercentileHistogram()
+							   .register(meterRegistry)
+							   .record(statementCountInspector.getCount());
+			statementCountInspector.clear();
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package com.example.projecttrackingserver.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector counting the SQL statements prepared by the current thread.
+ * The statements are not changed.
+ */
+public class StatementCountInspector implements StatementInspector {
+
+	private static final long serialVersionUID = -3154878166271364367L;
+
+	private static final ThreadLocal<int[]> STATEMENT_COUNT = ThreadLocal.withInitial(() -> new int[1]);
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Override
+	public String inspect(String sql) {
+		STATEMENT_COUNT.get()[0]++;
+		return sql;
+	}
+	
+    /**
+     * Resets the statement count of the current thread.
+     */
+	public void reset() {
+		STATEMENT_COUNT.get()[0] = 0;
+	}
+	
+    /**
+     * @return the number of statements prepared by the current thread since the last reset
+     */
+	public int getCount() {
+		return STATEMENT_COUNT.get()[0];
+	}
+	
+    /**
+     * Removes the statement count of the current thread.
+     */
+	public void clear() {
+		STATEMENT_COUNT.remove();
+	}
+}
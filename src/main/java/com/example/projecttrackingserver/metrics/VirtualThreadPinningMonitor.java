@@ -0,0 +1,81 @@
+package com.example.projecttrackingserver.metrics;
+
+import java.time.Duration;
+
+import jdk.jfr.consumer.RecordingStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Records how long virtual threads were pinned to their carrier thread, e.g. by blocking inside a synchronized block.
+ * The JFR event jdk.VirtualThreadPinned is streamed into the timer jvm.threads.virtual.pinned,
+ * so pinning in the security or persistence layer shows up in the metrics instead of as unexplained latency.
+ * The monitor is only active if requests are executed on virtual threads.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+	private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+	private final Timer pinnedTimer;
+	private final Duration threshold;
+	private RecordingStream recordingStream;
+
+    /**
+     * Constructs a new VirtualThreadPinningMonitor.
+     *
+     * @param meterRegistry the registry the pinned durations are recorded in
+     * @param threshold the minimum time a virtual thread has to be pinned to be recorded
+     */
+	public VirtualThreadPinningMonitor(
+			MeterRegistry meterRegistry,
+			@Value("${metrics.virtual-threads.pinned-threshold:PT0.02S}") Duration threshold
+	) {
+		this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+								.description("Time virtual threads were pinned to their carrier thread")
+								.register(meterRegistry);
+		this.threshold = threshold;
+	}
+
+    /**
+     * Starts streaming the pinned events.
+     */
+	@Override
+	public void start() {
+		if(recordingStream != null) {
+			return;
+		}
+
+		recordingStream = new RecordingStream();
+		recordingStream.enable(PINNED_EVENT).withThreshold(threshold);
+		recordingStream.onEvent(PINNED_EVENT, event -> pinnedTimer.record(event.getDuration()));
+		recordingStream.startAsync();
+	}
+
+    /**
+     * Stops streaming the pinned events.
+     */
+	@Override
+	public void stop() {
+		if(recordingStream != null) {
+			recordingStream.close();
+			recordingStream = null;
+		}
+	}
+
+    /**
+     * @return true if the pinned events are streamed, otherwise false
+     */
+	@Override
+	public boolean isRunning() {
+		return recordingStream != null;
+	}
+}
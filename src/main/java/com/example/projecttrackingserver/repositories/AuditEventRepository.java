@@ -0,0 +1,13 @@
+package com.example.projecttrackingserver.repositories;
+
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.projecttrackingserver.entities.AuditEventEntity;
+
+/**
+ * Repository interface for performing CRUD operations on AuditEventEntity.
+ */
+@Repository
+public interface AuditEventRepository extends CrudRepository<AuditEventEntity, Long> {
+}
@@ -1,10 +1,16 @@
 package com.example.projecttrackingserver.repositories;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.projecttrackingserver.dto.CompanyResponseDto;
+import com.example.projecttrackingserver.dto.ScopeDto;
 import com.example.projecttrackingserver.entities.CompanyEntity;
 
 /**
@@ -13,6 +19,14 @@ import com.example.projecttrackingserver.entities.CompanyEntity;
 @Repository
 public interface CompanyRepository extends CrudRepository<CompanyEntity, Long> {
 
+    /**
+     * Selects companies as CompanyResponseDto, so listings read only the mapped columns instead of loading entities.
+     */
+	String SELECT_COMPANY_RESPONSE_DTO = """
+			SELECT new com.example.projecttrackingserver.dto.CompanyResponseDto(c.id, c.name, c.description)
+			FROM CompanyEntity c
+			""";
+
 //	@Query("SELECT c FROM CompanyEntity c JOIN FETCH c.projects WHERE c.id = :companyId")
 //	public Optional<CompanyEntity> findByIdWithProjects(@Param("companyId") long companyId);
 	
@@ -23,4 +37,66 @@ public interface CompanyRepository extends CrudRepository<CompanyEntity, Long> {
      * @return an Optional containing the CompanyEntity if found, otherwise empty
      */
 	public Optional<CompanyEntity> findByName(String name);
-}
\ No newline at end of file
+	
+    /**
+     * Checks if a company with the name exists without loading it.
+     *
+     * @param name the name of the company
+     * @return true if the company exists, otherwise false
+     */
+	public boolean existsByName(String name);
+	
+    /**
+     * Retrieves the companies with an ID greater than afterId, ordered by ID.
+     *
+     * @param afterId the ID after which companies are retrieved
+     * @param limit the maximum number of companies to retrieve
+     * @return a list of CompanyResponseDto
+     */
+	@Query(SELECT_COMPANY_RESPONSE_DTO + """
+			WHERE c.id > :afterId
+			ORDER BY c.id
+			""")
+	public List<CompanyResponseDto> findAllDtosAfterId(@Param("afterId") long afterId, Limit limit);
+	
+    /**
+     * Retrieves the companies with a name greater than afterName, ordered by name.
+     * Company names are unique, so the name alone is a position in the order.
+     *
+     * @param afterName the name after which companies are retrieved
+     * @param limit the maximum number of companies to retrieve
+     * @return a list of CompanyResponseDto
+     */
+	@Query(SELECT_COMPANY_RESPONSE_DTO + """
+			WHERE c.name > :afterName
+			ORDER BY c.name
+			""")
+	public List<CompanyResponseDto> findAllDtosAfterName(@Param("afterName") String afterName, Limit limit);
+	
+    /**
+     * Retrieves which entities of a company, project and ticket hierarchy exist in a single query.
+     * The project has to belong to the company and the ticket to the project.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @param ticketId the ID of the ticket
+     * @return an Optional containing the ScopeDto if the company exists, otherwise empty
+     */
+	@Query("""
+			SELECT new com.example.projecttrackingserver.dto.ScopeDto(c.id, p.id, t.id)
+			FROM CompanyEntity c
+			LEFT JOIN ProjectEntity p ON p.company.id = c.id AND p.id = :projectId
+			LEFT JOIN TicketEntity t ON t.project.id = p.id AND t.id = :ticketId
+			WHERE c.id = :companyId
+			""")
+	public Optional<ScopeDto> findScope(@Param("companyId") long companyId, @Param("projectId") long projectId, @Param("ticketId") long ticketId);
+	
+    /**
+     * Retrieves the version of a company without loading the company.
+     *
+     * @param companyId the ID of the company
+     * @return an Optional containing the version if the company exists, otherwise empty
+     */
+	@Query("SELECT c.version FROM CompanyEntity c WHERE c.id = :companyId")
+	public Optional<Long> findVersionById(@Param("companyId") long companyId);
+}
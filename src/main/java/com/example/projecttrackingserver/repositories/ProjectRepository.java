@@ -3,16 +3,35 @@ package com.example.projecttrackingserver.repositories;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.repository.CrudRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.projecttrackingserver.dto.ProjectResponseDto;
 import com.example.projecttrackingserver.entities.ProjectEntity;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for performing CRUD operations on ProjectEntity.
  */
 @Repository
-public interface ProjectRepository extends CrudRepository<ProjectEntity, Long>{
+public interface ProjectRepository extends JpaRepository<ProjectEntity, Long>{
+
+    /**
+     * Selects projects as ProjectResponseDto, so listings read only the mapped columns instead of loading entities.
+     */
+	String SELECT_PROJECT_RESPONSE_DTO = """
+			SELECT new com.example.projecttrackingserver.dto.ProjectResponseDto(p.id, p.name, p.description, p.startDate, p.endDate, p.projectManager.id)
+			FROM ProjectEntity p
+			""";
 
     /**
      * Retrieves an optional ProjectEntity by its name.
@@ -22,20 +41,184 @@ public interface ProjectRepository extends CrudRepository<ProjectEntity, Long>{
      */
 	public Optional<ProjectEntity> findByName(String name);
 	
+    /**
+     * Checks if a project with the name exists without loading it.
+     *
+     * @param name the name of the project
+     * @return true if the project exists, otherwise false
+     */
+	public boolean existsByName(String name);
+	
     /**
      * Retrieves a list of ProjectEntities associated with a specific company ID.
+     * The foreign key column is filtered directly instead of joining the companies, so the company index can be used.
      *
      * @param companyId the ID of the company whose projects are to be retrieved
      * @return a list of ProjectEntity associated with the given company ID
      */
-	public List<ProjectEntity> findAllByCompanyId(long companyId);
+	@Query("SELECT p FROM ProjectEntity p WHERE p.company.id = :companyId")
+	public List<ProjectEntity> findAllByCompanyId(@Param("companyId") long companyId);
+	
+	/**
+     * Retrieves the projects of a company with an ID greater than afterId, ordered by ID.
+     *
+     * @param companyId the ID of the company
+     * @param afterId the ID after which projects are retrieved
+     * @param limit the maximum number of projects to retrieve
+     * @return a list of ProjectResponseDto of the company
+     */
+	@Query(SELECT_PROJECT_RESPONSE_DTO + """
+			WHERE p.company.id = :companyId
+			AND p.id > :afterId
+			ORDER BY p.id
+			""")
+	public List<ProjectResponseDto> findAllDtosByCompanyIdAfterId(@Param("companyId") long companyId, @Param("afterId") long afterId, Limit limit);
+	
+	/**
+     * Retrieves the projects of a company with a name greater than afterName, ordered by name.
+     * Project names are unique, so the name alone is a position in the order.
+     *
+     * @param companyId the ID of the company
+     * @param afterName the name after which projects are retrieved
+     * @param limit the maximum number of projects to retrieve
+     * @return a list of ProjectResponseDto of the company
+     */
+	@Query(SELECT_PROJECT_RESPONSE_DTO + """
+			WHERE p.company.id = :companyId
+			AND p.name > :afterName
+			ORDER BY p.name
+			""")
+	public List<ProjectResponseDto> findAllDtosByCompanyIdAfterName(@Param("companyId") long companyId, @Param("afterName") String afterName, Limit limit);
 	
 	/**
      * Retrieves an optional ProjectEntity by its ID and company ID.
+     * The project is looked up by its ID and then checked against the company, so it can be served from the second-level cache.
      *
      * @param projectId the ID of the project to retrieve
      * @param companyId the ID of the company to which the project belongs
      * @return an Optional containing the ProjectEntity if found, otherwise empty
      */
-	public Optional<ProjectEntity> findByIdAndCompanyId(long projectId, long companyId);
+	public default Optional<ProjectEntity> findByIdAndCompanyId(long projectId, long companyId) {
+		return findById(projectId).filter(project -> project.getCompany().getId() == companyId);
+	}
+	
+	/**
+     * Checks if a project with the given ID exists in the company.
+     *
+     * @param projectId the ID of the project to check
+     * @param companyId the ID of the company to which the project belongs
+     * @return true if the project exists in the company, otherwise false
+     */
+	public boolean existsByIdAndCompanyId(long projectId, long companyId);
+	
+	/**
+     * Checks if a user is a member of a project without loading the members.
+     * Only the unique index of projects_users on (project_id, user_id) is read.
+     *
+     * @param projectId the ID of the project
+     * @param userId the ID of the user
+     * @return true if the user is a member of the project, otherwise false
+     */
+	@Query(value = "SELECT EXISTS(SELECT 1 FROM projects_users WHERE project_id = :projectId AND user_id = :userId)", nativeQuery = true)
+	public boolean existsByProjectIdAndUserId(@Param("projectId") long projectId, @Param("userId") long userId);
+	
+	/**
+     * Adds a user to the members of a project by inserting the row of the join table, without loading the members.
+     * Hibernate evicts cached collections by the table of their elements, so the query space is the table of the users.
+     * The cached members and users are evicted, the cached projects, companies and roles are kept.
+     *
+     * @param projectId the ID of the project
+     * @param userId the ID of the user to add
+     */
+	@Modifying
+	@Transactional(propagation = Propagation.MANDATORY)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+	@Query(value = "INSERT INTO projects_users (project_id, user_id) VALUES (:projectId, :userId)", nativeQuery = true)
+	public void insertMember(@Param("projectId") long projectId, @Param("userId") long userId);
+	
+	/**
+     * Removes a user from the members of a project by deleting the row of the join table, without loading the members.
+     * Hibernate evicts cached collections by the table of their elements, so the query space is the table of the users.
+     * The cached members and users are evicted, the cached projects, companies and roles are kept.
+     *
+     * @param projectId the ID of the project
+     * @param userId the ID of the user to remove
+     * @return the number of removed rows, 0 if the user was not a member
+     */
+	@Modifying
+	@Transactional(propagation = Propagation.MANDATORY)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "users"))
+	@Query(value = "DELETE FROM projects_users WHERE project_id = :projectId AND user_id = :userId", nativeQuery = true)
+	public int deleteMember(@Param("projectId") long projectId, @Param("userId") long userId);
+	
+	/**
+     * Retrieves the IDs of the members of a project without loading the members.
+     *
+     * @param projectId the ID of the project
+     * @return the IDs of the members of the project in ascending order
+     */
+	@Query(value = "SELECT user_id FROM projects_users WHERE project_id = :projectId ORDER BY user_id", nativeQuery = true)
+	public List<Long> findMemberIdsByProjectId(@Param("projectId") long projectId);
+	
+	/**
+     * Retrieves the version of a project in a company without loading the project.
+     *
+     * @param projectId the ID of the project
+     * @param companyId the ID of the company to which the project belongs
+     * @return an Optional containing the version if the project exists in the company, otherwise empty
+     */
+	@Query("SELECT p.version FROM ProjectEntity p WHERE p.id = :projectId AND p.company.id = :companyId")
+	public Optional<Long> findVersionByIdAndCompanyId(@Param("projectId") long projectId, @Param("companyId") long companyId);
+	
+	/**
+     * Retrieves the number of changes to the tickets of a project in a company without loading the project.
+     *
+     * @param projectId the ID of the project
+     * @param companyId the ID of the company to which the project belongs
+     * @return an Optional containing the ticket change count if the project exists in the company, otherwise empty
+     */
+	@Query("SELECT p.ticketChangeCount FROM ProjectEntity p WHERE p.id = :projectId AND p.company.id = :companyId")
+	public Optional<Long> findTicketChangeCountByIdAndCompanyId(@Param("projectId") long projectId, @Param("companyId") long companyId);
+	
+	/**
+     * Increments the number of changes to the tickets of a project.
+     * The update locks the project row until the transaction ends, so changes to the tickets of a project are numbered in commit order.
+     * It is a native update with its own query space, otherwise Hibernate would evict all cached projects on every change to a ticket.
+     * The count is only read by queries, so the stale count in cached projects is never used. As the query space matches no entity,
+     * pending changes are flushed explicitly before the update.
+     *
+     * @param projectId the ID of the project whose tickets changed
+     */
+	@Modifying(flushAutomatically = true)
+	@Transactional(propagation = Propagation.MANDATORY)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects_ticket_change_count"))
+	@Query(value = "UPDATE projects SET ticket_change_count = ticket_change_count + 1 WHERE id = :projectId", nativeQuery = true)
+	public void incrementTicketChangeCount(@Param("projectId") long projectId);
+	
+	/**
+     * Retrieves the number of changes to the tickets of a project.
+     *
+     * @param projectId the ID of the project
+     * @return the ticket change count of the project
+     */
+	@Query("SELECT p.ticketChangeCount FROM ProjectEntity p WHERE p.id = :projectId")
+	public long findTicketChangeCountById(@Param("projectId") long projectId);
+	
+	/**
+     * Locks the row of a project until the transaction ends, like a change to its tickets does.
+     *
+     * @param projectId the ID of the project
+     * @return an Optional containing the ID of the project if it exists, otherwise empty
+     */
+	@Transactional(propagation = Propagation.MANDATORY)
+	@Query(value = "SELECT id FROM projects WHERE id = :projectId FOR UPDATE", nativeQuery = true)
+	public Optional<Long> lockById(@Param("projectId") long projectId);
+	
+	/**
+     * Retrieves the IDs of all projects.
+     *
+     * @return a list of the IDs of all projects in ascending order
+     */
+	@Query("SELECT p.id FROM ProjectEntity p ORDER BY p.id")
+	public List<Long> findAllIds();
 }
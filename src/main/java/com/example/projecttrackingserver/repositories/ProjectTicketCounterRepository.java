@@ -0,0 +1,119 @@
+package com.example.projecttrackingserver.repositories;
+
+import java.util.List;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.projecttrackingserver.entities.ProjectTicketCounterEntity;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository interface for performing CRUD operations on ProjectTicketCounterEntity.
+ * The counters of a project are only changed while the project row is locked, by the change to its tickets or by a rebuild,
+ * so adding to a counter and inserting it if it does not exist yet cannot race. The native statements have their own query space,
+ * otherwise Hibernate would evict all cached entities on every change to a ticket.
+ */
+@Repository
+public interface ProjectTicketCounterRepository extends CrudRepository<ProjectTicketCounterEntity, ProjectTicketCounterEntity.Key> {
+
+    /**
+     * Retrieves all counters of a project in a company.
+     *
+     * @param projectId the ID of the project
+     * @param companyId the ID of the company
+     * @return a list of the counters of the project, counters of values without tickets might be missing
+     */
+	@Query("""
+			SELECT c FROM ProjectTicketCounterEntity c, ProjectEntity p
+			WHERE p.id = c.projectId AND c.projectId = :projectId AND p.company.id = :companyId
+			""")
+	public List<ProjectTicketCounterEntity> findAllByProjectIdAndCompanyId(@Param("projectId") long projectId, @Param("companyId") long companyId);
+
+    /**
+     * Adds to the number of tickets in a project with a status, priority or type.
+     *
+     * @param projectId the ID of the project
+     * @param dimension the name of the TicketCounterDimension
+     * @param dimensionValue the status, priority or type
+     * @param delta the number of tickets to add, negative to subtract
+     * @return the number of updated counters, 0 if the counter does not exist yet
+     */
+	@Modifying
+	@Transactional(propagation = Propagation.MANDATORY)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_ticket_counters"))
+	@Query(value = """
+			UPDATE project_ticket_counters SET ticket_count = ticket_count + :delta
+			WHERE project_id = :projectId AND dimension = :dimension AND dimension_value = :dimensionValue
+			""", nativeQuery = true)
+	public int addToTicketCount(
+			@Param("projectId") long projectId,
+			@Param("dimension") String dimension,
+			@Param("dimensionValue") String dimensionValue,
+			@Param("delta") long delta);
+
+    /**
+     * Inserts the number of tickets in a project with a status, priority or type.
+     *
+     * @param projectId the ID of the project
+     * @param dimension the name of the TicketCounterDimension
+     * @param dimensionValue the status, priority or type
+     * @param ticketCount the number of tickets
+     */
+	@Modifying
+	@Transactional(propagation = Propagation.MANDATORY)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_ticket_counters"))
+	@Query(value = """
+			INSERT INTO project_ticket_counters (project_id, dimension, dimension_value, ticket_count)
+			VALUES (:projectId, :dimension, :dimensionValue, :ticketCount)
+			""", nativeQuery = true)
+	public void insertTicketCount(
+			@Param("projectId") long projectId,
+			@Param("dimension") String dimension,
+			@Param("dimensionValue") String dimensionValue,
+			@Param("ticketCount") long ticketCount);
+
+    /**
+     * Deletes all counters of a project.
+     *
+     * @param projectId the ID of the project
+     */
+	@Modifying
+	@Transactional(propagation = Propagation.MANDATORY)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_ticket_counters"))
+	@Query(value = "DELETE FROM project_ticket_counters WHERE project_id = :projectId", nativeQuery = true)
+	public void deleteAllTicketCountsByProjectId(@Param("projectId") long projectId);
+
+    /**
+     * Counts the tickets of a project by status, priority and type and inserts the counters.
+     * Pending changes to tickets are flushed first, since the query space matches no entity.
+     *
+     * @param projectId the ID of the project
+     */
+	@Modifying(flushAutomatically = true)
+	@Transactional(propagation = Propagation.MANDATORY)
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "project_ticket_counters"))
+	@Query(value = """
+			INSERT INTO project_ticket_counters (project_id, dimension, dimension_value, ticket_count)
+			SELECT t.project_id, 'TicketStatus', ts.ticket_status, COUNT(*)
+			FROM tickets t JOIN ticket_statuses ts ON ts.id = t.ticket_status_id
+			WHERE t.project_id = :projectId GROUP BY t.project_id, ts.ticket_status
+			UNION ALL
+			SELECT t.project_id, 'TicketPriority', tp.ticket_priority, COUNT(*)
+			FROM tickets t JOIN ticket_priorities tp ON tp.id = t.ticket_priority_id
+			WHERE t.project_id = :projectId GROUP BY t.project_id, tp.ticket_priority
+			UNION ALL
+			SELECT t.project_id, 'TicketType', tt.ticket_type, COUNT(*)
+			FROM tickets t JOIN ticket_types tt ON tt.id = t.ticket_type_id
+			WHERE t.project_id = :projectId GROUP BY t.project_id, tt.ticket_type
+			""", nativeQuery = true)
+	public void insertTicketCountsOfProject(@Param("projectId") long projectId);
+}
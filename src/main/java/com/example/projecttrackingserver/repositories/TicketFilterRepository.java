@@ -0,0 +1,45 @@
+package com.example.projecttrackingserver.repositories;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+
+import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+
+/**
+ * Repository fragment for retrieving filtered pages of tickets, implemented by TicketFilterRepositoryImpl.
+ */
+public interface TicketFilterRepository {
+
+    /**
+     * Retrieves the tickets of a project in a company with an ID greater than afterId, ordered by ID.
+     * Filters which are null are not applied.
+     *
+     * @param projectId the ID of the project associated with the tickets
+     * @param companyId the ID of the company associated with the project
+     * @param afterId the ID after which tickets are retrieved
+     * @param ticketStatus the status the tickets must have
+     * @param ticketPriority the priority the tickets must have
+     * @param ticketType the type the tickets must have
+     * @param creatorId the ID of the user who must have created the tickets
+     * @param createdFrom the earliest creation date of the tickets
+     * @param createdTo the latest creation date of the tickets
+     * @param limit the maximum number of tickets to retrieve
+     * @return a list of TicketResponseDto matching the filters
+     */
+	List<TicketResponseDto> findAllDtosInProjectAfterId(
+			long projectId,
+			long companyId,
+			long afterId,
+			TicketStatus ticketStatus,
+			TicketPriority ticketPriority,
+			TicketType ticketType,
+			Long creatorId,
+			LocalDate createdFrom,
+			LocalDate createdTo,
+			Limit limit);
+}
@@ -0,0 +1,126 @@
+package com.example.projecttrackingserver.repositories;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+
+import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementation of the TicketFilterRepository.
+ * Only the filters which are set are added to the query. A condition like ":ticketStatus IS NULL OR ..." can not be
+ * answered from an index, so a filtered page would read all tickets of the project with the (project_id, id) index.
+ * The IDs of the rows of status, priority and type are looked up first and compared with the foreign keys, so the tickets are
+ * found with the (project_id, ticket_status_id, id), (project_id, ticket_priority_id, id) or (project_id, ticket_type_id, id) index.
+ * A filtered page is ordered by all columns of that index. Without statistics the planner would otherwise keep the
+ * (project_id, id) index, as it matches ORDER BY t.id and saves the sort.
+ */
+@RequiredArgsConstructor
+public class TicketFilterRepositoryImpl implements TicketFilterRepository {
+
+	private final EntityManager entityManager;
+
+    /**
+     * {@inheritDoc}
+     */
+	@Override
+	public List<TicketResponseDto> findAllDtosInProjectAfterId(
+			long projectId,
+			long companyId,
+			long afterId,
+			TicketStatus ticketStatus,
+			TicketPriority ticketPriority,
+			TicketType ticketType,
+			Long creatorId,
+			LocalDate createdFrom,
+			LocalDate createdTo,
+			Limit limit
+	) {
+		StringBuilder jpql = new StringBuilder(TicketRepository.SELECT_TICKET_RESPONSE_DTO).append("""
+				WHERE t.project.id = :projectId
+				AND t.project.company.id = :companyId
+				AND t.id > :afterId
+				""");
+		Map<String, Object> parameters = new HashMap<>();
+		parameters.put("projectId", projectId);
+		parameters.put("companyId", companyId);
+		parameters.put("afterId", afterId);
+		String orderBy = null;
+
+		// filter set -> compare the foreign key and order like its index, which is the order of the IDs as project and filter are fixed
+		if(ticketStatus != null) {
+			Optional<Long> ticketStatusId = findId("SELECT s.id FROM TicketStatusEntity s WHERE s.ticketStatus = :value", ticketStatus);
+			// status does not exist -> no ticket can have it
+			if(ticketStatusId.isEmpty()) {
+				return List.of();
+			}
+			jpql.append("AND t.ticketStatus.id = :ticketStatusId\n");
+			parameters.put("ticketStatusId", ticketStatusId.get());
+			if(orderBy == null) {
+				orderBy = "ORDER BY t.project.id, t.ticketStatus.id, t.id";
+			}
+		}
+		if(ticketPriority != null) {
+			Optional<Long> ticketPriorityId = findId("SELECT p.id FROM TicketPriorityEntity p WHERE p.ticketPriority = :value", ticketPriority);
+			// priority does not exist -> no ticket can have it
+			if(ticketPriorityId.isEmpty()) {
+				return List.of();
+			}
+			jpql.append("AND t.ticketPriority.id = :ticketPriorityId\n");
+			parameters.put("ticketPriorityId", ticketPriorityId.get());
+			if(orderBy == null) {
+				orderBy = "ORDER BY t.project.id, t.ticketPriority.id, t.id";
+			}
+		}
+		if(ticketType != null) {
+			Optional<Long> ticketTypeId = findId("SELECT y.id FROM TicketTypeEntity y WHERE y.ticketType = :value", ticketType);
+			// type does not exist -> no ticket can have it
+			if(ticketTypeId.isEmpty()) {
+				return List.of();
+			}
+			jpql.append("AND t.ticketType.id = :ticketTypeId\n");
+			parameters.put("ticketTypeId", ticketTypeId.get());
+			if(orderBy == null) {
+				orderBy = "ORDER BY t.project.id, t.ticketType.id, t.id";
+			}
+		}
+		if(creatorId != null) {
+			jpql.append("AND t.creator.id = :creatorId\n");
+			parameters.put("creatorId", creatorId);
+		}
+		if(createdFrom != null) {
+			jpql.append("AND t.createdAt >= :createdFrom\n");
+			parameters.put("createdFrom", createdFrom);
+		}
+		if(createdTo != null) {
+			jpql.append("AND t.createdAt <= :createdTo\n");
+			parameters.put("createdTo", createdTo);
+		}
+		jpql.append(orderBy != null ? orderBy : "ORDER BY t.id");
+
+		TypedQuery<TicketResponseDto> query = entityManager.createQuery(jpql.toString(), TicketResponseDto.class);
+		parameters.forEach(query::setParameter);
+		if(limit.isLimited()) {
+			query.setMaxResults(limit.max());
+		}
+		return query.getResultList();
+	}
+
+	private Optional<Long> findId(String jpql, Enum<?> value) {
+		return entityManager.createQuery(jpql, Long.class)
+							.setParameter("value", value)
+							.getResultStream()
+							.findFirst();
+	}
+}
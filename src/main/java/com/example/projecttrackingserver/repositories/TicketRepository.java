@@ -1,17 +1,41 @@
 package com.example.projecttrackingserver.repositories;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
-import org.springframework.data.repository.CrudRepository;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.projecttrackingserver.dto.TicketResponseDto;
 import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.search.TicketSearchDocument;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for performing CRUD operations on TicketEntity.
  */
 @Repository
-public interface TicketRepository extends CrudRepository<TicketEntity, Long> {
+public interface TicketRepository extends JpaRepository<TicketEntity, Long>, TicketFilterRepository {
+
+	/**
+	 * Selects tickets directly as TicketResponseDto, so the associations are joined in the same statement
+	 * instead of being loaded ticket by ticket.
+	 */
+	String SELECT_TICKET_RESPONSE_DTO = """
+			SELECT new com.example.projecttrackingserver.dto.TicketResponseDto(
+				t.id, t.name, t.description, t.createdAt, t.updatedAt, t.project.id, t.creator.id,
+				t.ticketType.ticketType, t.ticketPriority.ticketPriority, t.ticketStatus.ticketStatus)
+			FROM TicketEntity t
+			""";
 
     /**
      * Retrieves an optional TicketEntity by its name and projectId.
@@ -22,6 +46,15 @@ public interface TicketRepository extends CrudRepository<TicketEntity, Long> {
      */
 	Optional<TicketEntity> findByNameAndProjectId(String name, long projectId);
 	
+    /**
+     * Checks if a ticket with the name exists in a project without loading it.
+     *
+     * @param name the name of the ticket
+     * @param projectId the ID of the project
+     * @return true if the ticket exists in the project, otherwise false
+     */
+	boolean existsByNameAndProjectId(String name, long projectId);
+	
     /**
      * Retrieves an optional TicketEntity by its ticketId and projectId.
      *
@@ -30,4 +63,128 @@ public interface TicketRepository extends CrudRepository<TicketEntity, Long> {
      * @return an Optional containing the TicketEntity if found, otherwise empty
      */
 	Optional<TicketEntity> findByIdAndProjectId(long ticketId, long projectId);
+	
+    /**
+     * Retrieves an optional TicketEntity by its ID, projectId and the companyId of the project.
+     *
+     * @param ticketId the ID of the ticket to search for
+     * @param projectId the ID of the project associated with the ticket
+     * @param companyId the ID of the company associated with the project
+     * @return an Optional containing the TicketEntity if found, otherwise empty
+     */
+	Optional<TicketEntity> findByIdAndProjectIdAndProjectCompanyId(long ticketId, long projectId, long companyId);
+	
+    /**
+     * Retrieves which of the given ticket names are already used in a project.
+     *
+     * @param projectId the ID of the project associated with the tickets
+     * @param names the ticket names to check
+     * @return a set of the names which are already used
+     */
+	@Query("SELECT t.name FROM TicketEntity t WHERE t.project.id = :projectId AND t.name IN :names")
+	Set<String> findNamesInProject(@Param("projectId") long projectId, @Param("names") Collection<String> names);
+	
+    /**
+     * Retrieves an optional TicketResponseDto by its ID, projectId and the companyId of the project.
+     *
+     * @param ticketId the ID of the ticket to search for
+     * @param projectId the ID of the project associated with the ticket
+     * @param companyId the ID of the company associated with the project
+     * @return an Optional containing the TicketResponseDto if found, otherwise empty
+     */
+	@Query(SELECT_TICKET_RESPONSE_DTO + """
+			WHERE t.id = :ticketId
+			AND t.project.id = :projectId
+			AND t.project.company.id = :companyId
+			""")
+	Optional<TicketResponseDto> findDtoByIdAndProjectIdAndCompanyId(
+			@Param("ticketId") long ticketId,
+			@Param("projectId") long projectId,
+			@Param("companyId") long companyId);
+	
+    /**
+     * Retrieves all tickets of a project in a company, ordered by ID.
+     *
+     * @param projectId the ID of the project associated with the tickets
+     * @param companyId the ID of the company associated with the project
+     * @return a list of TicketResponseDto of the project
+     */
+	@Query(SELECT_TICKET_RESPONSE_DTO + """
+			WHERE t.project.id = :projectId
+			AND t.project.company.id = :companyId
+			ORDER BY t.id
+			""")
+	List<TicketResponseDto> findAllDtosByProjectIdAndCompanyId(@Param("projectId") long projectId, @Param("companyId") long companyId);
+	
+    /**
+     * Retrieves the tickets of a project with an ID greater than afterId which were created or updated within a range of change numbers.
+     *
+     * @param projectId the ID of the project
+     * @param afterChange the change number after which changes are retrieved
+     * @param untilChange the last change number of which changes are retrieved
+     * @param afterId the ID after which tickets are retrieved
+     * @param limit the maximum number of tickets to retrieve
+     * @return a list of TicketResponseDto of the changed tickets, ordered by ID
+     */
+	@Query(SELECT_TICKET_RESPONSE_DTO + """
+			WHERE t.project.id = :projectId
+			AND t.changeNumber > :afterChange
+			AND t.changeNumber <= :untilChange
+			AND t.id > :afterId
+			ORDER BY t.id
+			""")
+	List<TicketResponseDto> findAllDtosChangedInProject(
+			@Param("projectId") long projectId,
+			@Param("afterChange") long afterChange,
+			@Param("untilChange") long untilChange,
+			@Param("afterId") long afterId,
+			Limit limit);
+	
+    /**
+     * Streams all tickets of all projects in a company, ordered by ID.
+     * The rows are fetched in chunks from a cursor, so the stream has to be consumed and closed inside a transaction.
+     *
+     * @param companyId the ID of the company associated with the projects
+     * @return a stream of TicketResponseDto of the company
+     */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query(SELECT_TICKET_RESPONSE_DTO + """
+			WHERE t.project.company.id = :companyId
+			ORDER BY t.id
+			""")
+	Stream<TicketResponseDto> streamAllDtosByCompanyId(@Param("companyId") long companyId);
+	
+    /**
+     * Retrieves the tickets with the given IDs.
+     *
+     * @param ticketIds the IDs of the tickets to retrieve
+     * @return a list of TicketResponseDto of the found tickets, in no particular order
+     */
+	@Query(SELECT_TICKET_RESPONSE_DTO + "WHERE t.id IN :ticketIds")
+	List<TicketResponseDto> findAllDtosByIdIn(@Param("ticketIds") Collection<Long> ticketIds);
+	
+    /**
+     * Streams the searchable fields of all tickets, e.g. to build a search index.
+     * The rows are fetched in chunks from a cursor, so the stream has to be consumed and closed inside a transaction.
+     *
+     * @return a stream of TicketSearchDocument of all tickets
+     */
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+	@Query("""
+			SELECT new com.example.projecttrackingserver.search.TicketSearchDocument(
+				t.id, t.project.id, t.project.company.id, t.name, t.description)
+			FROM TicketEntity t
+			""")
+	Stream<TicketSearchDocument> streamAllSearchDocuments();
+	
+    /**
+     * Retrieves the version of a ticket in a project of a company without loading the ticket.
+     *
+     * @param ticketId the ID of the ticket
+     * @param projectId the ID of the project
+     * @param companyId the ID of the company
+     * @return an Optional containing the version if the ticket exists in the project, otherwise empty
+     */
+	@Query("SELECT t.version FROM TicketEntity t WHERE t.id = :ticketId AND t.project.id = :projectId AND t.project.company.id = :companyId")
+	public Optional<Long> findVersionByIdAndProjectIdAndCompanyId(@Param("ticketId") long ticketId, @Param("projectId") long projectId, @Param("companyId") long companyId);
 }
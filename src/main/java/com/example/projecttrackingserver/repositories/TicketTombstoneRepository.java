@@ -0,0 +1,43 @@
+package com.example.projecttrackingserver.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.example.projecttrackingserver.entities.TicketTombstoneEntity;
+
+/**
+ * Repository interface for performing CRUD operations on TicketTombstoneEntity.
+ */
+@Repository
+public interface TicketTombstoneRepository extends CrudRepository<TicketTombstoneEntity, Long> {
+
+    /**
+     * Retrieves the IDs of the tickets of a project greater than afterTicketId which were deleted within a range of change numbers.
+     *
+     * @param projectId the ID of the project
+     * @param afterChange the change number after which deletions are retrieved
+     * @param untilChange the last change number of which deletions are retrieved
+     * @param afterTicketId the ticket ID after which deletions are retrieved
+     * @param limit the maximum number of IDs to retrieve
+     * @return a list of the IDs of the deleted tickets, ordered by ID
+     */
+	@Query("""
+			SELECT tt.ticketId FROM TicketTombstoneEntity tt
+			WHERE tt.projectId = :projectId
+			AND tt.changeNumber > :afterChange
+			AND tt.changeNumber <= :untilChange
+			AND tt.ticketId > :afterTicketId
+			ORDER BY tt.ticketId
+			""")
+	public List<Long> findTicketIdsDeletedInProject(
+			@Param("projectId") long projectId,
+			@Param("afterChange") long afterChange,
+			@Param("untilChange") long untilChange,
+			@Param("afterTicketId") long afterTicketId,
+			Limit limit);
+}
@@ -3,33 +3,81 @@ package com.example.projecttrackingserver.repositories;
 import java.util.List;
 import java.util.Optional;
 
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.projecttrackingserver.dto.UserResponseDto;
 import com.example.projecttrackingserver.entities.UserEntity;
 
 /**
  * Repository interface for performing CRUD operations on UserEntity.
  */
 @Repository
-public interface UserRepository extends CrudRepository<UserEntity, Long>{
+public interface UserRepository extends JpaRepository<UserEntity, Long>{
+
+    /**
+     * Selects users as UserResponseDto, so listings read only the mapped columns instead of loading entities.
+     */
+	String SELECT_USER_RESPONSE_DTO = """
+			SELECT new com.example.projecttrackingserver.dto.UserResponseDto(u.id, u.username, u.company.name, u.role.role, u.apiKey)
+			FROM UserEntity u
+			""";
 
     /**
      * Finds all users belonging to a specific company.
+     * The foreign key column is filtered directly instead of joining the companies, so the company index can be used.
      *
      * @param companyId the ID of the company
      * @return a list of UserEntity objects belonging to the specified company
      */
-	public List<UserEntity> findAllByCompanyId(long companyId);
+	@Query("SELECT u FROM UserEntity u WHERE u.company.id = :companyId")
+	public List<UserEntity> findAllByCompanyId(@Param("companyId") long companyId);
+	
+    /**
+     * Retrieves the users of a company with an ID greater than afterId, ordered by ID.
+     *
+     * @param companyId the ID of the company
+     * @param afterId the ID after which users are retrieved
+     * @param limit the maximum number of users to retrieve
+     * @return a list of UserResponseDto of the company
+     */
+	@Query(SELECT_USER_RESPONSE_DTO + """
+			WHERE u.company.id = :companyId
+			AND u.id > :afterId
+			ORDER BY u.id
+			""")
+	public List<UserResponseDto> findAllDtosByCompanyIdAfterId(@Param("companyId") long companyId, @Param("afterId") long afterId, Limit limit);
+	
+    /**
+     * Retrieves the users of a company with a username greater than afterName, ordered by username.
+     * Usernames are unique, so the username alone is a position in the order.
+     *
+     * @param companyId the ID of the company
+     * @param afterName the username after which users are retrieved
+     * @param limit the maximum number of users to retrieve
+     * @return a list of UserResponseDto of the company
+     */
+	@Query(SELECT_USER_RESPONSE_DTO + """
+			WHERE u.company.id = :companyId
+			AND u.username > :afterName
+			ORDER BY u.username
+			""")
+	public List<UserResponseDto> findAllDtosByCompanyIdAfterName(@Param("companyId") long companyId, @Param("afterName") String afterName, Limit limit);
 	
     /**
      * Finds a user by their ID and belonging to a specific company.
+     * The user is looked up by their ID and then checked against the company, so they can be served from the second-level cache.
      *
      * @param id the ID of the user
      * @param companyId the ID of the company
      * @return an Optional containing the UserEntity if found, otherwise empty
      */
-	public Optional<UserEntity> findByIdAndCompanyId(long id, long companyId);
+	public default Optional<UserEntity> findByIdAndCompanyId(long id, long companyId) {
+		return findById(id).filter(user -> user.getCompany().getId() == companyId);
+	}
 	
     /**
      * Finds a user by their username.
@@ -39,6 +87,14 @@ public interface UserRepository extends CrudRepository<UserEntity, Long>{
      */
 	public Optional<UserEntity> findByUsername(String username);
 	
+    /**
+     * Checks if a user with the username exists without loading it.
+     *
+     * @param username the username of the user
+     * @return true if the user exists, otherwise false
+     */
+	public boolean existsByUsername(String username);
+	
     /**
      * Finds a user by their API key.
      *
@@ -46,4 +102,14 @@ public interface UserRepository extends CrudRepository<UserEntity, Long>{
      * @return an Optional containing the UserEntity if found, otherwise empty
      */
 	public Optional<UserEntity> findByApiKey(String apiKey);
-}
\ No newline at end of file
+	
+    /**
+     * Retrieves the version of a user in a company without loading the user.
+     *
+     * @param id the ID of the user
+     * @param companyId the ID of the company
+     * @return an Optional containing the version if the user exists in the company, otherwise empty
+     */
+	@Query("SELECT u.version FROM UserEntity u WHERE u.id = :id AND u.company.id = :companyId")
+	public Optional<Long> findVersionByIdAndCompanyId(@Param("id") long id, @Param("companyId") long companyId);
+}
@@ -0,0 +1,372 @@
+package com.example.projecttrackingserver.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.projecttrackingserver.repositories.TicketRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process inverted index of the tickets, used for databases without full-text search such as H2.
+ * Every search is limited to one company, so the index is split by company. In a company every word maps to the sorted IDs
+ * of the tickets containing it, their project and the weight of the word in each ticket, so a search intersects the lists
+ * of its words, starting with the shortest one, and keeps only the best hits of the page without looking up any ticket.
+ * The index is built from the database on startup and updated after the transactions changing tickets committed.
+ * Changes made by other instances or directly in the database are not seen until the next start.
+ */
+@Slf4j
+public class InMemoryTicketSearchIndex implements TicketSearchIndex, SmartLifecycle {
+
+	static final float NAME_WEIGHT = 1.0f;
+	static final float DESCRIPTION_WEIGHT = 0.4f;
+
+	private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private final TicketRepository ticketRepository;
+	private final TransactionTemplate transactionTemplate;
+	private final Map<Long, Map<String, Postings>> postingsByCompany = new HashMap<>();
+	private final Map<Long, IndexedTicket> ticketsById = new HashMap<>();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private volatile boolean running;
+
+    /**
+     * Constructs a new InMemoryTicketSearchIndex.
+     *
+     * @param ticketRepository the repository the tickets are read from on startup
+     * @param transactionManager the transaction manager the tickets are read with
+     */
+	public InMemoryTicketSearchIndex(TicketRepository ticketRepository, PlatformTransactionManager transactionManager) {
+		this.ticketRepository = ticketRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+	}
+
+    /**
+     * {@inheritDoc}
+     */
+	@Override
+	public List<TicketSearchHit> search(long companyId, Long projectId, String query, TicketSearchHit after, int limit) {
+		// ranks are summed in the order of the words, so the same ticket gets the same rank on every page
+		List<String> words = new ArrayList<>(new TreeSet<>(words(query)));
+		if(words.isEmpty()) {
+			return List.of();
+		}
+
+		lock.readLock().lock();
+		try {
+			// company has no tickets -> no hits
+			Map<String, Postings> postingsByWord = postingsByCompany.get(companyId);
+			if(postingsByWord == null) {
+				return List.of();
+			}
+
+			// word occurs in no ticket -> no hits
+			Postings[] postings = new Postings[words.size()];
+			for(int i = 0; i < postings.length; i++) {
+				postings[i] = postingsByWord.get(words.get(i));
+				if(postings[i] == null) {
+					return List.of();
+				}
+			}
+			Postings shortest = Arrays.stream(postings).min(Comparator.comparingInt(Postings::size)).get();
+
+			// worst hit at the head, so it is dropped first when the page is full
+			PriorityQueue<TicketSearchHit> bestHits = new PriorityQueue<>(limit + 1, TicketSearchHit.ORDER.reversed());
+			candidates:
+			for(int i = 0; i < shortest.size(); i++) {
+				if(projectId != null && shortest.projectIds[i] != projectId) {
+					continue;
+				}
+				long ticketId = shortest.ticketIds[i];
+
+				float rank = 0;
+				for(Postings wordPostings : postings) {
+					int index = wordPostings.indexOf(ticketId);
+					if(index < 0) {
+						continue candidates;
+					}
+					rank += wordPostings.weights[index];
+				}
+
+				TicketSearchHit hit = new TicketSearchHit(ticketId, rank);
+				if(hit.follows(after)) {
+					bestHits.add(hit);
+					if(bestHits.size() > limit) {
+						bestHits.poll();
+					}
+				}
+			}
+
+			List<TicketSearchHit> hits = new ArrayList<>(bestHits);
+			hits.sort(TicketSearchHit.ORDER);
+			return hits;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+    /**
+     * {@inheritDoc}
+     * Inside a transaction the ticket is indexed once the transaction committed.
+     */
+	@Override
+	public void index(TicketSearchDocument document) {
+		afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				removeTicket(document.ticketId());
+				addTicket(document);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+    /**
+     * {@inheritDoc}
+     * Inside a transaction the ticket is removed once the transaction committed.
+     */
+	@Override
+	public void remove(long ticketId) {
+		afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				removeTicket(ticketId);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+    /**
+     * {@inheritDoc}
+     * Inside a transaction the tickets are removed once the transaction committed.
+     */
+	@Override
+	public void removeProject(long projectId) {
+		afterCommit(() -> {
+			lock.writeLock().lock();
+			try {
+				ticketsById.entrySet().stream()
+						   .filter(entry -> entry.getValue().projectId() == projectId)
+						   .map(Map.Entry::getKey)
+						   .toList()
+						   .forEach(this::removeTicket);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		});
+	}
+
+    /**
+     * @return the number of indexed tickets
+     */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return ticketsById.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+    /**
+     * Builds the index from all tickets in the database.
+     * The index is locked while the tickets are read, so tickets changed in the meantime are updated afterwards.
+     */
+	public void rebuild() {
+		int indexedTickets;
+		lock.writeLock().lock();
+		try {
+			postingsByCompany.clear();
+			ticketsById.clear();
+			transactionTemplate.executeWithoutResult(status -> {
+				try(Stream<TicketSearchDocument> documents = ticketRepository.streamAllSearchDocuments()) {
+					documents.forEach(this::addTicket);
+				}
+			});
+			indexedTickets = ticketsById.size();
+		} finally {
+			lock.writeLock().unlock();
+		}
+		log.info("Indexed {} tickets for search", indexedTickets);
+	}
+
+    /**
+     * Builds the index before the web server accepts requests.
+     */
+	@Override
+	public void start() {
+		rebuild();
+		running = true;
+	}
+
+    /**
+     * Nothing to stop, the index is only held in memory.
+     */
+	@Override
+	public void stop() {
+		running = false;
+	}
+
+    /**
+     * @return true if the index was built, otherwise false
+     */
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+    /**
+     * Starts before the web server, so no search finds an empty index.
+     */
+	@Override
+	public int getPhase() {
+		return SmartLifecycle.DEFAULT_PHASE - 4096;
+	}
+
+    /**
+     * Splits a text into lower case words of letters and digits.
+     *
+     * @param text the text to split, may be null
+     * @return the words of the text in their order, including duplicates
+     */
+	static List<String> words(String text) {
+		if(text == null) {
+			return List.of();
+		}
+		return WORD_SEPARATOR.splitAsStream(text.toLowerCase())
+							 .filter(word -> !word.isEmpty())
+							 .toList();
+	}
+
+	private void addTicket(TicketSearchDocument document) {
+		Map<String, Float> weights = new LinkedHashMap<>();
+		words(document.name()).forEach(word -> weights.merge(word, NAME_WEIGHT, Float::sum));
+		words(document.description()).forEach(word -> weights.merge(word, DESCRIPTION_WEIGHT, Float::sum));
+
+		Map<String, Postings> postingsByWord = postingsByCompany.computeIfAbsent(document.companyId(), companyId -> new HashMap<>());
+		Postings[] postings = new Postings[weights.size()];
+		int i = 0;
+		for(Map.Entry<String, Float> weight : weights.entrySet()) {
+			postings[i] = postingsByWord.computeIfAbsent(weight.getKey(), Postings::new);
+			postings[i].put(document.ticketId(), document.projectId(), weight.getValue());
+			i++;
+		}
+		ticketsById.put(document.ticketId(), new IndexedTicket(document.companyId(), document.projectId(), postings));
+	}
+
+	private void removeTicket(long ticketId) {
+		IndexedTicket ticket = ticketsById.remove(ticketId);
+		if(ticket == null) {
+			return;
+		}
+
+		Map<String, Postings> postingsByWord = postingsByCompany.get(ticket.companyId());
+		for(Postings postings : ticket.postings()) {
+			postings.remove(ticketId);
+			if(postings.size() == 0) {
+				postingsByWord.remove(postings.word);
+			}
+		}
+		if(postingsByWord.isEmpty()) {
+			postingsByCompany.remove(ticket.companyId());
+		}
+	}
+
+	private static void afterCommit(Runnable change) {
+		// transaction active -> apply after commit, rolled back changes are not indexed
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					change.run();
+				}
+			});
+			return;
+		}
+
+		change.run();
+	}
+
+	private record IndexedTicket(long companyId, long projectId, Postings[] postings) {
+	}
+
+    /**
+     * The IDs of the tickets containing a word, sorted ascending, their projects and the weight of the word in each of them.
+     * Tickets are mostly created with increasing IDs, so adding a ticket usually appends to the arrays.
+     */
+	private static final class Postings {
+
+		private final String word;
+		private long[] ticketIds = new long[2];
+		private long[] projectIds = new long[2];
+		private float[] weights = new float[2];
+		private int size;
+
+		private Postings(String word) {
+			this.word = word;
+		}
+
+		private int size() {
+			return size;
+		}
+
+		private int indexOf(long ticketId) {
+			return Arrays.binarySearch(ticketIds, 0, size, ticketId);
+		}
+
+		private void put(long ticketId, long projectId, float weight) {
+			int index = size == 0 || ticketIds[size - 1] < ticketId ? -(size + 1) : indexOf(ticketId);
+			if(index >= 0) {
+				projectIds[index] = projectId;
+				weights[index] = weight;
+				return;
+			}
+
+			index = -(index + 1);
+			if(size == ticketIds.length) {
+				ticketIds = Arrays.copyOf(ticketIds, size * 2);
+				projectIds = Arrays.copyOf(projectIds, size * 2);
+				weights = Arrays.copyOf(weights, size * 2);
+			}
+			System.arraycopy(ticketIds, index, ticketIds, index + 1, size - index);
+			System.arraycopy(projectIds, index, projectIds, index + 1, size - index);
+			System.arraycopy(weights, index, weights, index + 1, size - index);
+			ticketIds[index] = ticketId;
+			projectIds[index] = projectId;
+			weights[index] = weight;
+			size++;
+		}
+
+		private void remove(long ticketId) {
+			int index = indexOf(ticketId);
+			if(index < 0) {
+				return;
+			}
+
+			System.arraycopy(ticketIds, index + 1, ticketIds, index, size - index - 1);
+			System.arraycopy(projectIds, index + 1, projectIds, index, size - index - 1);
+			System.arraycopy(weights, index + 1, weights, index, size - index - 1);
+			size--;
+		}
+	}
+}
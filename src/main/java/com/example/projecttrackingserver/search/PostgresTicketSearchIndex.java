@@ -0,0 +1,62 @@
+package com.example.projecttrackingserver.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Ticket search on the tsvector column tickets.search_vector, which PostgreSQL generates from name (weight A)
+ * and description (weight B) and indexes with the GIN index tickets_search_vector_idx.
+ * Hits are ranked with ts_rank. The same expression is used for the keyset condition, so a page continues exactly
+ * after the rank and ID of the last hit.
+ */
+public class PostgresTicketSearchIndex implements TicketSearchIndex {
+
+	private static final String SEARCH_QUERY = """
+			SELECT t.id, ts_rank(t.search_vector, q.query) AS rank
+			FROM tickets t
+			JOIN projects p ON p.id = t.project_id
+			CROSS JOIN plainto_tsquery('simple', ?) AS q(query)
+			WHERE t.search_vector @@ q.query
+			AND p.company_id = ?
+			%s
+			AND (ts_rank(t.search_vector, q.query) < CAST(? AS REAL)
+				OR ts_rank(t.search_vector, q.query) = CAST(? AS REAL) AND t.id > ?)
+			ORDER BY rank DESC, t.id
+			LIMIT ?
+			""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructs a new PostgresTicketSearchIndex.
+     *
+     * @param dataSource the DataSource of the database containing the tickets
+     */
+	public PostgresTicketSearchIndex(DataSource dataSource) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+    /**
+     * {@inheritDoc}
+     */
+	@Override
+	public List<TicketSearchHit> search(long companyId, Long projectId, String query, TicketSearchHit after, int limit) {
+		List<Object> parameters = new ArrayList<>(List.of(query, companyId));
+
+		// project given -> search only its tickets
+		String projectCondition = "";
+		if(projectId != null) {
+			projectCondition = "AND t.project_id = ?";
+			parameters.add(projectId);
+		}
+		parameters.addAll(List.of(after.rank(), after.rank(), after.ticketId(), limit));
+
+		return jdbcTemplate.query(SEARCH_QUERY.formatted(projectCondition),
+								  (resultSet, rowNumber) -> new TicketSearchHit(resultSet.getLong("id"), resultSet.getFloat("rank")),
+								  parameters.toArray());
+	}
+}
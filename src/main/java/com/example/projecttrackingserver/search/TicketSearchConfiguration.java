@@ -0,0 +1,67 @@
+package com.example.projecttrackingserver.search;
+
+import java.sql.DatabaseMetaData;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.projecttrackingserver.repositories.TicketRepository;
+
+/**
+ * Configuration class for the ticket search.
+ * With search.index set to Auto (default) PostgreSQL databases are searched with their full-text index,
+ * all other databases, e.g. H2 in tests and local runs, with the in-process index.
+ */
+@Configuration
+public class TicketSearchConfiguration {
+
+    /**
+     * The implementations of the ticket search.
+     */
+	public enum Index {
+		Auto,
+		Postgres,
+		InMemory
+	}
+
+    /**
+     * Creates the ticket search index.
+     *
+     * @param index the implementation to use
+     * @param dataSource the DataSource of the database containing the tickets
+     * @param ticketRepository the repository the in-process index is built from
+     * @param transactionManager the transaction manager the in-process index is built with
+     * @return the TicketSearchIndex
+     */
+	@Bean
+	public TicketSearchIndex ticketSearchIndex(
+			@Value("${search.index:Auto}") Index index,
+			DataSource dataSource,
+			TicketRepository ticketRepository,
+			PlatformTransactionManager transactionManager
+	) {
+		// auto -> decided by the database
+		if(index == Index.Auto) {
+			index = isPostgres(dataSource) ? Index.Postgres : Index.InMemory;
+		}
+
+		if(index == Index.Postgres) {
+			return new PostgresTicketSearchIndex(dataSource);
+		}
+		return new InMemoryTicketSearchIndex(ticketRepository, transactionManager);
+	}
+
+	private static boolean isPostgres(DataSource dataSource) {
+		try {
+			return "PostgreSQL".equals(JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName));
+		} catch(MetaDataAccessException ex) {
+			throw new IllegalStateException("Database of the ticket search could not be determined", ex);
+		}
+	}
+}
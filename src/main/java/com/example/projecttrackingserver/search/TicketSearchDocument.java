@@ -0,0 +1,19 @@
+package com.example.projecttrackingserver.search;
+
+/**
+ * The searchable fields of a ticket and the scope it is searched in.
+ *
+ * @param ticketId the ID of the ticket
+ * @param projectId the ID of the project of the ticket
+ * @param companyId the ID of the company of the project
+ * @param name the name of the ticket
+ * @param description the description of the ticket, may be null
+ */
+public record TicketSearchDocument(
+		long ticketId,
+		long projectId,
+		long companyId,
+		String name,
+		String description
+) {
+}
@@ -0,0 +1,77 @@
+package com.example.projecttrackingserver.search;
+
+import java.util.Comparator;
+
+import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+
+/**
+ * A ticket matching a search and its rank, the position of the last hit of a page is the cursor of the next page.
+ * Hits are ordered by rank, highest first, and by ticket ID for equal ranks.
+ *
+ * @param ticketId the ID of the matching ticket
+ * @param rank the relevance of the ticket for the search
+ */
+public record TicketSearchHit(long ticketId, float rank) {
+
+    /**
+     * The order of the hits of a search.
+     */
+	public static final Comparator<TicketSearchHit> ORDER = Comparator.comparingDouble(TicketSearchHit::rank)
+																	  .reversed()
+																	  .thenComparingLong(TicketSearchHit::ticketId);
+
+    /**
+     * The position before the first hit.
+     */
+	public static final TicketSearchHit FIRST = new TicketSearchHit(0, Float.POSITIVE_INFINITY);
+
+    /**
+     * Parses a cursor returned with a previous page.
+     *
+     * @param cursor the cursor, null for the first page
+     * @return the TicketSearchHit to continue after
+     * @throws ValueNotAllowedException if the cursor is no rank and ticket ID
+     */
+	public static TicketSearchHit parse(String cursor) {
+		// no cursor -> first page
+		if(cursor == null) {
+			return FIRST;
+		}
+
+		// cursor is no rank and ticket ID -> deny
+		int separator = cursor.indexOf(':');
+		float rank;
+		long ticketId;
+		try {
+			rank = Float.parseFloat(cursor.substring(0, Math.max(separator, 0)));
+			ticketId = Long.parseLong(cursor.substring(separator + 1));
+		} catch(NumberFormatException ex) {
+			throw new ValueNotAllowedException("cursor", cursor);
+		}
+		if(Float.isNaN(rank)) {
+			throw new ValueNotAllowedException("cursor", cursor);
+		}
+
+		return new TicketSearchHit(ticketId, rank);
+	}
+
+    /**
+     * Encodes the position of the hit as cursor for the next page.
+     * A float is printed with as many digits as needed to parse the same value again, so no hit is skipped or repeated.
+     *
+     * @return the encoded cursor
+     */
+	public String encode() {
+		return rank + ":" + ticketId;
+	}
+
+    /**
+     * Checks if the hit comes after another hit in the order of a search.
+     *
+     * @param other the hit to compare with
+     * @return true if the hit comes after the other hit, otherwise false
+     */
+	public boolean follows(TicketSearchHit other) {
+		return ORDER.compare(this, other) > 0;
+	}
+}
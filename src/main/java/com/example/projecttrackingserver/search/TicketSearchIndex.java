@@ -0,0 +1,49 @@
+package com.example.projecttrackingserver.search;
+
+import java.util.List;
+
+/**
+ * Full-text index over the names and descriptions of tickets.
+ * All words of a query have to occur in a ticket, words in the name weigh more than words in the description.
+ */
+public interface TicketSearchIndex {
+
+    /**
+     * Searches the tickets of a company or one of its projects.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project, null to search all projects of the company
+     * @param query the words to search for
+     * @param after the hit after which hits are retrieved, {@link TicketSearchHit#FIRST} for the first page
+     * @param limit the maximum number of hits to retrieve
+     * @return a list of TicketSearchHit in the order of {@link TicketSearchHit#ORDER}
+     */
+	List<TicketSearchHit> search(long companyId, Long projectId, String query, TicketSearchHit after, int limit);
+
+    /**
+     * Adds a created ticket to the index or replaces an updated one.
+     * Indexes maintained by the database ignore it.
+     *
+     * @param document the searchable fields of the ticket
+     */
+	default void index(TicketSearchDocument document) {
+	}
+
+    /**
+     * Removes a deleted ticket from the index.
+     * Indexes maintained by the database ignore it.
+     *
+     * @param ticketId the ID of the ticket
+     */
+	default void remove(long ticketId) {
+	}
+
+    /**
+     * Removes all tickets of a deleted project from the index.
+     * Indexes maintained by the database ignore it.
+     *
+     * @param projectId the ID of the project
+     */
+	default void removeProject(long projectId) {
+	}
+}
@@ -4,7 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import com.example.projecttrackingserver.dto.CompanyResponseDto;
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.enums.ListSort;
 
 /**
  * Service interface related to companies.
@@ -12,11 +14,15 @@ import com.example.projecttrackingserver.entities.CompanyEntity;
 public interface CompanyService {
 
     /**
-     * Retrieves a list of CompanyResponseDto objects for all companies.
+     * Retrieves one page of CompanyResponseDto objects.
+     * Companies are ordered by ID or by name, the next cursor is passed as cursor for the following page.
      *
-     * @return a list of CompanyResponseDto objects
+     * @param sort the order of the companies
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param limit the maximum number of companies in the page
+     * @return a page of CompanyResponseDto objects with the next cursor, which is null on the last page
      */
-	List<CompanyResponseDto> getAllCompanyDtos();
+	PageResponseDto<CompanyResponseDto> getCompanyDtos(ListSort sort, String cursor, int limit);
 	
     /**
      * Retrieves a CompanyResponseDto object by its ID.
@@ -51,4 +57,12 @@ public interface CompanyService {
      * @return an Optional containing the CompanyEntity if found, otherwise empty
      */
 	Optional<CompanyEntity> getEntityById(long companyId);
+	
+    /**
+     * Retrieves the version of a company, which changes with every update of the company.
+     *
+     * @param companyId the ID of the company
+     * @return an Optional containing the version if the company exists, otherwise empty
+     */
+	Optional<Long> getVersion(long companyId);
 }
@@ -2,17 +2,20 @@ package com.example.projecttrackingserver.services;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.projecttrackingserver.dto.CompanyResponseDto;
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
 import com.example.projecttrackingserver.mappers.CompanyMapper;
 import com.example.projecttrackingserver.repositories.CompanyRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -20,6 +23,7 @@ import lombok.RequiredArgsConstructor;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 public class CompanyServiceImpl implements CompanyService {
 
 	private final CompanyRepository companyRepository;
@@ -28,15 +32,24 @@ public class CompanyServiceImpl implements CompanyService {
     /**
      * {@inheritDoc}
      */
-	public List<CompanyResponseDto> getAllCompanyDtos() {
-		return StreamSupport.stream(companyRepository.findAll().spliterator(), false)
-							.map(companyEntity -> companyMapper.toDto(companyEntity))
-					 		.collect(Collectors.toList());
+	@Transactional(readOnly = true)
+	public PageResponseDto<CompanyResponseDto> getCompanyDtos(ListSort sort, String cursor, int limit) {
+		PageCursor.requireLimit(limit);
+		PageCursor after = PageCursor.parse(cursor, sort);
+		
+		// one more company than requested tells if there is a next page
+		List<CompanyResponseDto> companies = switch(sort) {
+			case Id -> companyRepository.findAllDtosAfterId(after.id(), Limit.of(limit + 1));
+			case Name -> companyRepository.findAllDtosAfterName(after.name(), Limit.of(limit + 1));
+		};
+		
+		return PageCursor.page(companies, limit, sort, company -> new PageCursor(company.id(), company.name()));
 	}
 	
     /**
      * {@inheritDoc}
      */
+	@Transactional(readOnly = true)
 	public CompanyResponseDto getCompanyDtoById(long companyId) {
 		// company does not exist -> deny
 		Optional<CompanyEntity> companyEntity = companyRepository.findById(companyId);
@@ -64,14 +77,14 @@ public class CompanyServiceImpl implements CompanyService {
      * {@inheritDoc}
      */
 	public boolean entityExists(String companyName) {
-		return companyRepository.findByName(companyName).isPresent();
+		return companyRepository.existsByName(companyName);
 	}
 	
     /**
      * {@inheritDoc}
      */
 	public boolean entityExists(long companyId) {
-		return companyRepository.findById(companyId).isPresent();
+		return companyRepository.existsById(companyId);
 	}
 	
     /**
@@ -80,4 +93,12 @@ public class CompanyServiceImpl implements CompanyService {
 	public Optional<CompanyEntity> getEntityById(long companyId) {
 		return companyRepository.findById(companyId);
 	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public Optional<Long> getVersion(long companyId) {
+		return companyRepository.findVersionById(companyId);
+	}
 }
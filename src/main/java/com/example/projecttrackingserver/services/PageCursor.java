@@ -0,0 +1,100 @@
+package com.example.projecttrackingserver.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import com.example.projecttrackingserver.dto.PageResponseDto;
+import com.example.projecttrackingserver.enums.ListSort;
+import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+
+/**
+ * Position in a keyset paginated listing of users, projects or companies, the ID or name of the last listed entity.
+ * Sorted by ID the cursor is the plain ID, as for tickets. Sorted by name it is the name encoded as URL-safe Base64,
+ * the names of users, projects and companies are unique. The next page continues after the position, so no rows are skipped
+ * or counted with an offset.
+ *
+ * @param id the ID of the last listed entity
+ * @param name the name of the last listed entity
+ */
+record PageCursor(long id, String name) {
+
+	public static final int MAX_PAGE_SIZE = 1000;
+
+    /**
+     * The position before the first entity in both orders, as names are never null.
+     */
+	public static final PageCursor FIRST = new PageCursor(0, "");
+
+    /**
+     * Ensures that the requested page size is within 1 and MAX_PAGE_SIZE.
+     *
+     * @param limit the requested page size
+     * @throws ValueNotAllowedException if the page size is out of range
+     */
+	public static void requireLimit(int limit) {
+		if(limit < 1 || limit > MAX_PAGE_SIZE) {
+			throw new ValueNotAllowedException("limit", Integer.toString(limit));
+		}
+	}
+
+    /**
+     * Parses a cursor returned with a previous page.
+     *
+     * @param cursor the cursor, null for the first page
+     * @param sort the order of the listing
+     * @return the PageCursor to continue after
+     * @throws ValueNotAllowedException if the cursor was not created for this order
+     */
+	public static PageCursor parse(String cursor, ListSort sort) {
+		// no cursor -> first page
+		if(cursor == null) {
+			return FIRST;
+		}
+
+		// cursor is no ID or encoded name -> deny
+		try {
+			if(sort == ListSort.Id) {
+				return new PageCursor(Long.parseLong(cursor), FIRST.name());
+			}
+			return new PageCursor(FIRST.id(), new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+		} catch(IllegalArgumentException e) {
+			throw new ValueNotAllowedException("cursor", cursor);
+		}
+	}
+
+    /**
+     * Encodes the cursor to be passed for the next page.
+     *
+     * @param sort the order of the listing
+     * @return the encoded cursor
+     */
+	public String encode(ListSort sort) {
+		if(sort == ListSort.Id) {
+			return Long.toString(id);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(name.getBytes(StandardCharsets.UTF_8));
+	}
+
+    /**
+     * Creates a page from the rows retrieved with a limit of one more than the page size.
+     * The additional row only tells that there is a next page and is not returned.
+     *
+     * @param <T> the type of the listed responses
+     * @param rows the rows retrieved after the cursor
+     * @param limit the page size
+     * @param sort the order of the listing
+     * @param cursorOf the function creating the cursor of a row
+     * @return the PageResponseDto with the next cursor, which is null on the last page
+     */
+	public static <T> PageResponseDto<T> page(List<T> rows, int limit, ListSort sort, Function<T, PageCursor> cursorOf) {
+		// no additional row -> last page
+		if(rows.size() <= limit) {
+			return new PageResponseDto<T>(rows, null);
+		}
+
+		List<T> content = rows.subList(0, limit);
+		return new PageResponseDto<T>(content, cursorOf.apply(content.get(limit - 1)).encode(sort));
+	}
+}
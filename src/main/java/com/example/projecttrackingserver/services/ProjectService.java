@@ -3,10 +3,13 @@ package com.example.projecttrackingserver.services;
 import java.util.List;
 import java.util.Optional;
 
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.dto.ProjectRequestDto;
 import com.example.projecttrackingserver.dto.ProjectResponseDto;
 import com.example.projecttrackingserver.dto.UserResponseDto;
+import com.example.projecttrackingserver.dto.VersionedResponseDto;
 import com.example.projecttrackingserver.entities.ProjectEntity;
+import com.example.projecttrackingserver.enums.ListSort;
 
 /**
  * Service interface related to projects.
@@ -14,12 +17,16 @@ import com.example.projecttrackingserver.entities.ProjectEntity;
 public interface ProjectService {
 
     /**
-     * Retrieves a list of ProjectResponseDto objects for all projects in a company.
+     * Retrieves one page of ProjectResponseDto objects for the projects in a company.
+     * Projects are ordered by ID or by name, the next cursor is passed as cursor for the following page.
      *
      * @param companyId the ID of the company
-     * @return a list of ProjectResponseDto objects
+     * @param sort the order of the projects
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param limit the maximum number of projects in the page
+     * @return a page of ProjectResponseDto objects with the next cursor, which is null on the last page
      */
-	List<ProjectResponseDto> getAllProjectDtosInCompany(long companyId);
+	PageResponseDto<ProjectResponseDto> getProjectDtosInCompany(long companyId, ListSort sort, String cursor, int limit);
 	
     /**
      * Retrieves a ProjectResponseDto object for a specific project in a company.
@@ -58,13 +65,15 @@ public interface ProjectService {
 	
     /**
      * Updates an existing project in a company.
+     * With an expected version the project is only updated if it was not changed since the client retrieved it.
      *
      * @param projectRequestDto the updated project details
      * @param companyId the ID of the company
      * @param projectId the ID of the project
-     * @return the updated ProjectResponseDto object
+     * @param expectedVersion the version the project must have, null to update it regardless of its version
+     * @return the updated ProjectResponseDto object with the new version of the project
      */
-	ProjectResponseDto updateProject(ProjectRequestDto projectRequestDto, long companyId, long projectId);
+	VersionedResponseDto<ProjectResponseDto> updateProject(ProjectRequestDto projectRequestDto, long companyId, long projectId, Long expectedVersion);
 	
     /**
      * Adds or removes a user from a project.
@@ -92,6 +101,16 @@ public interface ProjectService {
      * @return true if the project exists in the company, false otherwise
      */
 	boolean entityExists(long projectId, long companyId);
+
+    /**
+     * Checks if a user is a member of a project.
+     * The members are cached per project, so the check may not reflect changes made by other instances until the entry expires.
+     *
+     * @param projectId the ID of the project
+     * @param userId the ID of the user
+     * @return true if the user is a member of the project, false otherwise
+     */
+	boolean isMember(long projectId, long userId);
 	
     /**
      * Retrieves a project entity by its ID and company ID.
@@ -101,4 +120,32 @@ public interface ProjectService {
      * @return an Optional containing the ProjectEntity if found, otherwise empty
      */
 	Optional<ProjectEntity> getEntityByIdAndCompanyId(long projectId, long companyId);
+	
+    /**
+     * Retrieves the version of a project in a company, which changes with every update of the project.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @return an Optional containing the version if the project exists in the company, otherwise empty
+     */
+	Optional<Long> getVersion(long companyId, long projectId);
+	
+    /**
+     * Retrieves the number of changes to the tickets of a project in a company.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @return an Optional containing the ticket change count if the project exists in the company, otherwise empty
+     */
+	Optional<Long> getTicketChangeCount(long companyId, long projectId);
+	
+    /**
+     * Records that tickets of a project are created, updated or deleted and returns the number of this change.
+     * This has to be called in the transaction saving the tickets, which then holds the lock on the project
+     * until it commits, so the numbers of a project's changes become visible in ascending order.
+     *
+     * @param projectId the ID of the project whose tickets change
+     * @return the change number to store with the changed tickets
+     */
+	long nextTicketChange(long projectId);
 }
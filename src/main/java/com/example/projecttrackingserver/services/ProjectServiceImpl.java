@@ -5,24 +5,39 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.projecttrackingserver.audit.AuditLog;
+import com.example.projecttrackingserver.auth.AuthenticatedUser;
+import com.example.projecttrackingserver.cache.ProjectMembershipCache;
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.dto.ProjectRequestDto;
 import com.example.projecttrackingserver.dto.ProjectResponseDto;
 import com.example.projecttrackingserver.dto.UserResponseDto;
+import com.example.projecttrackingserver.dto.VersionedResponseDto;
 import com.example.projecttrackingserver.entities.CompanyEntity;
 import com.example.projecttrackingserver.entities.ProjectEntity;
 import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.AuditAction;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.enums.Role;
 import com.example.projecttrackingserver.exceptions.EntityAlreadyExistsException;
 import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
 import com.example.projecttrackingserver.exceptions.UnauthorizedException;
 import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+import com.example.projecttrackingserver.exceptions.VersionMismatchException;
 import com.example.projecttrackingserver.mappers.ProjectMapper;
 import com.example.projecttrackingserver.mappers.UserMapper;
 import com.example.projecttrackingserver.repositories.ProjectRepository;
+import com.example.projecttrackingserver.search.TicketSearchIndex;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -30,41 +45,50 @@ import lombok.RequiredArgsConstructor;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 public class ProjectServiceImpl implements ProjectService {
 
 	private final ProjectRepository projectRepository;
 	private final CompanyService companyService;
+	private final ScopeResolver scopeResolver;
 	private final ProjectMapper projectMapper;
 	private final UserMapper userMapper;
 	private final UserService userService;
+	private final ProjectMembershipCache projectMembershipCache;
+	private final AuditLog auditLog;
+	private final TicketSearchIndex ticketSearchIndex;
 
     /**
      * {@inheritDoc}
      */
-    public List<ProjectResponseDto> getAllProjectDtosInCompany(long companyId) {
-    	// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
+    @Transactional(readOnly = true)
+    public PageResponseDto<ProjectResponseDto> getProjectDtosInCompany(long companyId, ListSort sort, String cursor, int limit) {
+		PageCursor.requireLimit(limit);
+		PageCursor after = PageCursor.parse(cursor, sort);
+		
+		// one more project than requested tells if there is a next page
+		List<ProjectResponseDto> projects = switch(sort) {
+			case Id -> projectRepository.findAllDtosByCompanyIdAfterId(companyId, after.id(), Limit.of(limit + 1));
+			case Name -> projectRepository.findAllDtosByCompanyIdAfterName(companyId, after.name(), Limit.of(limit + 1));
+		};
+		
+		// no projects -> company might not exist
+		if(projects.isEmpty()) {
+			scopeResolver.requireCompany(companyId);
 		}
 		
-		return StreamSupport.stream(projectRepository.findAllByCompanyId(companyId).spliterator(), false)
-							.map(project -> projectMapper.toDto(project))
-							.collect(Collectors.toList());
+		return PageCursor.page(projects, limit, sort, project -> new PageCursor(project.id(), project.projectName()));
     }
     
     /**
      * {@inheritDoc}
      */
+    @Transactional(readOnly = true)
     public ProjectResponseDto getProjectDtoInCompany(long companyId, long projectId) {
-    	// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
-		}
-		
-		// project does not exist -> deny
+		// company or project does not exist -> deny
 		Optional<ProjectEntity> projectOptional = getEntityByIdAndCompanyId(projectId, companyId);
 		if(projectOptional.isEmpty()) {
-			throw new EntityNotFoundException("projectId", projectId);
+			throw scopeResolver.projectNotFound(companyId, projectId);
 		}
 		
 		return projectMapper.toDto(projectOptional.get());
@@ -73,16 +97,12 @@ public class ProjectServiceImpl implements ProjectService {
     /**
      * {@inheritDoc}
      */
+    @Transactional(readOnly = true)
     public List<UserResponseDto> getAllUserDtosInProject(long companyId, long projectId){
-    	// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
-		}
-		
-		// project does not exist -> deny
+		// company or project does not exist -> deny
 		Optional<ProjectEntity> projectOptional = getEntityByIdAndCompanyId(projectId, companyId);
 		if(projectOptional.isEmpty()) {
-			throw new EntityNotFoundException("projectId", projectId);
+			throw scopeResolver.projectNotFound(companyId, projectId);
 		}
 
 		return StreamSupport.stream(projectOptional.get().getMembers().spliterator(), false)
@@ -93,10 +113,11 @@ public class ProjectServiceImpl implements ProjectService {
     /**
      * {@inheritDoc}
      */
+	@Transactional
 	public ProjectResponseDto createProject(ProjectRequestDto projectRequestDto, long companyId) {
 		// requesting user is not admin of same company -> deny
-		UserEntity requestingUser = (UserEntity)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-		if(!(requestingUser.getRole().getRole() == Role.Admin && requestingUser.getCompany().getId() == companyId)) {
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(!(requestingUser.role() == Role.Admin && requestingUser.companyId() == companyId)) {
 			throw new UnauthorizedException();
 		}
 		
@@ -119,14 +140,18 @@ public class ProjectServiceImpl implements ProjectService {
 			throw new UnauthorizedException(projectRequestDto.projectManagerId());
 		}
 		
-		// project with same name already exists -> deny
-		if(entityExists(projectRequestDto.projectName())) {
-			throw new EntityAlreadyExistsException("projectName", projectRequestDto.projectName());
-		}
-
 		ProjectEntity projectEntity = projectMapper.toEntity(projectRequestDto, companyEntity, projectManagerEntity);
 		
-		projectEntity = projectRepository.save(projectEntity);
+		try {
+			projectEntity = projectRepository.saveAndFlush(projectEntity);
+		} catch(DataIntegrityViolationException ex) {
+			// project with same name already exists -> deny
+			if(UniqueConstraints.isViolated(ex, ProjectEntity.NAME_UNIQUE_CONSTRAINT)) {
+				throw new EntityAlreadyExistsException("projectName", projectRequestDto.projectName());
+			}
+			throw ex;
+		}
+		auditLog.record(AuditAction.ProjectCreated, companyId, projectEntity.getId(), projectEntity.getId(), null);
 		
 		return projectMapper.toDto(projectEntity);
 	}
@@ -134,61 +159,55 @@ public class ProjectServiceImpl implements ProjectService {
     /**
      * {@inheritDoc}
      */
+	@Transactional
 	public void deleteProject(long companyId, long projectId) {
-		// company does not exists -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
-		}
-		
-		// project does not exist -> deny
+		// company or project does not exist -> deny
 		Optional<ProjectEntity> projectOptional = getEntityByIdAndCompanyId(projectId, companyId);
 		if(projectOptional.isEmpty()) {
-			throw new EntityNotFoundException("projectId", projectId);
+			throw scopeResolver.projectNotFound(companyId, projectId);
 		}
 		ProjectEntity projectEntity = projectOptional.get();
 		
 		// requesting user is not admin of same company -> deny
-		UserEntity requestingUser = (UserEntity)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-		if(!(requestingUser.getRole().getRole() == Role.Admin && requestingUser.getCompany().getId() == projectEntity.getCompany().getId())) {
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(!(requestingUser.role() == Role.Admin && requestingUser.companyId() == projectEntity.getCompany().getId())) {
 			throw new UnauthorizedException();
 		}
 		
 		projectRepository.delete(projectEntity);
+		projectMembershipCache.invalidate(projectId);
+		auditLog.record(AuditAction.ProjectDeleted, companyId, projectId, projectId, null);
+		ticketSearchIndex.removeProject(projectId);
 	}
 	
     /**
      * {@inheritDoc}
      */
-	public ProjectResponseDto updateProject(ProjectRequestDto projectRequestDto, long companyId, long projectId) {
-		// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
-		}
-		
-		// project to update does not exist -> deny
+	@Transactional
+	public VersionedResponseDto<ProjectResponseDto> updateProject(ProjectRequestDto projectRequestDto, long companyId, long projectId, Long expectedVersion) {
+		// company or project to update does not exist -> deny
 		Optional<ProjectEntity> projectToUpdateOptional = getEntityByIdAndCompanyId(projectId, companyId);
 		if(projectToUpdateOptional.isEmpty()) {
-			throw new EntityNotFoundException("projectId", projectId);
+			throw scopeResolver.projectNotFound(companyId, projectId);
 		}
 		ProjectEntity projectToUpdateEntity = projectToUpdateOptional.get();
 		
 		// requesting user is not admin of same company -> deny
-		UserEntity requestingUser = (UserEntity)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-		if(!(requestingUser.getRole().getRole() == Role.Admin && requestingUser.getCompany().getId() == companyId)) {
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(!(requestingUser.role() == Role.Admin && requestingUser.companyId() == companyId)) {
 			throw new UnauthorizedException();
 		}
 		
+		// project changed since the client retrieved it -> deny
+		if(expectedVersion != null && projectToUpdateEntity.getVersion() != expectedVersion) {
+			throw new VersionMismatchException("projectId", projectId, expectedVersion);
+		}
+		
 		// updated projectname is blank -> deny
 		if(projectRequestDto.projectName().isBlank()) {
 			throw new ValueNotAllowedException("projectName", projectRequestDto.projectName());
 		}
 		
-		// other project with updated projectname already exists -> deny
-		Optional<ProjectEntity> projectWithSameName = projectRepository.findByName(projectRequestDto.projectName());
-		if(projectWithSameName.isPresent() && projectWithSameName.get().getId() != projectToUpdateEntity.getId()) {
-			throw new EntityAlreadyExistsException("projectName", projectRequestDto.projectName());
-		}
-		
 		// no project manager -> skip
 		UserEntity projectManagerEntity = null;
 		if(projectRequestDto.projectManagerId() != null) {
@@ -202,14 +221,31 @@ public class ProjectServiceImpl implements ProjectService {
 
 		projectToUpdateEntity = projectMapper.updateEntity(projectToUpdateEntity, projectRequestDto, projectManagerEntity);
 		
-		projectToUpdateEntity = projectRepository.save(projectToUpdateEntity);
+		// flushed, so the version is incremented and a concurrent update or a taken name is detected before the response
+		try {
+			projectToUpdateEntity = projectRepository.saveAndFlush(projectToUpdateEntity);
+		} catch(DataIntegrityViolationException ex) {
+			// other project with updated projectname already exists -> deny
+			if(UniqueConstraints.isViolated(ex, ProjectEntity.NAME_UNIQUE_CONSTRAINT)) {
+				throw new EntityAlreadyExistsException("projectName", projectRequestDto.projectName());
+			}
+			throw ex;
+		} catch(OptimisticLockingFailureException ex) {
+			// project changed after the version was checked -> deny like a mismatching version
+			if(expectedVersion != null) {
+				throw new VersionMismatchException("projectId", projectId, expectedVersion);
+			}
+			throw ex;
+		}
+		auditLog.record(AuditAction.ProjectUpdated, companyId, projectId, projectId, null);
 
-		return projectMapper.toDto(projectToUpdateEntity);
+		return new VersionedResponseDto<ProjectResponseDto>(projectMapper.toDto(projectToUpdateEntity), projectToUpdateEntity.getVersion());
 	}
 	
     /**
      * {@inheritDoc}
      */
+	@Transactional
 	public void alterProjectMembersInProject(long companyId, long projectId, long userId, boolean addingUser) {
 		// project does not exist -> deny
 		Optional<ProjectEntity> projectOptional = getEntityByIdAndCompanyId(projectId, companyId);
@@ -219,8 +255,8 @@ public class ProjectServiceImpl implements ProjectService {
 		ProjectEntity projectEntity = projectOptional.get();
 		
 		// requesting user is not project manager of project -> deny
-		UserEntity requestingUser = (UserEntity)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-		if(!(requestingUser.getId() == projectEntity.getProjectManager().getId() && requestingUser.getRole().getRole() == Role.ProjectManager)) {
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(!(requestingUser.id() == projectEntity.getProjectManager().getId() && requestingUser.role() == Role.ProjectManager)) {
 			throw new UnauthorizedException();
 		}
 		
@@ -229,45 +265,56 @@ public class ProjectServiceImpl implements ProjectService {
 		if(userOptional.isEmpty()) {
 			throw new EntityNotFoundException("userId", userId);
 		}
-		UserEntity userEntity = userOptional.get();
 		
 		// requesting user is not in same company as the user to add -> deny
-		if(requestingUser.getCompany().getId() != userOptional.get().getCompany().getId()) {
+		if(requestingUser.companyId() != userOptional.get().getCompany().getId()) {
 			throw new EntityNotFoundException("userId", userId);
 		}
 
+		// the row of the join table is written directly, so the members of the project are never loaded
 		if(addingUser) {
-			// if user is already in project -> deny
-			if(projectEntity.getMembers().contains(userEntity)) {
-				throw new EntityAlreadyExistsException("userId", Long.toString(userId));
+			try {
+				projectRepository.insertMember(projectId, userId);
+			} catch(DataIntegrityViolationException ex) {
+				// if user is already in project -> deny
+				if(UniqueConstraints.isViolated(ex, ProjectEntity.MEMBER_UNIQUE_CONSTRAINT)) {
+					throw new EntityAlreadyExistsException("userId", Long.toString(userId));
+				}
+				throw ex;
 			}
-			
-			projectEntity.addUserToProject(userEntity);
 		}
 		else {
 			// if user is not in project -> deny
-			if(!projectEntity.getMembers().contains(userEntity)) {
+			if(projectRepository.deleteMember(projectId, userId) == 0) {
 				throw new EntityNotFoundException("userId", userId);
 			}
-
-			projectEntity.removeUserFromProject(userEntity);
 		}
 		
-		projectRepository.save(projectEntity);
+		projectMembershipCache.invalidate(projectId);
+		auditLog.record(addingUser ? AuditAction.MemberAdded : AuditAction.MemberRemoved, companyId, projectId, userId, null);
 	}
 	
     /**
      * {@inheritDoc}
      */
 	public boolean entityExists(String projectName) {
-		return projectRepository.findByName(projectName).isPresent();
+		return projectRepository.existsByName(projectName);
 	}
 	
     /**
      * {@inheritDoc}
      */
 	public boolean entityExists(long projectId, long companyId) {
-		return projectRepository.findByIdAndCompanyId(projectId, companyId).isPresent();
+		return projectRepository.existsByIdAndCompanyId(projectId, companyId);
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	public boolean isMember(long projectId, long userId) {
+		return projectMembershipCache.isMember(projectId, userId, id -> projectRepository.findMemberIdsByProjectId(id).stream()
+																						  .mapToLong(Long::longValue)
+																						  .toArray());
 	}
 	
     /**
@@ -276,4 +323,29 @@ public class ProjectServiceImpl implements ProjectService {
 	public Optional<ProjectEntity> getEntityByIdAndCompanyId(long projectId, long companyId) {
 		return projectRepository.findByIdAndCompanyId(projectId, companyId);
 	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public Optional<Long> getVersion(long companyId, long projectId) {
+		return projectRepository.findVersionByIdAndCompanyId(projectId, companyId);
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public Optional<Long> getTicketChangeCount(long companyId, long projectId) {
+		return projectRepository.findTicketChangeCountByIdAndCompanyId(projectId, companyId);
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public long nextTicketChange(long projectId) {
+		projectRepository.incrementTicketChangeCount(projectId);
+		return projectRepository.findTicketChangeCountById(projectId);
+	}
 }
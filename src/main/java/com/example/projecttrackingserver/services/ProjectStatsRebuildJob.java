@@ -0,0 +1,112 @@
+package com.example.projecttrackingserver.services;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import com.example.projecttrackingserver.repositories.ProjectRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Periodically recounts the tickets of all projects, so ticket counters which drifted, e.g. because tickets were changed
+ * directly in the database, are corrected. Each project is recounted in its own transaction, so it is locked only briefly.
+ * The interval is set with stats.rebuild-interval, 0 disables the job.
+ */
+@Slf4j
+@Component
+public class ProjectStatsRebuildJob implements SmartLifecycle {
+
+	private final ProjectStatsService projectStatsService;
+	private final ProjectRepository projectRepository;
+	private final Duration rebuildInterval;
+	private ScheduledExecutorService executor;
+
+    /**
+     * Constructs a new ProjectStatsRebuildJob.
+     *
+     * @param projectStatsService the service recounting the tickets of a project
+     * @param projectRepository the repository the projects are read from
+     * @param rebuildInterval the time between two rebuilds, 0 to disable them
+     */
+	public ProjectStatsRebuildJob(
+			ProjectStatsService projectStatsService,
+			ProjectRepository projectRepository,
+			@Value("${stats.rebuild-interval:PT24H}") Duration rebuildInterval
+	) {
+		this.projectStatsService = projectStatsService;
+		this.projectRepository = projectRepository;
+		this.rebuildInterval = rebuildInterval;
+	}
+
+    /**
+     * Recounts the tickets of all projects.
+     * A project which fails to be recounted keeps its counters until the next rebuild.
+     *
+     * @return the number of recounted projects
+     */
+	public int rebuild() {
+		long start = System.nanoTime();
+		int rebuiltProjects = 0;
+		for(long projectId : projectRepository.findAllIds()) {
+			try {
+				if(projectStatsService.rebuildTicketCounters(projectId)) {
+					rebuiltProjects++;
+				}
+			} catch(RuntimeException ex) {
+				log.warn("Ticket counters of project {} could not be rebuilt", projectId, ex);
+			}
+		}
+
+		log.info("Rebuilt ticket counters of {} projects in {} ms", rebuiltProjects, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		return rebuiltProjects;
+	}
+
+    /**
+     * Starts the periodic rebuilds, the first one after one interval.
+     */
+	@Override
+	public void start() {
+		if(executor != null || rebuildInterval.isZero()) {
+			return;
+		}
+
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "project-stats-rebuild");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(() -> {
+			// failed rebuild -> retried after the next interval instead of cancelling the schedule
+			try {
+				rebuild();
+			} catch(RuntimeException ex) {
+				log.warn("Ticket counters could not be rebuilt", ex);
+			}
+		}, rebuildInterval.toMillis(), rebuildInterval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+    /**
+     * Stops the periodic rebuilds.
+     */
+	@Override
+	public void stop() {
+		if(executor != null) {
+			executor.shutdownNow();
+			executor = null;
+		}
+	}
+
+    /**
+     * @return true if the rebuilds are scheduled, otherwise false
+     */
+	@Override
+	public boolean isRunning() {
+		return executor != null;
+	}
+}
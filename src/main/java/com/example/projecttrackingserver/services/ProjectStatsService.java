@@ -0,0 +1,39 @@
+package com.example.projecttrackingserver.services;
+
+import java.util.Collection;
+
+import com.example.projecttrackingserver.dto.ProjectStatsDto;
+import com.example.projecttrackingserver.entities.TicketEntity;
+
+/**
+ * Service interface related to the ticket statistics of projects.
+ */
+public interface ProjectStatsService {
+
+    /**
+     * Retrieves the number of tickets in a project, in total and by status, priority and type.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @return the ProjectStatsDto of the project
+     */
+	ProjectStatsDto getProjectStats(long companyId, long projectId);
+
+    /**
+     * Changes the ticket counters of a project in the transaction changing its tickets.
+     * Must be called after the project was locked by the change, i.e. after the ticket change number was incremented.
+     *
+     * @param projectId the ID of the project
+     * @param removedTickets the deleted tickets, or the tickets with the status, priority and type before an update
+     * @param addedTickets the created tickets, or the tickets with the status, priority and type after an update
+     */
+	void countTickets(long projectId, Collection<TicketEntity> removedTickets, Collection<TicketEntity> addedTickets);
+
+    /**
+     * Recounts the tickets of a project from scratch, replacing its ticket counters.
+     *
+     * @param projectId the ID of the project
+     * @return true if the project exists, otherwise false
+     */
+	boolean rebuildTicketCounters(long projectId);
+}
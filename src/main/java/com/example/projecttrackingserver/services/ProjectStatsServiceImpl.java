@@ -0,0 +1,120 @@
+package com.example.projecttrackingserver.services;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.projecttrackingserver.dto.ProjectStatsDto;
+import com.example.projecttrackingserver.entities.ProjectTicketCounterEntity;
+import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.enums.TicketCounterDimension;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.repositories.ProjectRepository;
+import com.example.projecttrackingserver.repositories.ProjectTicketCounterRepository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Implementation of {@link ProjectStatsService} interface
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
+public class ProjectStatsServiceImpl implements ProjectStatsService {
+
+	private final ProjectTicketCounterRepository projectTicketCounterRepository;
+	private final ProjectRepository projectRepository;
+	private final ScopeResolver scopeResolver;
+
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public ProjectStatsDto getProjectStats(long companyId, long projectId) {
+		List<ProjectTicketCounterEntity> counters = projectTicketCounterRepository.findAllByProjectIdAndCompanyId(projectId, companyId);
+
+		// no counters -> company or project might not exist
+		if(counters.isEmpty()) {
+			scopeResolver.requireProject(companyId, projectId);
+		}
+
+		Map<TicketStatus, Long> ticketStatuses = zeroCounts(TicketStatus.class);
+		Map<TicketPriority, Long> ticketPriorities = zeroCounts(TicketPriority.class);
+		Map<TicketType, Long> ticketTypes = zeroCounts(TicketType.class);
+		for(ProjectTicketCounterEntity counter : counters) {
+			switch(counter.getDimension()) {
+				case TicketStatus -> ticketStatuses.put(TicketStatus.valueOf(counter.getDimensionValue()), counter.getTicketCount());
+				case TicketPriority -> ticketPriorities.put(TicketPriority.valueOf(counter.getDimensionValue()), counter.getTicketCount());
+				case TicketType -> ticketTypes.put(TicketType.valueOf(counter.getDimensionValue()), counter.getTicketCount());
+			}
+		}
+
+		// every ticket has exactly one status
+		long ticketCount = ticketStatuses.values().stream().mapToLong(Long::longValue).sum();
+
+		return new ProjectStatsDto(projectId, ticketCount, ticketStatuses, ticketPriorities, ticketTypes);
+	}
+
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void countTickets(long projectId, Collection<TicketEntity> removedTickets, Collection<TicketEntity> addedTickets) {
+		// changes of the same counter are summed up, so each counter is written once
+		Map<ProjectTicketCounterEntity.Key, Long> deltas = new LinkedHashMap<>();
+		removedTickets.forEach(ticketEntity -> addDeltas(deltas, projectId, ticketEntity, -1));
+		addedTickets.forEach(ticketEntity -> addDeltas(deltas, projectId, ticketEntity, 1));
+
+		deltas.forEach((key, delta) -> {
+			// counter unchanged -> nothing to write
+			if(delta == 0) {
+				return;
+			}
+
+			// counter does not exist yet -> insert it, a missing counter of removed tickets is left to the next rebuild
+			int updated = projectTicketCounterRepository.addToTicketCount(projectId, key.getDimension().name(), key.getDimensionValue(), delta);
+			if(updated == 0 && delta > 0) {
+				projectTicketCounterRepository.insertTicketCount(projectId, key.getDimension().name(), key.getDimensionValue(), delta);
+			}
+		});
+	}
+
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional
+	public boolean rebuildTicketCounters(long projectId) {
+		// project does not exist -> nothing to count
+		// otherwise it is locked, so no ticket changes while it is counted
+		if(projectRepository.lockById(projectId).isEmpty()) {
+			return false;
+		}
+
+		projectTicketCounterRepository.deleteAllTicketCountsByProjectId(projectId);
+		projectTicketCounterRepository.insertTicketCountsOfProject(projectId);
+		return true;
+	}
+
+	private static void addDeltas(Map<ProjectTicketCounterEntity.Key, Long> deltas, long projectId, TicketEntity ticketEntity, long delta) {
+		deltas.merge(new ProjectTicketCounterEntity.Key(projectId, TicketCounterDimension.TicketStatus, ticketEntity.getTicketStatus().getTicketStatus().name()), delta, Long::sum);
+		deltas.merge(new ProjectTicketCounterEntity.Key(projectId, TicketCounterDimension.TicketPriority, ticketEntity.getTicketPriority().getTicketPriority().name()), delta, Long::sum);
+		deltas.merge(new ProjectTicketCounterEntity.Key(projectId, TicketCounterDimension.TicketType, ticketEntity.getTicketType().getTicketType().name()), delta, Long::sum);
+	}
+
+	private static <E extends Enum<E>> Map<E, Long> zeroCounts(Class<E> enumClass) {
+		Map<E, Long> counts = new EnumMap<>(enumClass);
+		for(E value : enumClass.getEnumConstants()) {
+			counts.put(value, 0L);
+		}
+		return counts;
+	}
+}
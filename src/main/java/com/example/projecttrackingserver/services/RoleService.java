@@ -25,4 +25,10 @@ public interface RoleService {
      * @return an Optional containing the RoleEntity if found, otherwise empty
      */
 	Optional<RoleEntity> getEntityById(long roleId);
+	
+    /**
+     * Reloads the cached role lookup table from the database.
+     * The table is loaded once at startup, so this is only needed if it was changed afterwards.
+     */
+	void refresh();
 }
@@ -1,5 +1,7 @@
 package com.example.projecttrackingserver.services;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
@@ -8,6 +10,8 @@ import com.example.projecttrackingserver.entities.RoleEntity;
 import com.example.projecttrackingserver.enums.Role;
 import com.example.projecttrackingserver.repositories.RoleRepository;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -15,21 +19,58 @@ import lombok.RequiredArgsConstructor;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 public class RoleServiceImpl implements RoleService {
 
 	private final RoleRepository roleRepository;
 	
+	private volatile Map<Role, RoleEntity> roleEntities = new EnumMap<>(Role.class);
+	
+    /**
+     * {@inheritDoc}
+     */
+	@PostConstruct
+	public void refresh() {
+		Map<Role, RoleEntity> loadedEntities = new EnumMap<>(Role.class);
+		roleRepository.findAll().forEach(roleEntity -> loadedEntities.put(roleEntity.getRole(), roleEntity));
+		roleEntities = loadedEntities;
+	}
+	
     /**
      * {@inheritDoc}
      */
 	public Optional<RoleEntity> getEntityByRole(Role Role) {
-		return roleRepository.findByRole(Role);
+		RoleEntity roleEntity = roleEntities.get(Role);
+		if(roleEntity != null) {
+			return Optional.of(roleEntity);
+		}
+		
+		// not loaded yet -> look it up and reload if it was added since
+		Optional<RoleEntity> roleOptional = roleRepository.findByRole(Role);
+		if(roleOptional.isPresent()) {
+			refresh();
+		}
+		
+		return roleOptional;
 	}
 	
     /**
      * {@inheritDoc}
      */
 	public Optional<RoleEntity> getEntityById(long roleId) {
-		return roleRepository.findById(roleId);
+		Optional<RoleEntity> roleOptional = roleEntities.values().stream()
+																 .filter(roleEntity -> roleEntity.getId() == roleId)
+																 .findFirst();
+		if(roleOptional.isPresent()) {
+			return roleOptional;
+		}
+		
+		// not loaded yet -> look it up and reload if it was added since
+		roleOptional = roleRepository.findById(roleId);
+		if(roleOptional.isPresent()) {
+			refresh();
+		}
+		
+		return roleOptional;
 	}
 }
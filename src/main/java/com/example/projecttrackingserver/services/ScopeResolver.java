@@ -0,0 +1,106 @@
+package com.example.projecttrackingserver.services;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Service;
+
+import com.example.projecttrackingserver.dto.ScopeDto;
+import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
+import com.example.projecttrackingserver.repositories.CompanyRepository;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves the company, project and ticket hierarchy of a request with a single query.
+ * Services look up the requested entity scoped by all its parents first and only use this
+ * to find out which level is missing, so a successful request needs no separate existence checks.
+ */
+@Service
+@RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
+public class ScopeResolver {
+
+	private final CompanyRepository companyRepository;
+	
+    /**
+     * Ensures that a company exists.
+     *
+     * @param companyId the ID of the company
+     * @throws EntityNotFoundException if the company does not exist
+     */
+	public void requireCompany(long companyId) {
+		if(!companyRepository.existsById(companyId)) {
+			throw new EntityNotFoundException("companyId", companyId);
+		}
+	}
+	
+    /**
+     * Ensures that a project exists in a company.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @throws EntityNotFoundException for the company or the project, whichever does not exist first
+     */
+	public void requireProject(long companyId, long projectId) {
+		ScopeDto scope = findScope(companyId, projectId, 0);
+		if(scope.projectId() == null) {
+			throw new EntityNotFoundException("projectId", projectId);
+		}
+	}
+	
+    /**
+     * Creates the exception for a user which was not found in a company.
+     *
+     * @param companyId the ID of the company
+     * @param userId the ID of the user
+     * @return the EntityNotFoundException for the company if it does not exist, otherwise for the user
+     */
+	public EntityNotFoundException userNotFound(long companyId, long userId) {
+		if(!companyRepository.existsById(companyId)) {
+			return new EntityNotFoundException("companyId", companyId);
+		}
+		return new EntityNotFoundException("userId", userId);
+	}
+	
+    /**
+     * Creates the exception for a project which was not found in a company.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @return the EntityNotFoundException for the company if it does not exist, otherwise for the project
+     */
+	public EntityNotFoundException projectNotFound(long companyId, long projectId) {
+		if(!companyRepository.existsById(companyId)) {
+			return new EntityNotFoundException("companyId", companyId);
+		}
+		return new EntityNotFoundException("projectId", projectId);
+	}
+	
+    /**
+     * Creates the exception for a ticket which was not found in a project of a company.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @param ticketId the ID of the ticket
+     * @return the EntityNotFoundException for the company, the project or the ticket, whichever does not exist first
+     */
+	public EntityNotFoundException ticketNotFound(long companyId, long projectId, long ticketId) {
+		Optional<ScopeDto> scopeOptional = companyRepository.findScope(companyId, projectId, ticketId);
+		if(scopeOptional.isEmpty()) {
+			return new EntityNotFoundException("companyId", companyId);
+		}
+		if(scopeOptional.get().projectId() == null) {
+			return new EntityNotFoundException("projectId", projectId);
+		}
+		return new EntityNotFoundException("ticketId", ticketId);
+	}
+	
+	private ScopeDto findScope(long companyId, long projectId, long ticketId) {
+		Optional<ScopeDto> scopeOptional = companyRepository.findScope(companyId, projectId, ticketId);
+		if(scopeOptional.isEmpty()) {
+			throw new EntityNotFoundException("companyId", companyId);
+		}
+		return scopeOptional.get();
+	}
+}
@@ -0,0 +1,71 @@
+package com.example.projecttrackingserver.services;
+
+import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+
+/**
+ * Position in the changes to the tickets of a project, passed as since by the next sync.
+ * A complete sync returns the plain change number it covers. A sync cut at the limit returns the range of change numbers
+ * and the last returned ticket ID separated by colons, so the next call continues the same range after that ticket.
+ * Tickets changed in the meantime are beyond the range and returned by the following sync.
+ *
+ * @param afterChange the change number after which changes are retrieved, -1 for the first sync
+ * @param untilChange the last change number of which changes are retrieved
+ * @param afterId the ticket ID after which changes are retrieved
+ */
+record SyncToken(long afterChange, long untilChange, long afterId) {
+
+    /**
+     * Parses a token returned by a previous sync.
+     *
+     * @param token the token, null for the first sync
+     * @param currentChange the current change number of the project
+     * @return the SyncToken to continue after
+     * @throws ValueNotAllowedException if the token is not a position in the changes of the project
+     */
+	public static SyncToken parse(String token, long currentChange) {
+		// no token -> all tickets
+		if(token == null) {
+			return new SyncToken(-1, currentChange, 0);
+		}
+
+		// token is no change number or range with ticket ID -> deny
+		SyncToken syncToken;
+		String[] parts = token.split(":");
+		try {
+			if(parts.length == 1) {
+				syncToken = new SyncToken(Long.parseLong(parts[0]), currentChange, 0);
+			} else if(parts.length == 3) {
+				syncToken = new SyncToken(Long.parseLong(parts[0]), Long.parseLong(parts[1]), Long.parseLong(parts[2]));
+			} else {
+				throw new ValueNotAllowedException("since", token);
+			}
+		} catch(NumberFormatException ex) {
+			throw new ValueNotAllowedException("since", token);
+		}
+
+		// range is not within the changes of the project -> deny
+		long minAfterChange = parts.length == 1 ? 0 : -1;
+		if(syncToken.afterChange() < minAfterChange || syncToken.afterChange() > syncToken.untilChange()
+				|| syncToken.untilChange() > currentChange || syncToken.afterId() < 0) {
+			throw new ValueNotAllowedException("since", token);
+		}
+		return syncToken;
+	}
+
+    /**
+     * Encodes the token continuing the same range after a ticket.
+     *
+     * @param lastId the ID of the last returned ticket
+     * @return the encoded token
+     */
+	public String encodeAfter(long lastId) {
+		return afterChange + ":" + untilChange + ":" + lastId;
+	}
+
+    /**
+     * @return the plain change number returned once the range is complete
+     */
+	public String encodeComplete() {
+		return Long.toString(untilChange);
+	}
+}
@@ -24,4 +24,10 @@ public interface TicketPriorityService {
      * @return a string representing all available ticket priorities
      */
 	String getAllTicketPrioritiesString();
+	
+    /**
+     * Reloads the cached ticket priority lookup table from the database.
+     * The table is loaded once at startup, so this is only needed if it was changed afterwards.
+     */
+	void refresh();
 }
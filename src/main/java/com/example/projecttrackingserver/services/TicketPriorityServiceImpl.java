@@ -1,8 +1,9 @@
 package com.example.projecttrackingserver.services;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import org.springframework.stereotype.Service;
 
@@ -10,6 +11,8 @@ import com.example.projecttrackingserver.entities.TicketPriorityEntity;
 import com.example.projecttrackingserver.enums.TicketPriority;
 import com.example.projecttrackingserver.repositories.TicketPriorityRepository;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -17,23 +20,47 @@ import lombok.RequiredArgsConstructor;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 public class TicketPriorityServiceImpl implements TicketPriorityService {
 
 	private final TicketPriorityRepository ticketPriorityRepository;
 	
+	private volatile Map<TicketPriority, TicketPriorityEntity> ticketPriorityEntities = new EnumMap<>(TicketPriority.class);
+	
+    /**
+     * {@inheritDoc}
+     */
+	@PostConstruct
+	public void refresh() {
+		Map<TicketPriority, TicketPriorityEntity> loadedEntities = new EnumMap<>(TicketPriority.class);
+		ticketPriorityRepository.findAll().forEach(ticketPriorityEntity -> loadedEntities.put(ticketPriorityEntity.getTicketPriority(), ticketPriorityEntity));
+		ticketPriorityEntities = loadedEntities;
+	}
+	
     /**
      * {@inheritDoc}
      */
 	public Optional<TicketPriorityEntity> getEntityByTicketPriority(TicketPriority ticketPriority) {
-		return ticketPriorityRepository.findByTicketPriority(ticketPriority);
+		TicketPriorityEntity ticketPriorityEntity = ticketPriorityEntities.get(ticketPriority);
+		if(ticketPriorityEntity != null) {
+			return Optional.of(ticketPriorityEntity);
+		}
+		
+		// not loaded yet -> look it up and reload if it was added since
+		Optional<TicketPriorityEntity> ticketPriorityOptional = ticketPriorityRepository.findByTicketPriority(ticketPriority);
+		if(ticketPriorityOptional.isPresent()) {
+			refresh();
+		}
+		
+		return ticketPriorityOptional;
 	}
 	
     /**
      * {@inheritDoc}
      */
 	public String getAllTicketPrioritiesString() {
-		return StreamSupport.stream(ticketPriorityRepository.findAll().spliterator(), false)
-					 		.map(ticketPriorityEntity -> ticketPriorityEntity.getTicketPriority().toString())
-					 		.collect(Collectors.joining(", "));
+		return ticketPriorityEntities.keySet().stream()
+								   .map(TicketPriority::toString)
+								   .collect(Collectors.joining(", "));
 	}
 }
@@ -2,9 +2,15 @@ package com.example.projecttrackingserver.services;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
+import com.example.projecttrackingserver.dto.PageResponseDto;
+import com.example.projecttrackingserver.dto.TicketBulkResultDto;
+import com.example.projecttrackingserver.dto.TicketChangesDto;
+import com.example.projecttrackingserver.dto.TicketFilterDto;
 import com.example.projecttrackingserver.dto.TicketRequestDto;
 import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.dto.VersionedResponseDto;
 import com.example.projecttrackingserver.entities.TicketEntity;
 
 /**
@@ -21,6 +27,19 @@ public interface TicketService {
      */
 	List<TicketResponseDto> getAllTicketDtosInProject(long companyId, long projectId);
 	
+    /**
+     * Retrieves one page of TicketResponseDto for the tickets in a project matching the filter.
+     * Tickets are ordered by ID, the next cursor is the ID to pass as afterId for the following page.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @param filter the filters the tickets must match
+     * @param afterId the ID after which tickets are retrieved
+     * @param limit the maximum number of tickets in the page
+     * @return a page of TicketResponseDto with the next cursor, which is null on the last page
+     */
+	PageResponseDto<TicketResponseDto> getTicketDtosInProject(long companyId, long projectId, TicketFilterDto filter, long afterId, int limit);
+	
     /**
      * Retrieves a TicketResponseDto for a specific ticket in a project.
      *
@@ -31,6 +50,53 @@ public interface TicketService {
      */
 	TicketResponseDto getTicketDtoById(long companyId, long projectId, long ticketId);
 	
+    /**
+     * Retrieves the tickets of a project which were created, updated or deleted since a sync token.
+     * Without a token all tickets are retrieved. The returned token is passed as since by the next sync.
+     * At most limit changed and deleted tickets are retrieved, if there are more the returned token continues the same sync.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @param since the token returned by the previous sync, or null for the first sync
+     * @param limit the maximum number of changed and deleted tickets to retrieve
+     * @return a TicketChangesDto with the changed tickets, the IDs of the deleted tickets and the next token
+     */
+	TicketChangesDto getTicketChangesInProject(long companyId, long projectId, String since, int limit);
+	
+    /**
+     * Passes every ticket of all projects in a company to the consumer, one at a time.
+     * The tickets are streamed from the database, so they are never all held in memory.
+     *
+     * @param companyId the ID of the company
+     * @param consumer the consumer receiving the tickets
+     */
+	void exportTicketDtosInCompany(long companyId, Consumer<TicketResponseDto> consumer);
+	
+    /**
+     * Searches the names and descriptions of the tickets in a project for all words of a query.
+     * Tickets are ordered by rank, the next cursor is passed as cursor for the following page.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @param query the words to search for
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of tickets in the page
+     * @return a page of TicketResponseDto with the next cursor, which is null on the last page
+     */
+	PageResponseDto<TicketResponseDto> searchTicketDtosInProject(long companyId, long projectId, String query, String cursor, int limit);
+	
+    /**
+     * Searches the names and descriptions of the tickets in all projects of a company for all words of a query.
+     * Tickets are ordered by rank, the next cursor is passed as cursor for the following page.
+     *
+     * @param companyId the ID of the company
+     * @param query the words to search for
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param limit the maximum number of tickets in the page
+     * @return a page of TicketResponseDto with the next cursor, which is null on the last page
+     */
+	PageResponseDto<TicketResponseDto> searchTicketDtosInCompany(long companyId, String query, String cursor, int limit);
+	
     /**
      * Creates a new ticket in a project.
      *
@@ -41,16 +107,29 @@ public interface TicketService {
      */
 	TicketResponseDto createTicket(TicketRequestDto ticketRequestDto, long companyId, long projectId);
 	
+    /**
+     * Creates multiple tickets in a project.
+     * Invalid tickets are rejected individually, the other tickets are still created.
+     *
+     * @param ticketRequestDtos the list of TicketRequestDto containing ticket details
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @return a list of TicketBulkResultDto in the order of the requested tickets
+     */
+	List<TicketBulkResultDto> createTickets(List<TicketRequestDto> ticketRequestDtos, long companyId, long projectId);
+	
     /**
      * Updates an existing ticket in a project.
+     * With an expected version the ticket is only updated if it was not changed since the client retrieved it.
      *
      * @param ticketRequestDto the TicketRequestDto containing updated ticket details
      * @param companyId the ID of the company
      * @param projectId the ID of the project
      * @param ticketId the ID of the ticket
-     * @return the updated TicketResponseDto
+     * @param expectedVersion the version the ticket must have, null to update it regardless of its version
+     * @return the updated TicketResponseDto with the new version of the ticket
      */
-	TicketResponseDto updateTicket(TicketRequestDto ticketRequestDto, long companyId, long projectId, long ticketId);
+	VersionedResponseDto<TicketResponseDto> updateTicket(TicketRequestDto ticketRequestDto, long companyId, long projectId, long ticketId, Long expectedVersion);
 	
     /**
      * Deletes a ticket from a project.
@@ -78,4 +157,23 @@ public interface TicketService {
      * @return an Optional containing the TicketEntity if found, otherwise empty
      */
 	Optional<TicketEntity> getEntityByIdAndProjectId(long ticketId, long projectId);
+	
+    /**
+     * Retrieves the version of a ticket in a project, which changes with every update of the ticket.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @param ticketId the ID of the ticket
+     * @return an Optional containing the version if the ticket exists in the project, otherwise empty
+     */
+	Optional<Long> getVersion(long companyId, long projectId, long ticketId);
+	
+    /**
+     * Retrieves the number of changes to the tickets of a project, which changes whenever a ticket is created, updated or deleted.
+     *
+     * @param companyId the ID of the company
+     * @param projectId the ID of the project
+     * @return an Optional containing the ticket change count if the project exists in the company, otherwise empty
+     */
+	Optional<Long> getChangeCountInProject(long companyId, long projectId);
 }
@@ -1,24 +1,58 @@
 package com.example.projecttrackingserver.services;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
+import java.util.stream.Stream;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.projecttrackingserver.audit.AuditLog;
+import com.example.projecttrackingserver.auth.AuthenticatedUser;
+import com.example.projecttrackingserver.dto.PageResponseDto;
+import com.example.projecttrackingserver.dto.TicketBulkResultDto;
+import com.example.projecttrackingserver.dto.TicketChangesDto;
+import com.example.projecttrackingserver.dto.TicketFilterDto;
 import com.example.projecttrackingserver.dto.TicketRequestDto;
 import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.dto.VersionedResponseDto;
 import com.example.projecttrackingserver.entities.ProjectEntity;
 import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.entities.TicketTombstoneEntity;
 import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.AuditAction;
 import com.example.projecttrackingserver.exceptions.EntityAlreadyExistsException;
 import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
 import com.example.projecttrackingserver.exceptions.UnauthorizedException;
+import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+import com.example.projecttrackingserver.exceptions.VersionMismatchException;
 import com.example.projecttrackingserver.mappers.TicketMapper;
 import com.example.projecttrackingserver.repositories.TicketRepository;
+import com.example.projecttrackingserver.repositories.TicketTombstoneRepository;
+import com.example.projecttrackingserver.repositories.UserRepository;
+import com.example.projecttrackingserver.search.TicketSearchDocument;
+import com.example.projecttrackingserver.search.TicketSearchHit;
+import com.example.projecttrackingserver.search.TicketSearchIndex;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -26,86 +60,224 @@ import lombok.RequiredArgsConstructor;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 public class TicketServiceImpl implements TicketService {
 
+	public static final int MAX_BULK_SIZE = 1000;
+
 	private final TicketRepository ticketRepository;
+	private final TicketTombstoneRepository ticketTombstoneRepository;
+	private final UserRepository userRepository;
 	private final TicketMapper ticketMapper;
 	private final ProjectService projectService;
-	private final CompanyService companyService;
+	private final ScopeResolver scopeResolver;
+	private final Validator validator;
+	private final AuditLog auditLog;
+	private final TicketSearchIndex ticketSearchIndex;
+	private final ProjectStatsService projectStatsService;
 	
     /**
      * {@inheritDoc}
      */
+    @Transactional(readOnly = true)
     public List<TicketResponseDto> getAllTicketDtosInProject(long companyId, long projectId) {
-    	// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
-		}
+		List<TicketResponseDto> tickets = ticketRepository.findAllDtosByProjectIdAndCompanyId(projectId, companyId);
 		
-		// project does not exist -> deny
-		Optional<ProjectEntity> projectOptional = projectService.getEntityByIdAndCompanyId(projectId, companyId);
-		if(projectOptional.isEmpty()) {
-			throw new EntityNotFoundException("projectId", projectId);
+		// no tickets -> company or project might not exist
+		if(tickets.isEmpty()) {
+			scopeResolver.requireProject(companyId, projectId);
 		}
 
-		return StreamSupport.stream(projectOptional.get().getTickets().spliterator(), false)
-							.map(ticket -> ticketMapper.toDto(ticket))
-							.collect(Collectors.toList());
+		return tickets;
     }
-	
+    
     /**
      * {@inheritDoc}
      */
-	public TicketResponseDto getTicketDtoById(long companyId, long projectId, long ticketId) {
-		// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
+	@Transactional(readOnly = true)
+	public PageResponseDto<TicketResponseDto> getTicketDtosInProject(long companyId, long projectId, TicketFilterDto filter, long afterId, int limit) {
+		PageCursor.requireLimit(limit);
+		
+		// one more ticket than requested tells if there is a next page
+		List<TicketResponseDto> tickets = ticketRepository.findAllDtosInProjectAfterId(
+				projectId,
+				companyId,
+				afterId,
+				filter.ticketStatus(),
+				filter.ticketPriority(),
+				filter.ticketType(),
+				filter.creatorId(),
+				filter.createdFrom(),
+				filter.createdTo(),
+				Limit.of(limit + 1));
+		
+		// no tickets -> company or project might not exist
+		if(tickets.isEmpty()) {
+			scopeResolver.requireProject(companyId, projectId);
 		}
 		
-		// project does not exist -> deny
-		if(!projectService.entityExists(projectId, companyId)) {
-			throw new EntityNotFoundException("projectId", projectId);
+		String nextCursor = null;
+		if(tickets.size() > limit) {
+			tickets = tickets.subList(0, limit);
+			nextCursor = Long.toString(tickets.get(limit - 1).id());
 		}
 		
-		// ticket does not exist -> deny
-		Optional<TicketEntity> ticketOptional = ticketRepository.findByIdAndProjectId(ticketId, projectId);
+		return new PageResponseDto<TicketResponseDto>(tickets, nextCursor);
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public TicketResponseDto getTicketDtoById(long companyId, long projectId, long ticketId) {
+		// company, project or ticket does not exist -> deny
+		Optional<TicketResponseDto> ticketOptional = ticketRepository.findDtoByIdAndProjectIdAndCompanyId(ticketId, projectId, companyId);
 		if(ticketOptional.isEmpty()) {
-			throw new EntityNotFoundException("ticketId", ticketId);
+			throw scopeResolver.ticketNotFound(companyId, projectId, ticketId);
 		}
 			
-		return ticketMapper.toDto(ticketOptional.get());
+		return ticketOptional.get();
 	}
 	
     /**
      * {@inheritDoc}
      */
-	public TicketResponseDto createTicket(TicketRequestDto ticketRequestDto, long companyId, long projectId) {
+	@Transactional(readOnly = true)
+	public void exportTicketDtosInCompany(long companyId, Consumer<TicketResponseDto> consumer) {
 		// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
+		scopeResolver.requireCompany(companyId);
+		
+		// requesting user is not in company -> deny
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(requestingUser.companyId() != companyId) {
+			throw new UnauthorizedException();
 		}
 		
-		// project does not exists -> deny
+		try(Stream<TicketResponseDto> tickets = ticketRepository.streamAllDtosByCompanyId(companyId)) {
+			tickets.forEach(consumer);
+		}
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public TicketChangesDto getTicketChangesInProject(long companyId, long projectId, String since, int limit) {
+		PageCursor.requireLimit(limit);
+		
+		// company or project does not exist -> deny
+		Optional<Long> currentChangeOptional = projectService.getTicketChangeCount(companyId, projectId);
+		if(currentChangeOptional.isEmpty()) {
+			throw scopeResolver.projectNotFound(companyId, projectId);
+		}
+		SyncToken token = SyncToken.parse(since, currentChangeOptional.get());
+		
+		// changes after the current change number are not committed yet or returned with the next token
+		// one more ticket than requested tells if there is a next page
+		List<TicketResponseDto> changed = ticketRepository.findAllDtosChangedInProject(projectId, token.afterChange(), token.untilChange(),
+																					   token.afterId(), Limit.of(limit + 1));
+		
+		// first sync -> no deletions to apply
+		List<Long> deleted = token.afterChange() < 0
+				? List.of()
+				: ticketTombstoneRepository.findTicketIdsDeletedInProject(projectId, token.afterChange(), token.untilChange(),
+																		  token.afterId(), Limit.of(limit + 1));
+		
+		// take the lowest ticket IDs of both lists up to the limit, so the next page continues after the last one
+		int changedCount = 0;
+		int deletedCount = 0;
+		while(changedCount + deletedCount < limit && (changedCount < changed.size() || deletedCount < deleted.size())) {
+			if(deletedCount == deleted.size()
+					|| (changedCount < changed.size() && changed.get(changedCount).id() < deleted.get(deletedCount))) {
+				changedCount++;
+			} else {
+				deletedCount++;
+			}
+		}
+		
+		// nothing left in the range -> token of the complete sync
+		if(changedCount == changed.size() && deletedCount == deleted.size()) {
+			return new TicketChangesDto(changed, deleted, token.encodeComplete(), false);
+		}
+		
+		long lastChangedId = changedCount > 0 ? changed.get(changedCount - 1).id() : 0;
+		long lastDeletedId = deletedCount > 0 ? deleted.get(deletedCount - 1) : 0;
+		return new TicketChangesDto(changed.subList(0, changedCount),
+									deleted.subList(0, deletedCount),
+									token.encodeAfter(Math.max(lastChangedId, lastDeletedId)),
+									true);
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public PageResponseDto<TicketResponseDto> searchTicketDtosInProject(long companyId, long projectId, String query, String cursor, int limit) {
+		PageResponseDto<TicketResponseDto> page = searchTicketDtos(companyId, projectId, query, cursor, limit);
+		
+		// no tickets -> company or project might not exist
+		if(page.content().isEmpty()) {
+			scopeResolver.requireProject(companyId, projectId);
+		}
+		
+		return page;
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public PageResponseDto<TicketResponseDto> searchTicketDtosInCompany(long companyId, String query, String cursor, int limit) {
+		// requesting user is not in company -> deny
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(requestingUser.companyId() != companyId) {
+			throw new UnauthorizedException();
+		}
+		
+		PageResponseDto<TicketResponseDto> page = searchTicketDtos(companyId, null, query, cursor, limit);
+		
+		// no tickets -> company might not exist
+		if(page.content().isEmpty()) {
+			scopeResolver.requireCompany(companyId);
+		}
+		
+		return page;
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional
+	public TicketResponseDto createTicket(TicketRequestDto ticketRequestDto, long companyId, long projectId) {
+		// company or project does not exist -> deny
 		Optional<ProjectEntity> projectOptional = projectService.getEntityByIdAndCompanyId(projectId, companyId);
 		if(projectOptional.isEmpty()) {
-			throw new EntityNotFoundException("projectId", projectId);
+			throw scopeResolver.projectNotFound(companyId, projectId);
 		}
 		ProjectEntity projectEntity = projectOptional.get();
 		
 		// requesting user is not in project -> deny
-		UserEntity requestingUser = (UserEntity)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-		if(!projectEntity.getMembers().stream().anyMatch(user -> user.getId() == requestingUser.getId())) {
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(!projectService.isMember(projectId, requestingUser.id())) {
 			throw new UnauthorizedException();
 		}
-
-		// ticket with same name already exists -> deny
-		if(ticketExists(ticketRequestDto.name(), projectId)) {
-			throw new EntityAlreadyExistsException("name", ticketRequestDto.name());
-		}
+		UserEntity creatorEntity = userRepository.findById(requestingUser.id()).orElseThrow(UnauthorizedException::new);
 		
-		TicketEntity ticketEntity = ticketMapper.toEntity(ticketRequestDto, projectEntity, requestingUser);
+		TicketEntity ticketEntity = ticketMapper.toEntity(ticketRequestDto, projectEntity, creatorEntity);
+		ticketEntity.setChangeNumber(projectService.nextTicketChange(projectId));
 		
-		ticketEntity = ticketRepository.save(ticketEntity);
+		try {
+			ticketEntity = ticketRepository.saveAndFlush(ticketEntity);
+		} catch(DataIntegrityViolationException ex) {
+			// ticket with same name already exists -> deny
+			if(UniqueConstraints.isViolated(ex, TicketEntity.NAME_UNIQUE_CONSTRAINT)) {
+				throw new EntityAlreadyExistsException("name", ticketRequestDto.name());
+			}
+			throw ex;
+		}
+		projectStatsService.countTickets(projectId, List.of(), List.of(ticketEntity));
+		auditLog.record(AuditAction.TicketCreated, companyId, projectId, ticketEntity.getId(), null);
+		indexTicket(ticketEntity, companyId, projectId);
 		
 		return ticketMapper.toDto(ticketEntity);
 	}
@@ -113,79 +285,194 @@ public class TicketServiceImpl implements TicketService {
     /**
      * {@inheritDoc}
      */
-	public TicketResponseDto updateTicket(TicketRequestDto ticketRequestDto, long companyId, long projectId, long ticketId) {
-		// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
+	@Transactional
+	public List<TicketBulkResultDto> createTickets(List<TicketRequestDto> ticketRequestDtos, long companyId, long projectId) {
+		// too many tickets -> deny
+		if(ticketRequestDtos.size() > MAX_BULK_SIZE) {
+			throw new ValueNotAllowedException("tickets", Integer.toString(ticketRequestDtos.size()));
 		}
 		
-		// project does not exist -> deny
-		if(!projectService.entityExists(projectId, companyId)) {
-			throw new EntityNotFoundException("projectId", projectId);
+		// company or project does not exist -> deny
+		Optional<ProjectEntity> projectOptional = projectService.getEntityByIdAndCompanyId(projectId, companyId);
+		if(projectOptional.isEmpty()) {
+			throw scopeResolver.projectNotFound(companyId, projectId);
 		}
+		ProjectEntity projectEntity = projectOptional.get();
 		
-		// ticket does not exist -> deny
-		Optional<TicketEntity> ticketOptional = getEntityByIdAndProjectId(ticketId, projectId);
+		// requesting user is not in project -> deny
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(!projectService.isMember(projectId, requestingUser.id())) {
+			throw new UnauthorizedException();
+		}
+		UserEntity creatorEntity = userRepository.findById(requestingUser.id()).orElseThrow(UnauthorizedException::new);
+		
+		// names used in the project are looked up at once instead of per ticket
+		Set<String> requestedNames = ticketRequestDtos.stream()
+													  .filter(Objects::nonNull)
+													  .map(TicketRequestDto::name)
+													  .filter(Objects::nonNull)
+													  .collect(Collectors.toSet());
+		Set<String> usedNames = requestedNames.isEmpty()
+				? new HashSet<>()
+				: new HashSet<>(ticketRepository.findNamesInProject(projectId, requestedNames));
+		
+		TicketBulkResultDto[] results = new TicketBulkResultDto[ticketRequestDtos.size()];
+		List<Integer> createdIndices = new ArrayList<>();
+		List<TicketEntity> ticketEntities = new ArrayList<>();
+		for(int i = 0; i < ticketRequestDtos.size(); i++) {
+			TicketRequestDto ticketRequestDto = ticketRequestDtos.get(i);
+			
+			// ticket is missing -> reject ticket
+			if(ticketRequestDto == null) {
+				results[i] = TicketBulkResultDto.rejected(i, HttpStatus.BAD_REQUEST.value(), "ticket should not be null");
+				continue;
+			}
+			
+			// ticket is not valid -> reject ticket
+			Set<ConstraintViolation<TicketRequestDto>> violations = validator.validate(ticketRequestDto);
+			if(!violations.isEmpty()) {
+				results[i] = TicketBulkResultDto.rejected(i, HttpStatus.BAD_REQUEST.value(), violations.stream()
+																										 .map(ConstraintViolation::getMessage)
+																										 .sorted()
+																										 .collect(Collectors.joining(", ")));
+				continue;
+			}
+			
+			// ticket type, priority or status does not exist -> reject ticket
+			TicketEntity ticketEntity;
+			try {
+				ticketEntity = ticketMapper.toEntity(ticketRequestDto, projectEntity, creatorEntity);
+			} catch(EntityNotFoundException ex) {
+				results[i] = TicketBulkResultDto.rejected(i, HttpStatus.NOT_FOUND.value(), ex.getMessage());
+				continue;
+			}
+			
+			// ticket with same name already exists or was requested before -> reject ticket
+			if(!usedNames.add(ticketRequestDto.name())) {
+				results[i] = TicketBulkResultDto.rejected(i, HttpStatus.CONFLICT.value(),
+						new EntityAlreadyExistsException("name", ticketRequestDto.name()).getMessage());
+				continue;
+			}
+			
+			createdIndices.add(i);
+			ticketEntities.add(ticketEntity);
+		}
+		
+		// all tickets are created with one change number
+		if(!ticketEntities.isEmpty()) {
+			long changeNumber = projectService.nextTicketChange(projectId);
+			ticketEntities.forEach(ticketEntity -> ticketEntity.setChangeNumber(changeNumber));
+		}
+		
+		// saved in one transaction, so the inserts are sent in JDBC batches
+		Iterator<Integer> createdIndexIterator = createdIndices.iterator();
+		List<TicketEntity> createdTicketEntities = new ArrayList<>();
+		for(TicketEntity ticketEntity : ticketRepository.saveAll(ticketEntities)) {
+			int index = createdIndexIterator.next();
+			results[index] = TicketBulkResultDto.created(index, ticketMapper.toDto(ticketEntity));
+			createdTicketEntities.add(ticketEntity);
+			auditLog.record(AuditAction.TicketCreated, companyId, projectId, ticketEntity.getId(), null);
+			indexTicket(ticketEntity, companyId, projectId);
+		}
+		projectStatsService.countTickets(projectId, List.of(), createdTicketEntities);
+		
+		return Arrays.asList(results);
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional
+	public VersionedResponseDto<TicketResponseDto> updateTicket(TicketRequestDto ticketRequestDto, long companyId, long projectId, long ticketId, Long expectedVersion) {
+		// company, project or ticket does not exist -> deny
+		Optional<TicketEntity> ticketOptional = ticketRepository.findByIdAndProjectIdAndProjectCompanyId(ticketId, projectId, companyId);
 		if(ticketOptional.isEmpty()) {
-			throw new EntityNotFoundException("ticketId", ticketId);
+			throw scopeResolver.ticketNotFound(companyId, projectId, ticketId);
 		}
 		TicketEntity ticketToUpdateEnitity = ticketOptional.get();
 		
 		// requesting user is not creator of ticket or project manager -> deny
-		UserEntity requestingUser = (UserEntity)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-		if(!(requestingUser.getId() == ticketToUpdateEnitity.getCreator().getId() || requestingUser.getId() == ticketToUpdateEnitity.getProject().getProjectManager().getId())) {
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(!(requestingUser.id() == ticketToUpdateEnitity.getCreator().getId() || requestingUser.id() == ticketToUpdateEnitity.getProject().getProjectManager().getId())) {
 			throw new UnauthorizedException();
 		}
 		
-		// ticket with same name already exists -> deny
-		if(ticketExists(ticketRequestDto.name(), projectId)) {
-			throw new EntityAlreadyExistsException("name", ticketRequestDto.name());
+		// ticket changed since the client retrieved it -> deny
+		if(expectedVersion != null && ticketToUpdateEnitity.getVersion() != expectedVersion) {
+			throw new VersionMismatchException("ticketId", ticketId, expectedVersion);
 		}
 		
+		// status, priority and type before the update are uncounted afterwards
+		TicketEntity countedTicketEntity = TicketEntity.builder()
+													   .ticketType(ticketToUpdateEnitity.getTicketType())
+													   .ticketPriority(ticketToUpdateEnitity.getTicketPriority())
+													   .ticketStatus(ticketToUpdateEnitity.getTicketStatus())
+													   .build();
+		
+		// change number is taken first, so flushing before the counter update does not write the ticket twice
+		long changeNumber = projectService.nextTicketChange(projectId);
 		ticketToUpdateEnitity = ticketMapper.updateEntity(ticketToUpdateEnitity, ticketRequestDto);
+		ticketToUpdateEnitity.setChangeNumber(changeNumber);
 		
-		ticketToUpdateEnitity = ticketRepository.save(ticketToUpdateEnitity);
+		// flushed, so the version is incremented and a concurrent update or a taken name is detected before the response
+		try {
+			ticketToUpdateEnitity = ticketRepository.saveAndFlush(ticketToUpdateEnitity);
+		} catch(DataIntegrityViolationException ex) {
+			// other ticket with updated name already exists -> deny
+			if(UniqueConstraints.isViolated(ex, TicketEntity.NAME_UNIQUE_CONSTRAINT)) {
+				throw new EntityAlreadyExistsException("name", ticketRequestDto.name());
+			}
+			throw ex;
+		} catch(OptimisticLockingFailureException ex) {
+			// ticket changed after the version was checked -> deny like a mismatching version
+			if(expectedVersion != null) {
+				throw new VersionMismatchException("ticketId", ticketId, expectedVersion);
+			}
+			throw ex;
+		}
+		projectStatsService.countTickets(projectId, List.of(countedTicketEntity), List.of(ticketToUpdateEnitity));
+		auditLog.record(AuditAction.TicketUpdated, companyId, projectId, ticketId, null);
+		indexTicket(ticketToUpdateEnitity, companyId, projectId);
 
-		return ticketMapper.toDto(ticketToUpdateEnitity);
+		return new VersionedResponseDto<TicketResponseDto>(ticketMapper.toDto(ticketToUpdateEnitity), ticketToUpdateEnitity.getVersion());
 	}
 	
     /**
      * {@inheritDoc}
      */
+	@Transactional
 	public void deleteTicket(long companyId, long projectId, long ticketId) {
-		// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
-		}
-		
-		// project does not exist -> deny
-		Optional<ProjectEntity> projectOptional = projectService.getEntityByIdAndCompanyId(projectId, companyId);
-		if(projectOptional.isEmpty()) {
-			throw new EntityNotFoundException("projectId", projectId);
-		}
-		ProjectEntity projectEntity = projectOptional.get();
-		
-		// ticket does not exist -> deny
-		Optional<TicketEntity> ticketOptional = ticketRepository.findByIdAndProjectId(ticketId, projectId);
+		// company, project or ticket does not exist -> deny
+		Optional<TicketEntity> ticketOptional = ticketRepository.findByIdAndProjectIdAndProjectCompanyId(ticketId, projectId, companyId);
 		if(ticketOptional.isEmpty()) {
-			throw new EntityNotFoundException("ticketId", ticketId);
+			throw scopeResolver.ticketNotFound(companyId, projectId, ticketId);
 		}
 		TicketEntity ticketEntityToDelete = ticketOptional.get();
 		
 		// requesting user is not project manager of same project as ticket -> deny
-		UserEntity requestingUser = (UserEntity)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-		if(projectEntity.getProjectManager().getId() != requestingUser.getId()) {
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(ticketEntityToDelete.getProject().getProjectManager().getId() != requestingUser.id()) {
 			throw new UnauthorizedException();
 		}
 		
+		// deletion is recorded, so clients mirroring the project can remove the ticket
+		ticketTombstoneRepository.save(TicketTombstoneEntity.builder()
+															.ticketId(ticketId)
+															.projectId(projectId)
+															.changeNumber(projectService.nextTicketChange(projectId))
+															.deletedAt(LocalDateTime.now())
+															.build());
 		ticketRepository.delete(ticketEntityToDelete);
+		projectStatsService.countTickets(projectId, List.of(ticketEntityToDelete), List.of());
+		auditLog.record(AuditAction.TicketDeleted, companyId, projectId, ticketId, null);
+		ticketSearchIndex.remove(ticketId);
 	}
 	
     /**
      * {@inheritDoc}
      */
 	public boolean ticketExists(String name, long projectId) {
-		return ticketRepository.findByNameAndProjectId(name, projectId).isPresent();
+		return ticketRepository.existsByNameAndProjectId(name, projectId);
 	}
 	
     /**
@@ -194,4 +481,54 @@ public class TicketServiceImpl implements TicketService {
 	public Optional<TicketEntity> getEntityByIdAndProjectId(long ticketId, long projectId) {
 		return ticketRepository.findByIdAndProjectId(ticketId, projectId);
 	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public Optional<Long> getVersion(long companyId, long projectId, long ticketId) {
+		return ticketRepository.findVersionByIdAndProjectIdAndCompanyId(ticketId, projectId, companyId);
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public Optional<Long> getChangeCountInProject(long companyId, long projectId) {
+		return projectService.getTicketChangeCount(companyId, projectId);
+	}
+	
+	private PageResponseDto<TicketResponseDto> searchTicketDtos(long companyId, Long projectId, String query, String cursor, int limit) {
+		PageCursor.requireLimit(limit);
+		
+		// query is blank -> deny
+		if(query.isBlank()) {
+			throw new ValueNotAllowedException("q", query);
+		}
+		
+		// one more hit than requested tells if there is a next page
+		List<TicketSearchHit> hits = ticketSearchIndex.search(companyId, projectId, query, TicketSearchHit.parse(cursor), limit + 1);
+		
+		String nextCursor = null;
+		if(hits.size() > limit) {
+			hits = hits.subList(0, limit);
+			nextCursor = hits.get(limit - 1).encode();
+		}
+		
+		// tickets are loaded at once and returned in the order of their hits, tickets deleted in the meantime are skipped
+		Map<Long, TicketResponseDto> tickets = hits.isEmpty()
+				? Map.of()
+				: ticketRepository.findAllDtosByIdIn(hits.stream().map(TicketSearchHit::ticketId).toList()).stream()
+								  .collect(Collectors.toMap(TicketResponseDto::id, Function.identity()));
+		List<TicketResponseDto> content = hits.stream()
+											  .map(hit -> tickets.get(hit.ticketId()))
+											  .filter(Objects::nonNull)
+											  .toList();
+		
+		return new PageResponseDto<TicketResponseDto>(content, nextCursor);
+	}
+	
+	private void indexTicket(TicketEntity ticketEntity, long companyId, long projectId) {
+		ticketSearchIndex.index(new TicketSearchDocument(ticketEntity.getId(), projectId, companyId, ticketEntity.getName(), ticketEntity.getDescription()));
+	}
 }
@@ -24,4 +24,10 @@ public interface TicketStatusService {
      * @return a string representation of all ticket statuses
      */
 	String getAllTicketStatusesString();
+	
+    /**
+     * Reloads the cached ticket status lookup table from the database.
+     * The table is loaded once at startup, so this is only needed if it was changed afterwards.
+     */
+	void refresh();
 }
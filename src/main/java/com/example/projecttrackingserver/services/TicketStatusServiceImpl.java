@@ -1,8 +1,9 @@
 package com.example.projecttrackingserver.services;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import org.springframework.stereotype.Service;
 
@@ -10,6 +11,8 @@ import com.example.projecttrackingserver.entities.TicketStatusEntity;
 import com.example.projecttrackingserver.enums.TicketStatus;
 import com.example.projecttrackingserver.repositories.TicketStatusRepository;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -17,23 +20,47 @@ import lombok.RequiredArgsConstructor;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 public class TicketStatusServiceImpl implements TicketStatusService {
 
 	private final TicketStatusRepository ticketStatusRepository;
 	
+	private volatile Map<TicketStatus, TicketStatusEntity> ticketStatusEntities = new EnumMap<>(TicketStatus.class);
+	
+    /**
+     * {@inheritDoc}
+     */
+	@PostConstruct
+	public void refresh() {
+		Map<TicketStatus, TicketStatusEntity> loadedEntities = new EnumMap<>(TicketStatus.class);
+		ticketStatusRepository.findAll().forEach(ticketStatusEntity -> loadedEntities.put(ticketStatusEntity.getTicketStatus(), ticketStatusEntity));
+		ticketStatusEntities = loadedEntities;
+	}
+	
     /**
      * {@inheritDoc}
      */
 	public Optional<TicketStatusEntity> getEntityByTicketStatus(TicketStatus ticketStatus) {
-		return ticketStatusRepository.findByTicketStatus(ticketStatus);
+		TicketStatusEntity ticketStatusEntity = ticketStatusEntities.get(ticketStatus);
+		if(ticketStatusEntity != null) {
+			return Optional.of(ticketStatusEntity);
+		}
+		
+		// not loaded yet -> look it up and reload if it was added since
+		Optional<TicketStatusEntity> ticketStatusOptional = ticketStatusRepository.findByTicketStatus(ticketStatus);
+		if(ticketStatusOptional.isPresent()) {
+			refresh();
+		}
+		
+		return ticketStatusOptional;
 	}
 	
     /**
      * {@inheritDoc}
      */
 	public String getAllTicketStatusesString() {
-		return StreamSupport.stream(ticketStatusRepository.findAll().spliterator(), false)
-					 		.map(ticketStatusEntity -> ticketStatusEntity.getTicketStatus().toString())
-					 		.collect(Collectors.joining(", "));
+		return ticketStatusEntities.keySet().stream()
+								   .map(TicketStatus::toString)
+								   .collect(Collectors.joining(", "));
 	}
 }
@@ -24,4 +24,10 @@ public interface TicketTypeService {
      * @return a string representation of all ticket types
      */
 	String getAllTicketTypesString();
+	
+    /**
+     * Reloads the cached ticket type lookup table from the database.
+     * The table is loaded once at startup, so this is only needed if it was changed afterwards.
+     */
+	void refresh();
 }
@@ -1,8 +1,9 @@
 package com.example.projecttrackingserver.services;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
 import org.springframework.stereotype.Service;
 
@@ -10,6 +11,8 @@ import com.example.projecttrackingserver.entities.TicketTypeEntity;
 import com.example.projecttrackingserver.enums.TicketType;
 import com.example.projecttrackingserver.repositories.TicketTypeRepository;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -17,23 +20,47 @@ import lombok.RequiredArgsConstructor;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 public class TicketTypeServiceImpl implements TicketTypeService {
 
 	private final TicketTypeRepository ticketTypeRepository;
 	
+	private volatile Map<TicketType, TicketTypeEntity> ticketTypeEntities = new EnumMap<>(TicketType.class);
+	
+    /**
+     * {@inheritDoc}
+     */
+	@PostConstruct
+	public void refresh() {
+		Map<TicketType, TicketTypeEntity> loadedEntities = new EnumMap<>(TicketType.class);
+		ticketTypeRepository.findAll().forEach(ticketTypeEntity -> loadedEntities.put(ticketTypeEntity.getTicketType(), ticketTypeEntity));
+		ticketTypeEntities = loadedEntities;
+	}
+	
     /**
      * {@inheritDoc}
      */
 	public Optional<TicketTypeEntity> getEntityByTicketType(TicketType ticketType) {
-		return ticketTypeRepository.findByTicketType(ticketType);
+		TicketTypeEntity ticketTypeEntity = ticketTypeEntities.get(ticketType);
+		if(ticketTypeEntity != null) {
+			return Optional.of(ticketTypeEntity);
+		}
+		
+		// not loaded yet -> look it up and reload if it was added since
+		Optional<TicketTypeEntity> ticketTypeOptional = ticketTypeRepository.findByTicketType(ticketType);
+		if(ticketTypeOptional.isPresent()) {
+			refresh();
+		}
+		
+		return ticketTypeOptional;
 	}
 	
     /**
      * {@inheritDoc}
      */
 	public String getAllTicketTypesString() {
-		return StreamSupport.stream(ticketTypeRepository.findAll().spliterator(), false)
-					 		.map(ticketTypeEntity -> ticketTypeEntity.getTicketType().toString())
-					 		.collect(Collectors.joining(", "));
+		return ticketTypeEntities.keySet().stream()
+								   .map(TicketType::toString)
+								   .collect(Collectors.joining(", "));
 	}
 }
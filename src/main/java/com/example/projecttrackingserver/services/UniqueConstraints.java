@@ -0,0 +1,56 @@
+package com.example.projecttrackingserver.services;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * Helper for telling apart violations of unique constraints.
+ * Names are checked by the constraints of the database instead of being looked up before every write,
+ * so the entities carry the names of their constraints, which match the names PostgreSQL gave them in the migrations.
+ */
+public final class UniqueConstraints {
+
+	private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+	private UniqueConstraints() {
+	}
+
+    /**
+     * Checks if a failed write violated a specific unique constraint.
+     * Databases report the name differently, e.g. H2 in upper case and with the name of its index appended,
+     * so the reported name only has to contain the constraint name.
+     *
+     * @param ex the exception of the failed write
+     * @param constraintName the name of the unique constraint
+     * @return true if the constraint was violated, otherwise false
+     */
+	static boolean isViolated(DataIntegrityViolationException ex, String constraintName) {
+		for(Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+			// violated constraint is only known from the exception of Hibernate
+			if(cause instanceof ConstraintViolationException violation) {
+				return violation.getConstraintName() != null
+						&& violation.getConstraintName().toLowerCase(Locale.ROOT).contains(constraintName);
+			}
+		}
+		return false;
+	}
+
+    /**
+     * Checks if a failed write violated any unique constraint.
+     * PostgreSQL and H2 report unique violations with the SQL state 23505, while foreign key, not null or length violations have other states.
+     *
+     * @param ex the exception of the failed write
+     * @return true if a unique constraint was violated, otherwise false
+     */
+	public static boolean isAnyViolated(DataIntegrityViolationException ex) {
+		for(Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+			// SQL state is only known from the exception of Hibernate
+			if(cause instanceof ConstraintViolationException violation) {
+				return UNIQUE_VIOLATION_SQL_STATE.equals(violation.getSQLState());
+			}
+		}
+		return false;
+	}
+}
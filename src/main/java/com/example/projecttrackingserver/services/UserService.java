@@ -3,9 +3,11 @@ package com.example.projecttrackingserver.services;
 import java.util.List;
 import java.util.Optional;
 
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.dto.UserRequestDto;
 import com.example.projecttrackingserver.dto.UserResponseDto;
 import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.ListSort;
 
 /**
  * Service interface related to users.
@@ -13,12 +15,16 @@ import com.example.projecttrackingserver.entities.UserEntity;
 public interface UserService {
 
     /**
-     * Retrieves a list of UserResponseDto for all users in a company.
+     * Retrieves one page of UserResponseDto for the users in a company.
+     * Users are ordered by ID or by username, the next cursor is passed as cursor for the following page.
      *
      * @param companyId the ID of the company
-     * @return a list of UserResponseDto objects
+     * @param sort the order of the users
+     * @param cursor the cursor returned with the previous page, null for the first page
+     * @param limit the maximum number of users in the page
+     * @return a page of UserResponseDto with the next cursor, which is null on the last page
      */
-	List<UserResponseDto> getAllUserDtosByCompanyId(long companyId);
+	PageResponseDto<UserResponseDto> getUserDtosInCompany(long companyId, ListSort sort, String cursor, int limit);
 	
     /**
      * Retrieves a UserResponseDto by user ID within a company.
@@ -90,4 +96,13 @@ public interface UserService {
      * @return true if the user entity exists, false otherwise
      */
 	boolean entityExists(String username);
+	
+    /**
+     * Retrieves the version of a user in a company, which changes with every update of the user.
+     *
+     * @param companyId the ID of the company
+     * @param userId the ID of the user
+     * @return an Optional containing the version if the user exists in the company, otherwise empty
+     */
+	Optional<Long> getVersion(long companyId, long userId);
 }
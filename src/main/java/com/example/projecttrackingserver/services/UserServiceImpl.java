@@ -2,17 +2,24 @@ package com.example.projecttrackingserver.services;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.StreamSupport;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.example.projecttrackingserver.audit.AuditLog;
+import com.example.projecttrackingserver.auth.ApiKeyAuthCache;
+import com.example.projecttrackingserver.auth.AuthenticatedUser;
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.dto.UserRequestDto;
 import com.example.projecttrackingserver.dto.UserResponseDto;
 import com.example.projecttrackingserver.entities.CompanyEntity;
 import com.example.projecttrackingserver.entities.RoleEntity;
 import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.AuditAction;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.enums.Role;
 import com.example.projecttrackingserver.exceptions.EntityAlreadyExistsException;
 import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
@@ -21,6 +28,7 @@ import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
 import com.example.projecttrackingserver.mappers.UserMapper;
 import com.example.projecttrackingserver.repositories.UserRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -28,40 +36,48 @@ import lombok.RequiredArgsConstructor;
  */
 @Service
 @RequiredArgsConstructor
+@Timed(value = "service.method", histogram = true)
 public class UserServiceImpl implements UserService {
 
 	private final UserRepository userRepository;
 	private final UserMapper userMapper;
 	private final RoleService roleService;
 	private final CompanyService companyService;
+	private final ScopeResolver scopeResolver;
+	private final ApiKeyAuthCache authCache;
+	private final AuditLog auditLog;
 	
     /**
      * {@inheritDoc}
      */
-	public List<UserResponseDto> getAllUserDtosByCompanyId(long companyId) {
-		// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
+	@Transactional(readOnly = true)
+	public PageResponseDto<UserResponseDto> getUserDtosInCompany(long companyId, ListSort sort, String cursor, int limit) {
+		PageCursor.requireLimit(limit);
+		PageCursor after = PageCursor.parse(cursor, sort);
+		
+		// one more user than requested tells if there is a next page
+		List<UserResponseDto> users = switch(sort) {
+			case Id -> userRepository.findAllDtosByCompanyIdAfterId(companyId, after.id(), Limit.of(limit + 1));
+			case Name -> userRepository.findAllDtosByCompanyIdAfterName(companyId, after.name(), Limit.of(limit + 1));
+		};
+		
+		// no users -> company might not exist
+		if(users.isEmpty()) {
+			scopeResolver.requireCompany(companyId);
 		}
 		
-		return StreamSupport.stream(userRepository.findAllByCompanyId(companyId).spliterator(), false)
-							.map(user -> userMapper.toDto(user))
-							.collect(Collectors.toList());
+		return PageCursor.page(users, limit, sort, user -> new PageCursor(user.id(), user.username()));
 	}
 	
     /**
      * {@inheritDoc}
      */
+	@Transactional(readOnly = true)
 	public UserResponseDto getUserDtoById(long companyId, long userId) {
-		// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
-		}
-		
-		// user does not exist in company -> deny
+		// company or user does not exist in company -> deny
 		Optional<UserEntity> userOptional = getEntityByIdAndCompanyId(userId, companyId);
 		if(userOptional.isEmpty()) {
-			throw new EntityNotFoundException("userId", userId);
+			throw scopeResolver.userNotFound(companyId, userId);
 		}
 		UserEntity userEntity = userOptional.get();
 			
@@ -71,6 +87,7 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+	@Transactional
 	public UserResponseDto createUser(UserRequestDto userRequestDto, long companyId) {
 		// company does not exist -> deny
 		Optional<CompanyEntity> companyOptional = companyService.getEntityById(companyId);
@@ -78,11 +95,6 @@ public class UserServiceImpl implements UserService {
 			throw new EntityNotFoundException("companyId", companyId);
 		}
 		
-		// user with username already exists -> deny
-		if(entityExists(userRequestDto.username())) {
-			throw new EntityAlreadyExistsException("username", userRequestDto.username());
-		}
-		
 		// developer role does not exists -> deny
 		Optional<RoleEntity> roleOptional = roleService.getEntityByRole(Role.Developer);
 		if(roleOptional.isEmpty()) {
@@ -91,7 +103,16 @@ public class UserServiceImpl implements UserService {
 		
 		UserEntity userEntity = userMapper.toEntity(userRequestDto, companyOptional.get(), roleOptional.get());
 
-		userEntity = userRepository.save(userEntity);
+		try {
+			userEntity = userRepository.saveAndFlush(userEntity);
+		} catch(DataIntegrityViolationException ex) {
+			// user with username already exists -> deny
+			if(UniqueConstraints.isViolated(ex, UserEntity.USERNAME_UNIQUE_CONSTRAINT)) {
+				throw new EntityAlreadyExistsException("username", userRequestDto.username());
+			}
+			throw ex;
+		}
+		auditLog.record(AuditAction.UserCreated, companyId, null, userEntity.getId(), null);
 		
 		return userMapper.toDto(userEntity);
 	}
@@ -99,22 +120,18 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+	@Transactional
 	public UserResponseDto updateUser(UserRequestDto userRequestDto, long companyId, long userId) {
-		// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
-		}
-		
-		// user to update does not exist -> deny
+		// company or user to update does not exist -> deny
 		Optional<UserEntity> userToUpdateOptional = getEntityByIdAndCompanyId(userId, companyId);
 		if(userToUpdateOptional.isEmpty()) {
-			throw new EntityNotFoundException("userId", userId);
+			throw scopeResolver.userNotFound(companyId, userId);
 		}
 		UserEntity userToUpdateEntity = userToUpdateOptional.get();
 		
 		// requesting user is not user to update or not admin in same company as user to update -> deny
-		UserEntity requestingUser = (UserEntity)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-		if(!(requestingUser.getId() == userId || requestingUser.getRole().getRole() == Role.Admin && requestingUser.getCompany().getId() == userToUpdateEntity.getCompany().getId())) {
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(!(requestingUser.id() == userId || requestingUser.role() == Role.Admin && requestingUser.companyId() == userToUpdateEntity.getCompany().getId())) {
 			throw new UnauthorizedException();
 		}
 		
@@ -123,14 +140,19 @@ public class UserServiceImpl implements UserService {
 			throw new ValueNotAllowedException("username", userRequestDto.username());
 		}
 		
-		// other user with updated username already exists -> deny
-		if(entityExists(userRequestDto.username())) {
-			throw new EntityAlreadyExistsException("username", userRequestDto.username());
-		}
-		
 		userToUpdateEntity = userMapper.updateEntity(userToUpdateEntity, userRequestDto);
 		
-		userToUpdateEntity = userRepository.save(userToUpdateEntity);
+		try {
+			userToUpdateEntity = userRepository.saveAndFlush(userToUpdateEntity);
+		} catch(DataIntegrityViolationException ex) {
+			// other user with updated username already exists -> deny
+			if(UniqueConstraints.isViolated(ex, UserEntity.USERNAME_UNIQUE_CONSTRAINT)) {
+				throw new EntityAlreadyExistsException("username", userRequestDto.username());
+			}
+			throw ex;
+		}
+		authCache.invalidate(userId);
+		auditLog.record(AuditAction.UserUpdated, companyId, null, userId, null);
 
 		return userMapper.toDto(userToUpdateEntity);
 	}
@@ -138,22 +160,18 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+	@Transactional
 	public UserResponseDto assignRoleToUser(long companyId, long userId, long roleId) {
-		// company does not exist -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
-		}
-
-		// user to assign role does not exist -> deny
+		// company or user to assign role does not exist -> deny
 		Optional<UserEntity> userToAssignRoleOptional = getEntityByIdAndCompanyId(userId, companyId);
 		if(userToAssignRoleOptional.isEmpty()) {
-			throw new EntityNotFoundException("userId", userId);
+			throw scopeResolver.userNotFound(companyId, userId);
 		}
 		UserEntity userToAssignRoleEntity = userToAssignRoleOptional.get();
 		
 		// requesting user is not user to update or not admin in same company as user to update -> deny
-		UserEntity requestingUser = (UserEntity)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-		if(!(requestingUser.getId() == userId || requestingUser.getRole().getRole() == Role.Admin && requestingUser.getCompany().getId() == userToAssignRoleEntity.getCompany().getId())) {
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(!(requestingUser.id() == userId || requestingUser.role() == Role.Admin && requestingUser.companyId() == userToAssignRoleEntity.getCompany().getId())) {
 			throw new UnauthorizedException();
 		}
 		
@@ -166,6 +184,8 @@ public class UserServiceImpl implements UserService {
 		
 		userToAssignRoleEntity.setRole(roleEntity);
 		userToAssignRoleEntity = userRepository.save(userToAssignRoleEntity);
+		authCache.invalidate(userId);
+		auditLog.record(AuditAction.RoleAssigned, companyId, null, userId, roleEntity.getRole().toString());
 		
 		return userMapper.toDto(userToAssignRoleEntity);
 	}
@@ -173,26 +193,24 @@ public class UserServiceImpl implements UserService {
     /**
      * {@inheritDoc}
      */
+	@Transactional
 	public void deleteUser(long companyId, long userId) {
-		// company does not exists -> deny
-		if(!companyService.entityExists(companyId)) {
-			throw new EntityNotFoundException("companyId", companyId);
-		}
-		
-		// user does not exists -> deny
+		// company or user does not exist -> deny
 		Optional<UserEntity> userToDeleteOptional = getEntityByIdAndCompanyId(userId, companyId);
 		if(userToDeleteOptional.isEmpty()) {
-			throw new EntityNotFoundException("userId", userId);
+			throw scopeResolver.userNotFound(companyId, userId);
 		}
 		UserEntity userToDeleteEntity = userToDeleteOptional.get();
 		
 		// requesting user is not user to delete or not admin of same company -> deny
-		UserEntity requestingUser = (UserEntity)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-		if(!(requestingUser.getId() == userId || requestingUser.getRole().getRole() == Role.Admin && requestingUser.getCompany().getId() == userToDeleteEntity.getCompany().getId())) {
+		AuthenticatedUser requestingUser = (AuthenticatedUser)SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		if(!(requestingUser.id() == userId || requestingUser.role() == Role.Admin && requestingUser.companyId() == userToDeleteEntity.getCompany().getId())) {
 			throw new UnauthorizedException();
 		}
 		
 		userRepository.deleteById(userId);
+		authCache.invalidate(userId);
+		auditLog.record(AuditAction.UserDeleted, companyId, null, userId, null);
 	}
 	
     /**
@@ -213,6 +231,14 @@ public class UserServiceImpl implements UserService {
      * {@inheritDoc}
      */
 	public boolean entityExists(String username) {
-		return userRepository.findByUsername(username).isPresent();
+		return userRepository.existsByUsername(username);
+	}
+	
+    /**
+     * {@inheritDoc}
+     */
+	@Transactional(readOnly = true)
+	public Optional<Long> getVersion(long companyId, long userId) {
+		return userRepository.findVersionByIdAndCompanyId(userId, companyId);
 	}
 }
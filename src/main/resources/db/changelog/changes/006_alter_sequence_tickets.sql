@@ -0,0 +1,3 @@
+--changeset henri:1
+ALTER SEQUENCE tickets_id_seq INCREMENT BY 50;
+--rollback ALTER SEQUENCE tickets_id_seq INCREMENT BY 1;
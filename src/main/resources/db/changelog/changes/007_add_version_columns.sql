@@ -0,0 +1,11 @@
+--changeset henri:1
+ALTER TABLE companies ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE projects ADD COLUMN ticket_change_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tickets ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+--rollback ALTER TABLE tickets DROP COLUMN version;
+--rollback ALTER TABLE projects DROP COLUMN ticket_change_count;
+--rollback ALTER TABLE projects DROP COLUMN version;
+--rollback ALTER TABLE users DROP COLUMN version;
+--rollback ALTER TABLE companies DROP COLUMN version;
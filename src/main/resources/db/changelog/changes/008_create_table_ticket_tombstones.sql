@@ -0,0 +1,17 @@
+--changeset henri:1
+ALTER TABLE tickets ADD COLUMN change_number BIGINT NOT NULL DEFAULT 0;
+CREATE INDEX tickets_project_id_change_number_idx ON tickets(project_id, change_number);
+--rollback DROP INDEX tickets_project_id_change_number_idx;
+--rollback ALTER TABLE tickets DROP COLUMN change_number;
+
+--changeset henri:2
+CREATE TABLE ticket_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    ticket_id BIGINT NOT NULL,
+    project_id BIGINT NOT NULL,
+    change_number BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL,
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+CREATE INDEX ticket_tombstones_project_id_change_number_idx ON ticket_tombstones(project_id, change_number);
+--rollback drop table ticket_tombstones;
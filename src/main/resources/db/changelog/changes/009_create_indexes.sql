@@ -0,0 +1,19 @@
+--changeset henri:1 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_company_id_idx ON users(company_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS projects_company_id_idx ON projects(company_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS projects_users_user_id_idx ON projects_users(user_id);
+--rollback DROP INDEX users_company_id_idx;
+--rollback DROP INDEX projects_company_id_idx;
+--rollback DROP INDEX projects_users_user_id_idx;
+
+--changeset henri:2 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS tickets_project_id_id_idx ON tickets(project_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS tickets_project_id_ticket_status_id_idx ON tickets(project_id, ticket_status_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS tickets_project_id_ticket_priority_id_idx ON tickets(project_id, ticket_priority_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS tickets_project_id_ticket_type_id_idx ON tickets(project_id, ticket_type_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS tickets_creator_id_idx ON tickets(creator_id);
+--rollback DROP INDEX tickets_project_id_id_idx;
+--rollback DROP INDEX tickets_project_id_ticket_status_id_idx;
+--rollback DROP INDEX tickets_project_id_ticket_priority_id_idx;
+--rollback DROP INDEX tickets_project_id_ticket_type_id_idx;
+--rollback DROP INDEX tickets_creator_id_idx;
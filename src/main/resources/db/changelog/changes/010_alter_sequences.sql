@@ -0,0 +1,17 @@
+--changeset henri:1
+ALTER SEQUENCE companies_id_seq INCREMENT BY 50;
+ALTER SEQUENCE roles_id_seq INCREMENT BY 50;
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE projects_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ticket_priorities_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ticket_statuses_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ticket_types_id_seq INCREMENT BY 50;
+ALTER SEQUENCE ticket_tombstones_id_seq INCREMENT BY 50;
+--rollback ALTER SEQUENCE ticket_tombstones_id_seq INCREMENT BY 1;
+--rollback ALTER SEQUENCE ticket_types_id_seq INCREMENT BY 1;
+--rollback ALTER SEQUENCE ticket_statuses_id_seq INCREMENT BY 1;
+--rollback ALTER SEQUENCE ticket_priorities_id_seq INCREMENT BY 1;
+--rollback ALTER SEQUENCE projects_id_seq INCREMENT BY 1;
+--rollback ALTER SEQUENCE users_id_seq INCREMENT BY 1;
+--rollback ALTER SEQUENCE roles_id_seq INCREMENT BY 1;
+--rollback ALTER SEQUENCE companies_id_seq INCREMENT BY 1;
@@ -0,0 +1,5 @@
+--changeset henri:1 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS users_company_id_username_idx ON users(company_id, username);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS projects_company_id_name_idx ON projects(company_id, name);
+--rollback DROP INDEX users_company_id_username_idx;
+--rollback DROP INDEX projects_company_id_name_idx;
@@ -0,0 +1,14 @@
+--changeset henri:1
+CREATE TABLE audit_events (
+    id BIGSERIAL PRIMARY KEY,
+    action VARCHAR(255) NOT NULL,
+    company_id BIGINT NOT NULL,
+    project_id BIGINT,
+    entity_id BIGINT NOT NULL,
+    actor_id BIGINT,
+    detail VARCHAR(255),
+    occurred_at TIMESTAMP NOT NULL
+);
+ALTER SEQUENCE audit_events_id_seq INCREMENT BY 50;
+CREATE INDEX audit_events_company_id_occurred_at_idx ON audit_events(company_id, occurred_at);
+--rollback drop table audit_events;
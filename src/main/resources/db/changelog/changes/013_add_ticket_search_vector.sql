@@ -0,0 +1,9 @@
+--changeset henri:1
+ALTER TABLE tickets ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+    setweight(to_tsvector('simple', name), 'A') || setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+) STORED;
+--rollback ALTER TABLE tickets DROP COLUMN search_vector;
+
+--changeset henri:2 runInTransaction:false
+CREATE INDEX CONCURRENTLY IF NOT EXISTS tickets_search_vector_idx ON tickets USING GIN (search_vector);
+--rollback DROP INDEX tickets_search_vector_idx;
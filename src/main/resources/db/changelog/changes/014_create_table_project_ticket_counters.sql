@@ -0,0 +1,19 @@
+--changeset henri:1
+CREATE TABLE project_ticket_counters (
+    project_id BIGINT NOT NULL,
+    dimension VARCHAR(255) NOT NULL,
+    dimension_value VARCHAR(255) NOT NULL,
+    ticket_count BIGINT NOT NULL,
+    PRIMARY KEY (project_id, dimension, dimension_value),
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
+);
+--rollback drop table project_ticket_counters;
+
+--changeset henri:2
+INSERT INTO project_ticket_counters (project_id, dimension, dimension_value, ticket_count)
+SELECT t.project_id, 'TicketStatus', ts.ticket_status, COUNT(*) FROM tickets t JOIN ticket_statuses ts ON ts.id = t.ticket_status_id GROUP BY t.project_id, ts.ticket_status
+UNION ALL
+SELECT t.project_id, 'TicketPriority', tp.ticket_priority, COUNT(*) FROM tickets t JOIN ticket_priorities tp ON tp.id = t.ticket_priority_id GROUP BY t.project_id, tp.ticket_priority
+UNION ALL
+SELECT t.project_id, 'TicketType', tt.ticket_type, COUNT(*) FROM tickets t JOIN ticket_types tt ON tt.id = t.ticket_type_id GROUP BY t.project_id, tt.ticket_type;
+--rollback DELETE FROM project_ticket_counters;
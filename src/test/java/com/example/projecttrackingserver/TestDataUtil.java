@@ -1,7 +1,11 @@
 package com.example.projecttrackingserver;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
 import com.example.projecttrackingserver.entities.CompanyEntity;
 import com.example.projecttrackingserver.entities.ProjectEntity;
 import com.example.projecttrackingserver.entities.RoleEntity;
@@ -256,4 +260,15 @@ public final class TestDataUtil {
 				   .ticketStatus(ticketStatus)
 				   .build();
 	}
+	
+    /**
+     * Creates the exception thrown by a repository when a write violates a constraint of the database.
+     *
+     * @param constraintName the name of the violated constraint
+     * @return a DataIntegrityViolationException caused by the violation of the constraint
+     */
+	public static DataIntegrityViolationException createConstraintViolation(String constraintName) {
+		return new DataIntegrityViolationException("could not execute statement",
+				new ConstraintViolationException("could not execute statement", new SQLException("duplicate key value", "23505"), constraintName));
+	}
 }
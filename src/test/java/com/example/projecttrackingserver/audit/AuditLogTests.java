@@ -0,0 +1,176 @@
+package com.example.projecttrackingserver.audit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.projecttrackingserver.entities.AuditEventEntity;
+import com.example.projecttrackingserver.enums.AuditAction;
+import com.example.projecttrackingserver.repositories.AuditEventRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for the AuditLog.
+ * This class tests if recorded changes are buffered and written as intended.
+ */
+@ExtendWith(MockitoExtension.class)
+public class AuditLogTests {
+
+	private AuditLog underTest;
+
+	@Mock
+	private AuditEventRepository auditEventRepository;
+
+	@Captor
+	private ArgumentCaptor<Iterable<AuditEventEntity>> batchCaptor;
+
+	@AfterEach
+	public void tearDown() {
+		if(underTest != null) {
+			underTest.stop();
+		}
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+    /**
+     * Tests recording more changes than fit into one batch.
+     * Expects that all events are written in batches of the batch size.
+     */
+	@Test
+	public void Record_ExceedBatchSize_WriteEventsInBatches() {
+		// Arrange
+		underTest = createAuditLog(AuditLog.Mode.Async, 10);
+
+		// Act
+		underTest.record(AuditAction.TicketCreated, 1, 1L, 1, null);
+		underTest.record(AuditAction.TicketUpdated, 1, 1L, 1, null);
+		underTest.record(AuditAction.TicketDeleted, 1, 1L, 1, null);
+		underTest.start();
+		underTest.stop();
+
+		// Assert
+		verify(auditEventRepository, times(2)).saveAll(batchCaptor.capture());
+		List<AuditAction> writtenActions = new ArrayList<>();
+		batchCaptor.getAllValues().forEach(batch -> batch.forEach(entity -> writtenActions.add(entity.getAction())));
+		assertAll(() -> {
+			assertEquals(List.of(AuditAction.TicketCreated, AuditAction.TicketUpdated, AuditAction.TicketDeleted), writtenActions);
+			assertEquals(3, underTest.getWrittenCount());
+			assertEquals(0, underTest.getBufferSize());
+		});
+	}
+
+    /**
+     * Tests recording a change while the buffer is full.
+     * Expects that the event is dropped.
+     */
+	@Test
+	public void Record_BufferFull_DropEvent() {
+		// Arrange
+		underTest = createAuditLog(AuditLog.Mode.Async, 1);
+
+		// Act
+		underTest.record(AuditAction.UserCreated, 1, null, 1, null);
+		underTest.record(AuditAction.UserCreated, 1, null, 2, null);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(1, underTest.getBufferSize());
+			assertEquals(1, underTest.getDroppedCount());
+		});
+	}
+
+    /**
+     * Tests recording a change inside a transaction.
+     * Expects that the event is only buffered once the transaction committed.
+     */
+	@Test
+	public void Record_InTransaction_BufferEventAfterCommit() {
+		// Arrange
+		underTest = createAuditLog(AuditLog.Mode.Async, 10);
+		TransactionSynchronizationManager.initSynchronization();
+
+		// Act
+		underTest.record(AuditAction.MemberAdded, 1, 1L, 2, null);
+		int bufferSizeBeforeCommit = underTest.getBufferSize();
+		TransactionSynchronizationManager.getSynchronizations()
+										 .forEach(TransactionSynchronization::afterCommit);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(0, bufferSizeBeforeCommit);
+			assertEquals(1, underTest.getBufferSize());
+		});
+	}
+
+    /**
+     * Tests writing a batch while the database is not reachable.
+     * Expects that the events of the batch are dropped.
+     */
+	@Test
+	public void Record_WriteFails_DropBatch() {
+		// Arrange
+		underTest = createAuditLog(AuditLog.Mode.Async, 10);
+
+		// Mock
+		when(auditEventRepository.saveAll(Mockito.any()))
+								 .thenThrow(new DataAccessResourceFailureException("Database not reachable"));
+
+		// Act
+		underTest.record(AuditAction.ProjectDeleted, 1, 1L, 1, null);
+		underTest.start();
+		underTest.stop();
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(0, underTest.getWrittenCount());
+			assertEquals(1, underTest.getDroppedCount());
+		});
+	}
+
+    /**
+     * Tests recording a change in the Outbox mode.
+     * Expects that the event is saved directly and no background writer is started.
+     */
+	@Test
+	public void Record_OutboxMode_SaveEventDirectly() {
+		// Arrange
+		underTest = createAuditLog(AuditLog.Mode.Outbox, 10);
+
+		// Act
+		underTest.start();
+		underTest.record(AuditAction.RoleAssigned, 1, null, 1, "Admin");
+
+		// Assert
+		assertAll(() -> {
+			assertFalse(underTest.isRunning());
+			assertEquals(0, underTest.getBufferSize());
+		});
+		verify(auditEventRepository, times(1)).save(Mockito.any(AuditEventEntity.class));
+	}
+
+	private AuditLog createAuditLog(AuditLog.Mode mode, int bufferSize) {
+		return new AuditLog(auditEventRepository, new SimpleMeterRegistry(), mode, bufferSize, 2, Duration.ZERO);
+	}
+}
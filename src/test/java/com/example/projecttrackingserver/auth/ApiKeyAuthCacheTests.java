@@ -0,0 +1,191 @@
+package com.example.projecttrackingserver.auth;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.projecttrackingserver.enums.Role;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for the ApiKeyAuthCache.
+ * This class tests if the caching of authenticated users works as intended.
+ */
+public class ApiKeyAuthCacheTests {
+
+	private ApiKeyAuthCache underTest;
+
+	private AuthenticatedUser user1;
+	private AuthenticatedUser user2;
+	private AtomicInteger loads;
+	private Function<String, Optional<AuthenticatedUser>> loader;
+	private SimpleMeterRegistry meterRegistry;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		meterRegistry = new SimpleMeterRegistry();
+		underTest = new ApiKeyAuthCache(1, Duration.ofMinutes(1), Ticker.systemTicker(), meterRegistry);
+		user1 = new AuthenticatedUser(1L, 1L, Role.Admin);
+		user2 = new AuthenticatedUser(2L, 1L, Role.Developer);
+		loads = new AtomicInteger();
+		loader = apiKey -> {
+			loads.incrementAndGet();
+			return switch(apiKey) {
+				case "key1" -> Optional.of(user1);
+				case "key2" -> Optional.of(user2);
+				default -> Optional.empty();
+			};
+		};
+	}
+
+    /**
+     * Tests retrieving the same user twice.
+     * Expects that the user is only loaded once and the second lookup is a hit.
+     */
+	@Test
+	public void Get_RetrieveUserTwice_LoadUserOnce() {
+		// Act
+		Optional<AuthenticatedUser> retrievedUser1 = underTest.get("key1", loader);
+		Optional<AuthenticatedUser> retrievedUser2 = underTest.get("key1", loader);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(Optional.of(user1), retrievedUser1);
+			assertEquals(Optional.of(user1), retrievedUser2);
+			assertEquals(1, loads.get());
+			assertEquals(1, underTest.getHitCount());
+			assertEquals(1, underTest.getMissCount());
+		});
+	}
+
+    /**
+     * Tests retrieving an unknown API key twice.
+     * Expects that unknown keys are not cached.
+     */
+	@Test
+	public void Get_RetrieveUnknownKeyTwice_LoadKeyTwice() {
+		// Act
+		Optional<AuthenticatedUser> retrievedUser1 = underTest.get("unknown", loader);
+		Optional<AuthenticatedUser> retrievedUser2 = underTest.get("unknown", loader);
+
+		// Assert
+		assertAll(() -> {
+			assertTrue(retrievedUser1.isEmpty());
+			assertTrue(retrievedUser2.isEmpty());
+			assertEquals(2, loads.get());
+			assertEquals(0, underTest.size());
+		});
+	}
+
+    /**
+     * Tests invalidating a cached user.
+     * Expects that the user is loaded again afterwards.
+     */
+	@Test
+	public void Invalidate_InvalidateCachedUser_LoadUserAgain() {
+		// Act
+		underTest.get("key1", loader);
+		underTest.invalidate(user1.id());
+		underTest.get("key1", loader);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(2, loads.get());
+			assertEquals(0, underTest.getHitCount());
+		});
+	}
+
+    /**
+     * Tests invalidating a user while it is loaded.
+     * Expects that the user loaded before the invalidation is returned but not cached.
+     */
+	@Test
+	public void Get_InvalidateWhileLoading_LoadUserAgain() {
+		// Arrange
+		Function<String, Optional<AuthenticatedUser>> invalidatingLoader = apiKey -> {
+			Optional<AuthenticatedUser> loadedUser = loader.apply(apiKey);
+			underTest.invalidate(user1.id());
+			return loadedUser;
+		};
+
+		// Act
+		Optional<AuthenticatedUser> retrievedUser = underTest.get("key1", invalidatingLoader);
+		underTest.get("key1", loader);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(Optional.of(user1), retrievedUser);
+			assertEquals(2, loads.get());
+			assertEquals(0, underTest.getHitCount());
+		});
+	}
+
+    /**
+     * Tests caching more users than the cache can hold.
+     * Expects that a user is evicted.
+     */
+	@Test
+	public void Get_ExceedMaxSize_EvictUser() {
+		// Act
+		underTest.get("key1", loader);
+		underTest.get("key2", loader);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(1, underTest.size());
+			assertEquals(1, underTest.getEvictionCount());
+		});
+	}
+
+    /**
+     * Tests retrieving a user after its entry expired.
+     * Expects that the expired entry is evicted and the user is loaded again.
+     */
+	@Test
+	public void Get_RetrieveExpiredUser_LoadUserAgain() {
+		// Arrange
+		AtomicLong nanos = new AtomicLong();
+		underTest = new ApiKeyAuthCache(10, Duration.ofMinutes(1), nanos::get, meterRegistry);
+
+		// Act
+		underTest.get("key1", loader);
+		nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+		underTest.get("key1", loader);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(2, loads.get());
+			assertEquals(1, underTest.getEvictionCount());
+		});
+	}
+
+    /**
+     * Tests the metrics of the cache after retrieving a known and an unknown API key.
+     * Expects that hits, misses and the size are published in the meter registry.
+     */
+	@Test
+	public void Get_RetrieveKnownAndUnknownKeys_PublishHitsAndMisses() {
+		// Act
+		underTest.get("key1", loader);
+		underTest.get("key1", loader);
+		underTest.get("unknown", loader);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(1, meterRegistry.get("cache.gets").tag("cache", ApiKeyAuthCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+			assertEquals(2, meterRegistry.get("cache.gets").tag("cache", ApiKeyAuthCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+			assertEquals(1, meterRegistry.get("cache.size").tag("cache", ApiKeyAuthCache.CACHE_NAME).gauge().value());
+		});
+	}
+}
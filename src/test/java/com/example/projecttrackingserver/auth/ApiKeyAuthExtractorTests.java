@@ -0,0 +1,142 @@
+package com.example.projecttrackingserver.auth;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.services.UserServiceImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for the ApiKeyAuthExtractor.
+ * This class tests if API keys are only looked up while the client has budget left and refused lookups are rejected.
+ */
+@ExtendWith(MockitoExtension.class)
+public class ApiKeyAuthExtractorTests {
+
+	private ApiKeyAuthExtractor underTest;
+
+	@Mock
+	private UserServiceImpl userService;
+
+	private RateLimitProperties properties;
+	private RateLimiter rateLimiter;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		properties = new RateLimitProperties();
+		properties.setAnonymous(new RateLimitProperties.Budget(new RateLimitProperties.Limit(2, 0.001), new RateLimitProperties.Limit(1, 0.001)));
+		rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+		underTest = new ApiKeyAuthExtractor(userService, new ApiKeyAuthCache(10, Duration.ofMinutes(1), new SimpleMeterRegistry()), rateLimiter);
+	}
+
+    /**
+     * Tests requests with unknown API keys from one address beyond its anonymous budget.
+     * Expects that only as many keys are looked up as the read budget of the address allows.
+     */
+	@Test
+	public void Extract_UnknownKeysBeyondBudget_LookUpWithinBudget() {
+		// Mock
+		when(userService.getEntityByAPIKey(anyString()))
+						.thenReturn(Optional.empty());
+
+		// Act
+		Optional<Authentication> firstAuthentication = underTest.extract(createRequest("unknown1", "10.0.0.1"));
+		Optional<Authentication> secondAuthentication = underTest.extract(createRequest("unknown2", "10.0.0.1"));
+		Optional<Authentication> thirdAuthentication = underTest.extract(createRequest("unknown3", "10.0.0.1"));
+
+		// Assert
+		assertAll(() -> {
+			assertTrue(firstAuthentication.isEmpty());
+			assertTrue(secondAuthentication.isEmpty());
+			assertTrue(thirdAuthentication.isEmpty());
+		});
+		verify(userService, times(2)).getEntityByAPIKey(anyString());
+	}
+
+    /**
+     * Tests requests with a valid API key from an address which used up its anonymous budget afterwards.
+     * Expects that the cached user is still authenticated without another lookup.
+     */
+	@Test
+	public void Extract_CachedKeyAfterBudgetUsedUp_ReturnAuthentication() {
+		// Arrange
+		UserEntity userEntity = TestDataUtil.createUser1(TestDataUtil.createDeveloperRole(), TestDataUtil.createCompany1());
+
+		// Mock
+		when(userService.getEntityByAPIKey(userEntity.getApiKey()))
+						.thenReturn(Optional.of(userEntity));
+		when(userService.getEntityByAPIKey("unknown"))
+						.thenReturn(Optional.empty());
+
+		// Act
+		underTest.extract(createRequest(userEntity.getApiKey(), "10.0.0.1"));
+		underTest.extract(createRequest("unknown", "10.0.0.1"));
+		Optional<Authentication> authentication = underTest.extract(createRequest(userEntity.getApiKey(), "10.0.0.1"));
+
+		// Assert
+		assertTrue(authentication.isPresent());
+		verify(userService, times(1)).getEntityByAPIKey(userEntity.getApiKey());
+	}
+
+    /**
+     * Tests a request with a valid API key which is not cached from an address which used up its anonymous budget.
+     * Expects that the key is not looked up and the request is rejected with 429 instead of being handled as anonymous request.
+     */
+	@Test
+	public void Extract_ValidKeyLookupRefused_RejectWithTooManyRequests() throws Exception {
+		// Arrange
+		UserEntity userEntity = TestDataUtil.createUser1(TestDataUtil.createDeveloperRole(), TestDataUtil.createCompany1());
+		AtomicInteger passed = new AtomicInteger();
+		MockHttpServletRequest request = createRequest(userEntity.getApiKey(), "10.0.0.1");
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// Mock
+		when(userService.getEntityByAPIKey(anyString()))
+						.thenReturn(Optional.empty());
+
+		// Act
+		underTest.extract(createRequest("unknown1", "10.0.0.1"));
+		underTest.extract(createRequest("unknown2", "10.0.0.1"));
+		Optional<Authentication> authentication = underTest.extract(request);
+		new RateLimitFilter(rateLimiter).doFilter(request, response, (filteredRequest, filteredResponse) -> passed.incrementAndGet());
+
+		// Assert
+		assertAll(() -> {
+			assertTrue(authentication.isEmpty());
+			assertEquals(0, passed.get());
+			assertEquals(429, response.getStatus());
+			assertEquals("1000", response.getHeader(HttpHeaders.RETRY_AFTER));
+		});
+		verify(userService, never()).getEntityByAPIKey(userEntity.getApiKey());
+	}
+
+	private static MockHttpServletRequest createRequest(String apiKey, String clientAddress) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/companies");
+		request.addHeader("ApiKey", apiKey);
+		request.setRemoteAddr(clientAddress);
+		return request;
+	}
+}
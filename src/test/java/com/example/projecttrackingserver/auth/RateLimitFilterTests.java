@@ -0,0 +1,141 @@
+package com.example.projecttrackingserver.auth;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.projecttrackingserver.enums.Role;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+/**
+ * Test class for the RateLimitFilter.
+ * This class tests if requests beyond the budget are rejected as intended.
+ */
+public class RateLimitFilterTests {
+
+	private RateLimitFilter underTest;
+
+	private RateLimitProperties properties;
+	private AtomicInteger passed;
+	private FilterChain filterChain;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		properties = new RateLimitProperties();
+		properties.setAnonymous(new RateLimitProperties.Budget(new RateLimitProperties.Limit(1, 0.5), new RateLimitProperties.Limit(1, 0.5)));
+		properties.setDeveloper(new RateLimitProperties.Budget(new RateLimitProperties.Limit(2, 0.5), new RateLimitProperties.Limit(1, 0.5)));
+		underTest = new RateLimitFilter(new RateLimiter(properties, new SimpleMeterRegistry()));
+		passed = new AtomicInteger();
+		filterChain = (filteredRequest, filteredResponse) -> passed.incrementAndGet();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+    /**
+     * Tests anonymous requests beyond the budget.
+     * Expects that the request is rejected with 429 and the seconds until the next token in Retry-After.
+     */
+	@Test
+	public void DoFilter_AnonymousBudgetUsedUp_ReturnTooManyRequests() throws Exception {
+		// Arrange
+		underTest.doFilter(new MockHttpServletRequest("GET", "/api/v1/companies"), new MockHttpServletResponse(), filterChain);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		// Act
+		underTest.doFilter(new MockHttpServletRequest("GET", "/api/v1/companies"), response, filterChain);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(1, passed.get());
+			assertEquals(429, response.getStatus());
+			assertEquals("2", response.getHeader(HttpHeaders.RETRY_AFTER));
+		});
+	}
+
+    /**
+     * Tests requests with a valid API key from the address of a limited anonymous client.
+     * Expects that the authenticated user is limited by the budget of its role.
+     */
+	@Test
+	public void DoFilter_AuthenticatedUser_UseBudgetOfRole() throws Exception {
+		// Arrange
+		underTest.doFilter(new MockHttpServletRequest("GET", "/api/v1/companies"), new MockHttpServletResponse(), filterChain);
+		SecurityContextHolder.getContext().setAuthentication(new ApiKeyAuth(new AuthenticatedUser(1L, 1L, Role.Developer), AuthorityUtils.NO_AUTHORITIES));
+		MockHttpServletResponse firstResponse = new MockHttpServletResponse();
+		MockHttpServletResponse secondResponse = new MockHttpServletResponse();
+
+		// Act
+		underTest.doFilter(new MockHttpServletRequest("GET", "/api/v1/companies/1/users"), firstResponse, filterChain);
+		underTest.doFilter(new MockHttpServletRequest("GET", "/api/v1/companies/1/users"), secondResponse, filterChain);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(3, passed.get());
+			assertEquals(200, firstResponse.getStatus());
+			assertEquals(200, secondResponse.getStatus());
+			assertNull(secondResponse.getHeader(HttpHeaders.RETRY_AFTER));
+		});
+	}
+
+    /**
+     * Tests a request whose API key was not looked up, because its address used up its anonymous budget.
+     * Expects that the request is rejected with 429 and the wait of the refused lookup, without taking a token.
+     */
+	@Test
+	public void DoFilter_LookupRefused_ReturnTooManyRequests() throws Exception {
+		// Arrange
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/companies");
+		request.setAttribute(RateLimitFilter.LOOKUP_WAIT_NANOS_ATTRIBUTE, TimeUnit.MILLISECONDS.toNanos(2500));
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		MockHttpServletResponse anonymousResponse = new MockHttpServletResponse();
+
+		// Act
+		underTest.doFilter(request, response, filterChain);
+		underTest.doFilter(new MockHttpServletRequest("GET", "/api/v1/companies"), anonymousResponse, filterChain);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(1, passed.get());
+			assertEquals(429, response.getStatus());
+			assertEquals("3", response.getHeader(HttpHeaders.RETRY_AFTER));
+			assertEquals(200, anonymousResponse.getStatus());
+		});
+	}
+
+    /**
+     * Tests requests to the actuator beyond the budget.
+     * Expects that health checks are never limited.
+     */
+	@Test
+	public void DoFilter_ActuatorRequests_NotLimited() throws Exception {
+		// Arrange
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+		request.setServletPath("/actuator/health");
+
+		// Act
+		for(int i = 0; i < 5; i++) {
+			underTest.doFilter(request, new MockHttpServletResponse(), filterChain);
+			request.clearAttributes();
+		}
+
+		// Assert
+		assertEquals(5, passed.get());
+	}
+}
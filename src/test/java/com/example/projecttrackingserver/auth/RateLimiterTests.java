@@ -0,0 +1,265 @@
+package com.example.projecttrackingserver.auth;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.projecttrackingserver.enums.Role;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for the RateLimiter.
+ * This class tests if the budgets of the clients are limited and refilled as intended.
+ */
+public class RateLimiterTests {
+
+	private RateLimiter underTest;
+
+	private RateLimitProperties properties;
+	private SimpleMeterRegistry meterRegistry;
+	private AuthenticatedUser developer;
+	private AuthenticatedUser admin;
+	private AtomicLong nanos;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		properties = new RateLimitProperties();
+		properties.setAnonymous(new RateLimitProperties.Budget(new RateLimitProperties.Limit(1, 1), new RateLimitProperties.Limit(1, 1)));
+		properties.setDeveloper(new RateLimitProperties.Budget(new RateLimitProperties.Limit(2, 1), new RateLimitProperties.Limit(1, 0.5)));
+		properties.setAdmin(new RateLimitProperties.Budget(new RateLimitProperties.Limit(4, 2), new RateLimitProperties.Limit(2, 1)));
+		meterRegistry = new SimpleMeterRegistry();
+		nanos = new AtomicLong(TimeUnit.HOURS.toNanos(1));
+		underTest = new RateLimiter(properties, meterRegistry, nanos::get);
+		developer = new AuthenticatedUser(1L, 1L, Role.Developer);
+		admin = new AuthenticatedUser(2L, 1L, Role.Admin);
+	}
+
+    /**
+     * Tests creating a RateLimiter before any request.
+     * Expects that a rejected counter is registered for every role, anonymous clients and every budget.
+     */
+	@Test
+	public void Constructor_NoRequests_RegisterRejectedCounters() {
+		// Assert
+		assertAll(() -> {
+			assertEquals(12, meterRegistry.get("rate.limit.rejected").counters().size());
+			assertEquals(0, meterRegistry.get("rate.limit.rejected").tag("client", "ProjectManager").tag("budget", "write").counter().count());
+			assertEquals(0, meterRegistry.get("rate.limit.rejected").tag("client", "Anonymous").tag("budget", "lookup").counter().count());
+		});
+	}
+
+    /**
+     * Tests reading more often than the capacity of the read budget.
+     * Expects that the requests beyond the capacity are rejected with the time until the next token and counted.
+     */
+	@Test
+	public void TryAcquire_ExceedReadCapacity_ReturnWaitTime() {
+		// Act
+		long firstWait = underTest.tryAcquire(developer, "10.0.0.1", false);
+		long secondWait = underTest.tryAcquire(developer, "10.0.0.1", false);
+		long thirdWait = underTest.tryAcquire(developer, "10.0.0.1", false);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(0, firstWait);
+			assertEquals(0, secondWait);
+			assertEquals(TimeUnit.SECONDS.toNanos(1), thirdWait);
+			assertEquals(1, meterRegistry.get("rate.limit.rejected").tag("client", "Developer").tag("budget", "read").counter().count());
+		});
+	}
+
+    /**
+     * Tests reading again after the budget was used up.
+     * Expects that the request is allowed once the bucket was refilled by one token.
+     */
+	@Test
+	public void TryAcquire_WaitForRefill_ReturnZero() {
+		// Arrange
+		underTest.tryAcquire(developer, "10.0.0.1", false);
+		underTest.tryAcquire(developer, "10.0.0.1", false);
+
+		// Act
+		nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+		long tooEarlyWait = underTest.tryAcquire(developer, "10.0.0.1", false);
+		nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+		long refilledWait = underTest.tryAcquire(developer, "10.0.0.1", false);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(TimeUnit.MILLISECONDS.toNanos(500), tooEarlyWait);
+			assertEquals(0, refilledWait);
+		});
+	}
+
+    /**
+     * Tests writing after all reads were used up.
+     * Expects that reads and writes are limited by separate budgets.
+     */
+	@Test
+	public void TryAcquire_WriteAfterReadsUsedUp_ReturnZero() {
+		// Arrange
+		underTest.tryAcquire(developer, "10.0.0.1", false);
+		underTest.tryAcquire(developer, "10.0.0.1", false);
+
+		// Act
+		long writeWait = underTest.tryAcquire(developer, "10.0.0.1", true);
+		long secondWriteWait = underTest.tryAcquire(developer, "10.0.0.1", true);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(0, writeWait);
+			assertEquals(TimeUnit.SECONDS.toNanos(2), secondWriteWait);
+		});
+	}
+
+    /**
+     * Tests requests of different users from the same address.
+     * Expects that authenticated users are limited by their own budget of their role.
+     */
+	@Test
+	public void TryAcquire_DifferentUsersSameAddress_LimitPerUserAndRole() {
+		// Arrange
+		underTest.tryAcquire(developer, "10.0.0.1", false);
+		underTest.tryAcquire(developer, "10.0.0.1", false);
+
+		// Act
+		long developerWait = underTest.tryAcquire(developer, "10.0.0.1", false);
+		long adminWait = underTest.tryAcquire(admin, "10.0.0.1", false);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(TimeUnit.SECONDS.toNanos(1), developerWait);
+			assertEquals(0, adminWait);
+		});
+	}
+
+    /**
+     * Tests anonymous requests from different addresses.
+     * Expects that anonymous requests are limited per address.
+     */
+	@Test
+	public void TryAcquire_AnonymousDifferentAddresses_LimitPerAddress() {
+		// Act
+		long firstWait = underTest.tryAcquire(null, "10.0.0.1", false);
+		long secondWait = underTest.tryAcquire(null, "10.0.0.1", false);
+		long otherAddressWait = underTest.tryAcquire(null, "10.0.0.2", false);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(0, firstWait);
+			assertEquals(TimeUnit.SECONDS.toNanos(1), secondWait);
+			assertEquals(0, otherAddressWait);
+			assertEquals(1, meterRegistry.get("rate.limit.rejected").tag("client", "Anonymous").tag("budget", "read").counter().count());
+		});
+	}
+
+    /**
+     * Tests a client which sent no request for as long as the slowest bucket, 2 seconds, takes to refill.
+     * Expects that its buckets are dropped while the buckets of a client which is still limited are kept.
+     */
+	@Test
+	public void TryAcquire_IdleUntilFull_EvictFullBuckets() {
+		// Arrange
+		properties.setProjectManager(new RateLimitProperties.Budget(new RateLimitProperties.Limit(2, 1), new RateLimitProperties.Limit(1, 0.5)));
+		underTest = new RateLimiter(properties, meterRegistry, nanos::get);
+		underTest.tryAcquire(null, "10.0.0.1", false);
+		nanos.addAndGet(TimeUnit.SECONDS.toNanos(5));
+		underTest.tryAcquire(developer, "10.0.0.1", false);
+		underTest.tryAcquire(developer, "10.0.0.1", false);
+
+		// Act
+		nanos.addAndGet(TimeUnit.MILLISECONDS.toNanos(1500));
+		underTest.tryAcquire(developer, "10.0.0.1", false);
+		long developerWait = underTest.tryAcquire(developer, "10.0.0.1", false);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(TimeUnit.MILLISECONDS.toNanos(500), developerWait);
+			assertEquals(1, underTest.size());
+			assertEquals(1, meterRegistry.get("rate.limit.evicted").counter().count());
+		});
+	}
+
+    /**
+     * Tests requests of more clients than buckets are allowed.
+     * Expects that the number of clients holding a bucket stays within the maximum.
+     */
+	@Test
+	public void TryAcquire_ExceedMaxBuckets_EvictBuckets() {
+		// Arrange
+		properties.setMaxBuckets(2);
+		underTest = new RateLimiter(properties, meterRegistry, nanos::get);
+
+		// Act
+		long firstWait = underTest.tryAcquire(null, "10.0.0.1", false);
+		long secondWait = underTest.tryAcquire(null, "10.0.0.2", false);
+		long thirdWait = underTest.tryAcquire(null, "10.0.0.3", false);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(0, firstWait + secondWait + thirdWait);
+			assertEquals(2, underTest.size());
+			assertEquals(1, meterRegistry.get("rate.limit.evicted").counter().count());
+		});
+	}
+
+    /**
+     * Tests looking up API keys from an address which used up its anonymous budget.
+     * Expects that the lookup is denied with the time until the next token and counted, and that anonymous requests of the address
+     * are limited by the same budget.
+     */
+	@Test
+	public void TryAcquireLookup_AnonymousBudgetUsedUp_ReturnWaitTime() {
+		// Act
+		long firstWait = underTest.tryAcquireLookup("10.0.0.1");
+		long secondWait = underTest.tryAcquireLookup("10.0.0.1");
+		long anonymousWait = underTest.tryAcquire(null, "10.0.0.1", false);
+		long otherAddressWait = underTest.tryAcquireLookup("10.0.0.2");
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(0, firstWait);
+			assertEquals(TimeUnit.SECONDS.toNanos(1), secondWait);
+			assertEquals(TimeUnit.SECONDS.toNanos(1), anonymousWait);
+			assertEquals(0, otherAddressWait);
+			assertEquals(1, meterRegistry.get("rate.limit.rejected").tag("client", "Anonymous").tag("budget", "lookup").counter().count());
+		});
+	}
+
+    /**
+     * Tests concurrent requests of one client.
+     * Expects that exactly the capacity of the bucket is allowed, although no lock is held.
+     */
+	@Test
+	public void TryAcquire_ConcurrentRequests_AllowCapacity() throws Exception {
+		// Arrange
+		properties.setAdmin(new RateLimitProperties.Budget(new RateLimitProperties.Limit(1000, 0.001), new RateLimitProperties.Limit(1, 1)));
+		underTest = new RateLimiter(properties, new SimpleMeterRegistry(), nanos::get);
+		AtomicInteger allowed = new AtomicInteger();
+		Thread[] threads = new Thread[8];
+
+		// Act
+		for(int i = 0; i < threads.length; i++) {
+			threads[i] = Thread.ofPlatform().start(() -> {
+				for(int j = 0; j < 500; j++) {
+					if(underTest.tryAcquire(admin, "10.0.0.1", false) == 0) {
+						allowed.incrementAndGet();
+					}
+				}
+			});
+		}
+		for(Thread thread : threads) {
+			thread.join();
+		}
+
+		// Assert
+		assertEquals(1000, allowed.get());
+	}
+}
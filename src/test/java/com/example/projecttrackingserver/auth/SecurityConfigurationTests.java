@@ -0,0 +1,162 @@
+package com.example.projecttrackingserver.auth;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.example.projecttrackingserver.controllers.TicketController;
+import com.example.projecttrackingserver.controllers.TicketExportController;
+import com.example.projecttrackingserver.dto.TicketBulkResultDto;
+import com.example.projecttrackingserver.dto.PageResponseDto;
+import com.example.projecttrackingserver.dto.TicketChangesDto;
+import com.example.projecttrackingserver.dto.TicketRequestDto;
+import com.example.projecttrackingserver.enums.Role;
+import com.example.projecttrackingserver.services.TicketService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Test class for the SecurityConfiguration.
+ * This class tests the access rules of the endpoints with the security filters applied.
+ */
+@ExtendWith(MockitoExtension.class)
+@WebMvcTest(controllers = { TicketController.class, TicketExportController.class })
+@Import({ SecurityConfiguration.class, UnauthorizedHandler.class })
+public class SecurityConfigurationTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@MockBean
+	private TicketService ticketService;
+
+	@MockBean
+	private ApiKeyAuthExtractor apiKeyAuthExtractor;
+
+	@MockBean
+	private RateLimiter rateLimiter;
+
+	private long companyId;
+	private long projectId;
+	private List<TicketRequestDto> ticketRequestDtos;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		companyId = 1;
+		projectId = 1;
+		ticketRequestDtos = Arrays.asList(new TicketRequestDto("TestTicket", null, "Bug", "High", "New"));
+	}
+
+    /**
+     * Tests creating multiple tickets without an API key.
+     * Expects unauthorized response without calling the service.
+     */
+	@Test
+	public void CreateManyTickets_WithoutApiKey_ReturnUnauthorized() throws Exception {
+		// Act
+		ResultActions response = mockMvc.perform(post(String.format("/api/v1/companies/%d/projects/%d/tickets/bulk", companyId, projectId))
+										.contentType(MediaType.APPLICATION_JSON)
+										.content(objectMapper.writeValueAsString(ticketRequestDtos)));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isUnauthorized());
+		verify(ticketService, never()).createTickets(any(), any(Long.class), any(Long.class));
+	}
+
+    /**
+     * Tests creating multiple tickets with a valid API key.
+     * Expects that the request reaches the endpoint.
+     */
+	@Test
+	public void CreateManyTickets_WithApiKey_ReturnOk() throws Exception {
+		// Mock
+		when(apiKeyAuthExtractor.extract(any()))
+							   .thenReturn(Optional.of(new ApiKeyAuth(new AuthenticatedUser(1L, companyId, Role.Developer), AuthorityUtils.NO_AUTHORITIES)));
+		when(ticketService.createTickets(ticketRequestDtos, companyId, projectId))
+						  .thenReturn(List.of(TicketBulkResultDto.rejected(0, 409, "name with value TestTicket already exists")));
+
+		// Act
+		ResultActions response = mockMvc.perform(post(String.format("/api/v1/companies/%d/projects/%d/tickets/bulk", companyId, projectId))
+										.contentType(MediaType.APPLICATION_JSON)
+										.header("ApiKey", "key")
+										.content(objectMapper.writeValueAsString(ticketRequestDtos)));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].status").value(409));
+	}
+
+    /**
+     * Tests retrieving the ticket changes of a project without an API key.
+     * Expects that the request reaches the endpoint like the other ticket reads.
+     */
+	@Test
+	public void GetTicketChangesInProject_WithoutApiKey_ReturnOk() throws Exception {
+		// Mock
+		when(ticketService.getTicketChangesInProject(companyId, projectId, null, 100))
+						  .thenReturn(new TicketChangesDto(List.of(), List.of(), "0", false));
+
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects/%d/tickets/changes", companyId, projectId)));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.token").value("0"));
+	}
+
+    /**
+     * Tests searching the tickets of a project without an API key.
+     * Expects that the request reaches the endpoint, as reads within one project are public like the ticket list.
+     */
+	@Test
+	public void SearchTicketsInProject_WithoutApiKey_ReturnOk() throws Exception {
+		// Mock
+		when(ticketService.searchTicketDtosInProject(companyId, projectId, "login", null, 100))
+						  .thenReturn(new PageResponseDto<>(List.of(), null));
+
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects/%d/tickets/search", companyId, projectId))
+										.param("q", "login"));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk());
+	}
+
+    /**
+     * Tests searching the tickets of a whole company without an API key.
+     * Expects unauthorized response without calling the service, as reads across a company require an API key.
+     */
+	@Test
+	public void SearchTicketsInCompany_WithoutApiKey_ReturnUnauthorized() throws Exception {
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/tickets/search", companyId))
+										.param("q", "login"));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isUnauthorized());
+		verify(ticketService, never()).searchTicketDtosInCompany(any(Long.class), any(), any(), any(Integer.class));
+	}
+}
@@ -0,0 +1,197 @@
+package com.example.projecttrackingserver.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for the ProjectMembershipCache.
+ * This class tests if the caching of project members works as intended.
+ */
+public class ProjectMembershipCacheTests {
+
+	private ProjectMembershipCache underTest;
+
+	private SimpleMeterRegistry meterRegistry;
+	private AtomicInteger loads;
+	private LongFunction<long[]> loader;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		meterRegistry = new SimpleMeterRegistry();
+		underTest = new ProjectMembershipCache(1, Duration.ofMinutes(1), Ticker.systemTicker(), meterRegistry);
+		loads = new AtomicInteger();
+		loader = projectId -> {
+			loads.incrementAndGet();
+			return projectId == 1 ? new long[] {7, 3, 5} : new long[0];
+		};
+	}
+
+	@AfterEach
+	public void tearDown() {
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+    /**
+     * Tests checking several users of the same project.
+     * Expects that the members are only loaded once and members and non-members are told apart.
+     */
+	@Test
+	public void IsMember_CheckUsersOfSameProject_LoadMembersOnce() {
+		// Act
+		boolean isMember1 = underTest.isMember(1, 3, loader);
+		boolean isMember2 = underTest.isMember(1, 7, loader);
+		boolean isMember3 = underTest.isMember(1, 4, loader);
+
+		// Assert
+		assertAll(() -> {
+			assertTrue(isMember1);
+			assertTrue(isMember2);
+			assertFalse(isMember3);
+			assertEquals(1, loads.get());
+			assertEquals(2, underTest.getHitCount());
+			assertEquals(1, underTest.getMissCount());
+		});
+	}
+
+    /**
+     * Tests invalidating a cached project.
+     * Expects that the members are loaded again afterwards.
+     */
+	@Test
+	public void Invalidate_InvalidateCachedProject_LoadMembersAgain() {
+		// Act
+		underTest.isMember(1, 3, loader);
+		underTest.invalidate(1);
+		underTest.isMember(1, 3, loader);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(2, loads.get());
+			assertEquals(0, underTest.getHitCount());
+		});
+	}
+
+    /**
+     * Tests checking a member while the transaction invalidating the project is still running.
+     * Expects that the members loaded in the meantime are removed when the transaction completes.
+     */
+	@Test
+	public void Invalidate_LoadBeforeTransactionCompletes_RemoveMembersAfterCompletion() {
+		// Arrange
+		TransactionSynchronizationManager.initSynchronization();
+
+		// Act
+		underTest.invalidate(1);
+		underTest.isMember(1, 3, loader);
+		long sizeBeforeCompletion = underTest.size();
+		TransactionSynchronizationManager.getSynchronizations()
+										 .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(1, sizeBeforeCompletion);
+			assertEquals(0, underTest.size());
+		});
+	}
+
+    /**
+     * Tests invalidating a project while its members are loaded.
+     * Expects that the members loaded before the invalidation are used but not cached.
+     */
+	@Test
+	public void IsMember_InvalidateWhileLoading_LoadMembersAgain() {
+		// Arrange
+		LongFunction<long[]> invalidatingLoader = projectId -> {
+			long[] memberIds = loader.apply(projectId);
+			underTest.invalidate(projectId);
+			return memberIds;
+		};
+
+		// Act
+		boolean isMember = underTest.isMember(1, 3, invalidatingLoader);
+		underTest.isMember(1, 3, loader);
+
+		// Assert
+		assertAll(() -> {
+			assertTrue(isMember);
+			assertEquals(2, loads.get());
+			assertEquals(0, underTest.getHitCount());
+		});
+	}
+
+    /**
+     * Tests caching more projects than the cache can hold.
+     * Expects that a project is evicted.
+     */
+	@Test
+	public void IsMember_ExceedMaxSize_EvictProject() {
+		// Act
+		underTest.isMember(1, 3, loader);
+		underTest.isMember(2, 3, loader);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(1, underTest.size());
+			assertEquals(1, underTest.getEvictionCount());
+		});
+	}
+
+    /**
+     * Tests checking a member after the entry of the project expired.
+     * Expects that the expired entry is evicted and the members are loaded again.
+     */
+	@Test
+	public void IsMember_CheckExpiredProject_LoadMembersAgain() {
+		// Arrange
+		AtomicLong nanos = new AtomicLong();
+		underTest = new ProjectMembershipCache(10, Duration.ofMinutes(1), nanos::get, meterRegistry);
+
+		// Act
+		underTest.isMember(1, 3, loader);
+		nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+		underTest.isMember(1, 3, loader);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(2, loads.get());
+			assertEquals(1, underTest.getEvictionCount());
+		});
+	}
+
+    /**
+     * Tests the metrics of the cache after checks with and without cached members.
+     * Expects that hits and misses are published in the meter registry.
+     */
+	@Test
+	public void IsMember_CheckUsersOfSameProject_PublishHitsAndMisses() {
+		// Act
+		underTest.isMember(1, 3, loader);
+		underTest.isMember(1, 7, loader);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(1, meterRegistry.get("cache.gets").tag("cache", ProjectMembershipCache.CACHE_NAME).tag("result", "hit").functionCounter().count());
+			assertEquals(1, meterRegistry.get("cache.gets").tag("cache", ProjectMembershipCache.CACHE_NAME).tag("result", "miss").functionCounter().count());
+			assertEquals(1, meterRegistry.get("cache.size").tag("cache", ProjectMembershipCache.CACHE_NAME).gauge().value());
+		});
+	}
+}
@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
@@ -20,6 +21,8 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.example.projecttrackingserver.auth.ApiKeyAuthExtractor;
 import com.example.projecttrackingserver.dto.CompanyResponseDto;
+import com.example.projecttrackingserver.dto.PageResponseDto;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.services.CompanyService;
 
 /**
@@ -41,8 +44,8 @@ public class CompanyControllerTests {
 	private ApiKeyAuthExtractor apiKeyAuthExtractor;
 	
     /**
-     * Tests endpoint to retrieve all companies.
-     * Expects successful response with multiple companies.
+     * Tests endpoint to retrieve one page of companies sorted by name.
+     * Expects successful response with multiple companies and the link to the next page.
      */
 	@Test
 	public void GetAllCompanies_RetrieveMultipleCompanies_ReturnMultipleCompanyResponses() throws Exception {
@@ -52,15 +55,17 @@ public class CompanyControllerTests {
 		List<CompanyResponseDto> expectedResponse = Arrays.asList(companyResponseDto1, companyResponseDto2);
 		
 		// Mock
-		when(companyService.getAllCompanyDtos())
-		   				   .thenReturn(expectedResponse);
+		when(companyService.getCompanyDtos(ListSort.Name, null, 2))
+		   				   .thenReturn(new PageResponseDto<CompanyResponseDto>(expectedResponse, "VGVzdENvbXBhbnky"));
 
 		// Act
-		ResultActions response = mockMvc.perform(get("/api/v1/companies")
+		ResultActions response = mockMvc.perform(get("/api/v1/companies?sort=Name&limit=2")
 										.contentType(MediaType.APPLICATION_JSON));	
 		
 		// Assert
 		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(Pages.NEXT_CURSOR_HEADER, "VGVzdENvbXBhbnky"))
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LINK, "<http://localhost/api/v1/companies?sort=Name&limit=2&cursor=VGVzdENvbXBhbnky>; rel=\"next\""))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].id").value(expectedResponse.get(0).id()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].name").value(expectedResponse.get(0).name()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].description").value(expectedResponse.get(0).description()))
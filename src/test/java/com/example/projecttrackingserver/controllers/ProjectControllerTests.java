@@ -11,6 +11,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,17 +21,27 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.example.projecttrackingserver.auth.ApiKeyAuthExtractor;
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.dto.ProjectRequestDto;
 import com.example.projecttrackingserver.dto.ProjectResponseDto;
+import com.example.projecttrackingserver.dto.ProjectStatsDto;
 import com.example.projecttrackingserver.dto.UserResponseDto;
+import com.example.projecttrackingserver.dto.VersionedResponseDto;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.enums.Role;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
 import com.example.projecttrackingserver.services.ProjectService;
+import com.example.projecttrackingserver.services.ProjectStatsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -48,6 +59,9 @@ public class ProjectControllerTests {
 	@MockBean
 	private ProjectService projectService;
 	
+	@MockBean
+	private ProjectStatsService projectStatsService;
+	
 	@Autowired
 	private ObjectMapper objectMapper;
 	
@@ -68,8 +82,8 @@ public class ProjectControllerTests {
 	}
 	
     /**
-     * Tests endpoint to retrieve all projects in a given company.
-     * Expects successful response with multiple projects.
+     * Tests endpoint to retrieve the last page of projects in a given company.
+     * Expects successful response with multiple projects and no link to a next page.
      */
 	@Test
 	public void GetAllProjectsInCompany_RetrieveMultipleProjects_ReturnMultipleProjectResponses() throws Exception {
@@ -78,15 +92,18 @@ public class ProjectControllerTests {
 		List<ProjectResponseDto> expectedResponseList = Arrays.asList(expectedResponse, expectedResponse2);
 		
 		// Mock
-		when(projectService.getAllProjectDtosInCompany(companyId))
-						   .thenReturn(expectedResponseList);
+		when(projectService.getProjectDtosInCompany(companyId, ListSort.Id, "1", 100))
+						   .thenReturn(new PageResponseDto<ProjectResponseDto>(expectedResponseList, null));
 		
 		// Act
 		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects", companyId))
+										.param("cursor", "1")
 										.contentType(MediaType.APPLICATION_JSON));
 
 		// Assert
 		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().doesNotExist(Pages.NEXT_CURSOR_HEADER))
+				.andExpect(MockMvcResultMatchers.header().doesNotExist(HttpHeaders.LINK))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].id").value(expectedResponseList.get(0).id()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].projectName").value(expectedResponseList.get(0).projectName()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].description").value(expectedResponseList.get(0).description()))
@@ -188,8 +205,8 @@ public class ProjectControllerTests {
 		ProjectResponseDto updatedResponseDto = new ProjectResponseDto(projectId, projectRequestDto.projectName(), projectRequestDto.description(), LocalDate.parse(projectRequestDto.startDate()), LocalDate.parse(projectRequestDto.endDate()), projectRequestDto.projectManagerId());
 	    
 	    // Mock
-	    when(projectService.updateProject(projectRequestDto, companyId, projectId))
-						   .thenReturn(updatedResponseDto);
+	    when(projectService.updateProject(projectRequestDto, companyId, projectId, null))
+						   .thenReturn(new VersionedResponseDto<ProjectResponseDto>(updatedResponseDto, 1));
 	    
 	    // Act
  		ResultActions response = mockMvc.perform(patch(String.format("/api/v1/companies/%d/projects/%d", companyId, projectId))
@@ -198,6 +215,7 @@ public class ProjectControllerTests {
  		
  		// Assert
 		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"1\""))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.id").value(updatedResponseDto.id()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.projectName").value(updatedResponseDto.projectName()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.description").value(updatedResponseDto.description()))
@@ -206,6 +224,33 @@ public class ProjectControllerTests {
 				.andExpect(MockMvcResultMatchers.jsonPath("$.projectManagerId").value(updatedResponseDto.projectManagerId()));
 	}
 	
+    /**
+     * Tests endpoint to update a project with the ETag of its current version in If-Match.
+     * Expects that the version is passed to the service and the ETag of the new version is returned.
+     */
+	@Test
+	public void UpdateOneProject_CurrentIfMatch_ReturnNewETag() throws Exception {
+		// Arrange
+		ProjectRequestDto projectRequestDto = new ProjectRequestDto("Updated TestProject", null, null, null, null);
+		String projectJson = objectMapper.writeValueAsString(projectRequestDto);
+		ProjectResponseDto updatedResponseDto = new ProjectResponseDto(projectId, projectRequestDto.projectName(), "TestDescription", null, null, 1L);
+	    
+	    // Mock
+	    when(projectService.updateProject(projectRequestDto, companyId, projectId, 2L))
+						   .thenReturn(new VersionedResponseDto<ProjectResponseDto>(updatedResponseDto, 3));
+	    
+	    // Act
+ 		ResultActions response = mockMvc.perform(patch(String.format("/api/v1/companies/%d/projects/%d", companyId, projectId))
+ 										.contentType(MediaType.APPLICATION_JSON)
+ 										.header(HttpHeaders.IF_MATCH, "\"2\"")
+ 										.content(projectJson));
+ 		
+ 		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"3\""))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.projectName").value(updatedResponseDto.projectName()));
+	}
+	
     /**
      * Tests endpoint to remove a project.
      * Expects successful response with no body.
@@ -256,5 +301,49 @@ public class ProjectControllerTests {
  		response.andExpect(MockMvcResultMatchers.status().isNoContent());
  		verify(projectService, times(1)).alterProjectMembersInProject(companyId, projectId, userIdToRemove, false);
 	}
+	
+    /**
+     * Tests endpoint to retrieve the ticket statistics of a project.
+     * Expects successful response with the number of tickets in total and by status, priority and type.
+     */
+	@Test
+	public void GetProjectStats_RetrieveStats_ReturnTicketCounts() throws Exception {
+		// Arrange
+		ProjectStatsDto expectedStats = new ProjectStatsDto(projectId, 3,
+															Map.of(TicketStatus.New, 2L, TicketStatus.Resolved, 1L),
+															Map.of(TicketPriority.High, 3L),
+															Map.of(TicketType.Bug, 1L, TicketType.NewFeature, 2L));
+		
+		// Mock
+		when(projectStatsService.getProjectStats(companyId, projectId))
+								.thenReturn(expectedStats);
+		
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects/%d/stats", companyId, projectId)));
+		
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.projectId").value(projectId))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.ticketCount").value(3))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.ticketStatuses.New").value(2))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.ticketPriorities.High").value(3))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.ticketTypes.NewFeature").value(2));
+	}
+	
+    /**
+     * Tests endpoint to retrieve the ticket statistics of a project which does not exist.
+     * Expects not found response.
+     */
+	@Test
+	public void GetProjectStats_UnknownProject_ReturnNotFound() throws Exception {
+		// Mock
+		when(projectStatsService.getProjectStats(companyId, projectId))
+								.thenThrow(new EntityNotFoundException("projectId", projectId));
+		
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects/%d/stats", companyId, projectId)));
+		
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isNotFound());
+	}
 }
-
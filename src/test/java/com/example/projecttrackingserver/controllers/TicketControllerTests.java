@@ -1,5 +1,10 @@
 package com.example.projecttrackingserver.controllers;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -8,10 +13,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,18 +28,30 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import com.example.projecttrackingserver.TestDataUtil;
 import com.example.projecttrackingserver.auth.ApiKeyAuthExtractor;
+import com.example.projecttrackingserver.dto.PageResponseDto;
+import com.example.projecttrackingserver.dto.TicketBulkResultDto;
+import com.example.projecttrackingserver.dto.TicketChangesDto;
+import com.example.projecttrackingserver.dto.TicketFilterDto;
 import com.example.projecttrackingserver.dto.TicketRequestDto;
 import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.dto.VersionedResponseDto;
+import com.example.projecttrackingserver.entities.TicketEntity;
 import com.example.projecttrackingserver.enums.TicketPriority;
 import com.example.projecttrackingserver.enums.TicketStatus;
 import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+import com.example.projecttrackingserver.exceptions.VersionMismatchException;
 import com.example.projecttrackingserver.services.TicketService;
+import com.example.projecttrackingserver.services.TicketServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 /**
@@ -71,8 +91,8 @@ public class TicketControllerTests {
 	}
 	
     /**
-     * Tests endpoint to retrieve all tickets in a given project.
-     * Expects successful response with multiple tickets.
+     * Tests endpoint to retrieve one page of tickets in a given project.
+     * Expects successful response with multiple tickets and the next cursor.
      */
 	@Test
 	public void GetAllTicketsInProject_RetrieveMultipleTickets_ReturnMultipleTicketResponses() throws Exception {
@@ -80,16 +100,20 @@ public class TicketControllerTests {
 		TicketResponseDto expectedResponse2 = new TicketResponseDto(2, "TestTicket2", ticketRequestDto.description(), LocalDate.parse("2024-07-12"), LocalDate.parse("2024-07-13"), projectId, 1L, TicketType.valueOf(ticketRequestDto.ticketType()), TicketPriority.valueOf(ticketRequestDto.ticketPriority()), TicketStatus.valueOf(ticketRequestDto.ticketStatus()));
 		List<TicketResponseDto> expectedResponseList = Arrays.asList(expectedResponse, expectedResponse2);
 		
+		TicketFilterDto filter = new TicketFilterDto(TicketStatus.New, null, null, null, null, null);
+		
 		// Mock
-		when(ticketService.getAllTicketDtosInProject(companyId, projectId))
-						  .thenReturn(expectedResponseList);
+		when(ticketService.getTicketDtosInProject(companyId, projectId, filter, 0, 2))
+						  .thenReturn(new PageResponseDto<TicketResponseDto>(expectedResponseList, "2"));
 		
 		// Act
-		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects/%d/tickets", companyId, projectId))
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects/%d/tickets?limit=2&ticketStatus=New", companyId, projectId))
 										.contentType(MediaType.APPLICATION_JSON));
 
 		// Assert
 		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(Pages.NEXT_CURSOR_HEADER, "2"))
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LINK, String.format("<http://localhost/api/v1/companies/%d/projects/%d/tickets?limit=2&ticketStatus=New&afterId=2>; rel=\"next\"", companyId, projectId)))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].id").value(expectedResponseList.get(0).id()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].name").value(expectedResponseList.get(0).name()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].description").value(expectedResponseList.get(0).description()))
@@ -131,6 +155,101 @@ public class TicketControllerTests {
 				.andExpect(MockMvcResultMatchers.jsonPath("$.ticketStatus").value(expectedResponse.ticketStatus().toString()));
 	}
 	
+    /**
+     * Tests endpoint to retrieve one ticket which did not change since the client's copy.
+     * Expects not modified response without body and without loading the ticket.
+     */
+	@Test
+	public void GetOneTicketInProject_RetrieveUnchangedTicket_ReturnNotModified() throws Exception {
+		// Mock
+		when(ticketService.getVersion(companyId, projectId, ticketId))
+						  .thenReturn(Optional.of(3L));
+		
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects/%d/tickets/%d", companyId, projectId, ticketId))
+										.header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+										.contentType(MediaType.APPLICATION_JSON));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isNotModified())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"3\""))
+				.andExpect(MockMvcResultMatchers.content().string(""));
+		verify(ticketService, never()).getTicketDtoById(companyId, projectId, ticketId);
+	}
+	
+    /**
+     * Tests endpoint to retrieve the tickets of a project after a ticket changed.
+     * Expects successful response with the tickets and the new ETag.
+     */
+	@Test
+	public void GetAllTicketsInProject_RetrieveChangedTickets_ReturnTicketsWithETag() throws Exception {
+		// Arrange
+		TicketFilterDto filter = new TicketFilterDto(null, null, null, null, null, null);
+		
+		// Mock
+		when(ticketService.getChangeCountInProject(companyId, projectId))
+						  .thenReturn(Optional.of(5L));
+		when(ticketService.getTicketDtosInProject(companyId, projectId, filter, 0, 100))
+						  .thenReturn(new PageResponseDto<TicketResponseDto>(List.of(expectedResponse), null));
+		
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects/%d/tickets", companyId, projectId))
+										.header(HttpHeaders.IF_NONE_MATCH, "\"4\"")
+										.contentType(MediaType.APPLICATION_JSON));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"5\""))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].id").value(expectedResponse.id()))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.size()").value(1));
+	}
+	
+    /**
+     * Tests endpoint to retrieve the ticket changes since a sync token.
+     * Expects successful response with the changed tickets, the deleted ticket IDs and the next token.
+     */
+	@Test
+	public void GetTicketChangesInProject_RetrieveChangesSinceToken_ReturnChangesWithNextToken() throws Exception {
+		// Mock
+		when(ticketService.getTicketChangesInProject(companyId, projectId, "4", 100))
+						  .thenReturn(new TicketChangesDto(List.of(expectedResponse), List.of(2L), "6", false));
+		
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects/%d/tickets/changes", companyId, projectId))
+										.param("since", "4")
+										.contentType(MediaType.APPLICATION_JSON));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.changed[0].id").value(expectedResponse.id()))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.changed.size()").value(1))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.deleted[0]").value(2))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.token").value("6"))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.more").value(false));
+	}
+	
+    /**
+     * Tests endpoint to retrieve the ticket changes with a limit.
+     * Expects successful response with the token continuing the same sync.
+     */
+	@Test
+	public void GetTicketChangesInProject_RetrieveMoreChangesThanLimit_ReturnContinuationToken() throws Exception {
+		// Mock
+		when(ticketService.getTicketChangesInProject(companyId, projectId, null, 1))
+						  .thenReturn(new TicketChangesDto(List.of(expectedResponse), List.of(), "-1:6:" + expectedResponse.id(), true));
+		
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/projects/%d/tickets/changes", companyId, projectId))
+										.param("limit", "1")
+										.contentType(MediaType.APPLICATION_JSON));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.changed.size()").value(1))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.token").value("-1:6:" + expectedResponse.id()))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.more").value(true));
+	}
+	
     /**
      * Tests endpoint to create one ticket.
      * Expects successful response with one ticket.
@@ -163,6 +282,133 @@ public class TicketControllerTests {
 				.andExpect(MockMvcResultMatchers.jsonPath("$.ticketStatus").value(expectedResponse.ticketStatus().toString()));
 	}
 	
+    /**
+     * Tests endpoint to create multiple tickets from a JSON array.
+     * Expects successful response with one result per ticket.
+     */
+	@Test
+	public void CreateManyTickets_CreateTicketsFromJsonArray_ReturnResultPerTicket() throws Exception {
+		// Arrange
+		TicketRequestDto duplicateRequestDto = new TicketRequestDto(ticketRequestDto.name(), null, "Bug", "High", "New");
+		List<TicketRequestDto> ticketRequestDtos = Arrays.asList(ticketRequestDto, duplicateRequestDto);
+		String ticketsJson = objectMapper.writeValueAsString(ticketRequestDtos);
+		
+		// Mock
+		when(ticketService.createTickets(ticketRequestDtos, companyId, projectId))
+						  .thenReturn(Arrays.asList(
+								  TicketBulkResultDto.created(0, expectedResponse),
+								  TicketBulkResultDto.rejected(1, 409, "name with value TestTicket already exists")));
+		
+		// Act
+		ResultActions response = mockMvc.perform(post(String.format("/api/v1/companies/%d/projects/%d/tickets/bulk", companyId, projectId))
+										.contentType(MediaType.APPLICATION_JSON)
+										.content(ticketsJson));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].status").value(201))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].ticket.id").value(expectedResponse.id()))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.[1].index").value(1))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.[1].status").value(409))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.[1].ticket").isEmpty())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.size()").value(2));
+	}
+	
+    /**
+     * Tests endpoint to create multiple tickets when the insert fails at commit.
+     * Expects a conflict if a ticket was taken by a concurrent request, but a server error for any other violated constraint.
+     */
+	@Test
+	public void CreateManyTickets_ConstraintViolatedAtCommit_ReturnConflictOnlyForUniqueViolation() throws Exception {
+		// Arrange
+		String ticketsJson = objectMapper.writeValueAsString(List.of(ticketRequestDto));
+		DataIntegrityViolationException notNullViolation = new DataIntegrityViolationException("could not execute statement",
+				new ConstraintViolationException("could not execute statement", new SQLException("null value", "23502"), null));
+		
+		// Mock
+		when(ticketService.createTickets(List.of(ticketRequestDto), companyId, projectId))
+						  .thenThrow(TestDataUtil.createConstraintViolation(TicketEntity.NAME_UNIQUE_CONSTRAINT))
+						  .thenThrow(notNullViolation);
+		
+		// Act
+		ResultActions uniqueResponse = mockMvc.perform(post(String.format("/api/v1/companies/%d/projects/%d/tickets/bulk", companyId, projectId))
+											  .contentType(MediaType.APPLICATION_JSON)
+											  .content(ticketsJson));
+		ResultActions notNullResponse = mockMvc.perform(post(String.format("/api/v1/companies/%d/projects/%d/tickets/bulk", companyId, projectId))
+											   .contentType(MediaType.APPLICATION_JSON)
+											   .content(ticketsJson));
+
+		// Assert
+		uniqueResponse.andExpect(MockMvcResultMatchers.status().isConflict());
+		notNullResponse.andExpect(MockMvcResultMatchers.status().isInternalServerError());
+	}
+	
+    /**
+     * Tests endpoint to create multiple tickets from newline delimited JSON.
+     * Expects that every line is passed on as one ticket.
+     */
+	@Test
+	public void CreateManyTicketsFromNdjson_CreateTicketsFromLines_ReturnResultPerTicket() throws Exception {
+		// Arrange
+		TicketRequestDto ticketRequestDto2 = new TicketRequestDto("TestTicket2", null, "Bug", "High", "New");
+		String ticketsNdjson = objectMapper.writeValueAsString(ticketRequestDto) + "\n" + objectMapper.writeValueAsString(ticketRequestDto2) + "\n";
+		
+		// Mock
+		when(ticketService.createTickets(Arrays.asList(ticketRequestDto, ticketRequestDto2), companyId, projectId))
+						  .thenReturn(Arrays.asList(
+								  TicketBulkResultDto.created(0, expectedResponse),
+								  TicketBulkResultDto.created(1, expectedResponse)));
+		
+		// Act
+		ResultActions response = mockMvc.perform(post(String.format("/api/v1/companies/%d/projects/%d/tickets/bulk", companyId, projectId))
+										.contentType(MediaType.APPLICATION_NDJSON)
+										.content(ticketsNdjson));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.jsonPath("$.size()").value(2));
+	}
+	
+    /**
+     * Tests endpoint to create more tickets than allowed from newline delimited JSON.
+     * Expects that reading stops after one ticket more than allowed and bad request response.
+     */
+	@Test
+	public void CreateManyTicketsFromNdjson_CreateTooManyTickets_ReturnBadRequest() throws Exception {
+		// Arrange
+		String ticketsNdjson = (objectMapper.writeValueAsString(ticketRequestDto) + "\n").repeat(TicketServiceImpl.MAX_BULK_SIZE + 10);
+		
+		// Mock
+		when(ticketService.createTickets(argThat(ticketRequestDtos -> ticketRequestDtos.size() == TicketServiceImpl.MAX_BULK_SIZE + 1), eq(companyId), eq(projectId)))
+						  .thenThrow(new ValueNotAllowedException("tickets", "more than " + TicketServiceImpl.MAX_BULK_SIZE));
+		
+		// Act
+		ResultActions response = mockMvc.perform(post(String.format("/api/v1/companies/%d/projects/%d/tickets/bulk", companyId, projectId))
+										.contentType(MediaType.APPLICATION_NDJSON)
+										.content(ticketsNdjson));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+	
+    /**
+     * Tests endpoint to create multiple tickets from malformed newline delimited JSON.
+     * Expects bad request response.
+     */
+	@Test
+	public void CreateManyTicketsFromNdjson_CreateTicketsFromMalformedLine_ReturnBadRequest() throws Exception {
+		// Arrange
+		String ticketsNdjson = objectMapper.writeValueAsString(ticketRequestDto) + "\n{\"name\": \n";
+		
+		// Act
+		ResultActions response = mockMvc.perform(post(String.format("/api/v1/companies/%d/projects/%d/tickets/bulk", companyId, projectId))
+										.contentType(MediaType.APPLICATION_NDJSON)
+										.content(ticketsNdjson));
+
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+	
     /**
      * Tests endpoint to delete one ticket.
      * Expects successful response with no body.
@@ -190,8 +436,8 @@ public class TicketControllerTests {
 		TicketResponseDto updatedResponseDto = new TicketResponseDto(ticketId, ticketRequestDto.name(), ticketRequestDto.description(), LocalDate.parse("2024-07-12"), LocalDate.parse("2024-07-13"), projectId, 1L, TicketType.valueOf(ticketRequestDto.ticketType()), TicketPriority.valueOf(ticketRequestDto.ticketPriority()), TicketStatus.valueOf(ticketRequestDto.ticketStatus()));
 	    
 	    // Mock
-	    when(ticketService.updateTicket(ticketRequestDto, companyId, projectId, ticketId))
-						  .thenReturn(updatedResponseDto);
+	    when(ticketService.updateTicket(ticketRequestDto, companyId, projectId, ticketId, null))
+						  .thenReturn(new VersionedResponseDto<TicketResponseDto>(updatedResponseDto, 4));
 	    
 	    // Act
  		ResultActions response = mockMvc.perform(patch(String.format("/api/v1/companies/%d/projects/%d/tickets/%d", companyId, projectId, ticketId))
@@ -200,6 +446,7 @@ public class TicketControllerTests {
  		
 		// Assert
 		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"4\""))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.id").value(updatedResponseDto.id()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.name").value(updatedResponseDto.name()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.description").value(updatedResponseDto.description()))
@@ -211,4 +458,49 @@ public class TicketControllerTests {
 				.andExpect(MockMvcResultMatchers.jsonPath("$.ticketPriority").value(updatedResponseDto.ticketPriority().toString()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.ticketStatus").value(updatedResponseDto.ticketStatus().toString()));
 	}
+	
+    /**
+     * Tests endpoint to update one ticket with the ETag of an outdated version in If-Match.
+     * Expects that the version is passed to the service and precondition failed is returned.
+     */
+	@Test
+	public void UpdateOneTicket_OutdatedIfMatch_ReturnPreconditionFailed() throws Exception {
+		// Arrange
+		TicketRequestDto ticketRequestDto = new TicketRequestDto("Updated TestTicket", null, null, null, null);
+		String ticketJson = objectMapper.writeValueAsString(ticketRequestDto);
+	    
+	    // Mock
+	    when(ticketService.updateTicket(ticketRequestDto, companyId, projectId, ticketId, 3L))
+						  .thenThrow(new VersionMismatchException("ticketId", ticketId, 3));
+	    
+	    // Act
+ 		ResultActions response = mockMvc.perform(patch(String.format("/api/v1/companies/%d/projects/%d/tickets/%d", companyId, projectId, ticketId))
+ 										.contentType(MediaType.APPLICATION_JSON)
+ 										.header(HttpHeaders.IF_MATCH, "\"3\"")
+ 										.content(ticketJson));
+ 		
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isPreconditionFailed());
+	}
+	
+    /**
+     * Tests endpoint to update one ticket with an If-Match header which is not an ETag of this API.
+     * Expects bad request without calling the service.
+     */
+	@Test
+	public void UpdateOneTicket_MalformedIfMatch_ReturnBadRequest() throws Exception {
+		// Arrange
+		TicketRequestDto ticketRequestDto = new TicketRequestDto("Updated TestTicket", null, null, null, null);
+		String ticketJson = objectMapper.writeValueAsString(ticketRequestDto);
+	    
+	    // Act
+ 		ResultActions response = mockMvc.perform(patch(String.format("/api/v1/companies/%d/projects/%d/tickets/%d", companyId, projectId, ticketId))
+ 										.contentType(MediaType.APPLICATION_JSON)
+ 										.header(HttpHeaders.IF_MATCH, "W/\"3\"")
+ 										.content(ticketJson));
+ 		
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+		verify(ticketService, never()).updateTicket(any(), anyLong(), anyLong(), anyLong(), any());
+	}
 }
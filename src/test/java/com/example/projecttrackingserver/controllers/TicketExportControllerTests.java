@@ -0,0 +1,158 @@
+package com.example.projecttrackingserver.controllers;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import com.example.projecttrackingserver.auth.ApiKeyAuthExtractor;
+import com.example.projecttrackingserver.dto.PageResponseDto;
+import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
+import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+import com.example.projecttrackingserver.services.TicketService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Test class for TicketExportController.
+ * This class tests the endpoints of the TicketExportController and ensures that they work as intended.
+ */
+@ExtendWith(MockitoExtension.class)
+@WebMvcTest(controllers = TicketExportController.class)
+@AutoConfigureMockMvc(addFilters = false)
+public class TicketExportControllerTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+	
+	@MockBean
+	private TicketService ticketService;
+	
+	@Autowired
+	private ObjectMapper objectMapper;
+	
+	@MockBean
+	private ApiKeyAuthExtractor apiKeyAuthExtractor;
+	
+	private long companyId;
+	private TicketResponseDto ticketResponse1;
+	private TicketResponseDto ticketResponse2;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		companyId = 1;
+		ticketResponse1 = new TicketResponseDto(1L, "TestTicket1", "TestDescription", LocalDate.parse("2024-07-12"), null, 1L, 1L, TicketType.Bug, TicketPriority.High, TicketStatus.New);
+		ticketResponse2 = new TicketResponseDto(2L, "TestTicket2", "TestDescription", LocalDate.parse("2024-07-12"), null, 2L, 1L, TicketType.Bug, TicketPriority.Low, TicketStatus.New);
+	}
+	
+    /**
+     * Tests endpoint to export all tickets in a company.
+     * Expects successful response with one JSON line per ticket.
+     */
+	@Test
+	@SuppressWarnings("unchecked")
+	public void ExportTicketsInCompany_ExportMultipleTickets_ReturnOneLinePerTicket() throws Exception {
+		// Arrange
+		String expectedBody = objectMapper.writeValueAsString(ticketResponse1) + "\n" + objectMapper.writeValueAsString(ticketResponse2) + "\n";
+		
+		// Mock
+		doAnswer(invocation -> {
+			Consumer<TicketResponseDto> consumer = invocation.getArgument(1, Consumer.class);
+			consumer.accept(ticketResponse1);
+			consumer.accept(ticketResponse2);
+			return null;
+		}).when(ticketService).exportTicketDtosInCompany(eq(companyId), any());
+		
+		// Act
+		MvcResult result = mockMvc.perform(get(String.format("/api/v1/companies/%d/tickets/export", companyId)))
+								  .andExpect(MockMvcResultMatchers.request().asyncStarted())
+								  .andReturn();
+		
+		// Assert
+		mockMvc.perform(asyncDispatch(result))
+			   .andExpect(MockMvcResultMatchers.status().isOk())
+			   .andExpect(MockMvcResultMatchers.content().string(expectedBody));
+	}
+	
+    /**
+     * Tests endpoint to export all tickets in a company which does not exist.
+     * Expects not found response.
+     */
+	@Test
+	public void ExportTicketsInCompany_ExportUnknownCompany_ReturnNotFound() throws Exception {
+		// Mock
+		doThrow(new EntityNotFoundException("companyId", companyId))
+			.when(ticketService).exportTicketDtosInCompany(eq(companyId), any());
+		
+		// Act
+		MvcResult result = mockMvc.perform(get(String.format("/api/v1/companies/%d/tickets/export", companyId)))
+								  .andExpect(MockMvcResultMatchers.request().asyncStarted())
+								  .andReturn();
+		
+		// Assert
+		mockMvc.perform(asyncDispatch(result))
+			   .andExpect(MockMvcResultMatchers.status().isNotFound());
+	}
+	
+    /**
+     * Tests endpoint to search the tickets in a company.
+     * Expects successful response with the best matching tickets and the next cursor.
+     */
+	@Test
+	public void SearchTicketsInCompany_SearchMultipleTickets_ReturnTicketsAndNextCursor() throws Exception {
+		// Mock
+		when(ticketService.searchTicketDtosInCompany(companyId, "ticket", null, 2))
+						  .thenReturn(new PageResponseDto<>(List.of(ticketResponse2, ticketResponse1), "1.4:1"));
+		
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/tickets/search?q=ticket&limit=2", companyId)));
+		
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(Pages.NEXT_CURSOR_HEADER, "1.4:1"))
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LINK, String.format("<http://localhost/api/v1/companies/%d/tickets/search?q=ticket&limit=2&cursor=1.4:1>; rel=\"next\"", companyId)))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].id").value(ticketResponse2.id()))
+				.andExpect(MockMvcResultMatchers.jsonPath("$.[1].id").value(ticketResponse1.id()));
+	}
+	
+    /**
+     * Tests endpoint to search the tickets in a company with a malformed cursor.
+     * Expects bad request response.
+     */
+	@Test
+	public void SearchTicketsInCompany_MalformedCursor_ReturnBadRequest() throws Exception {
+		// Mock
+		when(ticketService.searchTicketDtosInCompany(companyId, "test", "abc", 100))
+						  .thenThrow(new ValueNotAllowedException("cursor", "abc"));
+		
+		// Act
+		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/tickets/search?q=test&cursor=abc", companyId)));
+		
+		// Assert
+		response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+	}
+}
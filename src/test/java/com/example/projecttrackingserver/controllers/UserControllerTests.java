@@ -19,14 +19,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import com.example.projecttrackingserver.auth.ApiKeyAuthExtractor;
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.dto.UserRequestDto;
 import com.example.projecttrackingserver.dto.UserResponseDto;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.enums.Role;
 import com.example.projecttrackingserver.services.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -66,8 +69,8 @@ public class UserControllerTests {
 	}
 	
     /**
-     * Tests endpoint to retrieve all users in a given company.
-     * Expects successful response with multiple users.
+     * Tests endpoint to retrieve the first page of users in a given company.
+     * Expects successful response with multiple users and the link to the next page.
      */
 	@Test
 	public void GetAllUsersInCompany_RetrieveMultipleUsers_ReturnMultipleUserResponses() throws Exception {
@@ -76,8 +79,8 @@ public class UserControllerTests {
 		List<UserResponseDto> expectedResponseList = Arrays.asList(expectedResponse, expectedResponse2);
 		
 		// Mock
-		when(userService.getAllUserDtosByCompanyId(companyId))
-						.thenReturn(expectedResponseList);
+		when(userService.getUserDtosInCompany(companyId, ListSort.Id, null, 100))
+						.thenReturn(new PageResponseDto<UserResponseDto>(expectedResponseList, "2"));
 		
 		// Act
 		ResultActions response = mockMvc.perform(get(String.format("/api/v1/companies/%d/users", companyId))
@@ -85,6 +88,8 @@ public class UserControllerTests {
 
 		// Assert
 		response.andExpect(MockMvcResultMatchers.status().isOk())
+				.andExpect(MockMvcResultMatchers.header().string(Pages.NEXT_CURSOR_HEADER, "2"))
+				.andExpect(MockMvcResultMatchers.header().string(HttpHeaders.LINK, String.format("<http://localhost/api/v1/companies/%d/users?cursor=2>; rel=\"next\"", companyId)))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].id").value(expectedResponseList.get(0).id()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].username").value(expectedResponseList.get(0).username()))
 				.andExpect(MockMvcResultMatchers.jsonPath("$.[0].company").value(expectedResponseList.get(0).company()))
@@ -0,0 +1,151 @@
+package com.example.projecttrackingserver.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.projecttrackingserver.datasource.ReadReplicaRoutingDataSource.Target;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Test class for the ReadReplicaRoutingDataSource.
+ * This class tests if transactions are routed to the primary and the replica as intended, using two embedded H2 databases.
+ */
+public class ReadReplicaRoutingDataSourceTests {
+
+	private EmbeddedDatabase primaryDatabase;
+	private EmbeddedDatabase replicaDatabase;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		primaryDatabase = createDatabase("primary");
+		replicaDatabase = createDatabase("replica");
+	}
+
+	@AfterEach
+	public void tearDown() {
+		primaryDatabase.shutdown();
+		replicaDatabase.shutdown();
+	}
+
+    /**
+     * Tests reading in a read-only transaction while the replica is caught up.
+     * Expects that the replica is read from.
+     */
+	@Test
+	public void GetConnection_ReadInReadOnlyTransaction_ReadFromReplica() {
+		// Arrange
+		ReplicaLagMonitor replicaLagMonitor = createMonitor("SELECT 0");
+
+		// Act
+		replicaLagMonitor.check();
+		String database = readDatabaseName(replicaLagMonitor, true);
+
+		// Assert
+		assertAll(() -> {
+			assertTrue(replicaLagMonitor.isReplicaUsable());
+			assertEquals("replica", database);
+		});
+	}
+
+    /**
+     * Tests reading in a read-write transaction while the replica is caught up.
+     * Expects that the primary is read from.
+     */
+	@Test
+	public void GetConnection_ReadInReadWriteTransaction_ReadFromPrimary() {
+		// Arrange
+		ReplicaLagMonitor replicaLagMonitor = createMonitor("SELECT 0");
+
+		// Act
+		replicaLagMonitor.check();
+		String database = readDatabaseName(replicaLagMonitor, false);
+
+		// Assert
+		assertEquals("primary", database);
+	}
+
+    /**
+     * Tests reading in a read-only transaction while the replica lags behind more than allowed.
+     * Expects that the primary is read from.
+     */
+	@Test
+	public void GetConnection_ReadWhileReplicaLags_ReadFromPrimary() {
+		// Arrange
+		ReplicaLagMonitor replicaLagMonitor = createMonitor("SELECT 10");
+
+		// Act
+		replicaLagMonitor.check();
+		String database = readDatabaseName(replicaLagMonitor, true);
+
+		// Assert
+		assertAll(() -> {
+			assertFalse(replicaLagMonitor.isReplicaUsable());
+			assertEquals("primary", database);
+		});
+	}
+
+    /**
+     * Tests reading in a read-only transaction after the lag of the replica could not be measured.
+     * Expects that the primary is read from.
+     */
+	@Test
+	public void GetConnection_ReadWhileLagUnknown_ReadFromPrimary() {
+		// Arrange
+		ReplicaLagMonitor replicaLagMonitor = createMonitor("SELECT lag FROM missing_table");
+
+		// Act
+		replicaLagMonitor.check();
+		String database = readDatabaseName(replicaLagMonitor, true);
+
+		// Assert
+		assertAll(() -> {
+			assertFalse(replicaLagMonitor.isReplicaUsable());
+			assertEquals("primary", database);
+		});
+	}
+
+	private ReplicaLagMonitor createMonitor(String lagQuery) {
+		return new ReplicaLagMonitor(replicaDatabase, lagQuery, Duration.ofSeconds(5), Duration.ofSeconds(1), new SimpleMeterRegistry());
+	}
+
+	private String readDatabaseName(ReplicaLagMonitor replicaLagMonitor, boolean readOnly) {
+		ReadReplicaRoutingDataSource routingDataSource = new ReadReplicaRoutingDataSource(replicaLagMonitor);
+		routingDataSource.setTargetDataSources(Map.of(Target.PRIMARY, primaryDatabase, Target.REPLICA, replicaDatabase));
+		routingDataSource.afterPropertiesSet();
+		DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+		transactionTemplate.setReadOnly(readOnly);
+		return transactionTemplate.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM database_name", String.class));
+	}
+
+	private static EmbeddedDatabase createDatabase(String name) {
+		EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+																 .setName(name + UUID.randomUUID())
+																 .build();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("CREATE TABLE database_name (name VARCHAR(16))");
+		jdbcTemplate.update("INSERT INTO database_name VALUES (?)", name);
+		return database;
+	}
+}
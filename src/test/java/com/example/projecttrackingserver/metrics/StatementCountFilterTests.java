@@ -0,0 +1,95 @@
+package com.example.projecttrackingserver.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+/**
+ * Test class for the StatementCountFilter.
+ * This class tests if the statements per request are recorded as intended.
+ */
+public class StatementCountFilterTests {
+
+	private StatementCountFilter underTest;
+
+	private StatementCountInspector statementCountInspector;
+	private SimpleMeterRegistry meterRegistry;
+	private MockHttpServletRequest request;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		statementCountInspector = new StatementCountInspector();
+		meterRegistry = new SimpleMeterRegistry();
+		underTest = new StatementCountFilter(statementCountInspector, meterRegistry);
+		request = new MockHttpServletRequest("GET", "/api/v1/companies/1/projects/1/tickets");
+	}
+
+    /**
+     * Tests a request executing multiple statements.
+     * Expects that the statements are recorded with the route template of the request.
+     */
+	@Test
+	public void DoFilter_ExecuteMultipleStatements_RecordStatementCountByRouteTemplate() throws Exception {
+		// Arrange
+		FilterChain filterChain = (filteredRequest, filteredResponse) -> {
+			statementCountInspector.inspect("select 1");
+			statementCountInspector.inspect("select 2");
+			filteredRequest.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/companies/{companyId}/projects/{projectId}/tickets");
+		};
+		statementCountInspector.inspect("select before request");
+
+		// Act
+		underTest.doFilter(request, new MockHttpServletResponse(), filterChain);
+
+		// Assert
+		DistributionSummary summary = meterRegistry.get(StatementCountFilter.METRIC_NAME)
+												   .tag("method", "GET")
+												   .tag("uri", "/api/v1/companies/{companyId}/projects/{projectId}/tickets")
+												   .summary();
+		assertAll(() -> {
+			assertEquals(1, summary.count());
+			assertEquals(2, summary.totalAmount());
+			assertEquals(0, statementCountInspector.getCount());
+		});
+	}
+
+    /**
+     * Tests a request which does not match any endpoint.
+     * Expects that the statements are recorded with an unknown route template.
+     */
+	@Test
+	public void DoFilter_RequestWithoutHandler_RecordUnknownRouteTemplate() throws Exception {
+		// Act
+		underTest.doFilter(request, new MockHttpServletResponse(), (filteredRequest, filteredResponse) -> {});
+
+		// Assert
+		assertEquals(1, meterRegistry.get(StatementCountFilter.METRIC_NAME)
+									 .tag("uri", "UNKNOWN")
+									 .summary()
+									 .count());
+	}
+
+    /**
+     * Tests the registration of the filter.
+     * Expects that the filter runs before the security filter chain, so the API key lookup is counted.
+     */
+	@Test
+	public void StatementCountFilter_Register_OrderBeforeSecurityFilterChain() {
+		// Act
+		int order = new MetricsConfiguration().statementCountFilter(statementCountInspector, meterRegistry).getOrder();
+
+		// Assert
+		assertTrue(order < SecurityProperties.DEFAULT_FILTER_ORDER);
+	}
+}
@@ -0,0 +1,277 @@
+package com.example.projecttrackingserver.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import javax.sql.DataSource;
+
+import jakarta.persistence.EntityManager;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+
+/**
+ * Test class for the indexes used by the repository queries.
+ * This class runs EXPLAIN on the SQL generated for the repository methods and checks that an index is used instead of a table scan.
+ * The plans come from the embedded H2 database, so they show which index fits a query, not the plan PostgreSQL picks for the production data.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.projecttrackingserver.repositories.RecordingStatementInspector")
+public class IndexUsageTests {
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CompanyRepository companyRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private TicketStatusRepository ticketStatusRepository;
+
+	@Autowired
+	private TicketPriorityRepository ticketPriorityRepository;
+
+	@Autowired
+	private TicketTypeRepository ticketTypeRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private DataSource dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		RecordingStatementInspector.clear();
+	}
+
+    /**
+     * Tests the plan of retrieving the projects of a company.
+     * Expects that the projects are found with the company index.
+     */
+	@Test
+	public void FindAllByCompanyId_ExplainProjectsOfCompany_UseCompanyIndex() {
+		// Act
+		projectRepository.findAllByCompanyId(1);
+		String plan = explainLastStatement();
+
+		// Assert
+		assertThat(plan).contains("PROJECTS_COMPANY_ID_IDX: COMPANY_ID = ?1");
+	}
+
+    /**
+     * Tests the plan of retrieving the users of a company.
+     * Expects that the users are found with the company index.
+     */
+	@Test
+	public void FindAllByCompanyId_ExplainUsersOfCompany_UseCompanyIndex() {
+		// Act
+		userRepository.findAllByCompanyId(1);
+		String plan = explainLastStatement();
+
+		// Assert
+		assertThat(plan).contains("USERS_COMPANY_ID_IDX: COMPANY_ID = ?1");
+	}
+
+    /**
+     * Tests the plan of retrieving a page of the users of a company sorted by username.
+     * Expects that the users are found with the company and username index.
+     */
+	@Test
+	public void FindAllDtosByCompanyIdAfterName_ExplainUsersByName_UseUsernameIndex() {
+		// Act
+		userRepository.findAllDtosByCompanyIdAfterName(1, "", Limit.of(10));
+		String plan = explainLastStatement();
+
+		// Assert
+		assertThat(plan).contains("USERS_COMPANY_ID_USERNAME_IDX: COMPANY_ID = ?1\n        AND USERNAME > ?2");
+	}
+
+    /**
+     * Tests the plan of retrieving a page of the projects of a company sorted by name.
+     * Expects that the projects are found with the company and name index.
+     */
+	@Test
+	public void FindAllDtosByCompanyIdAfterName_ExplainProjectsByName_UseNameIndex() {
+		// Act
+		projectRepository.findAllDtosByCompanyIdAfterName(1, "", Limit.of(10));
+		String plan = explainLastStatement();
+
+		// Assert
+		assertThat(plan).contains("PROJECTS_COMPANY_ID_NAME_IDX: COMPANY_ID = ?1\n        AND NAME > ?2");
+	}
+
+    /**
+     * Tests the plan of retrieving the projects a user is a member of.
+     * Expects that the memberships are found with the user index of the join table.
+     */
+	@Test
+	public void GetProjects_ExplainMembershipsOfUser_UseUserIndex() {
+		// Arrange
+		CompanyEntity companyEntity = companyRepository.save(TestDataUtil.createCompany1());
+		UserEntity userEntity = userRepository.save(TestDataUtil.createUser1(roleRepository.save(TestDataUtil.createDeveloperRole()), companyEntity));
+		entityManager.flush();
+		entityManager.clear();
+
+		// Act
+		userRepository.findById(userEntity.getId()).get().getProjects().size();
+		String plan = explainLastStatement();
+
+		// Assert
+		assertThat(plan).contains("PROJECTS_USERS_USER_ID_IDX: USER_ID = ?1");
+	}
+
+    /**
+     * Tests the plan of checking if a user is a member of a project.
+     * Expects that the membership is found with the unique index of the join table.
+     */
+	@Test
+	public void ExistsByProjectIdAndUserId_ExplainMembership_UseNoTableScan() {
+		// Act
+		projectRepository.existsByProjectIdAndUserId(1, 1);
+		String plan = explainLastStatement();
+
+		// Assert
+		assertAll(() -> {
+			assertThat(plan).contains("\"PUBLIC\".\"PROJECTS_USERS\"");
+			assertThat(plan).doesNotContain("TABLESCAN");
+		});
+	}
+
+    /**
+     * Tests the plan of retrieving a ticket of a project.
+     * Expects that the ticket is found without a table scan.
+     */
+	@Test
+	public void FindByIdAndProjectId_ExplainTicketOfProject_UseNoTableScan() {
+		// Act
+		ticketRepository.findByIdAndProjectId(1, 1);
+		String plan = explainLastStatement();
+
+		// Assert
+		assertAll(() -> {
+			assertThat(plan).contains("\"PUBLIC\".\"TICKETS\"");
+			assertThat(plan).doesNotContain("TABLESCAN");
+		});
+	}
+
+    /**
+     * Tests the plan of retrieving a page of tickets filtered by status.
+     * Expects that the tickets are found with the project and status index and the projects with the company index.
+     */
+	@Test
+	public void FindAllDtosInProjectAfterId_ExplainPageByStatus_UseStatusIndex() {
+		// Arrange
+		ticketStatusRepository.save(TestDataUtil.createTestTicketStatus(TicketStatus.New));
+
+		// Act
+		ticketRepository.findAllDtosInProjectAfterId(1, 1, 0, TicketStatus.New, null, null, null, null, null, Limit.of(10));
+		String plan = explainLastStatement();
+
+		// Assert
+		assertAll(() -> {
+			assertThat(plan).contains("TICKETS_PROJECT_ID_TICKET_STATUS_ID_IDX: ID > ?3\n        AND TICKET_STATUS_ID = ?4\n        AND PROJECT_ID = ?1");
+			assertThat(plan).contains("PROJECTS_COMPANY_ID_IDX");
+			assertThat(plan).doesNotContain("TABLESCAN");
+		});
+	}
+
+    /**
+     * Tests the plan of retrieving a page of tickets filtered by priority.
+     * Expects that the tickets are found with the project and priority index.
+     */
+	@Test
+	public void FindAllDtosInProjectAfterId_ExplainPageByPriority_UsePriorityIndex() {
+		// Arrange
+		ticketPriorityRepository.save(TestDataUtil.createTestTicketPriority(TicketPriority.High));
+
+		// Act
+		ticketRepository.findAllDtosInProjectAfterId(1, 1, 0, null, TicketPriority.High, null, null, null, null, Limit.of(10));
+		String plan = explainLastStatement();
+
+		// Assert
+		assertAll(() -> {
+			assertThat(plan).contains("TICKETS_PROJECT_ID_TICKET_PRIORITY_ID_IDX: ID > ?3\n        AND TICKET_PRIORITY_ID = ?4\n        AND PROJECT_ID = ?1");
+			assertThat(plan).doesNotContain("TABLESCAN");
+		});
+	}
+
+    /**
+     * Tests the plan of retrieving a page of tickets filtered by type.
+     * Expects that the tickets are found with the project and type index.
+     */
+	@Test
+	public void FindAllDtosInProjectAfterId_ExplainPageByType_UseTypeIndex() {
+		// Arrange
+		ticketTypeRepository.save(TestDataUtil.createTestTicketType(TicketType.Bug));
+
+		// Act
+		ticketRepository.findAllDtosInProjectAfterId(1, 1, 0, null, null, TicketType.Bug, null, null, null, Limit.of(10));
+		String plan = explainLastStatement();
+
+		// Assert
+		assertAll(() -> {
+			assertThat(plan).contains("TICKETS_PROJECT_ID_TICKET_TYPE_ID_IDX: ID > ?3\n        AND TICKET_TYPE_ID = ?4\n        AND PROJECT_ID = ?1");
+			assertThat(plan).doesNotContain("TABLESCAN");
+		});
+	}
+
+    /**
+     * Tests the plan of retrieving a page of tickets without filters.
+     * Expects that the tickets are found with the project and ID index in the order of the page.
+     */
+	@Test
+	public void FindAllDtosInProjectAfterId_ExplainUnfilteredPage_UseProjectIdIndex() {
+		// Act
+		ticketRepository.findAllDtosInProjectAfterId(1, 1, 0, null, null, null, null, null, null, Limit.of(10));
+		String plan = explainLastStatement();
+
+		// Assert
+		assertThat(plan).contains("TICKETS_PROJECT_ID_ID_IDX: ID > ?3\n        AND PROJECT_ID = ?1");
+	}
+
+    /**
+     * Tests the plan of retrieving the tickets changed in a project.
+     * Expects that the tickets are found with an index starting with the project.
+     */
+	@Test
+	public void FindAllDtosChangedInProject_ExplainChangedTickets_UseProjectIndex() {
+		// Act
+		ticketRepository.findAllDtosChangedInProject(1, 0, 10, 0, Limit.of(101));
+		String plan = explainLastStatement();
+
+		// Assert
+		assertAll(() -> {
+			assertThat(plan).contains("TICKETS_PROJECT_ID_");
+			assertThat(plan).doesNotContain("TABLESCAN");
+		});
+	}
+
+	private String explainLastStatement() {
+		// unbound parameters stay placeholders in the plan
+		return jdbcTemplate.queryForObject("EXPLAIN " + RecordingStatementInspector.lastStatement(), String.class).toUpperCase();
+	}
+}
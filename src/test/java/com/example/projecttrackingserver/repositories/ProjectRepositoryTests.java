@@ -2,13 +2,23 @@ package com.example.projecttrackingserver.repositories;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.projecttrackingserver.TestDataUtil;
 import com.example.projecttrackingserver.entities.CompanyEntity;
@@ -35,6 +45,9 @@ public class ProjectRepositoryTests {
 	@Autowired
 	private UserRepository userRepository;
 	
+	@Autowired
+	private EntityManager entityManager;
+	
 	private RoleEntity projectManagerRoleEntity;
 	private CompanyEntity companyEntity;
 	private UserEntity projectManagerEntity;
@@ -95,4 +108,116 @@ public class ProjectRepositoryTests {
 			assertThat(allProjects).containsOnly(projectEntity1);
 		});
 	}
+	
+    /**
+     * Tests incrementing the ticket change count of a ProjectEntity.
+     * Expects that the count is only retrieved in the company of the project and reflects every increment.
+     */
+	@Test
+	public void IncrementTicketChangeCount_IncrementTwiceAndRetrieve_ReturnTwo() {
+		// Arrange
+		ProjectEntity projectEntity = underTest.save(TestDataUtil.createProject1(companyEntity, projectManagerEntity));
+		
+		// Act
+		underTest.incrementTicketChangeCount(projectEntity.getId());
+		underTest.incrementTicketChangeCount(projectEntity.getId());
+		Optional<Long> ticketChangeCount = underTest.findTicketChangeCountByIdAndCompanyId(projectEntity.getId(), companyEntity.getId());
+		Optional<Long> ticketChangeCountInOtherCompany = underTest.findTicketChangeCountByIdAndCompanyId(projectEntity.getId(), companyEntity.getId() + 1);
+		
+		// Assert
+		assertAll(() -> {
+			assertThat(ticketChangeCount).contains(2L);
+			assertThat(ticketChangeCountInOtherCompany).isEmpty();
+		});
+	}
+	
+    /**
+     * Tests checking and retrieving the members of a ProjectEntity.
+     * Expects that only members are found and their IDs are returned in ascending order.
+     */
+	@Test
+	public void ExistsByProjectIdAndUserId_SaveProjectWithMembers_ReturnMembers() {
+		// Arrange
+		UserEntity newDeveloperEntity = TestDataUtil.createUser2(roleRepository.save(TestDataUtil.createDeveloperRole()), companyEntity);
+		newDeveloperEntity.setId(0);
+		UserEntity developerEntity = userRepository.save(newDeveloperEntity);
+		ProjectEntity newProjectEntity = TestDataUtil.createProject1(companyEntity, projectManagerEntity);
+		newProjectEntity.setMembers(new ArrayList<>(List.of(developerEntity, projectManagerEntity)));
+		ProjectEntity projectEntity = underTest.save(newProjectEntity);
+		entityManager.flush();
+		
+		// Act
+		boolean isMember1 = underTest.existsByProjectIdAndUserId(projectEntity.getId(), projectManagerEntity.getId());
+		boolean isMember2 = underTest.existsByProjectIdAndUserId(projectEntity.getId(), developerEntity.getId());
+		boolean isMember3 = underTest.existsByProjectIdAndUserId(projectEntity.getId(), developerEntity.getId() + 1);
+		List<Long> memberIds = underTest.findMemberIdsByProjectId(projectEntity.getId());
+		
+		// Assert
+		assertAll(() -> {
+			assertThat(isMember1).isTrue();
+			assertThat(isMember2).isTrue();
+			assertThat(isMember3).isFalse();
+			assertThat(memberIds).containsExactly(Math.min(projectManagerEntity.getId(), developerEntity.getId()),
+												  Math.max(projectManagerEntity.getId(), developerEntity.getId()));
+		});
+	}
+	
+    /**
+     * Tests adding and removing members by writing the rows of the join table.
+     * Expects that added members are found, a member cannot be added twice and only existing members are removed.
+     */
+	@Test
+	public void InsertMember_AddAndRemoveMembers_ChangeMembers() {
+		// Arrange
+		UserEntity newDeveloperEntity = TestDataUtil.createUser2(roleRepository.save(TestDataUtil.createDeveloperRole()), companyEntity);
+		newDeveloperEntity.setId(0);
+		UserEntity developerEntity = userRepository.save(newDeveloperEntity);
+		ProjectEntity projectEntity = underTest.save(TestDataUtil.createProject1(companyEntity, projectManagerEntity));
+		entityManager.flush();
+		
+		// Act
+		underTest.insertMember(projectEntity.getId(), developerEntity.getId());
+		boolean isMemberAfterInsert = underTest.existsByProjectIdAndUserId(projectEntity.getId(), developerEntity.getId());
+		int removedRows = underTest.deleteMember(projectEntity.getId(), developerEntity.getId());
+		int removedRowsAgain = underTest.deleteMember(projectEntity.getId(), developerEntity.getId());
+		underTest.insertMember(projectEntity.getId(), developerEntity.getId());
+		DataIntegrityViolationException duplicateException = assertThrows(DataIntegrityViolationException.class,
+				() -> underTest.insertMember(projectEntity.getId(), developerEntity.getId()));
+		
+		// Assert
+		assertAll(() -> {
+			assertThat(isMemberAfterInsert).isTrue();
+			assertThat(removedRows).isEqualTo(1);
+			assertThat(removedRowsAgain).isEqualTo(0);
+			assertThat(duplicateException.getMostSpecificCause().getMessage().toLowerCase()).contains(ProjectEntity.MEMBER_UNIQUE_CONSTRAINT);
+		});
+	}
+	
+    /**
+     * Tests loading and changing a ProjectEntity in a read-only transaction.
+     * Expects that the entity is loaded read-only, the session is not flushed automatically and changes are not written.
+     */
+	@Test
+	@Transactional(readOnly = true)
+	public void FindById_ChangeProjectInReadOnlyTransaction_IgnoreChange() {
+		// Arrange
+		ProjectEntity projectEntity = underTest.save(TestDataUtil.createProject1(companyEntity, projectManagerEntity));
+		Session session = entityManager.unwrap(Session.class);
+		session.flush();
+		session.clear();
+		
+		// Act
+		ProjectEntity retrievedProject = underTest.findById(projectEntity.getId()).get();
+		retrievedProject.setName("Changed TestProject");
+		session.flush();
+		session.clear();
+		Optional<ProjectEntity> reloadedProject = underTest.findById(projectEntity.getId());
+		
+		// Assert
+		assertAll(() -> {
+			assertThat(session.getHibernateFlushMode()).isEqualTo(FlushMode.MANUAL);
+			assertThat(session.isDefaultReadOnly()).isTrue();
+			assertThat(reloadedProject).map(ProjectEntity::getName).contains(projectEntity.getName());
+		});
+	}
 }
@@ -0,0 +1,145 @@
+package com.example.projecttrackingserver.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.entities.ProjectEntity;
+import com.example.projecttrackingserver.entities.ProjectTicketCounterEntity;
+import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.entities.TicketPriorityEntity;
+import com.example.projecttrackingserver.entities.TicketStatusEntity;
+import com.example.projecttrackingserver.entities.TicketTypeEntity;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.TicketCounterDimension;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Test class for the ProjectTicketCounterRepository.
+ * This class tests if the repository functionality works as intended.
+ */
+@DataJpaTest
+public class ProjectTicketCounterRepositoryTests {
+
+	@Autowired
+	private ProjectTicketCounterRepository underTest;
+
+	@Autowired
+	private TicketRepository ticketRepository;
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private CompanyRepository companyRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private TicketTypeRepository ticketTypeRepository;
+
+	@Autowired
+	private TicketPriorityRepository ticketPriorityRepository;
+
+	@Autowired
+	private TicketStatusRepository ticketStatusRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private CompanyEntity companyEntity;
+	private ProjectEntity projectEntity;
+	private UserEntity projectManagerEntity;
+	private TicketTypeEntity ticketTypeEntity;
+	private TicketPriorityEntity ticketPriorityEntity;
+	private TicketStatusEntity ticketStatusEntity;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		companyEntity = companyRepository.save(TestDataUtil.createCompany1());
+		projectManagerEntity = userRepository.save(TestDataUtil.createUser1(roleRepository.save(TestDataUtil.createAdminRole()), companyEntity));
+		projectEntity = projectRepository.save(TestDataUtil.createProject1(companyEntity, projectManagerEntity));
+		ticketTypeEntity = ticketTypeRepository.save(TestDataUtil.createTestTicketType(TicketType.Bug));
+		ticketPriorityEntity = ticketPriorityRepository.save(TestDataUtil.createTestTicketPriority(TicketPriority.Low));
+		ticketStatusEntity = ticketStatusRepository.save(TestDataUtil.createTestTicketStatus(TicketStatus.New));
+	}
+
+    /**
+     * Tests counting the saved tickets of a project from scratch.
+     * Expects one counter per status, priority and type of the tickets, which are only found in the company of the project.
+     */
+	@Test
+	public void InsertTicketCountsOfProject_CountSavedTickets_ReturnCountersOfProject() {
+		// Arrange
+		TicketPriorityEntity highPriorityEntity = TestDataUtil.createTestTicketPriority(TicketPriority.High);
+		highPriorityEntity.setId(0);
+		highPriorityEntity = ticketPriorityRepository.save(highPriorityEntity);
+		TicketEntity ticketEntity1 = TestDataUtil.createTicket1(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		TicketEntity ticketEntity2 = TestDataUtil.createTicket2(projectEntity, projectManagerEntity, ticketTypeEntity, highPriorityEntity, ticketStatusEntity);
+		for(TicketEntity ticketEntity : List.of(ticketEntity1, ticketEntity2)) {
+			ticketEntity.setId(0);
+			ticketRepository.save(ticketEntity);
+		}
+
+		// Act
+		Optional<Long> lockedProjectId = projectRepository.lockById(projectEntity.getId());
+		underTest.deleteAllTicketCountsByProjectId(projectEntity.getId());
+		underTest.insertTicketCountsOfProject(projectEntity.getId());
+		List<ProjectTicketCounterEntity> counters = underTest.findAllByProjectIdAndCompanyId(projectEntity.getId(), companyEntity.getId());
+		List<ProjectTicketCounterEntity> countersInOtherCompany = underTest.findAllByProjectIdAndCompanyId(projectEntity.getId(), companyEntity.getId() + 1);
+
+		// Assert
+		assertAll(() -> {
+			assertThat(lockedProjectId).contains(projectEntity.getId());
+			assertThat(counters).extracting(ProjectTicketCounterEntity::getDimension, ProjectTicketCounterEntity::getDimensionValue, ProjectTicketCounterEntity::getTicketCount)
+								.containsExactlyInAnyOrder(
+										tuple(TicketCounterDimension.TicketStatus, "New", 2L),
+										tuple(TicketCounterDimension.TicketPriority, "Low", 1L),
+										tuple(TicketCounterDimension.TicketPriority, "High", 1L),
+										tuple(TicketCounterDimension.TicketType, "Bug", 2L));
+			assertThat(countersInOtherCompany).isEmpty();
+		});
+	}
+
+    /**
+     * Tests adding to a counter before and after it was inserted.
+     * Expects that nothing is updated while the counter does not exist and the count is added to afterwards.
+     */
+	@Test
+	public void AddToTicketCount_MissingAndInsertedCounter_UpdateOnlyInsertedCounter() {
+		// Act
+		int updatedBeforeInsert = underTest.addToTicketCount(projectEntity.getId(), "TicketStatus", "Testing", 1);
+		underTest.insertTicketCount(projectEntity.getId(), "TicketStatus", "Testing", 1);
+		int updatedAfterInsert = underTest.addToTicketCount(projectEntity.getId(), "TicketStatus", "Testing", 2);
+		entityManager.flush();
+		entityManager.clear();
+		List<ProjectTicketCounterEntity> counters = underTest.findAllByProjectIdAndCompanyId(projectEntity.getId(), companyEntity.getId());
+
+		// Assert
+		assertAll(() -> {
+			assertThat(updatedBeforeInsert).isZero();
+			assertThat(updatedAfterInsert).isEqualTo(1);
+			assertThat(counters).singleElement()
+								.extracting(ProjectTicketCounterEntity::getTicketCount)
+								.isEqualTo(3L);
+		});
+	}
+}
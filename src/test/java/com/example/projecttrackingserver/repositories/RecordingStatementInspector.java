@@ -0,0 +1,40 @@
+package com.example.projecttrackingserver.repositories;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * StatementInspector which records the SQL generated by Hibernate, so tests can inspect the plans of repository queries.
+ */
+public class RecordingStatementInspector implements StatementInspector {
+
+	private static final List<String> statements = new ArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		synchronized(statements) {
+			statements.add(sql);
+		}
+		return sql;
+	}
+
+    /**
+     * Removes all recorded statements.
+     */
+	public static void clear() {
+		synchronized(statements) {
+			statements.clear();
+		}
+	}
+
+    /**
+     * @return the last recorded statement
+     */
+	public static String lastStatement() {
+		synchronized(statements) {
+			return statements.get(statements.size() - 1);
+		}
+	}
+}
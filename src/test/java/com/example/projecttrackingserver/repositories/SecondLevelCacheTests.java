@@ -0,0 +1,218 @@
+package com.example.projecttrackingserver.repositories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.List;
+import java.util.Optional;
+
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.cache.SecondLevelCacheConfiguration;
+import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.entities.ProjectEntity;
+import com.example.projecttrackingserver.entities.UserEntity;
+
+/**
+ * Test class for the second-level cache.
+ * This class tests if projects and their members are read from the cache and if the cache is invalidated by writes.
+ * Every step runs in its own committed transaction, as entries are only cached across transactions.
+ */
+@DataJpaTest(properties = "jpa.cache.enabled=true")
+@Import(SecondLevelCacheConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheTests {
+
+	@Autowired
+	private ProjectRepository underTest;
+
+	@Autowired
+	private CompanyRepository companyRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private TransactionTemplate transactionTemplate;
+	private CompanyEntity companyEntity;
+	private UserEntity developerEntity;
+	private ProjectEntity projectEntity;
+	private Statistics statistics;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		companyEntity = companyRepository.save(TestDataUtil.createCompany1());
+		UserEntity projectManagerEntity = userRepository.save(TestDataUtil.createUser1(roleRepository.save(TestDataUtil.createProjectManagerRole()), companyEntity));
+		developerEntity = userRepository.save(TestDataUtil.createUser2(roleRepository.save(TestDataUtil.createDeveloperRole()), companyEntity));
+		projectEntity = underTest.save(TestDataUtil.createProject1(companyEntity, projectManagerEntity));
+
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		underTest.deleteAll();
+		userRepository.deleteAll();
+		roleRepository.deleteAll();
+		companyRepository.deleteAll();
+	}
+
+    /**
+     * Tests finding a saved project in its company and in another company.
+     * Expects that all lookups are served from the cache and the company is still checked.
+     */
+	@Test
+	public void FindByIdAndCompanyId_ProjectSaved_ReadFromCache() {
+		// Act
+		Optional<ProjectEntity> retrievedProject1 = underTest.findByIdAndCompanyId(projectEntity.getId(), companyEntity.getId());
+		Optional<ProjectEntity> retrievedProject2 = underTest.findByIdAndCompanyId(projectEntity.getId(), companyEntity.getId());
+		Optional<ProjectEntity> retrievedProject3 = underTest.findByIdAndCompanyId(projectEntity.getId(), companyEntity.getId() + 1);
+
+		// Assert
+		assertAll(() -> {
+			assertThat(retrievedProject1).isPresent();
+			assertThat(retrievedProject2).isPresent();
+			assertThat(retrievedProject2.get().getName()).isEqualTo(projectEntity.getName());
+			assertThat(retrievedProject3).isEmpty();
+			assertThat(statistics.getCacheRegionStatistics("projects").getMissCount()).isEqualTo(0);
+			assertThat(statistics.getCacheRegionStatistics("projects").getHitCount()).isEqualTo(3);
+		});
+	}
+
+    /**
+     * Tests adding a member to a project whose members are cached.
+     * Expects that the cached members are invalidated and the new member is returned.
+     */
+	@Test
+	public void AddUserToProject_MembersCached_ReturnNewMember() {
+		// Arrange
+		List<Long> cachedMemberIds = findMemberIds();
+
+		// Act
+		transactionTemplate.executeWithoutResult(status -> underTest.findById(projectEntity.getId()).get()
+																	  .addUserToProject(userRepository.findById(developerEntity.getId()).get()));
+		List<Long> memberIds = findMemberIds();
+
+		// Assert
+		assertAll(() -> {
+			assertThat(cachedMemberIds).isEmpty();
+			assertThat(memberIds).containsExactly(developerEntity.getId());
+		});
+	}
+
+    /**
+     * Tests adding a member with a native insert into the join table to a project whose members are cached.
+     * Expects that the cached members are invalidated while the cached project is kept.
+     */
+	@Test
+	public void InsertMember_MembersCached_ReturnNewMember() {
+		// Arrange
+		List<Long> cachedMemberIds = findMemberIds();
+
+		// Act
+		transactionTemplate.executeWithoutResult(status -> underTest.insertMember(projectEntity.getId(), developerEntity.getId()));
+		long projectMissesBefore = statistics.getCacheRegionStatistics("projects").getMissCount();
+		List<Long> memberIds = findMemberIds();
+
+		// Assert
+		assertAll(() -> {
+			assertThat(cachedMemberIds).isEmpty();
+			assertThat(memberIds).containsExactly(developerEntity.getId());
+			assertThat(statistics.getCacheRegionStatistics("projects").getMissCount()).isEqualTo(projectMissesBefore);
+		});
+	}
+
+    /**
+     * Tests updating a cached project.
+     * Expects that the updated project is returned.
+     */
+	@Test
+	public void Save_ProjectCached_ReturnUpdatedProject() {
+		// Arrange
+		underTest.findById(projectEntity.getId());
+
+		// Act
+		transactionTemplate.executeWithoutResult(status -> underTest.findById(projectEntity.getId()).get().setName("UpdatedProject"));
+		Optional<ProjectEntity> retrievedProject = underTest.findById(projectEntity.getId());
+
+		// Assert
+		assertAll(() -> {
+			assertThat(retrievedProject).isPresent();
+			assertThat(retrievedProject.get().getName()).isEqualTo("UpdatedProject");
+		});
+	}
+
+    /**
+     * Tests deleting a cached project.
+     * Expects that the project is not found anymore.
+     */
+	@Test
+	public void Delete_ProjectCached_ReturnEmpty() {
+		// Arrange
+		underTest.findById(projectEntity.getId());
+
+		// Act
+		underTest.deleteById(projectEntity.getId());
+		Optional<ProjectEntity> retrievedProject = underTest.findById(projectEntity.getId());
+
+		// Assert
+		assertThat(retrievedProject).isEmpty();
+	}
+
+    /**
+     * Tests incrementing the ticket change count of a cached project.
+     * Expects that the project stays cached and the count is still read from the database.
+     */
+	@Test
+	public void IncrementTicketChangeCount_ProjectCached_KeepProjectCached() {
+		// Arrange
+		underTest.findById(projectEntity.getId());
+
+		// Act
+		Long ticketChangeCount = transactionTemplate.execute(status -> {
+			underTest.incrementTicketChangeCount(projectEntity.getId());
+			return underTest.findTicketChangeCountById(projectEntity.getId());
+		});
+		Optional<ProjectEntity> retrievedProject = underTest.findById(projectEntity.getId());
+
+		// Assert
+		assertAll(() -> {
+			assertThat(ticketChangeCount).isEqualTo(1);
+			assertThat(retrievedProject).isPresent();
+			assertThat(statistics.getCacheRegionStatistics("projects").getMissCount()).isEqualTo(0);
+			assertThat(statistics.getCacheRegionStatistics("projects").getHitCount()).isEqualTo(2);
+		});
+	}
+
+	private List<Long> findMemberIds() {
+		return transactionTemplate.execute(status -> underTest.findById(projectEntity.getId()).get()
+															  .getMembers().stream()
+															  .map(UserEntity::getId)
+															  .toList());
+	}
+}
@@ -3,31 +3,46 @@ package com.example.projecttrackingserver.repositories;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.dto.ScopeDto;
+import com.example.projecttrackingserver.dto.TicketResponseDto;
 import com.example.projecttrackingserver.entities.CompanyEntity;
 import com.example.projecttrackingserver.entities.ProjectEntity;
 import com.example.projecttrackingserver.entities.RoleEntity;
 import com.example.projecttrackingserver.entities.TicketEntity;
 import com.example.projecttrackingserver.entities.TicketPriorityEntity;
 import com.example.projecttrackingserver.entities.TicketStatusEntity;
+import com.example.projecttrackingserver.entities.TicketTombstoneEntity;
 import com.example.projecttrackingserver.entities.TicketTypeEntity;
 import com.example.projecttrackingserver.entities.UserEntity;
 import com.example.projecttrackingserver.enums.TicketPriority;
 import com.example.projecttrackingserver.enums.TicketStatus;
 import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.search.InMemoryTicketSearchIndex;
+import com.example.projecttrackingserver.search.TicketSearchHit;
 
 /**
  * Test class for the TicketRepository.
  * This class tests if the repository functionality works as intended.
  */
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class TicketRepositoryTests {
 
 	@Autowired
@@ -54,6 +69,15 @@ public class TicketRepositoryTests {
 	@Autowired
 	private TicketStatusRepository ticketStatusRepository;
 	
+	@Autowired
+	private TicketTombstoneRepository ticketTombstoneRepository;
+	
+	@Autowired
+	private EntityManager entityManager;
+	
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+	
 	private CompanyEntity companyEntity;
 	private ProjectEntity projectEntity;
 	private UserEntity projectManagerEntity;
@@ -119,4 +143,215 @@ public class TicketRepositoryTests {
 			assertThat(allTickets).containsOnly(ticketEntity1);
 		});
 	}
+	
+    /**
+     * Tests for retrieving pages of filtered TicketEntities.
+     * Expects that pages continue after the given ID and only contain matching tickets, none for a status without a row.
+     */
+	@Test
+	public void FindAllDtosInProjectAfterId_SaveMultipleTicketsAndRetrievePages_ReturnFilteredPages() {
+		// Arrange
+		TicketStatusEntity resolvedStatusEntity = ticketStatusRepository.save(TicketStatusEntity.builder().ticketStatus(TicketStatus.Resolved).build());
+		TicketEntity ticketEntity1 = TestDataUtil.createTicket1(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		TicketEntity ticketEntity2 = TestDataUtil.createTicket2(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		TicketEntity ticketEntity3 = TestDataUtil.createTicket2(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, resolvedStatusEntity);
+		ticketEntity3.setName("TestTicket3");
+		// unsaved IDs -> tickets get ascending IDs in order of saving
+		for(TicketEntity ticketEntity : List.of(ticketEntity1, ticketEntity2, ticketEntity3)) {
+			ticketEntity.setId(0);
+			underTest.save(ticketEntity);
+		}
+		long projectId = projectEntity.getId();
+		long companyId = projectEntity.getCompany().getId();
+		
+		// Act
+		List<TicketResponseDto> firstPage = underTest.findAllDtosInProjectAfterId(projectId, companyId, 0, null, null, null, null, null, null, Limit.of(1));
+		List<TicketResponseDto> secondPage = underTest.findAllDtosInProjectAfterId(projectId, companyId, ticketEntity1.getId(), null, null, null, null, null, null, Limit.of(1));
+		List<TicketResponseDto> resolvedTickets = underTest.findAllDtosInProjectAfterId(projectId, companyId, 0, TicketStatus.Resolved, null, null, null, null, null, Limit.of(10));
+		List<TicketResponseDto> ticketsCreatedSinceApril = underTest.findAllDtosInProjectAfterId(projectId, companyId, 0, null, null, null, projectManagerEntity.getId(), LocalDate.of(2020, 4, 1), null, Limit.of(10));
+		List<TicketResponseDto> newLowTickets = underTest.findAllDtosInProjectAfterId(projectId, companyId, 0, TicketStatus.New, TicketPriority.Low, TicketType.GeneralTask, null, null, null, Limit.of(10));
+		List<TicketResponseDto> testingTickets = underTest.findAllDtosInProjectAfterId(projectId, companyId, 0, TicketStatus.Testing, null, null, null, null, null, Limit.of(10));
+		
+		// Assert
+		assertAll(() -> {
+			assertThat(firstPage).extracting(TicketResponseDto::id).containsExactly(ticketEntity1.getId());
+			assertThat(secondPage).extracting(TicketResponseDto::id).containsExactly(ticketEntity2.getId());
+			assertThat(resolvedTickets).extracting(TicketResponseDto::ticketStatus).containsExactly(TicketStatus.Resolved);
+			assertThat(ticketsCreatedSinceApril).extracting(TicketResponseDto::id).containsExactly(ticketEntity2.getId(), ticketEntity3.getId());
+			assertThat(newLowTickets).extracting(TicketResponseDto::id).containsExactly(ticketEntity1.getId(), ticketEntity2.getId());
+			assertThat(testingTickets).isEmpty();
+		});
+	}
+	
+    /**
+     * Tests retrieving many tickets of a project as TicketResponseDto.
+     * Expects that all tickets are retrieved with a single statement.
+     */
+	@Test
+	public void FindAllDtosByProjectIdAndCompanyId_SaveManyTicketsAndRetrieve_ExecuteSingleStatement() {
+		// Arrange
+		for(int i = 0; i < 1000; i++) {
+			TicketEntity ticketEntity = TestDataUtil.createTicket1(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+			ticketEntity.setId(0);
+			ticketEntity.setName("TestTicket" + i);
+			underTest.save(ticketEntity);
+		}
+		entityManager.flush();
+		entityManager.clear();
+		Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		
+		// Act
+		List<TicketResponseDto> retrievedTickets = underTest.findAllDtosByProjectIdAndCompanyId(projectEntity.getId(), projectEntity.getCompany().getId());
+		
+		// Assert
+		assertAll(() -> {
+			assertThat(retrievedTickets).hasSize(1000);
+			assertThat(retrievedTickets).allSatisfy(ticket -> {
+				assertThat(ticket.creatorId()).isEqualTo(projectManagerEntity.getId());
+				assertThat(ticket.ticketType()).isEqualTo(TicketType.GeneralTask);
+			});
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+			assertThat(statistics.getEntityLoadCount()).isZero();
+		});
+	}
+	
+    /**
+     * Tests streaming the tickets of all projects in a company.
+     * Expects that the tickets of every project in the company are streamed in order of their IDs.
+     */
+	@Test
+	public void StreamAllDtosByCompanyId_SaveTicketsInTwoProjectsAndStream_ReturnAllTickets() {
+		// Arrange
+		RoleEntity projectManagerRoleEntity2 = roleRepository.save(TestDataUtil.createProjectManagerRole());
+		UserEntity projectManagerEntity2 = TestDataUtil.createUser2(projectManagerRoleEntity2, companyEntity);
+		projectManagerEntity2.setId(0);
+		projectManagerEntity2 = userRepository.save(projectManagerEntity2);
+		ProjectEntity projectEntity2 = TestDataUtil.createProject2(companyEntity, projectManagerEntity2);
+		projectEntity2.setId(0);
+		projectEntity2 = projectRepository.save(projectEntity2);
+		TicketEntity ticketEntity1 = TestDataUtil.createTicket1(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		TicketEntity ticketEntity2 = TestDataUtil.createTicket2(projectEntity2, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		for(TicketEntity ticketEntity : List.of(ticketEntity1, ticketEntity2)) {
+			ticketEntity.setId(0);
+			underTest.save(ticketEntity);
+		}
+		
+		// Act
+		List<TicketResponseDto> streamedTickets;
+		try(Stream<TicketResponseDto> tickets = underTest.streamAllDtosByCompanyId(companyEntity.getId())) {
+			streamedTickets = tickets.toList();
+		}
+		
+		// Assert
+		assertThat(streamedTickets).extracting(TicketResponseDto::projectId).containsExactly(projectEntity.getId(), projectEntity2.getId());
+	}
+	
+    /**
+     * Tests resolving the company, project and ticket scope of a ticket.
+     * Expects that every level which does not exist in its parent is returned as null.
+     */
+	@Test
+	public void FindScope_ResolveExistingAndMissingLevels_ReturnMatchingScope() {
+		// Arrange
+		TicketEntity ticketEntity = TestDataUtil.createTicket1(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		ticketEntity.setId(0);
+		underTest.save(ticketEntity);
+		long companyId = companyEntity.getId();
+		long projectId = projectEntity.getId();
+		long ticketId = ticketEntity.getId();
+		
+		// Act
+		Optional<ScopeDto> fullScope = companyRepository.findScope(companyId, projectId, ticketId);
+		Optional<ScopeDto> missingTicketScope = companyRepository.findScope(companyId, projectId, ticketId + 1);
+		Optional<ScopeDto> missingProjectScope = companyRepository.findScope(companyId, projectId + 1, ticketId);
+		Optional<ScopeDto> missingCompanyScope = companyRepository.findScope(companyId + 1, projectId, ticketId);
+		
+		// Assert
+		assertAll(() -> {
+			assertThat(fullScope).contains(new ScopeDto(companyId, projectId, ticketId));
+			assertThat(missingTicketScope).contains(new ScopeDto(companyId, projectId, null));
+			assertThat(missingProjectScope).contains(new ScopeDto(companyId, null, null));
+			assertThat(missingCompanyScope).isEmpty();
+		});
+	}
+	
+    /**
+     * Tests retrieving the tickets and tombstones of a project between two change numbers.
+     * Expects that only changes after the first and up to the second change number are returned,
+     * limited to the tickets after the given ID.
+     */
+	@Test
+	public void FindAllDtosChangedInProject_SaveTicketsWithChangeNumbers_ReturnChangesInRange() {
+		// Arrange
+		TicketEntity ticketEntity1 = TestDataUtil.createTicket1(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		TicketEntity ticketEntity2 = TestDataUtil.createTicket2(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		TicketEntity ticketEntity3 = TestDataUtil.createTicket2(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		ticketEntity3.setName("TestTicket3");
+		long changeNumber = 1;
+		for(TicketEntity ticketEntity : List.of(ticketEntity1, ticketEntity2, ticketEntity3)) {
+			ticketEntity.setId(0);
+			ticketEntity.setChangeNumber(changeNumber++);
+			underTest.save(ticketEntity);
+		}
+		ticketTombstoneRepository.save(TicketTombstoneEntity.builder()
+															.ticketId(99L)
+															.projectId(projectEntity.getId())
+															.changeNumber(2)
+															.deletedAt(LocalDateTime.now())
+															.build());
+		long projectId = projectEntity.getId();
+		
+		// Act
+		List<TicketResponseDto> allTickets = underTest.findAllDtosChangedInProject(projectId, -1, 3, 0, Limit.unlimited());
+		List<TicketResponseDto> firstTickets = underTest.findAllDtosChangedInProject(projectId, -1, 3, 0, Limit.of(2));
+		List<TicketResponseDto> nextTickets = underTest.findAllDtosChangedInProject(projectId, -1, 3, ticketEntity2.getId(), Limit.of(2));
+		List<TicketResponseDto> changedTickets = underTest.findAllDtosChangedInProject(projectId, 1, 2, 0, Limit.unlimited());
+		List<Long> deletedTicketIds = ticketTombstoneRepository.findTicketIdsDeletedInProject(projectId, 1, 2, 0, Limit.unlimited());
+		List<Long> laterDeletedTicketIds = ticketTombstoneRepository.findTicketIdsDeletedInProject(projectId, 2, 3, 0, Limit.unlimited());
+		List<Long> deletedAfterTicketIds = ticketTombstoneRepository.findTicketIdsDeletedInProject(projectId, 1, 2, 99, Limit.unlimited());
+		
+		// Assert
+		assertAll(() -> {
+			assertThat(allTickets).hasSize(3);
+			assertThat(firstTickets).extracting(TicketResponseDto::id).containsExactly(ticketEntity1.getId(), ticketEntity2.getId());
+			assertThat(nextTickets).extracting(TicketResponseDto::id).containsExactly(ticketEntity3.getId());
+			assertThat(deletedAfterTicketIds).isEmpty();
+			assertThat(changedTickets).extracting(TicketResponseDto::id).containsExactly(ticketEntity2.getId());
+			assertThat(deletedTicketIds).containsExactly(99L);
+			assertThat(laterDeletedTicketIds).isEmpty();
+		});
+	}
+	
+    /**
+     * Tests building the in-process search index from the saved tickets and loading the found tickets.
+     * Expects that only the ticket containing all words is found and loaded.
+     */
+	@Test
+	public void StreamAllSearchDocuments_BuildSearchIndex_FindTicketByWords() {
+		// Arrange
+		TicketEntity ticketEntity1 = TestDataUtil.createTicket1(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		TicketEntity ticketEntity2 = TestDataUtil.createTicket2(projectEntity, projectManagerEntity, ticketTypeEntity, ticketPriorityEntity, ticketStatusEntity);
+		ticketEntity1.setName("Login fails");
+		ticketEntity1.setDescription("Login with a new password fails");
+		ticketEntity2.setName("Login page");
+		ticketEntity2.setDescription(null);
+		for(TicketEntity ticketEntity : List.of(ticketEntity1, ticketEntity2)) {
+			ticketEntity.setId(0);
+			underTest.save(ticketEntity);
+		}
+		InMemoryTicketSearchIndex searchIndex = new InMemoryTicketSearchIndex(underTest, transactionManager);
+		
+		// Act
+		searchIndex.rebuild();
+		List<TicketSearchHit> hits = searchIndex.search(companyEntity.getId(), projectEntity.getId(), "login PASSWORD", TicketSearchHit.FIRST, 10);
+		List<TicketResponseDto> foundTickets = underTest.findAllDtosByIdIn(hits.stream().map(TicketSearchHit::ticketId).toList());
+		
+		// Assert
+		assertAll(() -> {
+			assertThat(searchIndex.size()).isEqualTo(2);
+			assertThat(hits).extracting(TicketSearchHit::ticketId).containsExactly(ticketEntity1.getId());
+			assertThat(foundTickets).extracting(TicketResponseDto::name).containsExactly("Login fails");
+		});
+	}
 }
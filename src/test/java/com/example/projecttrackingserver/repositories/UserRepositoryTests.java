@@ -3,14 +3,17 @@ package com.example.projecttrackingserver.repositories;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.dto.UserResponseDto;
 import com.example.projecttrackingserver.entities.CompanyEntity;
 import com.example.projecttrackingserver.entities.RoleEntity;
 import com.example.projecttrackingserver.entities.UserEntity;
@@ -92,4 +95,39 @@ public class UserRepositoryTests {
 			assertThat(allUsers).containsOnly(testUser1, testUser2);
 		});
 	}
+	
+    /**
+     * Tests for retrieving the users of a company page by page, ordered by ID and by username.
+     * Expects that every page continues after the last user of the previous page.
+     */
+	@Test
+	public void FindAllDtos_RetrievePagesOfUsers_ReturnUsersAfterCursor() {
+		// Arrange
+		UserEntity testUser1 = TestDataUtil.createUser1(developerRoleEntity, companyEntity);
+		UserEntity testUser2 = TestDataUtil.createUser2(adminRoleEntity, companyEntity);
+		testUser1.setId(0);
+		testUser2.setId(0);
+		testUser1.setUsername("UserB");
+		testUser2.setUsername("UserA");
+		long userId1 = underTest.save(testUser1).getId();
+		long userId2 = underTest.save(testUser2).getId();
+		
+		// Act
+		List<UserResponseDto> pageById = underTest.findAllDtosByCompanyIdAfterId(companyEntity.getId(), 0, Limit.of(1));
+		List<UserResponseDto> nextPageById = underTest.findAllDtosByCompanyIdAfterId(companyEntity.getId(), userId1, Limit.of(1));
+		List<UserResponseDto> pageByName = underTest.findAllDtosByCompanyIdAfterName(companyEntity.getId(), "", Limit.of(1));
+		List<UserResponseDto> nextPageByName = underTest.findAllDtosByCompanyIdAfterName(companyEntity.getId(), "UserA", Limit.of(1));
+		List<UserResponseDto> pageInOtherCompany = underTest.findAllDtosByCompanyIdAfterId(companyEntity.getId() + 1, 0, Limit.of(1));
+		
+		// Assert
+		assertAll(() -> {
+			assertThat(pageById).extracting(UserResponseDto::id).containsExactly(userId1);
+			assertThat(nextPageById).extracting(UserResponseDto::id).containsExactly(userId2);
+			assertThat(pageByName).extracting(UserResponseDto::username).containsExactly("UserA");
+			assertThat(nextPageByName).extracting(UserResponseDto::username).containsExactly("UserB");
+			assertThat(nextPageByName.get(0).company()).isEqualTo(companyEntity.getName());
+			assertThat(nextPageByName.get(0).role()).isEqualTo(developerRoleEntity.getRole());
+			assertThat(pageInOtherCompany).isEmpty();
+		});
+	}
 }
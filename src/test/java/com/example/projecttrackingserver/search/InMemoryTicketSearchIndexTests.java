@@ -0,0 +1,133 @@
+package com.example.projecttrackingserver.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+import com.example.projecttrackingserver.repositories.TicketRepository;
+
+/**
+ * Test class for the InMemoryTicketSearchIndex.
+ * This class tests if tickets are found, ranked and paged as intended.
+ */
+@ExtendWith(MockitoExtension.class)
+public class InMemoryTicketSearchIndexTests {
+
+	private InMemoryTicketSearchIndex underTest;
+
+	@Mock
+	private TicketRepository ticketRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		underTest = new InMemoryTicketSearchIndex(ticketRepository, transactionManager);
+		underTest.index(new TicketSearchDocument(1, 1, 1, "Export fails", "The export of large projects fails"));
+		underTest.index(new TicketSearchDocument(2, 1, 1, "Slow login", "Export button is slow after login"));
+		underTest.index(new TicketSearchDocument(3, 2, 1, "Export to CSV", null));
+		underTest.index(new TicketSearchDocument(4, 3, 2, "Export to PDF", null));
+	}
+
+	@AfterEach
+	public void tearDown() {
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+    /**
+     * Tests searching a word contained in names and descriptions.
+     * Expects that only tickets of the company are found and matches in the name are ranked first.
+     */
+	@Test
+	public void Search_WordInNamesAndDescriptions_RankNameMatchesFirst() {
+		// Act
+		List<TicketSearchHit> hits = underTest.search(1, null, "EXPORT", TicketSearchHit.FIRST, 10);
+
+		// Assert
+		assertAll(() -> {
+			assertThat(hits).extracting(TicketSearchHit::ticketId).containsExactly(1L, 3L, 2L);
+			assertEquals(InMemoryTicketSearchIndex.NAME_WEIGHT + InMemoryTicketSearchIndex.DESCRIPTION_WEIGHT, hits.get(0).rank());
+		});
+	}
+
+    /**
+     * Tests searching several words and searching in a project.
+     * Expects that only tickets containing all words, and in the project, are found.
+     */
+	@Test
+	public void Search_SeveralWordsInProject_ReturnTicketsContainingAllWords() {
+		// Act
+		List<TicketSearchHit> hits1 = underTest.search(1, null, "slow export", TicketSearchHit.FIRST, 10);
+		List<TicketSearchHit> hits2 = underTest.search(1, 2L, "export", TicketSearchHit.FIRST, 10);
+		List<TicketSearchHit> hits3 = underTest.search(1, null, "export unknown", TicketSearchHit.FIRST, 10);
+
+		// Assert
+		assertAll(() -> {
+			assertThat(hits1).extracting(TicketSearchHit::ticketId).containsExactly(2L);
+			assertThat(hits2).extracting(TicketSearchHit::ticketId).containsExactly(3L);
+			assertThat(hits3).isEmpty();
+		});
+	}
+
+    /**
+     * Tests retrieving the hits of a search page by page with the encoded cursor.
+     * Expects that every hit is returned once and in order.
+     */
+	@Test
+	public void Search_ContinueAfterCursor_ReturnNextHits() {
+		// Act
+		List<TicketSearchHit> page1 = underTest.search(1, null, "export", TicketSearchHit.FIRST, 2);
+		List<TicketSearchHit> page2 = underTest.search(1, null, "export", TicketSearchHit.parse(page1.get(1).encode()), 2);
+
+		// Assert
+		assertAll(() -> {
+			assertThat(page1).extracting(TicketSearchHit::ticketId).containsExactly(1L, 3L);
+			assertThat(page2).extracting(TicketSearchHit::ticketId).containsExactly(2L);
+			assertThrows(ValueNotAllowedException.class, () -> TicketSearchHit.parse("1.4"));
+			assertThrows(ValueNotAllowedException.class, () -> TicketSearchHit.parse("NaN:1"));
+		});
+	}
+
+    /**
+     * Tests updating and removing tickets inside a transaction.
+     * Expects that the index only changes once the transaction committed.
+     */
+	@Test
+	public void IndexAndRemove_InTransaction_ChangeIndexAfterCommit() {
+		// Arrange
+		TransactionSynchronizationManager.initSynchronization();
+
+		// Act
+		underTest.index(new TicketSearchDocument(1, 1, 1, "Import fails", null));
+		underTest.removeProject(2);
+		List<TicketSearchHit> hitsBeforeCommit = underTest.search(1, null, "export", TicketSearchHit.FIRST, 10);
+		TransactionSynchronizationManager.getSynchronizations()
+										 .forEach(TransactionSynchronization::afterCommit);
+		List<TicketSearchHit> hitsAfterCommit = underTest.search(1, null, "export", TicketSearchHit.FIRST, 10);
+
+		// Assert
+		assertAll(() -> {
+			assertThat(hitsBeforeCommit).extracting(TicketSearchHit::ticketId).containsExactly(1L, 3L, 2L);
+			assertThat(hitsAfterCommit).extracting(TicketSearchHit::ticketId).containsExactly(2L);
+			assertEquals(3, underTest.size());
+		});
+	}
+}
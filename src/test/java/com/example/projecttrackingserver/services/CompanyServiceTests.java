@@ -18,10 +18,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
 import com.example.projecttrackingserver.TestDataUtil;
 import com.example.projecttrackingserver.dto.CompanyResponseDto;
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
 import com.example.projecttrackingserver.mappers.CompanyMapper;
 import com.example.projecttrackingserver.mappers.CompanyMapperImpl;
@@ -59,27 +62,26 @@ public class CompanyServiceTests {
 	}
 	
     /**
-     * Tests retrieving multiple companies.
-     * Expects that multiple companies are successfully mapped and retrieved.
+     * Tests retrieving a page of companies with fewer companies than the page size.
+     * Expects that all companies are retrieved without a next cursor.
      */
 	@Test
-	public void GetAllCompanyDtos_RetrieveMultipleCompanies_ReturnMultipleCompanyResponses() {
+	public void GetCompanyDtos_RetrieveFewerCompaniesThanLimit_ReturnLastPage() {
 		// Arrange
-		List<CompanyEntity> companies = Arrays.asList(companyEntity1, companyEntity2);
+		List<CompanyResponseDto> companies = Arrays.asList(companyMapper.toDto(companyEntity1), companyMapper.toDto(companyEntity2));
 		
 		// Mock
-		when(companyRepository.findAll())
+		when(companyRepository.findAllDtosAfterId(0, Limit.of(101)))
 							  .thenReturn(companies);
 		
 		// Act
-		List<CompanyResponseDto> companyResponseDtos = underTest.getAllCompanyDtos();
+		PageResponseDto<CompanyResponseDto> page = underTest.getCompanyDtos(ListSort.Id, null, 100);
 		
 		// Assert
-		assertEquals(companies.size(), companyResponseDtos.size());
-		for(CompanyEntity company : companies) {
-			verify(companyMapper, times(1)).toDto(company);
-		}
-		verify(companyRepository, times(1)).findAll();
+		assertAll(() -> {
+			assertEquals(companies, page.content());
+			assertEquals(null, page.nextCursor());
+		});
 	}
 	
     /**
@@ -4,12 +4,15 @@ import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -17,33 +20,43 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.AdditionalAnswers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.audit.AuditLog;
+import com.example.projecttrackingserver.auth.AuthenticatedUser;
+import com.example.projecttrackingserver.cache.ProjectMembershipCache;
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.dto.ProjectRequestDto;
 import com.example.projecttrackingserver.dto.ProjectResponseDto;
 import com.example.projecttrackingserver.dto.UserResponseDto;
+import com.example.projecttrackingserver.dto.VersionedResponseDto;
 import com.example.projecttrackingserver.entities.CompanyEntity;
 import com.example.projecttrackingserver.entities.ProjectEntity;
 import com.example.projecttrackingserver.entities.RoleEntity;
 import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.AuditAction;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.exceptions.EntityAlreadyExistsException;
 import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
 import com.example.projecttrackingserver.exceptions.UnauthorizedException;
 import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+import com.example.projecttrackingserver.exceptions.VersionMismatchException;
 import com.example.projecttrackingserver.mappers.ProjectMapper;
 import com.example.projecttrackingserver.mappers.ProjectMapperImpl;
 import com.example.projecttrackingserver.mappers.UserMapper;
 import com.example.projecttrackingserver.mappers.UserMapperImpl;
 import com.example.projecttrackingserver.repositories.ProjectRepository;
+import com.example.projecttrackingserver.search.TicketSearchIndex;
 
 /**
  * Test class for the ProjectServiceImpl.
@@ -61,6 +74,9 @@ public class ProjectServiceTests {
 	@Mock
 	private CompanyService companyService;
 	
+	@Mock
+	private ScopeResolver scopeResolver;
+	
 	@Spy
 	private ProjectMapper projectMapper = new ProjectMapperImpl();
 	
@@ -70,13 +86,21 @@ public class ProjectServiceTests {
 	@Mock
 	private UserService userService;
 	
+	@Mock
+	private ProjectMembershipCache projectMembershipCache;
+	
+	@Mock
+	private AuditLog auditLog;
+	
+	@Mock
+	private TicketSearchIndex ticketSearchIndex;
+	
     @Mock
     private SecurityContext securityContext;
 
     @Mock
     private Authentication authentication;
 	
-	private ProjectEntity projectMock;
 	private ProjectEntity projectEntity1;
 	private ProjectEntity projectEntity2;
 	private CompanyEntity companyEntity;
@@ -101,7 +125,6 @@ public class ProjectServiceTests {
 		projectManagerRoleEntity = TestDataUtil.createProjectManagerRole();
 		projectManagerEntity = TestDataUtil.createUser1(projectManagerRoleEntity, companyEntity);
 		requestingAdminEntity = TestDataUtil.createUser1(adminRoleEntity, companyEntity);
-		projectMock = Mockito.mock(ProjectEntity.class);
 		projectEntity1 = TestDataUtil.createProject1(companyEntity, projectManagerEntity);
 		projectEntity2 = TestDataUtil.createProject2(companyEntity, projectManagerEntity);
 		validCompanyId = companyEntity.getId();
@@ -118,34 +141,39 @@ public class ProjectServiceTests {
 	}
 	
     /**
-     * Tests retrieving multiple projects.
-     * Expects that multiple projects are successfully mapped and retrieved.
+     * Tests retrieving two pages of projects sorted by name, the second with the cursor returned with the first.
+     * Expects that the second page continues after the name of the last project of the first page and is the last page.
      */
 	@Test
-	public void getAllProjectsDtosInCompany_RetrieveMultipleProjects_ReturnMultipleProjectDtos() {
+	public void getProjectDtosInCompany_ContinueWithNameCursor_ReturnNextPage() {
 		// Arrange
-		List<ProjectEntity> projects = Arrays.asList(projectEntity1, projectEntity2);
+		ProjectResponseDto project1 = projectMapper.toDto(projectEntity1);
+		ProjectResponseDto project2 = projectMapper.toDto(projectEntity2);
 		
 		// Mock
-		when(companyService.entityExists(validCompanyId))
-		   				   .thenReturn(true);
-		when(companyService.entityExists(invalidCompanyId))
-						   .thenReturn(false);
-		when(projectRepository.findAllByCompanyId(validCompanyId))
-							  .thenReturn(projects);
+		doThrow(new EntityNotFoundException("companyId", invalidCompanyId))
+							 .when(scopeResolver).requireCompany(invalidCompanyId);
+		when(projectRepository.findAllDtosByCompanyIdAfterName(validCompanyId, "", Limit.of(2)))
+							  .thenReturn(Arrays.asList(project1, project2));
+		when(projectRepository.findAllDtosByCompanyIdAfterName(validCompanyId, project1.projectName(), Limit.of(2)))
+							  .thenReturn(Arrays.asList(project2));
+		when(projectRepository.findAllDtosByCompanyIdAfterName(invalidCompanyId, "", Limit.of(2)))
+							  .thenReturn(List.of());
 		
 		// Act
-		List<ProjectResponseDto> projectResponseDtos = underTest.getAllProjectDtosInCompany(validCompanyId);
+		PageResponseDto<ProjectResponseDto> page1 = underTest.getProjectDtosInCompany(validCompanyId, ListSort.Name, null, 1);
+		PageResponseDto<ProjectResponseDto> page2 = underTest.getProjectDtosInCompany(validCompanyId, ListSort.Name, page1.nextCursor(), 1);
 		
 		// Assert
 		assertAll(() -> {
-			assertEquals(projects.size(), projectResponseDtos.size());
-			assertThrows(EntityNotFoundException.class, () -> underTest.getAllProjectDtosInCompany(invalidCompanyId));
+			assertEquals(List.of(project1), page1.content());
+			assertNotNull(page1.nextCursor());
+			assertEquals(List.of(project2), page2.content());
+			assertEquals(null, page2.nextCursor());
+			assertThrows(EntityNotFoundException.class, () -> underTest.getProjectDtosInCompany(invalidCompanyId, ListSort.Name, null, 1));
+			assertThrows(ValueNotAllowedException.class, () -> underTest.getProjectDtosInCompany(validCompanyId, ListSort.Name, "%%%", 1));
+			assertThrows(ValueNotAllowedException.class, () -> underTest.getProjectDtosInCompany(validCompanyId, ListSort.Name, null, PageCursor.MAX_PAGE_SIZE + 1));
 		});
-		for(ProjectEntity project : projects) {
-			verify(projectMapper, times(1)).toDto(project);
-		}
-		verify(projectRepository, times(1)).findAllByCompanyId(validCompanyId);
 	}
 	
     /**
@@ -155,14 +183,14 @@ public class ProjectServiceTests {
 	@Test
 	public void getProjectDtoInCompany_RetrieveOneProject_ReturnOneProjectDto() {
 		// Mock
-		when(companyService.entityExists(validCompanyId))
-		   				   .thenReturn(true);
-		when(companyService.entityExists(invalidCompanyId))
-		   				   .thenReturn(false);
+		when(scopeResolver.projectNotFound(Mockito.anyLong(), Mockito.anyLong()))
+						  .thenReturn(new EntityNotFoundException("projectId", invalidProjectId));
 		when(projectRepository.findByIdAndCompanyId(validProjectId, validCompanyId))
 	   	  					  .thenReturn(Optional.of(projectEntity1));
 		when(projectRepository.findByIdAndCompanyId(invalidProjectId, validCompanyId))
 					  		  .thenReturn(Optional.empty());
+		when(projectRepository.findByIdAndCompanyId(validProjectId, invalidCompanyId))
+					  		  .thenReturn(Optional.empty());
 		
 		// Act
 		ProjectResponseDto projectResponseDto = underTest.getProjectDtoInCompany(validCompanyId, validProjectId);
@@ -192,14 +220,14 @@ public class ProjectServiceTests {
 		projectEntity1.setMembers(Arrays.asList(projectManagerEntity, requestingAdminEntity));
 		
 		// Mock
-		when(companyService.entityExists(validCompanyId))
-		   				   .thenReturn(true);
-		when(companyService.entityExists(invalidCompanyId))
-		   				   .thenReturn(false);
+		when(scopeResolver.projectNotFound(Mockito.anyLong(), Mockito.anyLong()))
+						  .thenReturn(new EntityNotFoundException("projectId", invalidProjectId));
 		when(projectRepository.findByIdAndCompanyId(validProjectId, validCompanyId))
 	   	  					  .thenReturn(Optional.of(projectEntity1));
 		when(projectRepository.findByIdAndCompanyId(invalidProjectId, validCompanyId))
 					  		  .thenReturn(Optional.empty());
+		when(projectRepository.findByIdAndCompanyId(validProjectId, invalidCompanyId))
+					  		  .thenReturn(Optional.empty());
 		
 		// Act
 		List<UserResponseDto> userResponseDtos = underTest.getAllUserDtosInProject(validCompanyId, validProjectId);
@@ -230,16 +258,18 @@ public class ProjectServiceTests {
 		   				   .thenReturn(Optional.of(companyEntity));
 		when(userService.getEntityByIdAndCompanyId(validUserId, validUserId))
 					   	.thenReturn(Optional.of(projectManagerEntity));
-		when(projectRepository.save(Mockito.any(ProjectEntity.class)))
-		   					  .thenReturn(projectEntity1);
-		when(projectRepository.findByName(notExistingProjectname))
-							  .thenReturn(Optional.empty());
-		when(projectRepository.findByName(alreadyExistingProjectname))
-		  					  .thenReturn(Optional.of(projectMock));
+		when(projectRepository.saveAndFlush(Mockito.any(ProjectEntity.class)))
+		   					  .then(invocation -> {
+		   						  // projectname is taken -> violation of the unique constraint
+		   						  if(alreadyExistingProjectname.equals(invocation.<ProjectEntity>getArgument(0).getName())) {
+		   							  throw TestDataUtil.createConstraintViolation(ProjectEntity.NAME_UNIQUE_CONSTRAINT);
+		   						  }
+		   						  return projectEntity1;
+		   					  });
 		when(securityContext.getAuthentication())
 							.thenReturn(authentication);
 		when(authentication.getPrincipal())
-			   			   .thenReturn(requestingAdminEntity);
+			   			   .thenReturn(AuthenticatedUser.of(requestingAdminEntity));
 		
 		// Act
 		ProjectResponseDto projectResponseDto = underTest.createProject(projectRequestDto1, validCompanyId);
@@ -257,7 +287,7 @@ public class ProjectServiceTests {
 			assertThrows(EntityAlreadyExistsException.class, () -> underTest.createProject(projectRequestDto2, validCompanyId));
 		});
 		verify(projectMapper, times(1)).toEntity(projectRequestDto1, companyEntity, projectManagerEntity);
-		verify(projectRepository, times(1)).save(Mockito.any(ProjectEntity.class));
+		verify(projectRepository, times(2)).saveAndFlush(Mockito.any(ProjectEntity.class));
 		verify(projectMapper, times(1)).toDto(projectEntity1);
 	}
 	
@@ -268,18 +298,18 @@ public class ProjectServiceTests {
 	@Test
 	public void deleteProject_RemoveProject_ReturnNothing() {
 		// Mock
-		when(companyService.entityExists(validCompanyId))
-		   				   .thenReturn(true);
-		when(companyService.entityExists(invalidCompanyId))
-		   				   .thenReturn(false);
+		when(scopeResolver.projectNotFound(Mockito.anyLong(), Mockito.anyLong()))
+						  .thenReturn(new EntityNotFoundException("projectId", invalidProjectId));
 		when(projectRepository.findByIdAndCompanyId(validProjectId, validCompanyId))
 			  			   .thenReturn(Optional.of(projectEntity1));
 		when(projectRepository.findByIdAndCompanyId(invalidProjectId, validCompanyId))
 		  				   .thenReturn(Optional.empty());
+		when(projectRepository.findByIdAndCompanyId(validProjectId, invalidCompanyId))
+		  				   .thenReturn(Optional.empty());
 		when(securityContext.getAuthentication())
 						    .thenReturn(authentication);
 		when(authentication.getPrincipal())
-						   .thenReturn(requestingAdminEntity);
+						   .thenReturn(AuthenticatedUser.of(requestingAdminEntity));
 		
 		// Act
 		underTest.deleteProject(validCompanyId, validProjectId);
@@ -290,6 +320,7 @@ public class ProjectServiceTests {
 			assertThrows(EntityNotFoundException.class, () -> underTest.deleteProject(validCompanyId, invalidProjectId));
 		});
 		verify(projectRepository, times(1)).delete(projectEntity1);
+		verify(projectMembershipCache, times(1)).invalidate(validProjectId);
 	}
 	
     /**
@@ -309,29 +340,32 @@ public class ProjectServiceTests {
 		LocalDate endDate = LocalDate.parse(endDateString, formatter);
 		
 		// Mock
-		when(companyService.entityExists(validCompanyId))
-		   				   .thenReturn(true);
-		when(companyService.entityExists(invalidCompanyId))
-		   				   .thenReturn(false);
+		when(scopeResolver.projectNotFound(Mockito.anyLong(), Mockito.anyLong()))
+						  .thenReturn(new EntityNotFoundException("projectId", invalidProjectId));
 		when(projectRepository.findByIdAndCompanyId(validProjectId, validCompanyId))
 		   					  .thenReturn(Optional.of(projectEntity1));
 		when(projectRepository.findByIdAndCompanyId(invalidProjectId, validCompanyId))
 			  				  .thenReturn(Optional.empty());
-		when(projectRepository.findByName(updatedProjectname))
-						 	  .thenReturn(Optional.empty());
-		when(projectRepository.findByName(alreadyExistingProjectname))
-		   					  .thenReturn(Optional.of(projectMock));
-		when(projectRepository.save(Mockito.any(ProjectEntity.class)))
-	 	  					  .then(AdditionalAnswers.returnsFirstArg());
+		when(projectRepository.findByIdAndCompanyId(validProjectId, invalidCompanyId))
+			  				  .thenReturn(Optional.empty());
+		when(projectRepository.saveAndFlush(Mockito.any(ProjectEntity.class)))
+	 	  					  .then(invocation -> {
+	 	  						  // projectname is taken -> violation of the unique constraint
+	 	  						  if(alreadyExistingProjectname.equals(invocation.<ProjectEntity>getArgument(0).getName())) {
+	 	  							  throw TestDataUtil.createConstraintViolation(ProjectEntity.NAME_UNIQUE_CONSTRAINT);
+	 	  						  }
+	 	  						  return invocation.getArgument(0);
+	 	  					  });
 		when(securityContext.getAuthentication())
 							.thenReturn(authentication);
         when(authentication.getPrincipal())
-        				   .thenReturn(requestingAdminEntity);
+        				   .thenReturn(AuthenticatedUser.of(requestingAdminEntity));
 		when(userService.getEntityByIdAndCompanyId(projectManagerEntity.getId(), validCompanyId))
 				   		.thenReturn(Optional.of(projectManagerEntity));
 
 		// Act
-		ProjectResponseDto projectResponseDto = underTest.updateProject(projectRequestDto1, validCompanyId, validProjectId);
+		VersionedResponseDto<ProjectResponseDto> versionedResponseDto = underTest.updateProject(projectRequestDto1, validCompanyId, validProjectId, null);
+		ProjectResponseDto projectResponseDto = versionedResponseDto.content();
 		
 		// Assert
 		assertAll(() -> {
@@ -341,13 +375,127 @@ public class ProjectServiceTests {
 			assertEquals(startDate, projectResponseDto.startDate());
 			assertEquals(endDate, projectResponseDto.endDate());
 			assertEquals(projectRequestDto1.projectManagerId(), projectResponseDto.projectManagerId());
-			assertThrows(EntityNotFoundException.class, () -> underTest.updateProject(projectRequestDto1, invalidCompanyId, validUserId));
-			assertThrows(EntityNotFoundException.class, () -> underTest.updateProject(projectRequestDto1, validCompanyId, invalidUserId));
-			assertThrows(EntityAlreadyExistsException.class, () -> underTest.updateProject(projectRequestDto2, validCompanyId, validUserId));
-			assertThrows(ValueNotAllowedException.class, () -> underTest.updateProject(projectRequestDto3, validCompanyId, validUserId));
+			assertEquals(projectEntity1.getVersion(), versionedResponseDto.version());
+			assertThrows(EntityNotFoundException.class, () -> underTest.updateProject(projectRequestDto1, invalidCompanyId, validUserId, null));
+			assertThrows(EntityNotFoundException.class, () -> underTest.updateProject(projectRequestDto1, validCompanyId, invalidUserId, null));
+			assertThrows(EntityAlreadyExistsException.class, () -> underTest.updateProject(projectRequestDto2, validCompanyId, validUserId, null));
+			assertThrows(ValueNotAllowedException.class, () -> underTest.updateProject(projectRequestDto3, validCompanyId, validUserId, null));
 		});
 		verify(projectMapper, times(1)).updateEntity(projectEntity1, projectRequestDto1, projectManagerEntity);
-		verify(projectRepository, times(1)).save(Mockito.any(ProjectEntity.class));
+		verify(projectRepository, times(2)).saveAndFlush(Mockito.any(ProjectEntity.class));
 		verify(projectMapper, times(1)).toDto(projectEntity1);
 	}
+	
+    /**
+     * Tests updating a project with a version which it no longer has.
+     * Expects VersionMismatchException without the project being changed.
+     */
+	@Test
+	public void updateProject_OutdatedVersion_ThrowVersionMismatchException() {
+		// Arrange
+		projectEntity1.setVersion(4);
+		ProjectRequestDto projectRequestDto = new ProjectRequestDto(updatedProjectname, "UpdatedDescription", null, null, null);
+		
+		// Mock
+		when(projectRepository.findByIdAndCompanyId(validProjectId, validCompanyId))
+		   					  .thenReturn(Optional.of(projectEntity1));
+		when(securityContext.getAuthentication())
+							.thenReturn(authentication);
+        when(authentication.getPrincipal())
+        				   .thenReturn(AuthenticatedUser.of(requestingAdminEntity));
+		
+		// Act & Assert
+		assertThrows(VersionMismatchException.class, () -> underTest.updateProject(projectRequestDto, validCompanyId, validProjectId, 3L));
+		verify(projectMapper, never()).updateEntity(Mockito.any(), Mockito.any(), Mockito.any());
+		verify(projectRepository, never()).saveAndFlush(Mockito.any(ProjectEntity.class));
+	}
+	
+    /**
+     * Tests updating a project which is changed by another request between the version check and the flush.
+     * Expects VersionMismatchException if a version was expected, otherwise the optimistic locking failure.
+     */
+	@Test
+	public void updateProject_ConcurrentUpdate_ThrowVersionMismatchException() {
+		// Arrange
+		projectEntity1.setVersion(3);
+		ProjectRequestDto projectRequestDto = new ProjectRequestDto(updatedProjectname, "UpdatedDescription", null, null, null);
+		
+		// Mock
+		when(projectRepository.findByIdAndCompanyId(validProjectId, validCompanyId))
+		   					  .thenReturn(Optional.of(projectEntity1));
+		when(projectRepository.saveAndFlush(Mockito.any(ProjectEntity.class)))
+							  .thenThrow(new ObjectOptimisticLockingFailureException(ProjectEntity.class, validProjectId));
+		when(securityContext.getAuthentication())
+							.thenReturn(authentication);
+        when(authentication.getPrincipal())
+        				   .thenReturn(AuthenticatedUser.of(requestingAdminEntity));
+		
+		// Act & Assert
+		assertAll(() -> {
+			assertThrows(VersionMismatchException.class, () -> underTest.updateProject(projectRequestDto, validCompanyId, validProjectId, 3L));
+			assertThrows(ObjectOptimisticLockingFailureException.class, () -> underTest.updateProject(projectRequestDto, validCompanyId, validProjectId, null));
+		});
+		verify(auditLog, never()).record(Mockito.any(), Mockito.anyLong(), Mockito.any(), Mockito.anyLong(), Mockito.any());
+	}
+	
+    /**
+     * Tests adding a user to a project twice.
+     * Expects that the row of the join table is inserted without loading the members, the cached members are invalidated once,
+     * and that adding the member again is denied by the unique constraint.
+     */
+	@Test
+	public void alterProjectMembersInProject_AddUserTwice_AddMemberOnce() {
+		// Arrange
+		UserEntity developerEntity = TestDataUtil.createUser2(TestDataUtil.createDeveloperRole(), companyEntity);
+		
+		// Mock
+		when(projectRepository.findByIdAndCompanyId(validProjectId, validCompanyId))
+						   .thenReturn(Optional.of(projectEntity1));
+		when(securityContext.getAuthentication())
+						    .thenReturn(authentication);
+		when(authentication.getPrincipal())
+						   .thenReturn(AuthenticatedUser.of(projectManagerEntity));
+		when(userService.getEntityByIdAndCompanyId(developerEntity.getId(), validCompanyId))
+						.thenReturn(Optional.of(developerEntity));
+		Mockito.doNothing()
+			   .doThrow(TestDataUtil.createConstraintViolation(ProjectEntity.MEMBER_UNIQUE_CONSTRAINT))
+			   .when(projectRepository).insertMember(validProjectId, developerEntity.getId());
+		
+		// Act
+		underTest.alterProjectMembersInProject(validCompanyId, validProjectId, developerEntity.getId(), true);
+		
+		// Assert
+		assertThrows(EntityAlreadyExistsException.class, () -> underTest.alterProjectMembersInProject(validCompanyId, validProjectId, developerEntity.getId(), true));
+		verify(projectRepository, times(2)).insertMember(validProjectId, developerEntity.getId());
+		verify(projectRepository, never()).save(Mockito.any(ProjectEntity.class));
+		verify(projectMembershipCache, times(1)).invalidate(validProjectId);
+		verify(auditLog, times(1)).record(AuditAction.MemberAdded, validCompanyId, validProjectId, developerEntity.getId(), null);
+	}
+	
+    /**
+     * Tests removing a user which is not a member of the project.
+     * Expects that the removal is denied, since no row of the join table was deleted.
+     */
+	@Test
+	public void alterProjectMembersInProject_RemoveNonMember_ThrowEntityNotFoundException() {
+		// Arrange
+		UserEntity developerEntity = TestDataUtil.createUser2(TestDataUtil.createDeveloperRole(), companyEntity);
+		
+		// Mock
+		when(projectRepository.findByIdAndCompanyId(validProjectId, validCompanyId))
+						   .thenReturn(Optional.of(projectEntity1));
+		when(securityContext.getAuthentication())
+						    .thenReturn(authentication);
+		when(authentication.getPrincipal())
+						   .thenReturn(AuthenticatedUser.of(projectManagerEntity));
+		when(userService.getEntityByIdAndCompanyId(developerEntity.getId(), validCompanyId))
+						.thenReturn(Optional.of(developerEntity));
+		when(projectRepository.deleteMember(validProjectId, developerEntity.getId()))
+						   .thenReturn(0);
+		
+		// Act & Assert
+		assertThrows(EntityNotFoundException.class, () -> underTest.alterProjectMembersInProject(validCompanyId, validProjectId, developerEntity.getId(), false));
+		verify(projectMembershipCache, never()).invalidate(validProjectId);
+		verify(auditLog, never()).record(Mockito.any(), Mockito.anyLong(), Mockito.any(), Mockito.anyLong(), Mockito.any());
+	}
 }
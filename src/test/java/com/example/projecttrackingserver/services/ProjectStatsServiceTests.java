@@ -0,0 +1,189 @@
+package com.example.projecttrackingserver.services;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.dto.ProjectStatsDto;
+import com.example.projecttrackingserver.entities.ProjectTicketCounterEntity;
+import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.enums.TicketCounterDimension;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
+import com.example.projecttrackingserver.repositories.ProjectRepository;
+import com.example.projecttrackingserver.repositories.ProjectTicketCounterRepository;
+
+/**
+ * Test class for the ProjectStatsServiceImpl.
+ * This class tests if the ticket counters of projects are read and changed as intended.
+ */
+@ExtendWith(MockitoExtension.class)
+public class ProjectStatsServiceTests {
+
+	@InjectMocks
+	private ProjectStatsServiceImpl underTest;
+
+	@Mock
+	private ProjectTicketCounterRepository projectTicketCounterRepository;
+
+	@Mock
+	private ProjectRepository projectRepository;
+
+	@Mock
+	private ScopeResolver scopeResolver;
+
+	private long companyId;
+	private long projectId;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		companyId = 1;
+		projectId = 1;
+	}
+
+    /**
+     * Tests retrieving the statistics of a project with counters for some statuses, priorities and types.
+     * Expects that values without counter are returned as 0 and the total is the sum of the status counters.
+     */
+	@Test
+	public void GetProjectStats_CountersOfProject_ReturnCountsWithZeros() {
+		// Mock
+		when(projectTicketCounterRepository.findAllByProjectIdAndCompanyId(projectId, companyId))
+										   .thenReturn(List.of(counter(TicketCounterDimension.TicketStatus, "New", 2),
+												   			   counter(TicketCounterDimension.TicketStatus, "Resolved", 1),
+												   			   counter(TicketCounterDimension.TicketPriority, "High", 3),
+												   			   counter(TicketCounterDimension.TicketType, "Bug", 3)));
+
+		// Act
+		ProjectStatsDto stats = underTest.getProjectStats(companyId, projectId);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(3, stats.ticketCount());
+			assertEquals(2, stats.ticketStatuses().get(TicketStatus.New));
+			assertEquals(0, stats.ticketStatuses().get(TicketStatus.Testing));
+			assertEquals(TicketPriority.values().length, stats.ticketPriorities().size());
+			assertEquals(3, stats.ticketPriorities().get(TicketPriority.High));
+			assertEquals(0, stats.ticketTypes().get(TicketType.NewFeature));
+		});
+	}
+
+    /**
+     * Tests retrieving the statistics of a project which does not exist.
+     * Expects EntityNotFoundException, since a project without counters is checked for existence.
+     */
+	@Test
+	public void GetProjectStats_UnknownProject_ThrowEntityNotFoundException() {
+		// Mock
+		when(projectTicketCounterRepository.findAllByProjectIdAndCompanyId(projectId, companyId))
+										   .thenReturn(List.of());
+		doThrow(new EntityNotFoundException("projectId", projectId))
+			.when(scopeResolver).requireProject(companyId, projectId);
+
+		// Act & Assert
+		assertThrows(EntityNotFoundException.class, () -> underTest.getProjectStats(companyId, projectId));
+	}
+
+    /**
+     * Tests counting an update which changes the status of a ticket to a status without counter yet.
+     * Expects that only the status counters are written and the missing counter is inserted.
+     */
+	@Test
+	public void CountTickets_UpdateStatus_WriteOnlyChangedCounters() {
+		// Arrange
+		TicketEntity ticketBefore = ticket(TicketStatus.New, TicketPriority.High, TicketType.Bug);
+		TicketEntity ticketAfter = ticket(TicketStatus.Testing, TicketPriority.High, TicketType.Bug);
+
+		// Mock
+		when(projectTicketCounterRepository.addToTicketCount(projectId, "TicketStatus", "New", -1))
+										   .thenReturn(1);
+		when(projectTicketCounterRepository.addToTicketCount(projectId, "TicketStatus", "Testing", 1))
+										   .thenReturn(0);
+
+		// Act
+		underTest.countTickets(projectId, List.of(ticketBefore), List.of(ticketAfter));
+
+		// Assert
+		verify(projectTicketCounterRepository, times(1)).insertTicketCount(projectId, "TicketStatus", "Testing", 1);
+		verifyNoMoreInteractions(projectTicketCounterRepository);
+	}
+
+    /**
+     * Tests counting several created tickets.
+     * Expects that every counter is written once with the number of created tickets.
+     */
+	@Test
+	public void CountTickets_CreateSeveralTickets_AddOncePerCounter() {
+		// Arrange
+		List<TicketEntity> tickets = List.of(ticket(TicketStatus.New, TicketPriority.Low, TicketType.Bug),
+											 ticket(TicketStatus.New, TicketPriority.High, TicketType.Bug));
+
+		// Mock
+		when(projectTicketCounterRepository.addToTicketCount(anyLong(), anyString(), anyString(), anyLong()))
+										   .thenReturn(1);
+
+		// Act
+		underTest.countTickets(projectId, List.of(), tickets);
+
+		// Assert
+		assertAll(() -> {
+			verify(projectTicketCounterRepository, times(1)).addToTicketCount(projectId, "TicketStatus", "New", 2);
+			verify(projectTicketCounterRepository, times(1)).addToTicketCount(projectId, "TicketPriority", "Low", 1);
+			verify(projectTicketCounterRepository, times(1)).addToTicketCount(projectId, "TicketPriority", "High", 1);
+			verify(projectTicketCounterRepository, times(1)).addToTicketCount(projectId, "TicketType", "Bug", 2);
+			verify(projectTicketCounterRepository, never()).insertTicketCount(anyLong(), anyString(), anyString(), anyLong());
+		});
+	}
+
+    /**
+     * Tests rebuilding the counters of a project which does not exist.
+     * Expects that no counters are deleted or inserted.
+     */
+	@Test
+	public void RebuildTicketCounters_UnknownProject_ReturnFalse() {
+		// Mock
+		when(projectRepository.lockById(projectId))
+							  .thenReturn(Optional.empty());
+
+		// Act
+		boolean rebuilt = underTest.rebuildTicketCounters(projectId);
+
+		// Assert
+		assertFalse(rebuilt);
+		verifyNoMoreInteractions(projectTicketCounterRepository);
+	}
+
+	private ProjectTicketCounterEntity counter(TicketCounterDimension dimension, String dimensionValue, long ticketCount) {
+		return new ProjectTicketCounterEntity(projectId, dimension, dimensionValue, ticketCount);
+	}
+
+	private static TicketEntity ticket(TicketStatus ticketStatus, TicketPriority ticketPriority, TicketType ticketType) {
+		return TicketEntity.builder()
+						   .ticketStatus(TestDataUtil.createTestTicketStatus(ticketStatus))
+						   .ticketPriority(TestDataUtil.createTestTicketPriority(ticketPriority))
+						   .ticketType(TestDataUtil.createTestTicketType(ticketType))
+						   .build();
+	}
+}
@@ -0,0 +1,410 @@
+package com.example.projecttrackingserver.services;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.audit.AuditLog;
+import com.example.projecttrackingserver.auth.AuthenticatedUser;
+import com.example.projecttrackingserver.dto.TicketBulkResultDto;
+import com.example.projecttrackingserver.dto.TicketChangesDto;
+import com.example.projecttrackingserver.dto.TicketRequestDto;
+import com.example.projecttrackingserver.dto.TicketResponseDto;
+import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.entities.ProjectEntity;
+import com.example.projecttrackingserver.entities.TicketEntity;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.AuditAction;
+import com.example.projecttrackingserver.enums.Role;
+import com.example.projecttrackingserver.enums.TicketPriority;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.enums.TicketType;
+import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
+import com.example.projecttrackingserver.exceptions.UnauthorizedException;
+import com.example.projecttrackingserver.exceptions.ValueNotAllowedException;
+import com.example.projecttrackingserver.exceptions.VersionMismatchException;
+import com.example.projecttrackingserver.mappers.TicketMapper;
+import com.example.projecttrackingserver.repositories.TicketRepository;
+import com.example.projecttrackingserver.repositories.TicketTombstoneRepository;
+import com.example.projecttrackingserver.repositories.UserRepository;
+import com.example.projecttrackingserver.search.TicketSearchIndex;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+/**
+ * Test class for the TicketServiceImpl.
+ * This class tests if the TicketService functionality works as intended.
+ */
+@ExtendWith(MockitoExtension.class)
+public class TicketServiceTests {
+
+	@InjectMocks
+	private TicketServiceImpl underTest;
+
+	@Mock
+	private TicketRepository ticketRepository;
+
+	@Mock
+	private TicketTombstoneRepository ticketTombstoneRepository;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Mock
+	private TicketMapper ticketMapper;
+
+	@Mock
+	private ProjectService projectService;
+
+	@Mock
+	private ScopeResolver scopeResolver;
+
+	@Spy
+	private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+	@Mock
+	private AuditLog auditLog;
+
+	@Mock
+	private TicketSearchIndex ticketSearchIndex;
+
+	@Mock
+	private ProjectStatsService projectStatsService;
+
+    @Mock
+    private SecurityContext securityContext;
+
+    @Mock
+    private Authentication authentication;
+
+	private ProjectEntity projectEntity;
+	private UserEntity creatorEntity;
+	private AuthenticatedUser requestingUser;
+	private TicketEntity createdTicketEntity;
+	private TicketResponseDto createdTicketDto;
+	private long companyId;
+	private long projectId;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		CompanyEntity companyEntity = TestDataUtil.createCompany1();
+		creatorEntity = TestDataUtil.createUser1(TestDataUtil.createDeveloperRole(), companyEntity);
+		projectEntity = TestDataUtil.createProject1(companyEntity, creatorEntity);
+		requestingUser = new AuthenticatedUser(creatorEntity.getId(), companyEntity.getId(), Role.Developer);
+		createdTicketEntity = TestDataUtil.createTicket1(projectEntity, creatorEntity,
+				TestDataUtil.createTestTicketType(TicketType.Bug),
+				TestDataUtil.createTestTicketPriority(TicketPriority.High),
+				TestDataUtil.createTestTicketStatus(TicketStatus.New));
+		createdTicketDto = new TicketResponseDto(createdTicketEntity.getId(), createdTicketEntity.getName(), createdTicketEntity.getDescription(),
+				createdTicketEntity.getCreatedAt(), null, projectEntity.getId(), creatorEntity.getId(), TicketType.Bug, TicketPriority.High, TicketStatus.New);
+		companyId = companyEntity.getId();
+		projectId = projectEntity.getId();
+		SecurityContextHolder.setContext(securityContext);
+	}
+
+    /**
+     * Tests creating tickets of which only some are valid.
+     * Expects that the valid ticket is created and every other ticket is rejected with its own status,
+     * including a missing ticket, a name used in the project and a name used twice in the request.
+     */
+	@Test
+	public void createTickets_MixedTickets_ReturnResultPerTicket() {
+		// Arrange
+		TicketRequestDto validRequestDto = new TicketRequestDto(createdTicketEntity.getName(), null, "Bug", "High", "New");
+		TicketRequestDto blankNameRequestDto = new TicketRequestDto(" ", null, "Bug", "High", "New");
+		TicketRequestDto unknownTypeRequestDto = new TicketRequestDto("UnknownType", null, "Feature", "High", "New");
+		TicketRequestDto usedNameRequestDto = new TicketRequestDto("UsedName", null, "Bug", "High", "New");
+		TicketRequestDto duplicateRequestDto = new TicketRequestDto(createdTicketEntity.getName(), "Again", "Bug", "High", "New");
+		List<TicketRequestDto> ticketRequestDtos = Arrays.asList(validRequestDto, blankNameRequestDto, null, unknownTypeRequestDto, usedNameRequestDto, duplicateRequestDto);
+		TicketEntity usedNameTicketEntity = TicketEntity.builder().name("UsedName").build();
+
+		// Mock
+		mockRequestingMember();
+		when(ticketRepository.findNamesInProject(projectId, Set.of(createdTicketEntity.getName(), " ", "UnknownType", "UsedName")))
+						 .thenReturn(Set.of("UsedName"));
+		when(ticketMapper.toEntity(validRequestDto, projectEntity, creatorEntity))
+						 .thenReturn(createdTicketEntity);
+		when(ticketMapper.toEntity(unknownTypeRequestDto, projectEntity, creatorEntity))
+						 .thenThrow(new EntityNotFoundException("ticketType", "Feature"));
+		when(ticketMapper.toEntity(usedNameRequestDto, projectEntity, creatorEntity))
+						 .thenReturn(usedNameTicketEntity);
+		when(ticketMapper.toEntity(duplicateRequestDto, projectEntity, creatorEntity))
+						 .thenReturn(TicketEntity.builder().name(createdTicketEntity.getName()).build());
+		when(projectService.nextTicketChange(projectId))
+						  .thenReturn(7L);
+		when(ticketRepository.saveAll(List.of(createdTicketEntity)))
+						 .thenReturn(List.of(createdTicketEntity));
+		when(ticketMapper.toDto(createdTicketEntity))
+						 .thenReturn(createdTicketDto);
+
+		// Act
+		List<TicketBulkResultDto> results = underTest.createTickets(ticketRequestDtos, companyId, projectId);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(List.of(201, 400, 400, 404, 409, 409), results.stream().map(TicketBulkResultDto::status).toList());
+			assertEquals(List.of(0, 1, 2, 3, 4, 5), results.stream().map(TicketBulkResultDto::index).toList());
+			assertEquals(createdTicketDto, results.get(0).ticket());
+			assertEquals("ticket should not be null", results.get(2).error());
+			assertEquals(7L, createdTicketEntity.getChangeNumber());
+		});
+		verify(auditLog, times(1)).record(AuditAction.TicketCreated, companyId, projectId, createdTicketEntity.getId(), null);
+		verify(projectStatsService, times(1)).countTickets(projectId, List.of(), List.of(createdTicketEntity));
+	}
+
+    /**
+     * Tests creating tickets which are all rejected.
+     * Expects that no change number is taken and nothing is saved.
+     */
+	@Test
+	public void createTickets_OnlyMissingTickets_SaveNothing() {
+		// Mock
+		mockRequestingMember();
+		when(ticketRepository.saveAll(List.of()))
+						 .thenReturn(List.of());
+
+		// Act
+		List<TicketBulkResultDto> results = underTest.createTickets(Collections.nCopies(2, null), companyId, projectId);
+
+		// Assert
+		assertEquals(List.of(400, 400), results.stream().map(TicketBulkResultDto::status).toList());
+		verify(ticketRepository, never()).findNamesInProject(anyLong(), any());
+		verify(projectService, never()).nextTicketChange(anyLong());
+	}
+
+    /**
+     * Tests creating more tickets than allowed in one request.
+     * Expects that the request is denied before anything is looked up.
+     */
+	@Test
+	public void createTickets_TooManyTickets_ThrowValueNotAllowedException() {
+		// Arrange
+		List<TicketRequestDto> ticketRequestDtos = Collections.nCopies(TicketServiceImpl.MAX_BULK_SIZE + 1, new TicketRequestDto("Name", null, "Bug", "High", "New"));
+
+		// Act & Assert
+		assertThrows(ValueNotAllowedException.class, () -> underTest.createTickets(ticketRequestDtos, companyId, projectId));
+		verify(projectService, never()).getEntityByIdAndCompanyId(anyLong(), anyLong());
+	}
+
+    /**
+     * Tests creating tickets in a project the requesting user is not a member of.
+     * Expects that the request is denied.
+     */
+	@Test
+	public void createTickets_RequestingUserNotMember_ThrowUnauthorizedException() {
+		// Mock
+		when(projectService.getEntityByIdAndCompanyId(projectId, companyId))
+						  .thenReturn(Optional.of(projectEntity));
+		when(securityContext.getAuthentication())
+						   .thenReturn(authentication);
+		when(authentication.getPrincipal())
+						  .thenReturn(requestingUser);
+		when(projectService.isMember(projectId, requestingUser.id()))
+						  .thenReturn(false);
+
+		// Act & Assert
+		assertThrows(UnauthorizedException.class, () -> underTest.createTickets(List.of(), companyId, projectId));
+		verify(ticketRepository, never()).saveAll(any());
+	}
+
+    /**
+     * Tests retrieving more changed and deleted tickets than the limit.
+     * Expects that the tickets with the lowest IDs of both lists are returned with a token continuing the same range.
+     */
+	@Test
+	public void getTicketChangesInProject_MoreChangesThanLimit_ReturnContinuationToken() {
+		// Mock
+		when(projectService.getTicketChangeCount(companyId, projectId))
+						  .thenReturn(Optional.of(10L));
+		when(ticketRepository.findAllDtosChangedInProject(projectId, 4, 10, 0, Limit.of(3)))
+						 .thenReturn(List.of(createTicketDto(3), createTicketDto(8)));
+		when(ticketTombstoneRepository.findTicketIdsDeletedInProject(projectId, 4, 10, 0, Limit.of(3)))
+								  .thenReturn(List.of(5L, 9L));
+
+		// Act
+		TicketChangesDto changes = underTest.getTicketChangesInProject(companyId, projectId, "4", 2);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(List.of(3L), changes.changed().stream().map(TicketResponseDto::id).toList());
+			assertEquals(List.of(5L), changes.deleted());
+			assertEquals("4:10:5", changes.token());
+			assertTrue(changes.more());
+		});
+	}
+
+    /**
+     * Tests continuing a sync which was cut at the limit, while the tickets of the project changed again.
+     * Expects that the same range is continued after the last ticket and completed with the plain change number.
+     */
+	@Test
+	public void getTicketChangesInProject_ContinuationToken_ReturnRestWithCompleteToken() {
+		// Mock
+		when(projectService.getTicketChangeCount(companyId, projectId))
+						  .thenReturn(Optional.of(12L));
+		when(ticketRepository.findAllDtosChangedInProject(projectId, 4, 10, 5, Limit.of(3)))
+						 .thenReturn(List.of(createTicketDto(8)));
+		when(ticketTombstoneRepository.findTicketIdsDeletedInProject(projectId, 4, 10, 5, Limit.of(3)))
+								  .thenReturn(List.of(9L));
+
+		// Act
+		TicketChangesDto changes = underTest.getTicketChangesInProject(companyId, projectId, "4:10:5", 2);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(List.of(8L), changes.changed().stream().map(TicketResponseDto::id).toList());
+			assertEquals(List.of(9L), changes.deleted());
+			assertEquals("10", changes.token());
+			assertFalse(changes.more());
+		});
+	}
+
+    /**
+     * Tests the first sync of a project.
+     * Expects that all tickets up to the current change number are returned without looking up deletions.
+     */
+	@Test
+	public void getTicketChangesInProject_WithoutToken_ReturnAllTickets() {
+		// Mock
+		when(projectService.getTicketChangeCount(companyId, projectId))
+						  .thenReturn(Optional.of(10L));
+		when(ticketRepository.findAllDtosChangedInProject(projectId, -1, 10, 0, Limit.of(101)))
+						 .thenReturn(List.of(createTicketDto(3)));
+
+		// Act
+		TicketChangesDto changes = underTest.getTicketChangesInProject(companyId, projectId, null, 100);
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(1, changes.changed().size());
+			assertEquals("10", changes.token());
+			assertFalse(changes.more());
+		});
+		verify(ticketTombstoneRepository, never()).findTicketIdsDeletedInProject(anyLong(), anyLong(), anyLong(), anyLong(), any());
+	}
+
+    /**
+     * Tests syncing with tokens which are no position in the changes of the project.
+     * Expects that the requests are denied without retrieving changes.
+     */
+	@Test
+	public void getTicketChangesInProject_InvalidToken_ThrowValueNotAllowedException() {
+		// Mock
+		when(projectService.getTicketChangeCount(companyId, projectId))
+						  .thenReturn(Optional.of(12L));
+
+		// Act & Assert
+		assertAll(() -> {
+			assertThrows(ValueNotAllowedException.class, () -> underTest.getTicketChangesInProject(companyId, projectId, "13", 100));
+			assertThrows(ValueNotAllowedException.class, () -> underTest.getTicketChangesInProject(companyId, projectId, "-1", 100));
+			assertThrows(ValueNotAllowedException.class, () -> underTest.getTicketChangesInProject(companyId, projectId, "4:13:5", 100));
+			assertThrows(ValueNotAllowedException.class, () -> underTest.getTicketChangesInProject(companyId, projectId, "4:10", 100));
+			assertThrows(ValueNotAllowedException.class, () -> underTest.getTicketChangesInProject(companyId, projectId, "token", 100));
+		});
+		verify(ticketRepository, never()).findAllDtosChangedInProject(anyLong(), anyLong(), anyLong(), anyLong(), any());
+	}
+
+    /**
+     * Tests syncing with a limit beyond the maximum page size.
+     * Expects that the request is denied before anything is looked up.
+     */
+	@Test
+	public void getTicketChangesInProject_LimitTooHigh_ThrowValueNotAllowedException() {
+		// Act & Assert
+		assertThrows(ValueNotAllowedException.class, () -> underTest.getTicketChangesInProject(companyId, projectId, null, PageCursor.MAX_PAGE_SIZE + 1));
+		verify(projectService, never()).getTicketChangeCount(anyLong(), anyLong());
+	}
+
+    /**
+     * Tests searching with limits outside of the allowed page size.
+     * Expects that the requests are denied before the index is searched.
+     */
+	@Test
+	public void searchTicketDtosInProject_LimitOutOfRange_ThrowValueNotAllowedException() {
+		// Act & Assert
+		assertAll(() -> {
+			assertThrows(ValueNotAllowedException.class, () -> underTest.searchTicketDtosInProject(companyId, projectId, "login", null, 0));
+			assertThrows(ValueNotAllowedException.class, () -> underTest.searchTicketDtosInProject(companyId, projectId, "login", null, PageCursor.MAX_PAGE_SIZE + 1));
+		});
+		verify(ticketSearchIndex, never()).search(anyLong(), any(), any(), any(), anyInt());
+	}
+
+    /**
+     * Tests updating a ticket which is changed by another request between the version check and the flush.
+     * Expects VersionMismatchException if a version was expected, otherwise the optimistic locking failure.
+     */
+	@Test
+	public void updateTicket_ConcurrentUpdate_ThrowVersionMismatchException() {
+		// Arrange
+		createdTicketEntity.setVersion(3);
+		TicketRequestDto ticketRequestDto = new TicketRequestDto("UpdatedName", null, "Bug", "High", "New");
+
+		// Mock
+		when(ticketRepository.findByIdAndProjectIdAndProjectCompanyId(createdTicketEntity.getId(), projectId, companyId))
+						 .thenReturn(Optional.of(createdTicketEntity));
+		when(securityContext.getAuthentication())
+						   .thenReturn(authentication);
+		when(authentication.getPrincipal())
+						  .thenReturn(requestingUser);
+		when(ticketMapper.updateEntity(createdTicketEntity, ticketRequestDto))
+						 .thenReturn(createdTicketEntity);
+		when(ticketRepository.saveAndFlush(createdTicketEntity))
+						 .thenThrow(new ObjectOptimisticLockingFailureException(TicketEntity.class, createdTicketEntity.getId()));
+
+		// Act & Assert
+		assertAll(() -> {
+			assertThrows(VersionMismatchException.class, () -> underTest.updateTicket(ticketRequestDto, companyId, projectId, createdTicketEntity.getId(), 3L));
+			assertThrows(ObjectOptimisticLockingFailureException.class, () -> underTest.updateTicket(ticketRequestDto, companyId, projectId, createdTicketEntity.getId(), null));
+		});
+		verify(projectStatsService, never()).countTickets(anyLong(), any(), any());
+		verify(auditLog, never()).record(any(), anyLong(), any(), anyLong(), any());
+	}
+
+	private TicketResponseDto createTicketDto(long ticketId) {
+		return new TicketResponseDto(ticketId, "Ticket" + ticketId, null, createdTicketDto.createdAt(), null, projectId, creatorEntity.getId(),
+				TicketType.Bug, TicketPriority.High, TicketStatus.New);
+	}
+
+	private void mockRequestingMember() {
+		when(projectService.getEntityByIdAndCompanyId(projectId, companyId))
+						  .thenReturn(Optional.of(projectEntity));
+		when(securityContext.getAuthentication())
+						   .thenReturn(authentication);
+		when(authentication.getPrincipal())
+						  .thenReturn(requestingUser);
+		when(projectService.isMember(projectId, requestingUser.id()))
+						  .thenReturn(true);
+		when(userRepository.findById(requestingUser.id()))
+						  .thenReturn(Optional.of(creatorEntity));
+	}
+}
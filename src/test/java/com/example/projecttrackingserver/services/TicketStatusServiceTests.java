@@ -0,0 +1,94 @@
+package com.example.projecttrackingserver.services;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.entities.TicketStatusEntity;
+import com.example.projecttrackingserver.enums.TicketStatus;
+import com.example.projecttrackingserver.repositories.TicketStatusRepository;
+
+/**
+ * Test class for the TicketStatusServiceImpl.
+ * This class tests if the TicketStatusService functionality works as intended.
+ */
+@ExtendWith(MockitoExtension.class)
+public class TicketStatusServiceTests {
+
+	@InjectMocks
+	private TicketStatusServiceImpl underTest;
+
+	@Mock
+	private TicketStatusRepository ticketStatusRepository;
+
+	private TicketStatusEntity newStatusEntity;
+	private TicketStatusEntity resolvedStatusEntity;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		newStatusEntity = TestDataUtil.createTestTicketStatus(TicketStatus.New);
+		resolvedStatusEntity = TestDataUtil.createTestTicketStatus(TicketStatus.Resolved);
+		resolvedStatusEntity.setId(2L);
+	}
+
+    /**
+     * Tests retrieving ticket statuses after the lookup table was loaded.
+     * Expects that the statuses are answered without further queries.
+     */
+	@Test
+	public void GetEntityByTicketStatus_RetrieveLoadedStatuses_QueryDatabaseOnce() {
+		// Mock
+		when(ticketStatusRepository.findAll())
+								   .thenReturn(Arrays.asList(newStatusEntity, resolvedStatusEntity));
+
+		// Act
+		underTest.refresh();
+		Optional<TicketStatusEntity> retrievedNewStatus = underTest.getEntityByTicketStatus(TicketStatus.New);
+		Optional<TicketStatusEntity> retrievedResolvedStatus = underTest.getEntityByTicketStatus(TicketStatus.Resolved);
+		String allTicketStatuses = underTest.getAllTicketStatusesString();
+
+		// Assert
+		assertAll(() -> {
+			assertEquals(Optional.of(newStatusEntity), retrievedNewStatus);
+			assertEquals(Optional.of(resolvedStatusEntity), retrievedResolvedStatus);
+			assertEquals("New, Resolved", allTicketStatuses);
+			verify(ticketStatusRepository, times(1)).findAll();
+			verify(ticketStatusRepository, never()).findByTicketStatus(TicketStatus.New);
+		});
+	}
+
+    /**
+     * Tests retrieving a ticket status which is not in the database.
+     * Expects that an empty Optional is returned and the lookup table is not reloaded.
+     */
+	@Test
+	public void GetEntityByTicketStatus_RetrieveUnknownStatus_ReturnEmpty() {
+		// Mock
+		when(ticketStatusRepository.findByTicketStatus(TicketStatus.Testing))
+								   .thenReturn(Optional.empty());
+
+		// Act
+		Optional<TicketStatusEntity> retrievedStatus = underTest.getEntityByTicketStatus(TicketStatus.Testing);
+
+		// Assert
+		assertAll(() -> {
+			assertTrue(retrievedStatus.isEmpty());
+			verify(ticketStatusRepository, never()).findAll();
+		});
+	}
+}
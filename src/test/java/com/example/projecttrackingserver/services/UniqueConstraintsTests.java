@@ -0,0 +1,118 @@
+package com.example.projecttrackingserver.services;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.entities.CompanyEntity;
+import com.example.projecttrackingserver.entities.ProjectEntity;
+import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.repositories.CompanyRepository;
+import com.example.projecttrackingserver.repositories.ProjectRepository;
+import com.example.projecttrackingserver.repositories.RoleRepository;
+import com.example.projecttrackingserver.repositories.UserRepository;
+
+/**
+ * Test class for the UniqueConstraints.
+ * This class tests if violated unique constraints are recognized by the names the database reports.
+ */
+@DataJpaTest
+public class UniqueConstraintsTests {
+
+	@Autowired
+	private ProjectRepository projectRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private CompanyRepository companyRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	private CompanyEntity companyEntity;
+	private UserEntity userEntity;
+	@BeforeEach
+	public void setUp() {
+		// Arrange
+		companyEntity = companyRepository.save(TestDataUtil.createCompany1());
+		userEntity = userRepository.saveAndFlush(TestDataUtil.createUser1(roleRepository.save(TestDataUtil.createProjectManagerRole()), companyEntity));
+	}
+
+    /**
+     * Tests saving a project with the name of an existing project.
+     * Expects that only the unique constraint on the project name is reported as violated.
+     */
+	@Test
+	public void IsViolated_DuplicateProjectName_ReturnTrueForProjectName() {
+		// Arrange
+		projectRepository.saveAndFlush(TestDataUtil.createProject1(companyEntity, userEntity));
+		UserEntity otherUserEntity = TestDataUtil.createUser2(userEntity.getRole(), companyEntity);
+		otherUserEntity.setId(0);
+		ProjectEntity duplicateProjectEntity = TestDataUtil.createProject2(companyEntity, userRepository.saveAndFlush(otherUserEntity));
+		duplicateProjectEntity.setId(0);
+		duplicateProjectEntity.setName(TestDataUtil.createProject1(companyEntity, userEntity).getName());
+
+		// Act
+		DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class, () -> projectRepository.saveAndFlush(duplicateProjectEntity));
+
+		// Assert
+		assertAll(() -> {
+			assertTrue(UniqueConstraints.isViolated(ex, ProjectEntity.NAME_UNIQUE_CONSTRAINT));
+			assertFalse(UniqueConstraints.isViolated(ex, UserEntity.USERNAME_UNIQUE_CONSTRAINT));
+		});
+	}
+
+    /**
+     * Tests saving a user with the API key of an existing user.
+     * Expects that the violation is not reported as violation of the unique username.
+     */
+	@Test
+	public void IsViolated_DuplicateApiKey_ReturnFalseForUsername() {
+		// Arrange
+		UserEntity duplicateUserEntity = TestDataUtil.createUser1(userEntity.getRole(), companyEntity);
+		duplicateUserEntity.setId(0);
+		duplicateUserEntity.setUsername("OtherUsername");
+
+		// Act
+		DataIntegrityViolationException ex = assertThrows(DataIntegrityViolationException.class, () -> userRepository.saveAndFlush(duplicateUserEntity));
+
+		// Assert
+		assertAll(() -> {
+			assertTrue(UniqueConstraints.isViolated(ex, UserEntity.API_KEY_UNIQUE_CONSTRAINT));
+			assertFalse(UniqueConstraints.isViolated(ex, UserEntity.USERNAME_UNIQUE_CONSTRAINT));
+		});
+	}
+
+    /**
+     * Tests a duplicate API key and a member row referencing a user which does not exist.
+     * Expects that only the duplicate is reported as violation of a unique constraint.
+     */
+	@Test
+	public void IsAnyViolated_DuplicateAndMissingReference_ReturnTrueOnlyForDuplicate() {
+		// Arrange
+		UserEntity duplicateUserEntity = TestDataUtil.createUser1(userEntity.getRole(), companyEntity);
+		duplicateUserEntity.setId(0);
+		duplicateUserEntity.setUsername("OtherUsername");
+		ProjectEntity projectEntity = projectRepository.saveAndFlush(TestDataUtil.createProject1(companyEntity, userEntity));
+
+		// Act
+		DataIntegrityViolationException duplicateEx = assertThrows(DataIntegrityViolationException.class, () -> userRepository.saveAndFlush(duplicateUserEntity));
+		DataIntegrityViolationException missingReferenceEx = assertThrows(DataIntegrityViolationException.class, () -> projectRepository.insertMember(projectEntity.getId(), userEntity.getId() + 1000));
+
+		// Assert
+		assertAll(() -> {
+			assertTrue(UniqueConstraints.isAnyViolated(duplicateEx));
+			assertFalse(UniqueConstraints.isAnyViolated(missingReferenceEx));
+		});
+	}
+}
@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,22 +17,29 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.AdditionalAnswers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 
 import com.example.projecttrackingserver.TestDataUtil;
+import com.example.projecttrackingserver.audit.AuditLog;
+import com.example.projecttrackingserver.auth.ApiKeyAuthCache;
+import com.example.projecttrackingserver.auth.AuthenticatedUser;
+import com.example.projecttrackingserver.dto.PageResponseDto;
 import com.example.projecttrackingserver.dto.UserRequestDto;
 import com.example.projecttrackingserver.dto.UserResponseDto;
 import com.example.projecttrackingserver.entities.CompanyEntity;
 import com.example.projecttrackingserver.entities.RoleEntity;
 import com.example.projecttrackingserver.entities.UserEntity;
+import com.example.projecttrackingserver.enums.AuditAction;
+import com.example.projecttrackingserver.enums.ListSort;
 import com.example.projecttrackingserver.enums.Role;
 import com.example.projecttrackingserver.exceptions.EntityAlreadyExistsException;
 import com.example.projecttrackingserver.exceptions.EntityNotFoundException;
@@ -59,6 +67,15 @@ public class UserServiceTests {
 	@Mock
 	private RoleService roleService;
 	
+	@Mock
+	private ScopeResolver scopeResolver;
+	
+	@Mock
+	private ApiKeyAuthCache authCache;
+	
+	@Mock
+	private AuditLog auditLog;
+	
     @Mock
     private SecurityContext securityContext;
 
@@ -68,7 +85,6 @@ public class UserServiceTests {
 	@Spy
 	private UserMapper userMapper = new UserMapperImpl();
 	
-	private UserEntity userMock;
 	private UserEntity requestingAdminEntity;
 	private UserEntity userEntity1;
 	private UserEntity userEntity2;
@@ -86,7 +102,6 @@ public class UserServiceTests {
 	@BeforeEach
 	public void setUp() {
 		// Arrange
-		userMock = Mockito.mock(UserEntity.class);
 		companyEntity = TestDataUtil.createCompany1();
 		developerRoleEntity = TestDataUtil.createDeveloperRole();
 		RoleEntity adminRoleEntity = TestDataUtil.createAdminRole();
@@ -106,34 +121,33 @@ public class UserServiceTests {
 	}
 	
     /**
-     * Tests retrieving multiple users in a company.
-     * Expects that multiple users are successfully mapped and retrieved.
+     * Tests retrieving a page of users in a company with more users than the page size.
+     * Expects that only the users of the page are retrieved, with the ID of the last one as next cursor.
      */
 	@Test
-	public void getAllUserDtosByCompanyId_RetrieveMultipleUser_ReturnMultipleUserDtos() {
+	public void getUserDtosInCompany_RetrieveMoreUsersThanLimit_ReturnPageWithNextCursor() {
 		// Arrange
-		List<UserEntity> users = Arrays.asList(userEntity1, userEntity2);
+		List<UserResponseDto> users = Arrays.asList(userMapper.toDto(userEntity1), userMapper.toDto(userEntity2));
 		
 		// Mock
-		when(companyService.entityExists(validCompanyId))
-		   				   .thenReturn(true);
-		when(companyService.entityExists(invalidCompanyId))
-		   				   .thenReturn(false);
-		when(userRepository.findAllByCompanyId(validCompanyId))
+		doThrow(new EntityNotFoundException("companyId", invalidCompanyId))
+							 .when(scopeResolver).requireCompany(invalidCompanyId);
+		when(userRepository.findAllDtosByCompanyIdAfterId(validCompanyId, 0, Limit.of(2)))
 		  				   .thenReturn(users);
+		when(userRepository.findAllDtosByCompanyIdAfterId(invalidCompanyId, 0, Limit.of(2)))
+						   .thenReturn(List.of());
 		
 		// Act
-		List<UserResponseDto> userResponseDtos = underTest.getAllUserDtosByCompanyId(validCompanyId);
+		PageResponseDto<UserResponseDto> page = underTest.getUserDtosInCompany(validCompanyId, ListSort.Id, null, 1);
 		
 		// Assert
 		assertAll(() -> {
-			assertEquals(users.size(), userResponseDtos.size());
-			assertThrows(EntityNotFoundException.class, () -> underTest.getAllUserDtosByCompanyId(invalidCompanyId));
+			assertEquals(List.of(users.get(0)), page.content());
+			assertEquals(Long.toString(userEntity1.getId()), page.nextCursor());
+			assertThrows(EntityNotFoundException.class, () -> underTest.getUserDtosInCompany(invalidCompanyId, ListSort.Id, null, 1));
+			assertThrows(ValueNotAllowedException.class, () -> underTest.getUserDtosInCompany(validCompanyId, ListSort.Id, null, 0));
+			assertThrows(ValueNotAllowedException.class, () -> underTest.getUserDtosInCompany(validCompanyId, ListSort.Id, "TestUser1", 1));
 		});
-		for(UserEntity user : users) {
-			verify(userMapper, times(1)).toDto(user);
-		}
-		verify(userRepository, times(1)).findAllByCompanyId(validCompanyId);
 	}
 	
     /**
@@ -143,10 +157,8 @@ public class UserServiceTests {
 	@Test
 	public void getUserDtoById_RetrieveOneUser_ReturnOneUserDto() {
 		// Mock
-		when(companyService.entityExists(validCompanyId))
-		   				   .thenReturn(true);
-		when(companyService.entityExists(invalidCompanyId))
-		   				   .thenReturn(false);
+		when(scopeResolver.userNotFound(Mockito.anyLong(), Mockito.anyLong()))
+						  .thenReturn(new EntityNotFoundException("userId", invalidUserId));
 		when(userRepository.findByIdAndCompanyId(validUserId, validCompanyId))
 						   .thenReturn(Optional.of(userEntity1));
 		
@@ -182,12 +194,14 @@ public class UserServiceTests {
 		   				   .thenReturn(Optional.of(companyEntity));
 		when(companyService.getEntityById(invalidCompanyId))
 		   				   .thenReturn(Optional.empty());
-		when(userRepository.findByUsername(notExistingUsername))
-						   .thenReturn(Optional.empty());
-		when(userRepository.findByUsername(alreadyExistingUsername))
-		   				   .thenReturn(Optional.of(userMock));
-		when(userRepository.save(Mockito.any(UserEntity.class)))
-						   .thenReturn(userEntity1);
+		when(userRepository.saveAndFlush(Mockito.any(UserEntity.class)))
+						   .then(invocation -> {
+							   // username is taken -> violation of the unique constraint
+							   if(alreadyExistingUsername.equals(invocation.<UserEntity>getArgument(0).getUsername())) {
+								   throw TestDataUtil.createConstraintViolation(UserEntity.USERNAME_UNIQUE_CONSTRAINT);
+							   }
+							   return userEntity1;
+						   });
 		when(roleService.getEntityByRole(Role.Developer))
 						   .thenReturn(Optional.of(developerRoleEntity));
 		
@@ -206,7 +220,7 @@ public class UserServiceTests {
 			assertThrows(EntityAlreadyExistsException.class, () -> underTest.createUser(userRequestDto2, validCompanyId));
 		});
 		verify(userMapper, times(1)).toEntity(eq(userRequestDto1), Mockito.any(CompanyEntity.class), Mockito.any(RoleEntity.class));
-		verify(userRepository, times(1)).save(Mockito.any(UserEntity.class));
+		verify(userRepository, times(2)).saveAndFlush(Mockito.any(UserEntity.class));
 		verify(userMapper, times(1)).toDto(userEntity1);
 	}
 	
@@ -222,24 +236,26 @@ public class UserServiceTests {
 		UserRequestDto userRequestDto3 = new UserRequestDto(blankUsername);
 		
 		// Mock
-		when(companyService.entityExists(validCompanyId))
-		   				   .thenReturn(true);
-		when(companyService.entityExists(invalidCompanyId))
-		   				   .thenReturn(false);
+		when(scopeResolver.userNotFound(Mockito.anyLong(), Mockito.anyLong()))
+						  .thenReturn(new EntityNotFoundException("userId", invalidUserId));
 		when(userRepository.findByIdAndCompanyId(validUserId, validCompanyId))
 						   .thenReturn(Optional.of(userEntity1));
 		when(userRepository.findByIdAndCompanyId(invalidUserId, validCompanyId))
 		   				   .thenReturn(Optional.empty());
+		when(userRepository.findByIdAndCompanyId(validUserId, invalidCompanyId))
+		   				   .thenReturn(Optional.empty());
 		when(securityContext.getAuthentication())
 							.thenReturn(authentication);
         when(authentication.getPrincipal())
-        				   .thenReturn(requestingAdminEntity);
-		when(userRepository.findByUsername(notExistingUsername))
-						   .thenReturn(Optional.empty());
-		when(userRepository.findByUsername(alreadyExistingUsername))
-		   				   .thenReturn(Optional.of(userMock));
-		when(userRepository.save(Mockito.any(UserEntity.class)))
-			  			   .then(AdditionalAnswers.returnsFirstArg());
+        				   .thenReturn(AuthenticatedUser.of(requestingAdminEntity));
+		when(userRepository.saveAndFlush(Mockito.any(UserEntity.class)))
+			  			   .then(invocation -> {
+			  				   // username is taken -> violation of the unique constraint
+			  				   if(alreadyExistingUsername.equals(invocation.<UserEntity>getArgument(0).getUsername())) {
+			  					   throw TestDataUtil.createConstraintViolation(UserEntity.USERNAME_UNIQUE_CONSTRAINT);
+			  				   }
+			  				   return invocation.getArgument(0);
+			  			   });
 		
 		// Act
 		UserResponseDto userResponseDto = underTest.updateUser(userRequestDto1, validCompanyId, validUserId);
@@ -257,8 +273,30 @@ public class UserServiceTests {
 			assertThrows(ValueNotAllowedException.class, () -> underTest.updateUser(userRequestDto3, validCompanyId, validUserId));
 		});
 		verify(userMapper, times(1)).updateEntity(userEntity1, userRequestDto1);
-		verify(userRepository, times(1)).save(Mockito.any(UserEntity.class));
+		verify(userRepository, times(2)).saveAndFlush(Mockito.any(UserEntity.class));
 		verify(userMapper, times(1)).toDto(userEntity1);
+		verify(authCache, times(1)).invalidate(validUserId);
+	}
+	
+    /**
+     * Tests creating a user whose write violates another constraint than the unique username.
+     * Expects that the violation is not reported as taken username.
+     */
+	@Test
+	public void createUser_OtherConstraintViolated_ThrowDataIntegrityViolationException() {
+		// Arrange
+		UserRequestDto userRequestDto = new UserRequestDto(notExistingUsername);
+		
+		// Mock
+		when(companyService.getEntityById(validCompanyId))
+		   				   .thenReturn(Optional.of(companyEntity));
+		when(roleService.getEntityByRole(Role.Developer))
+						   .thenReturn(Optional.of(developerRoleEntity));
+		when(userRepository.saveAndFlush(Mockito.any(UserEntity.class)))
+						   .thenThrow(TestDataUtil.createConstraintViolation(UserEntity.API_KEY_UNIQUE_CONSTRAINT));
+		
+		// Act & Assert
+		assertThrows(DataIntegrityViolationException.class, () -> underTest.createUser(userRequestDto, validCompanyId));
 	}
 	
     /**
@@ -271,18 +309,18 @@ public class UserServiceTests {
 		RoleEntity updatedRoleEntity = TestDataUtil.createProjectManagerRole();
 		
 		// Mock
-		when(companyService.entityExists(validCompanyId))
-		   				   .thenReturn(true);
-		when(companyService.entityExists(invalidCompanyId))
-		   				   .thenReturn(false);
+		when(scopeResolver.userNotFound(Mockito.anyLong(), Mockito.anyLong()))
+						  .thenReturn(new EntityNotFoundException("userId", invalidUserId));
 		when(userRepository.findByIdAndCompanyId(validUserId, validCompanyId))
 						   .thenReturn(Optional.of(userEntity1));
 		when(userRepository.findByIdAndCompanyId(invalidUserId, validCompanyId))
 		   				   .thenReturn(Optional.empty());
+		when(userRepository.findByIdAndCompanyId(validUserId, invalidCompanyId))
+		   				   .thenReturn(Optional.empty());
 		when(securityContext.getAuthentication())
 							.thenReturn(authentication);
         when(authentication.getPrincipal())
-        				   .thenReturn(requestingAdminEntity);
+        				   .thenReturn(AuthenticatedUser.of(requestingAdminEntity));
         when(roleService.getEntityById(validRoleId))
         				.thenReturn(Optional.of(updatedRoleEntity));
         when(roleService.getEntityById(invalidRoleId))
@@ -302,6 +340,8 @@ public class UserServiceTests {
 		});
 		verify(userRepository, times(1)).save(Mockito.any(UserEntity.class));
 		verify(userMapper, times(1)).toDto(userEntity1);
+		verify(authCache, times(1)).invalidate(validUserId);
+		verify(auditLog, times(1)).record(AuditAction.RoleAssigned, validCompanyId, null, validUserId, Role.ProjectManager.toString());
 	}
 	
     /**
@@ -311,18 +351,18 @@ public class UserServiceTests {
 	@Test
 	public void deleteUser_RemoveUser_ReturnNothing() {
 		// Mock
-		when(companyService.entityExists(validCompanyId))
-		   				   .thenReturn(true);
-		when(companyService.entityExists(invalidCompanyId))
-		   				   .thenReturn(false);
+		when(scopeResolver.userNotFound(Mockito.anyLong(), Mockito.anyLong()))
+						  .thenReturn(new EntityNotFoundException("userId", invalidUserId));
 		when(userRepository.findByIdAndCompanyId(validUserId, validCompanyId))
 						   .thenReturn(Optional.of(userEntity1));
 		when(userRepository.findByIdAndCompanyId(invalidUserId, validCompanyId))
 		   				   .thenReturn(Optional.empty());
+		when(userRepository.findByIdAndCompanyId(validUserId, invalidCompanyId))
+		   				   .thenReturn(Optional.empty());
 		when(securityContext.getAuthentication())
 						    .thenReturn(authentication);
 		when(authentication.getPrincipal())
-						   .thenReturn(requestingAdminEntity);
+						   .thenReturn(AuthenticatedUser.of(requestingAdminEntity));
 		
 		// Act
 		underTest.deleteUser(validCompanyId, validUserId);
@@ -333,5 +373,6 @@ public class UserServiceTests {
 			assertThrows(EntityNotFoundException.class, () -> underTest.deleteUser(validCompanyId, invalidUserId));
 		});
 		verify(userRepository, times(1)).deleteById(validUserId);
+		verify(authCache, times(1)).invalidate(validUserId);
 	}
 }